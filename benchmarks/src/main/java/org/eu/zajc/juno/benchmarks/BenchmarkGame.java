@@ -0,0 +1,76 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.benchmarks;
+
+import java.util.Random;
+
+import javax.annotation.*;
+
+import org.eu.zajc.juno.decks.UnoDeck;
+import org.eu.zajc.juno.game.*;
+import org.eu.zajc.juno.players.UnoPlayer;
+import org.eu.zajc.juno.rules.pack.UnoRulePack;
+
+/**
+ * A headless {@link UnoControlledGame} for benchmarks. It can optionally request an
+ * end after a set amount of turns, leaving the game in a mid-game state that other
+ * benchmarks can inspect.
+ *
+ * @author Marko Zajc
+ */
+public class BenchmarkGame extends UnoControlledGame {
+
+	private final int turnLimit;
+	private int turns;
+
+	/**
+	 * Creates a new {@link BenchmarkGame}.
+	 *
+	 * @param deck
+	 *            the {@link UnoDeck} to use
+	 * @param rules
+	 *            the {@link UnoRulePack} to use
+	 * @param random
+	 *            the random number generator to use
+	 * @param turnLimit
+	 *            the amount of turns after which to request an end, or {@code 0} to
+	 *            play the games out
+	 * @param players
+	 *            the {@link UnoPlayer}s
+	 */
+	public BenchmarkGame(@Nonnull UnoDeck deck, @Nonnull UnoRulePack rules, @Nullable Random random,
+						 @Nonnegative int turnLimit, @Nonnull UnoPlayer... players) {
+		super(deck, 7, rules, random, players);
+		this.turnLimit = turnLimit;
+	}
+
+	@Override
+	public UnoWinner play() {
+		this.turns = 0;
+		return super.play();
+	}
+
+	@Override
+	protected void turn(UnoPlayer player) {
+		super.turn(player);
+
+		this.turns++;
+		if (this.turnLimit > 0 && this.turns >= this.turnLimit)
+			endGame();
+	}
+
+}
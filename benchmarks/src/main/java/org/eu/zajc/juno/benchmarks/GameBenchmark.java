@@ -0,0 +1,144 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.benchmarks;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.Random;
+
+import org.eu.zajc.juno.cards.UnoCard;
+import org.eu.zajc.juno.decks.impl.UnoStandardDeck;
+import org.eu.zajc.juno.game.*;
+import org.eu.zajc.juno.players.impl.UnoStrategicPlayer;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks for full games, the decision making of {@link UnoStrategicPlayer} and
+ * forking mid-game states with {@link UnoGameState}, making and unmaking moves on them and
+ * generating legal moves with {@link UnoMoveGenerator}. Two players are used because SevenO only supports
+ * two-player games.
+ *
+ * @author Marko Zajc
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(SECONDS)
+@State(Scope.Thread)
+public class GameBenchmark {
+
+	private static final int MIDGAME_TURNS = 10;
+
+	private BenchmarkGame game;
+	private BenchmarkGame midgame;
+	private BenchmarkGame fork;
+	private UnoGameState midgameState;
+	private UnoStrategicPlayer player;
+	private UnoMoveGenerator generator;
+	private int[] moves;
+
+	/**
+	 * Creates the games and plays the mid-game one up to its turn limit.
+	 *
+	 * @param pack
+	 *            the rule pack
+	 */
+	@Setup
+	public void setup(RulePackState pack) {
+		var deck = UnoStandardDeck.getDeck();
+		this.game = new BenchmarkGame(deck, pack.rules, new Random(0), 0, new UnoStrategicPlayer("Strategic 1"),
+									  new UnoStrategicPlayer("Strategic 2"));
+
+		this.player = new UnoStrategicPlayer("Strategic 1");
+		this.midgame =
+			new BenchmarkGame(deck, pack.rules, new Random(0), MIDGAME_TURNS, this.player,
+							  new UnoStrategicPlayer("Strategic 2"));
+		this.midgame.play();
+		this.midgameState = this.midgame.snapshot();
+		this.generator = new UnoMoveGenerator(pack.rules);
+		this.moves = new int[UnoMoveGenerator.getMaxMoves(UnoStandardDeck.getExpectedSize())];
+
+		this.fork = new BenchmarkGame(deck, pack.rules, new Random(0), 0, new UnoStrategicPlayer("Strategic 1"),
+									  new UnoStrategicPlayer("Strategic 2"));
+		this.fork.restore(this.midgameState);
+	}
+
+	/**
+	 * Plays a full game between two {@link UnoStrategicPlayer}s.
+	 *
+	 * @return the {@link UnoWinner}
+	 */
+	@Benchmark
+	public UnoWinner play() {
+		return this.game.play();
+	}
+
+	/**
+	 * Lets a {@link UnoStrategicPlayer} pick a card in a mid-game state.
+	 *
+	 * @return the picked card
+	 */
+	@Benchmark
+	public UnoCard strategicPlayCard() {
+		return this.player.playCard(this.midgame);
+	}
+
+	/**
+	 * Takes a snapshot of a mid-game state.
+	 *
+	 * @return the snapshot
+	 */
+	@Benchmark
+	public UnoGameState snapshot() {
+		return this.midgame.snapshot();
+	}
+
+	/**
+	 * Forks a mid-game state by restoring its snapshot into another game.
+	 *
+	 * @return the forked game
+	 */
+	@Benchmark
+	public BenchmarkGame restore() {
+		this.fork.restore(this.midgameState);
+		return this.fork;
+	}
+
+	/**
+	 * Makes a move (drawing a card) in a mid-game state and unmakes it.
+	 *
+	 * @return the game
+	 */
+	@Benchmark
+	public BenchmarkGame makeUnmake() {
+		this.fork.makeMove(this.fork.getNextPlayer(), null);
+		this.fork.unmakeMove();
+		return this.fork;
+	}
+
+	/**
+	 * Generates the legal moves of a {@link UnoStrategicPlayer} in a mid-game state.
+	 *
+	 * @return the amount of moves
+	 */
+	@Benchmark
+	public int generateMoves() {
+		return this.generator.generate(this.midgame, this.player, this.moves);
+	}
+
+}
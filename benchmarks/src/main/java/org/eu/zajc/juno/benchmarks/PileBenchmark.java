@@ -0,0 +1,149 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.benchmarks;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.*;
+
+import org.eu.zajc.juno.cards.UnoCard;
+import org.eu.zajc.juno.decks.UnoDeck;
+import org.eu.zajc.juno.decks.impl.UnoStandardDeck;
+import org.eu.zajc.juno.piles.impl.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for {@link UnoDrawPile} and {@link UnoDiscardPile}. These don't depend
+ * on the rule pack.
+ *
+ * @author Marko Zajc
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(SECONDS)
+@State(Scope.Thread)
+public class PileBenchmark {
+
+	private static final int DISCARD_SIZE = 100;
+
+	private UnoDrawPile draw;
+
+	/**
+	 * Creates the draw pile. The benchmarks that use it don't drain it.
+	 */
+	@Setup
+	public void setup() {
+		this.draw = new UnoDrawPile(UnoStandardDeck.getDeck(), new Random(0));
+	}
+
+	/**
+	 * Piles that are drained or grown by the benchmarks and must thus be refilled
+	 * before every invocation. Only benchmarks that do enough work per invocation to
+	 * dwarf the overhead of {@link Level#Invocation} use this.
+	 */
+	@State(Scope.Thread)
+	public static class Refilled {
+
+		private UnoDeck deck;
+		private Random random;
+		private List<UnoCard> cards;
+		private UnoDrawPile draw;
+		private UnoDiscardPile discard;
+
+		/**
+		 * Creates the piles.
+		 */
+		@Setup
+		public void setup() {
+			this.deck = UnoStandardDeck.getDeck();
+			this.random = new Random(0);
+			this.cards = this.deck.getCards().subList(0, DISCARD_SIZE);
+			this.discard = new UnoDiscardPile();
+		}
+
+		/**
+		 * Refills the draw pile and brings the discard pile back to
+		 * {@value PileBenchmark#DISCARD_SIZE} cards.
+		 */
+		@Setup(Level.Invocation)
+		public void refill() {
+			if (this.draw == null || this.draw.getSize() == 0)
+				this.draw = new UnoDrawPile(this.deck, this.random);
+
+			this.discard.clear();
+			this.discard.addAll(this.cards);
+		}
+
+	}
+
+	/**
+	 * Shuffles the full draw pile.
+	 */
+	@Benchmark
+	public void drawPileShuffle() {
+		this.draw.shuffle();
+	}
+
+	/**
+	 * Draws every card from the draw pile, one at a time.
+	 *
+	 * @param piles
+	 *            the piles to drain
+	 * @param blackhole
+	 *            the blackhole
+	 */
+	@Benchmark
+	public void drawPileDraw(Refilled piles, Blackhole blackhole) {
+		var pile = piles.draw;
+		while (pile.getSize() > 0)
+			blackhole.consume(pile.draw());
+	}
+
+	/**
+	 * Places a card on a discard pile that is a typical size between reshuffles. Each
+	 * invocation grows the pile from 100 to 200 cards, and the score is given per
+	 * placed card.
+	 *
+	 * @param piles
+	 *            the piles to grow
+	 */
+	@Benchmark
+	@OperationsPerInvocation(DISCARD_SIZE)
+	public void discardPileAdd(Refilled piles) {
+		var pile = piles.discard;
+		var cards = piles.cards;
+		for (int i = 0; i < DISCARD_SIZE; i++)
+			pile.add(cards.get(i));
+	}
+
+	/**
+	 * Turns a discard pile of 100 cards into a draw pile.
+	 *
+	 * @param piles
+	 *            the piles to drain
+	 *
+	 * @return the created {@link UnoDrawPile}
+	 */
+	@Benchmark
+	public UnoDrawPile discardPileCreateDrawPile(Refilled piles) {
+		return piles.discard.createDrawPile();
+	}
+
+}
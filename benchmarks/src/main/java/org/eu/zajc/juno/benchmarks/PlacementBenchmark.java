@@ -0,0 +1,132 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.benchmarks;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.*;
+
+import org.eu.zajc.juno.cards.UnoCard;
+import org.eu.zajc.juno.decks.impl.UnoStandardDeck;
+import org.eu.zajc.juno.hands.UnoHand;
+import org.eu.zajc.juno.rules.pack.UnoPlacementEngine;
+import org.eu.zajc.juno.utils.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks for the placement checks in {@link UnoRuleUtils} and
+ * {@link UnoPlacementEngine} and the color analysis
+ * in {@link UnoUtils}.
+ *
+ * @author Marko Zajc
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(SECONDS)
+@State(Scope.Thread)
+public class PlacementBenchmark {
+
+	private static final int TARGETS = 64;
+
+	/**
+	 * The amount of cards in the benchmarked hand.
+	 */
+	@Param({ "7", "30" }) public int handSize;
+
+	private UnoHand hand;
+	private UnoCard[] targets;
+	private int next;
+
+	/**
+	 * Deals a hand and a set of target cards from a shuffled standard deck.
+	 */
+	@Setup
+	public void setup() {
+		var cards = UnoStandardDeck.getDeck().getCards();
+		Collections.shuffle(cards, new Random(0));
+
+		this.hand = new UnoHand();
+		this.hand.getCards().addAll(cards.subList(0, this.handSize));
+
+		this.targets = new UnoCard[TARGETS];
+		for (int i = 0; i < TARGETS; i++)
+			this.targets[i] = cards.get(this.handSize + i % (cards.size() - this.handSize));
+	}
+
+	private UnoCard nextTarget() {
+		this.next = (this.next + 1) % TARGETS;
+		return this.targets[this.next];
+	}
+
+	/**
+	 * @param pack
+	 *            the rule pack
+	 *
+	 * @return the result of the placement check
+	 */
+	@Benchmark
+	public boolean canPlaceCard(RulePackState pack) {
+		var target = nextTarget();
+		return UnoRuleUtils.canPlaceCard(target, this.hand.getCards().get(this.next % this.handSize), pack.rules,
+										 this.hand);
+	}
+
+	/**
+	 * @param pack
+	 *            the rule pack
+	 *
+	 * @return the result of the placement check
+	 */
+	@Benchmark
+	public boolean canPlaceCardCompiled(RulePackState pack) {
+		var target = nextTarget();
+		return pack.engine.canPlaceCard(target, this.hand.getCards().get(this.next % this.handSize), this.hand);
+	}
+
+	/**
+	 * @param pack
+	 *            the rule pack
+	 *
+	 * @return the placeable cards
+	 */
+	@Benchmark
+	public List<UnoCard> getPlaceableCards(RulePackState pack) {
+		return UnoRuleUtils.getPlaceableCards(nextTarget(), this.hand.getCards(), pack.rules, this.hand);
+	}
+
+	/**
+	 * @param pack
+	 *            the rule pack
+	 *
+	 * @return the placeable cards
+	 */
+	@Benchmark
+	public List<UnoCard> getPlaceableCardsCompiled(RulePackState pack) {
+		return pack.engine.getPlaceableCards(nextTarget(), this.hand.getCards(), this.hand);
+	}
+
+	/**
+	 * @return the color analysis
+	 */
+	@Benchmark
+	public Object analyzeColors() {
+		return UnoUtils.analyzeColors(this.hand.getCards());
+	}
+
+}
@@ -0,0 +1,63 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.benchmarks;
+
+import org.eu.zajc.juno.rules.pack.*;
+import org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules;
+import org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules.UnoHouseRule;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Shared benchmark state providing the {@link UnoRulePack} to benchmark with. Every
+ * rule-dependent benchmark runs once with the official pack ({@code NONE}) and once
+ * with each {@link UnoHouseRule} enabled.
+ *
+ * @author Marko Zajc
+ */
+@State(Scope.Benchmark)
+public class RulePackState {
+
+	/**
+	 * The name of the {@link UnoHouseRule} to enable, or {@code NONE} for the official
+	 * pack.
+	 */
+	@Param({ "NONE", "SEVENO", "PROGRESSIVE", "FOE_WINS_ON_QUIT" }) public String houseRule;
+
+	/**
+	 * The resulting {@link UnoRulePack}.
+	 */
+	public UnoRulePack rules;
+
+	/**
+	 * The {@link UnoPlacementEngine} compiled from {@link #rules}.
+	 */
+	public UnoPlacementEngine engine;
+
+	/**
+	 * Resolves the {@link UnoRulePack}.
+	 */
+	@Setup
+	public void setup() {
+		if ("NONE".equals(this.houseRule))
+			this.rules = UnoOfficialRules.getPack();
+		else
+			this.rules = UnoOfficialRules.getPack(UnoHouseRule.valueOf(this.houseRule));
+
+		this.engine = UnoPlacementEngine.compile(this.rules);
+	}
+
+}
@@ -0,0 +1,120 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.benchmarks;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.Random;
+
+import org.eu.zajc.juno.cards.UnoCard;
+import org.eu.zajc.juno.decks.UnoShoe;
+import org.eu.zajc.juno.decks.impl.UnoStandardDeck;
+import org.eu.zajc.juno.game.*;
+import org.eu.zajc.juno.players.UnoPlayer;
+import org.eu.zajc.juno.players.impl.UnoStrategicPlayer;
+import org.eu.zajc.juno.rules.pack.UnoRulePack;
+import org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks for large "party" tables - turn order resolution with
+ * {@link UnoGame#getNextPlayer(UnoPlayer)} and {@link UnoGame#getPreviousPlayer(UnoPlayer)},
+ * the decision making of {@link UnoStrategicPlayer} and full games. The games are
+ * played with a {@link UnoShoe} holding as many copies of the {@link UnoStandardDeck}
+ * as are needed to deal everyone in.
+ *
+ * @author Marko Zajc
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(SECONDS)
+@State(Scope.Thread)
+public class TableBenchmark {
+
+	private static final int MIDGAME_TURNS = 50;
+
+	/**
+	 * The amount of players at the table.
+	 */
+	@Param({ "20", "50", "100" }) public int seats;
+
+	private BenchmarkGame game;
+	private BenchmarkGame midgame;
+	private UnoStrategicPlayer player;
+	private UnoPlayer[] players;
+
+	/**
+	 * Creates the games and plays the mid-game one up to its turn limit.
+	 */
+	@Setup
+	public void setup() {
+		var deck = new UnoShoe(UnoStandardDeck.getDeck(), this.seats * 7 / UnoStandardDeck.getExpectedSize() + 1);
+		UnoRulePack rules = UnoOfficialRules.getPack().freeze();
+
+		this.game = new BenchmarkGame(deck, rules, new Random(0), 0, createPlayers());
+
+		this.players = createPlayers();
+		this.player = (UnoStrategicPlayer) this.players[this.seats / 2];
+		this.midgame = new BenchmarkGame(deck, rules, new Random(0), MIDGAME_TURNS, this.players);
+		this.midgame.play();
+	}
+
+	private UnoPlayer[] createPlayers() {
+		var result = new UnoPlayer[this.seats];
+		for (int i = 0; i < result.length; i++)
+			result[i] = new UnoStrategicPlayer("Strategic " + (i + 1));
+		return result;
+	}
+
+	/**
+	 * Walks the whole table in both directions, resolving the next and the previous
+	 * player of every seat.
+	 *
+	 * @return a checksum of the resolved seats
+	 */
+	@Benchmark
+	public int turnOrder() {
+		int checksum = 0;
+		for (var seat : this.players)
+			checksum += System.identityHashCode(this.midgame.getNextPlayer(seat))
+				^ System.identityHashCode(this.midgame.getPreviousPlayer(seat));
+		return checksum;
+	}
+
+	/**
+	 * Lets a {@link UnoStrategicPlayer} pick a card in a mid-game state.
+	 *
+	 * @return the picked card
+	 */
+	@Benchmark
+	public UnoCard strategicPlayCard() {
+		return this.player.playCard(this.midgame);
+	}
+
+	/**
+	 * Plays a full game between {@link UnoStrategicPlayer}s.
+	 *
+	 * @return the {@link UnoWinner}
+	 */
+	@Benchmark
+	public UnoWinner play() {
+		return this.game.play();
+	}
+
+}
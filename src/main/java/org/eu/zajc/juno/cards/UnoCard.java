@@ -26,16 +26,17 @@ import org.eu.zajc.juno.players.UnoPlayer;
 
 /**
  * A class representing a card in UNO. The only mandatory thing for a card is a
- * color, which can be one of five colors in {@link UnoCardColor}.
+ * color, which can be one of five colors in {@link UnoCardColor}.<br>
+ * The card's mutable state (color mask, placer and whether it's open) is not stored
+ * in the card itself, but in the {@link UnoCardTable} the card belongs to.
  *
  * @author Marko Zajc
  */
 public abstract class UnoCard {
 
 	@Nonnull private final UnoCardColor color;
-	@Nullable private UnoCardColor mask;
-	@Nullable private UnoPlayer placer;
-	private boolean open;
+	@Nullable private UnoCardTable table;
+	private int slot;
 
 	/**
 	 * Creates a new {@link UnoCard}.
@@ -55,8 +56,12 @@ public abstract class UnoCard {
 	 */
 	@Nonnull
 	public final UnoCardColor getColor() {
-		if (this.mask != null)
-			return this.mask;
+		var cardTable = this.table;
+		if (cardTable != null) {
+			var mask = cardTable.getMask(this.slot);
+			if (mask != null)
+				return mask;
+		}
 
 		return this.color;
 	}
@@ -89,10 +94,11 @@ public abstract class UnoCard {
 		if (getOriginalColor() != WILD)
 			throw new IllegalStateException("Card's original color must be \"WILD\" if you want to set a color.");
 
-		if (this.mask != null)
+		var cardTable = getTable();
+		if (cardTable.getMask(this.slot) != null)
 			throw new IllegalStateException("Can't set the color mask more than once.");
 
-		this.mask = mask;
+		cardTable.setMask(this.slot, mask);
 	}
 
 	/**
@@ -106,10 +112,11 @@ public abstract class UnoCard {
 	 *             in case the placer has already been set.
 	 */
 	public final void setPlacer(@Nonnull UnoPlayer placer) {
-		if (this.placer != null)
+		var cardTable = getTable();
+		if (cardTable.getPlacer(this.slot) != null)
 			throw new IllegalStateException("This card's placer has already been set.");
 
-		this.placer = placer;
+		cardTable.setPlacer(this.slot, placer);
 	}
 
 	/**
@@ -126,7 +133,8 @@ public abstract class UnoCard {
 	 */
 	@Nonnull
 	public UnoPlayer getPlacer() {
-		UnoPlayer cardPlacer = this.placer;
+		var cardTable = this.table;
+		UnoPlayer cardPlacer = cardTable == null ? null : cardTable.getPlacer(this.slot);
 		if (cardPlacer == null)
 			throw new IllegalStateException("This card's placer hasn't been set yet.");
 
@@ -138,9 +146,9 @@ public abstract class UnoCard {
 	 * created from the constructor after this method is called.
 	 */
 	public void reset() {
-		this.mask = null;
-		this.placer = null;
-		this.open = false;
+		var cardTable = this.table;
+		if (cardTable != null)
+			cardTable.reset(this.slot);
 	}
 
 	/**
@@ -154,7 +162,8 @@ public abstract class UnoCard {
 	 * @return whether the card is "open" or not
 	 */
 	public boolean isOpen() {
-		return this.open;
+		var cardTable = this.table;
+		return cardTable != null && cardTable.isOpen(this.slot);
 	}
 
 	/**
@@ -169,7 +178,7 @@ public abstract class UnoCard {
 		if (isOpen())
 			throw new IllegalStateException("Card is already marked as open");
 
-		this.open = true;
+		getTable().setOpen(this.slot, true);
 	}
 
 	/**
@@ -184,7 +193,52 @@ public abstract class UnoCard {
 		if (!isOpen())
 			throw new IllegalStateException("Card is already marked as closed");
 
-		this.open = false;
+		getTable().setOpen(this.slot, false);
+	}
+
+	@Nonnull
+	private UnoCardTable getTable() {
+		var cardTable = this.table;
+		if (cardTable == null) {
+			cardTable = new UnoCardTable(this);
+			this.table = cardTable;
+		}
+		// Cards that aren't in a table get one of their own once they have a state
+
+		return cardTable;
+	}
+
+	void bind(@Nonnull UnoCardTable newTable, int newSlot) {
+		var oldTable = this.table;
+		if (oldTable != null) {
+			if (!oldTable.isDetached())
+				throw new IllegalStateException("This card already belongs to another UnoCardTable!");
+			newTable.setMask(newSlot, oldTable.getMask(this.slot));
+			newTable.setOpen(newSlot, oldTable.isOpen(this.slot));
+			newTable.setPlacer(newSlot, oldTable.getPlacer(this.slot));
+		}
+		// Carries over the state
+
+		this.table = newTable;
+		this.slot = newSlot;
+	}
+
+	boolean isBound() {
+		return getBoundTable() != null;
+	}
+
+	@Nullable
+	UnoCardTable getBoundTable() {
+		var cardTable = this.table;
+		return cardTable == null || cardTable.isDetached() ? null : cardTable;
+	}
+
+	boolean isIn(@Nonnull UnoCardTable cardTable) {
+		return this.table == cardTable;
+	}
+
+	int getSlot() {
+		return this.slot;
 	}
 
 	/**
@@ -0,0 +1,142 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.cards;
+
+import java.util.Arrays;
+
+import javax.annotation.*;
+
+import org.eu.zajc.juno.hands.UnoHand;
+import org.eu.zajc.juno.rules.pack.UnoPlacementMatrix;
+
+/**
+ * A bitset of the IDs of a collection of {@link UnoCard}s in their
+ * {@link UnoCardTable}, kept up to date as {@link UnoCard}s are added to and removed
+ * from the collection. {@link UnoHand}s keep one so that their placeable
+ * {@link UnoCard}s can be found with a single bitwise AND by
+ * {@link UnoPlacementMatrix#getPlaceable(int, long[], long[])}.<br>
+ * The bitset is only valid while all of the {@link UnoCard}s belong to the same
+ * {@link UnoCardTable}, and each of them is added only once. Once a {@link UnoCard}
+ * from elsewhere (or one that isn't in a table at all) is added, the bitset is
+ * invalidated until the collection is emptied.
+ *
+ * @author Marko Zajc
+ */
+public final class UnoCardIdSet {
+
+	@Nonnull private static final long[] EMPTY = new long[0];
+
+	@Nullable private UnoCardTable table;
+	@Nonnull private long[] words = EMPTY;
+	@Nonnegative private int size;
+	private boolean invalid;
+
+	/**
+	 * Records an {@link UnoCard} that has been added to the collection.
+	 *
+	 * @param card
+	 *            the added {@link UnoCard}
+	 */
+	public void add(@Nonnull UnoCard card) {
+		this.size++;
+		if (this.invalid)
+			return;
+
+		var cardTable = card.getBoundTable();
+		if (cardTable == null || this.table != null && this.table != cardTable) {
+			this.invalid = true;
+			return;
+		}
+		// Cards from multiple tables can't be told apart by their IDs
+
+		if (this.table == null) {
+			this.table = cardTable;
+			ensureCapacity(cardTable);
+		}
+
+		int slot = card.getSlot();
+		long bit = 1L << slot;
+		if ((this.words[slot >>> 6] & bit) != 0)
+			this.invalid = true;
+		else
+			this.words[slot >>> 6] |= bit;
+		// A card that's added twice would be lost from the bitset once it's removed again
+	}
+
+	/**
+	 * Records an {@link UnoCard} that has been removed from the collection.
+	 *
+	 * @param card
+	 *            the removed {@link UnoCard}
+	 */
+	public void remove(@Nonnull UnoCard card) {
+		if (this.size <= 1) {
+			clear();
+			return;
+		}
+
+		this.size--;
+		var cardTable = this.table;
+		if (!this.invalid && cardTable != null && card.isIn(cardTable)) {
+			int slot = card.getSlot();
+			this.words[slot >>> 6] &= ~(1L << slot);
+		}
+	}
+
+	/**
+	 * Records that the collection has been emptied, which makes the bitset valid again.
+	 */
+	public void clear() {
+		Arrays.fill(this.words, 0);
+		this.table = null;
+		this.size = 0;
+		this.invalid = false;
+	}
+
+	/**
+	 * Returns the bitset of the IDs of the {@link UnoCard}s in a {@link UnoCardTable}.
+	 * The array is owned by this set, must not be modified and is only valid until the
+	 * collection changes.
+	 *
+	 * @param cardTable
+	 *            the {@link UnoCardTable} of the {@link UnoCard}s
+	 *
+	 * @return the bitset, at least {@link UnoPlacementMatrix#getWords(int)} long, or
+	 *         {@code null} if some of the {@link UnoCard}s aren't in the
+	 *         {@link UnoCardTable}
+	 */
+	@Nullable
+	public long[] get(@Nonnull UnoCardTable cardTable) {
+		if (this.invalid)
+			return null;
+
+		if (this.table == null)
+			ensureCapacity(cardTable);
+		else if (this.table != cardTable)
+			return null;
+		// An empty set is valid for any table
+
+		return this.words;
+	}
+
+	private void ensureCapacity(@Nonnull UnoCardTable cardTable) {
+		int needed = UnoPlacementMatrix.getWords(cardTable.getSize());
+		if (this.words.length < needed)
+			this.words = new long[needed];
+	}
+
+}
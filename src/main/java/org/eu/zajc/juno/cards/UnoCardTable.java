@@ -0,0 +1,423 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.cards;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+
+import java.util.*;
+
+import javax.annotation.*;
+
+import org.eu.zajc.juno.decks.UnoDeck;
+import org.eu.zajc.juno.game.UnoGame;
+import org.eu.zajc.juno.piles.impl.UnoDrawPile;
+import org.eu.zajc.juno.players.UnoPlayer;
+
+/**
+ * A table holding the mutable state (color mask, placer and the open flag) of a set
+ * of {@link UnoCard}s in primitive arrays. Each {@link UnoCard} in the table is
+ * assigned a small integer ID (its index in the table), and its state methods
+ * ({@link UnoCard#getColor()}, {@link UnoCard#isOpen()}, ...) read and write the
+ * table's arrays instead of fields of the card itself. The cards themselves are thus
+ * reduced to their immutable definitions (color, number, amount, ...) and a view of
+ * their state.<br>
+ * A table can be created over a shared {@link List} of definitions with
+ * {@link #UnoCardTable(List, int)}, which is what {@link UnoDeck#createCardTable()}
+ * does. Such a table holds one or more copies of the definitions, and only allocates
+ * its state arrays up front. The {@link UnoCard}s themselves are cloned from their
+ * definitions one at a time when they're first requested with
+ * {@link #getCard(int)}, which {@link UnoDrawPile} only does once they're drawn, so
+ * all {@link UnoGame}s created from the same {@link UnoDeck} share its definitions
+ * and only hold the {@link UnoCard}s that have been dealt so far. {@link UnoGame}
+ * creates a single table and reuses it for every game it plays.<br>
+ * A {@link UnoCard} can only belong to one table. {@link UnoCard}s that are not in
+ * any table (for example the ones in a {@link UnoDeck}) allocate a detached table of
+ * their own once their state is first changed, which they leave when they're moved
+ * into a table with {@link #UnoCardTable(Collection)}.
+ *
+ * @author Marko Zajc
+ */
+public final class UnoCardTable {
+
+	private static final byte NO_MASK = -1;
+	private static final UnoCardColor[] COLORS = UnoCardColor.values();
+
+	@Nonnull private final List<UnoCard> definitions;
+	@Nonnull private final UnoCard[] cards;
+	@Nonnull private final byte[] masks;
+	@Nonnull private final long[] open;
+	@Nonnull private final UnoPlayer[] placers;
+	private final boolean detached;
+
+	/**
+	 * Creates a new {@link UnoCardTable} and moves the {@link UnoCard}s into it. Their
+	 * current state is carried over. The {@link UnoCard}s must not belong to another
+	 * table.
+	 *
+	 * @param cards
+	 *            the {@link UnoCard}s to move into the table
+	 *
+	 * @throws IllegalArgumentException
+	 *             if the same {@link UnoCard} is present more than once
+	 * @throws IllegalStateException
+	 *             if a {@link UnoCard} already belongs to another table
+	 */
+	@SuppressWarnings("null")
+	public UnoCardTable(@Nonnull Collection<UnoCard> cards) {
+		this.cards = cards.toArray(new UnoCard[0]);
+		this.definitions = unmodifiableList(asList(this.cards));
+		this.masks = new byte[this.cards.length];
+		this.open = new long[(this.cards.length + Long.SIZE - 1) / Long.SIZE];
+		this.placers = new UnoPlayer[this.cards.length];
+		this.detached = false;
+		Arrays.fill(this.masks, NO_MASK);
+
+		var seen = Collections.newSetFromMap(new IdentityHashMap<UnoCard, Boolean>());
+		for (var card : this.cards) {
+			if (!seen.add(card))
+				throw new IllegalArgumentException("The same card can't be in a table more than once!");
+		}
+		for (var card : this.cards) {
+			if (card.isBound())
+				throw new IllegalStateException("This card already belongs to another UnoCardTable!");
+		}
+		// Validates all cards before moving any of them
+
+		for (int i = 0; i < this.cards.length; i++)
+			this.cards[i].bind(this, i);
+	}
+
+	/**
+	 * Creates a new {@link UnoCardTable} that holds a number of copies of a shared
+	 * {@link List} of {@link UnoCard} definitions. The {@link UnoCard} with the ID
+	 * {@code id} is a clone of the definition at {@code id % definitions.size()}, but
+	 * it is only cloned when it's first requested with {@link #getCard(int)}. The
+	 * definitions themselves are never modified nor handed out by the table, but are
+	 * referenced rather than copied, so the {@link List} must not change for as long as
+	 * the table is used.
+	 *
+	 * @param definitions
+	 *            the {@link UnoCard} definitions
+	 * @param copies
+	 *            the amount of copies of the definitions, at least 1
+	 *
+	 * @throws IllegalArgumentException
+	 *             if {@code copies} is less than 1
+	 */
+	public UnoCardTable(@Nonnull List<UnoCard> definitions, @Nonnegative int copies) {
+		if (copies < 1)
+			throw new IllegalArgumentException("A table must hold at least one copy of the definitions!");
+
+		int size = Math.multiplyExact(definitions.size(), copies);
+		this.definitions = definitions;
+		this.cards = new UnoCard[size];
+		this.masks = new byte[size];
+		this.open = new long[(size + Long.SIZE - 1) / Long.SIZE];
+		this.placers = new UnoPlayer[size];
+		this.detached = false;
+		Arrays.fill(this.masks, NO_MASK);
+	}
+
+	UnoCardTable(@Nonnull UnoCard card) {
+		this.cards = new UnoCard[] { card };
+		this.definitions = unmodifiableList(asList(this.cards));
+		this.masks = new byte[] { NO_MASK };
+		this.open = new long[1];
+		this.placers = new UnoPlayer[1];
+		this.detached = true;
+	}
+
+	/**
+	 * Returns all {@link UnoCard}s in this table. This clones every {@link UnoCard} that
+	 * hasn't been requested yet, so avoid it where the IDs are enough.
+	 *
+	 * @return an unmodifiable {@link List} of the {@link UnoCard}s in this table,
+	 *         ordered by their IDs
+	 */
+	@Nonnull
+	@SuppressWarnings("null")
+	public List<UnoCard> getCards() {
+		for (int i = 0; i < this.cards.length; i++)
+			getCard(i);
+
+		return unmodifiableList(asList(this.cards));
+	}
+
+	/**
+	 * @return the amount of {@link UnoCard}s in this table
+	 */
+	@Nonnegative
+	public int getSize() {
+		return this.cards.length;
+	}
+
+	/**
+	 * Returns the {@link UnoCard} with the given ID. If this table holds copies of
+	 * shared definitions, the {@link UnoCard} is cloned from its definition when it's
+	 * first requested, and the same instance is returned from then on.
+	 *
+	 * @param id
+	 *            the ID of the {@link UnoCard}
+	 *
+	 * @return the {@link UnoCard}
+	 */
+	@Nonnull
+	@SuppressWarnings("null")
+	public UnoCard getCard(@Nonnegative int id) {
+		var card = this.cards[id];
+		if (card == null) {
+			card = getDefinition(id).cloneCard();
+			card.bind(this, id);
+			this.cards[id] = card;
+		}
+
+		return card;
+	}
+
+	/**
+	 * Returns the definition of the {@link UnoCard} with the given ID, without cloning
+	 * it. The definition may be shared with other tables, so only its immutable
+	 * properties (type, original color, number, ...) may be used.
+	 *
+	 * @param id
+	 *            the ID of the {@link UnoCard}
+	 *
+	 * @return the definition of the {@link UnoCard}
+	 */
+	@Nonnull
+	@SuppressWarnings("null")
+	public UnoCard getDefinition(@Nonnegative int id) {
+		if (id >= this.cards.length)
+			throw new IndexOutOfBoundsException(id);
+
+		return this.definitions.get(id % this.definitions.size());
+	}
+
+	/**
+	 * Returns the ID of a {@link UnoCard} in this table.
+	 *
+	 * @param card
+	 *            the {@link UnoCard}
+	 *
+	 * @return the ID of the {@link UnoCard} or {@code -1} if it is not in this table
+	 */
+	public int getId(@Nonnull UnoCard card) {
+		return card.isIn(this) ? card.getSlot() : -1;
+	}
+
+	/**
+	 * Resets the state of every {@link UnoCard} in this table, like
+	 * {@link UnoCard#reset()} does for a single one.
+	 */
+	public void reset() {
+		Arrays.fill(this.masks, NO_MASK);
+		Arrays.fill(this.open, 0);
+		Arrays.fill(this.placers, null);
+	}
+
+	/**
+	 * Resets the state of the {@link UnoCard} with the given ID, like
+	 * {@link UnoCard#reset()}, but without requesting the {@link UnoCard}.
+	 *
+	 * @param id
+	 *            the ID of the {@link UnoCard}
+	 */
+	public void reset(@Nonnegative int id) {
+		this.masks[id] = NO_MASK;
+		setOpen(id, false);
+		this.placers[id] = null;
+	}
+
+	/**
+	 * Copies the color masks of all {@link UnoCard}s in this table, indexed by their
+	 * IDs. Each mask is stored as the ordinal of its {@link UnoCardColor}, or
+	 * {@code -1} if the card has no mask.
+	 *
+	 * @return a copy of the color masks
+	 */
+	@Nonnull
+	@SuppressWarnings("null")
+	public byte[] getMasks() {
+		return this.masks.clone();
+	}
+
+	/**
+	 * Copies the open flags of all {@link UnoCard}s in this table as a bitset, where
+	 * the bit of each card is at its ID.
+	 *
+	 * @return a copy of the open flags
+	 */
+	@Nonnull
+	@SuppressWarnings("null")
+	public long[] getOpenFlags() {
+		return this.open.clone();
+	}
+
+	/**
+	 * Copies the open flags of all {@link UnoCard}s in this table into an existing
+	 * array. Unlike {@link #getOpenFlags()}, this doesn't allocate.
+	 *
+	 * @param target
+	 *            the array to copy the open flags into, sized like
+	 *            {@link #getOpenFlags()}
+	 *
+	 * @throws IllegalArgumentException
+	 *             if the array is not sized for this table
+	 */
+	public void copyOpenFlags(@Nonnull long[] target) {
+		if (target.length != this.open.length)
+			throw new IllegalArgumentException("The state is not sized for this table!");
+
+		System.arraycopy(this.open, 0, target, 0, this.open.length);
+	}
+
+	/**
+	 * Overwrites the open flags of all {@link UnoCard}s in this table with ones
+	 * previously obtained from {@link #getOpenFlags()} or
+	 * {@link #copyOpenFlags(long[])}, leaving the color masks and placers as they are.
+	 *
+	 * @param newOpen
+	 *            the open flags
+	 *
+	 * @throws IllegalArgumentException
+	 *             if the array is not sized for this table
+	 */
+	public void setOpenFlags(@Nonnull long[] newOpen) {
+		if (newOpen.length != this.open.length)
+			throw new IllegalArgumentException("The state is not sized for this table!");
+
+		System.arraycopy(newOpen, 0, this.open, 0, this.open.length);
+	}
+
+	/**
+	 * Overwrites the color masks and open flags of all {@link UnoCard}s in this table
+	 * with ones previously obtained from {@link #getMasks()} and
+	 * {@link #getOpenFlags()} of this or an equally sized table. Placers are cleared.
+	 *
+	 * @param newMasks
+	 *            the color masks
+	 * @param newOpen
+	 *            the open flags
+	 *
+	 * @throws IllegalArgumentException
+	 *             if the arrays are not sized for this table
+	 */
+	public void setState(@Nonnull byte[] newMasks, @Nonnull long[] newOpen) {
+		if (newMasks.length != this.masks.length || newOpen.length != this.open.length)
+			throw new IllegalArgumentException("The state is not sized for this table!");
+
+		System.arraycopy(newMasks, 0, this.masks, 0, this.masks.length);
+		System.arraycopy(newOpen, 0, this.open, 0, this.open.length);
+		Arrays.fill(this.placers, null);
+	}
+
+	/**
+	 * Copies the color masks, open flags and placers of all {@link UnoCard}s in this
+	 * table into existing arrays. Unlike {@link #getMasks()} and
+	 * {@link #getOpenFlags()}, this doesn't allocate, so it's meant for saving the state
+	 * repeatedly, for example before every move.
+	 *
+	 * @param targetMasks
+	 *            the array to copy the color masks into, sized like {@link #getMasks()}
+	 * @param targetOpen
+	 *            the array to copy the open flags into, sized like
+	 *            {@link #getOpenFlags()}
+	 * @param targetPlacers
+	 *            the array to copy the placers into, sized like {@link #getSize()}
+	 *
+	 * @throws IllegalArgumentException
+	 *             if the arrays are not sized for this table
+	 */
+	public void copyState(@Nonnull byte[] targetMasks, @Nonnull long[] targetOpen,
+						  @Nonnull UnoPlayer[] targetPlacers) {
+		if (targetMasks.length != this.masks.length || targetOpen.length != this.open.length
+			|| targetPlacers.length != this.placers.length)
+			throw new IllegalArgumentException("The state is not sized for this table!");
+
+		System.arraycopy(this.masks, 0, targetMasks, 0, this.masks.length);
+		System.arraycopy(this.open, 0, targetOpen, 0, this.open.length);
+		System.arraycopy(this.placers, 0, targetPlacers, 0, this.placers.length);
+	}
+
+	/**
+	 * Overwrites the color masks, open flags and placers of all {@link UnoCard}s in this
+	 * table with ones previously saved with
+	 * {@link #copyState(byte[], long[], UnoPlayer[])}.
+	 *
+	 * @param newMasks
+	 *            the color masks
+	 * @param newOpen
+	 *            the open flags
+	 * @param newPlacers
+	 *            the placers
+	 *
+	 * @throws IllegalArgumentException
+	 *             if the arrays are not sized for this table
+	 */
+	public void setState(@Nonnull byte[] newMasks, @Nonnull long[] newOpen, @Nonnull UnoPlayer[] newPlacers) {
+		if (newPlacers.length != this.placers.length)
+			throw new IllegalArgumentException("The state is not sized for this table!");
+
+		setState(newMasks, newOpen);
+		System.arraycopy(newPlacers, 0, this.placers, 0, this.placers.length);
+	}
+
+	/**
+	 * Returns the placer of the {@link UnoCard} with the given ID. Unlike
+	 * {@link UnoCard#getPlacer()}, this does not throw if it hasn't been set.
+	 *
+	 * @param id
+	 *            the ID of the {@link UnoCard}
+	 *
+	 * @return the placer or {@code null} if it hasn't been set
+	 */
+	@Nullable
+	public UnoPlayer getPlacer(@Nonnegative int id) {
+		return this.placers[id];
+	}
+
+	@Nullable
+	UnoCardColor getMask(int slot) {
+		byte mask = this.masks[slot];
+		return mask == NO_MASK ? null : COLORS[mask];
+	}
+
+	void setMask(int slot, @Nullable UnoCardColor mask) {
+		this.masks[slot] = mask == null ? NO_MASK : (byte) mask.ordinal();
+	}
+
+	boolean isOpen(int slot) {
+		return (this.open[slot >>> 6] & 1L << slot) != 0;
+	}
+
+	void setOpen(int slot, boolean open) {
+		if (open)
+			this.open[slot >>> 6] |= 1L << slot;
+		else
+			this.open[slot >>> 6] &= ~(1L << slot);
+	}
+
+	void setPlacer(int slot, @Nullable UnoPlayer placer) {
+		this.placers[slot] = placer;
+	}
+
+	boolean isDetached() {
+		return this.detached;
+	}
+
+}
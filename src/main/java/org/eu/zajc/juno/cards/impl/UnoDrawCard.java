@@ -23,6 +23,7 @@ import javax.annotation.*;
 import org.eu.zajc.juno.cards.*;
 import org.eu.zajc.juno.game.UnoGame;
 import org.eu.zajc.juno.hands.UnoHand;
+import org.eu.zajc.juno.jfr.UnoCardsDrawnJfrEvent;
 import org.eu.zajc.juno.players.UnoPlayer;
 
 /**
@@ -102,11 +103,12 @@ public class UnoDrawCard extends UnoCard {
 	public void drawTo(@Nonnull UnoGame game, @Nonnull UnoPlayer player) {
 		markClosed();
 		player.getHand().draw(game, getAmount());
+		UnoCardsDrawnJfrEvent.commit(player, getAmount(), 1);
 	}
 
 	@Override
 	public UnoCard cloneCard() {
-		return new UnoDrawCard(getColor(), getAmount());
+		return new UnoDrawCard(getOriginalColor(), getAmount());
 	}
 
 }
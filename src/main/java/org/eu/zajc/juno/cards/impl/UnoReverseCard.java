@@ -46,7 +46,7 @@ public class UnoReverseCard extends UnoCard {
 
 	@Override
 	public UnoCard cloneCard() {
-		return new UnoReverseCard(getColor());
+		return new UnoReverseCard(getOriginalColor());
 	}
 
 }
@@ -45,7 +45,7 @@ public class UnoSkipCard extends UnoCard {
 
 	@Override
 	public UnoCard cloneCard() {
-		return new UnoSkipCard(getColor());
+		return new UnoSkipCard(getOriginalColor());
 	}
 
 }
@@ -18,15 +18,19 @@ package org.eu.zajc.juno.decks;
 
 import java.util.*;
 
-import javax.annotation.Nonnull;
+import javax.annotation.*;
 
-import org.eu.zajc.juno.cards.UnoCard;
+import org.eu.zajc.juno.cards.*;
+import org.eu.zajc.juno.game.UnoGame;
 import org.eu.zajc.juno.piles.UnoPile;
 
 /**
  * A class representing a UNO deck. UNO decks are taken and taken at the beginning of
  * a UNO round and cloned. The clone {@link List} of the {@link UnoCard} is then
- * distributed among the {@link UnoPile}s.
+ * distributed among the {@link UnoPile}s. {@link UnoGame} doesn't clone its deck, but
+ * creates a {@link UnoCardTable} over the deck's cards with {@link #createCardTable()}
+ * and reuses it for every round, so all games played with the same deck share its
+ * cards as definitions.
  *
  * @author Marko Zajc
  */
@@ -54,6 +58,7 @@ public class UnoDeck {
 	}
 
 	@Nonnull private final List<UnoCard> cards;
+	@Nullable private List<UnoCard> definitions;
 
 	/**
 	 * Creates a new {@link UnoDeck}.
@@ -76,4 +81,32 @@ public class UnoDeck {
 		return cloneCards(this.cards);
 	}
 
+	/**
+	 * Creates a {@link UnoCardTable} that holds this deck's {@link UnoCard}s in the
+	 * same order as {@link #getCards()}. The table references an immutable copy of
+	 * this deck's {@link UnoCard}s as its definitions, which is made once and shared by
+	 * all tables created from this deck, and only clones the {@link UnoCard}s that are
+	 * requested from it (see {@link UnoCardTable#UnoCardTable(List, int)}). Subclasses
+	 * that override {@link #getCards()} should override this as well.
+	 *
+	 * @return a new {@link UnoCardTable}
+	 */
+	@Nonnull
+	public UnoCardTable createCardTable() {
+		return new UnoCardTable(getDefinitions(), 1);
+	}
+
+	@Nonnull
+	@SuppressWarnings("null")
+	List<UnoCard> getDefinitions() {
+		var cardDefinitions = this.definitions;
+		if (cardDefinitions == null) {
+			cardDefinitions = List.copyOf(this.cards);
+			this.definitions = cardDefinitions;
+		}
+		// Racing threads may each make a copy, but they're equal
+
+		return cardDefinitions;
+	}
+
 }
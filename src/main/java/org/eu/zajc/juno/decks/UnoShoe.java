@@ -0,0 +1,126 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.decks;
+
+import static java.util.Collections.emptyList;
+
+import java.util.*;
+
+import javax.annotation.*;
+
+import org.eu.zajc.juno.cards.*;
+import org.eu.zajc.juno.decks.impl.UnoStandardDeck;
+import org.eu.zajc.juno.game.UnoGame;
+import org.eu.zajc.juno.piles.impl.UnoDrawPile;
+
+/**
+ * A {@link UnoDeck} made of multiple copies of another {@link UnoDeck}, like a
+ * dealing shoe. This allows for tables that a single deck can't deal in - a
+ * {@link UnoStandardDeck} is exhausted by around 14 players holding 7 cards each.<br>
+ * A shoe only holds a reference to the {@link UnoDeck} it copies rather than its own
+ * copies of the {@link UnoCard}s, so shoes can be created freely. The
+ * {@link UnoCardTable} that {@link UnoGame} creates with {@link #createCardTable()}
+ * holds all copies of the {@link UnoDeck}'s single set of definitions, with the state
+ * of each copy kept at its own IDs. Its {@link UnoCard}s are only cloned from the
+ * definitions as they're drawn from the {@link UnoDrawPile}, so a game never clones
+ * the whole shoe up front.
+ *
+ * @author Marko Zajc
+ */
+public class UnoShoe extends UnoDeck {
+
+	@Nonnull private final UnoDeck deck;
+	@Nonnegative private final int copies;
+
+	/**
+	 * Creates a new {@link UnoShoe}.
+	 *
+	 * @param deck
+	 *            the {@link UnoDeck} to copy
+	 * @param copies
+	 *            the amount of copies of the {@link UnoDeck}, at least 1
+	 *
+	 * @throws IllegalArgumentException
+	 *             if {@code copies} is less than 1
+	 */
+	@SuppressWarnings("null")
+	public UnoShoe(@Nonnull UnoDeck deck, @Nonnegative int copies) {
+		super(emptyList());
+		if (copies < 1)
+			throw new IllegalArgumentException("A shoe must hold at least one copy of the deck!");
+		this.deck = deck;
+		this.copies = copies;
+	}
+
+	/**
+	 * Returns a modifiable clone of all copies of the deck, one after another. This
+	 * clones every {@link UnoCard} of every copy, so games use
+	 * {@link #createCardTable()} instead.
+	 *
+	 * @return a clone of the shoe
+	 */
+	@Override
+	public List<UnoCard> getCards() {
+		var first = this.deck.getCards();
+		var result = new ArrayList<UnoCard>(first.size() * this.copies);
+		result.addAll(first);
+		for (int i = 1; i < this.copies; i++)
+			result.addAll(this.deck.getCards());
+
+		return result;
+	}
+
+	/**
+	 * Creates a {@link UnoCardTable} that holds all copies of the deck, in the same
+	 * order as {@link #getCards()}. The copies share the definitions of the
+	 * {@link UnoDeck} (see {@link UnoDeck#createCardTable()}), so the {@link UnoCard}
+	 * with the ID {@code id} is a copy of the deck's {@link UnoCard} at
+	 * {@code id % deckSize}.
+	 *
+	 * @return a new {@link UnoCardTable}
+	 */
+	@Override
+	public UnoCardTable createCardTable() {
+		UnoDeck base = this.deck;
+		int total = this.copies;
+		while (base instanceof UnoShoe) {
+			var shoe = (UnoShoe) base;
+			total = Math.multiplyExact(total, shoe.copies);
+			base = shoe.deck;
+		}
+		// A shoe of shoes holds copies of the innermost deck
+
+		return new UnoCardTable(base.getDefinitions(), total);
+	}
+
+	/**
+	 * @return the {@link UnoDeck} this shoe is made of
+	 */
+	@Nonnull
+	public UnoDeck getDeck() {
+		return this.deck;
+	}
+
+	/**
+	 * @return the amount of copies of the {@link UnoDeck} in this shoe
+	 */
+	@Nonnegative
+	public int getCopies() {
+		return this.copies;
+	}
+
+}
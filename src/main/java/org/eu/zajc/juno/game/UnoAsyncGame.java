@@ -0,0 +1,241 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.game;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import javax.annotation.*;
+
+import org.eu.zajc.juno.cards.*;
+import org.eu.zajc.juno.decks.UnoDeck;
+import org.eu.zajc.juno.game.UnoGameEngine.UnoEngineState;
+import org.eu.zajc.juno.players.*;
+import org.eu.zajc.juno.players.impl.UnoAsyncPlayerAdapter;
+import org.eu.zajc.juno.rules.pack.UnoRulePack;
+import org.eu.zajc.juno.utils.UnoRandom;
+
+/**
+ * A game of UNO between {@link UnoAsyncPlayer}s. The game is played on an
+ * {@link UnoGameEngine} in which each {@link UnoAsyncPlayer} is seated as an
+ * {@link UnoExternalPlayer}. When a decision is awaited, the game registers a callback
+ * on the player's {@link CompletionStage} and returns, so no thread is held while a
+ * player is thinking or a remote player's response is on its way. The game then
+ * continues on the thread that completes the decision. Decisions that are already
+ * complete are submitted right away, without any callbacks.<br>
+ * {@link UnoAsyncPlayer}s that adapt a regular {@link UnoPlayer} without an
+ * {@link Executor} ({@link UnoAsyncPlayer#of(UnoPlayer)}) are seated directly, so
+ * their turns are played inside the engine's own loop.<br>
+ * Like {@link UnoGameEngine}, this is not thread-safe, but decisions are submitted one
+ * at a time, so an {@link UnoAsyncGame} can be safely continued by any thread.
+ *
+ * @author Marko Zajc
+ */
+public final class UnoAsyncGame {
+
+	@Nonnull private final UnoGameEngine engine;
+	@Nonnull private final Map<UnoPlayer, UnoAsyncPlayer> players = new IdentityHashMap<>();
+	@Nullable private CompletableFuture<UnoWinner> result;
+
+	/**
+	 * Creates a new {@link UnoAsyncGame}.
+	 *
+	 * @param deck
+	 *            the {@link UnoDeck} to use
+	 * @param cardAmount
+	 *            the amount of cards each player starts with
+	 * @param rules
+	 *            the {@link UnoRulePack} to use
+	 * @param random
+	 *            the random number generator used throughout the game, or {@code null}
+	 *            to use the default
+	 * @param players
+	 *            the {@link UnoAsyncPlayer}s for the game, in turn order. Must have at
+	 *            least 2 elements
+	 */
+	public UnoAsyncGame(@Nonnull UnoDeck deck, @Nonnegative int cardAmount, @Nonnull UnoRulePack rules,
+						@Nullable Random random, @Nonnull List<? extends UnoAsyncPlayer> players) {
+		this(deck, cardAmount, rules, random == null ? null : UnoRandom.of(random), players);
+	}
+
+	/**
+	 * Creates a new {@link UnoAsyncGame}.
+	 *
+	 * @param deck
+	 *            the {@link UnoDeck} to use
+	 * @param cardAmount
+	 *            the amount of cards each player starts with
+	 * @param rules
+	 *            the {@link UnoRulePack} to use
+	 * @param random
+	 *            the random number generator used throughout the game, or {@code null}
+	 *            to use the default
+	 * @param players
+	 *            the {@link UnoAsyncPlayer}s for the game, in turn order. Must have at
+	 *            least 2 elements
+	 */
+	@SuppressWarnings("null")
+	public UnoAsyncGame(@Nonnull UnoDeck deck, @Nonnegative int cardAmount, @Nonnull UnoRulePack rules,
+						@Nullable UnoRandom random, @Nonnull List<? extends UnoAsyncPlayer> players) {
+		var seats = new UnoPlayer[players.size()];
+		for (int i = 0; i < seats.length; i++) {
+			var player = players.get(i);
+			if (player instanceof UnoAsyncPlayerAdapter
+				&& ((UnoAsyncPlayerAdapter) player).getExecutor() == null) {
+				seats[i] = ((UnoAsyncPlayerAdapter) player).getPlayer();
+			} else {
+				seats[i] = new UnoExternalPlayer(player.getName());
+				this.players.put(seats[i], player);
+			}
+		}
+
+		this.engine = new UnoGameEngine(deck, cardAmount, rules, random, seats);
+	}
+
+	/**
+	 * Deals a new game and plays it until the first decision that isn't complete yet.
+	 * The rest of the game is played by whichever threads complete the decisions.
+	 *
+	 * @return a {@link CompletableFuture} that completes with the {@link UnoWinner}.
+	 *         If a player fails to make a decision (its {@link CompletionStage}
+	 *         completes exceptionally) or the game throws, the game is ended and the
+	 *         future completes exceptionally with the cause
+	 *
+	 * @throws IllegalStateException
+	 *             if the previous game is still ongoing
+	 */
+	@Nonnull
+	@SuppressWarnings("null")
+	public CompletableFuture<UnoWinner> play() {
+		var previous = this.result;
+		if (previous != null && !previous.isDone())
+			throw new IllegalStateException("The previous game is still ongoing!");
+
+		var future = new CompletableFuture<UnoWinner>();
+		this.result = future;
+		this.engine.start();
+		advance(future, null);
+		return future;
+	}
+
+	private void advance(@Nonnull CompletableFuture<UnoWinner> future, @Nullable CompletableFuture<?> completed) {
+		try {
+			var decision = completed;
+			while (true) {
+				if (decision != null)
+					submit(decision.join());
+
+				if (this.engine.getState() == UnoEngineState.FINISHED
+					|| this.engine.run() == UnoEngineState.FINISHED) {
+					future.complete(this.engine.getWinner());
+					return;
+				}
+
+				var pending = request();
+				if (!pending.isDone()) {
+					pending.whenComplete((r, e) -> advance(future, pending));
+					return;
+				}
+				// The decision is already made, no need for a callback
+
+				decision = pending;
+			}
+
+		} catch (CompletionException e) {
+			fail(future, e.getCause());
+
+		} catch (RuntimeException e) {
+			fail(future, e);
+		}
+	}
+
+	@Nonnull
+	@SuppressWarnings("null")
+	private CompletableFuture<?> request() {
+		var seat = this.engine.getAwaitedPlayer();
+		var player = this.players.get(seat);
+		var game = this.engine.getGame();
+
+		CompletionStage<?> decision;
+		switch (this.engine.getState()) {
+			case AWAITING_CARD:
+				decision = player.playCard(game, seat);
+				break;
+			case AWAITING_COLOR:
+				decision = player.chooseColor(game, seat);
+				break;
+			case AWAITING_DRAWN_CARD:
+				decision = player.shouldPlayDrawnCard(game, seat, this.engine.getDrawnCard());
+				break;
+			default:
+				throw new IllegalStateException("No decision is awaited!");
+		}
+
+		return decision.toCompletableFuture();
+	}
+
+	private void submit(@Nullable Object decision) {
+		switch (this.engine.getState()) {
+			case AWAITING_CARD:
+				this.engine.submitCard((UnoCard) decision);
+				break;
+			case AWAITING_COLOR:
+				if (decision != null && decision != UnoCardColor.WILD)
+					this.engine.submitColor((UnoCardColor) decision);
+				// An invalid color is asked for again
+				break;
+			case AWAITING_DRAWN_CARD:
+				this.engine.submitDrawnCard(Boolean.TRUE.equals(decision));
+				break;
+			default:
+				throw new IllegalStateException("No decision is awaited!");
+		}
+	}
+
+	private void fail(@Nonnull CompletableFuture<UnoWinner> future, @Nonnull Throwable cause) {
+		try {
+			if (this.engine.getState() != UnoEngineState.FINISHED)
+				this.engine.endGame();
+		} catch (RuntimeException e) {
+			cause.addSuppressed(e);
+		}
+		future.completeExceptionally(cause);
+	}
+
+	/**
+	 * @return the {@link CompletableFuture} of the current or last game, or {@code null}
+	 *         if no game has been played yet
+	 */
+	@Nullable
+	public CompletableFuture<UnoWinner> getResult() {
+		return this.result;
+	}
+
+	/**
+	 * Returns the {@link UnoGame} being played, which can be used to inspect the game
+	 * and to register listeners. The {@link UnoAsyncPlayer}s are represented by
+	 * {@link UnoExternalPlayer}s in it, and adapted {@link UnoPlayer}s without an
+	 * {@link Executor} by themselves.
+	 *
+	 * @return the {@link UnoGame}
+	 */
+	@Nonnull
+	public UnoGame getGame() {
+		return this.engine.getGame();
+	}
+
+}
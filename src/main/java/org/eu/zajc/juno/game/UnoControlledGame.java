@@ -16,18 +16,21 @@
  */
 package org.eu.zajc.juno.game;
 
-import static org.eu.zajc.juno.utils.UnoRuleUtils.filterRuleKind;
-
 import java.util.*;
 
 import javax.annotation.*;
 
 import org.eu.zajc.juno.cards.UnoCard;
 import org.eu.zajc.juno.decks.UnoDeck;
+import org.eu.zajc.juno.game.timing.UnoPhaseTimer;
+import org.eu.zajc.juno.hands.UnoHand;
+import org.eu.zajc.juno.piles.impl.*;
 import org.eu.zajc.juno.players.UnoPlayer;
 import org.eu.zajc.juno.rules.UnoRule;
 import org.eu.zajc.juno.rules.pack.UnoRulePack;
 import org.eu.zajc.juno.rules.types.UnoGameFlowRule;
+import org.eu.zajc.juno.rules.types.flow.UnoPhaseConclusion;
+import org.eu.zajc.juno.utils.UnoRandom;
 
 /**
  * An implementation of {@link UnoGame} that lets you control most of the things with
@@ -37,6 +40,9 @@ import org.eu.zajc.juno.rules.types.UnoGameFlowRule;
  */
 public abstract class UnoControlledGame extends UnoGame {
 
+	@Nonnull private final List<UnoUndoEntry> moves = new ArrayList<>();
+	@Nonnegative private int moveCount;
+
 	/**
 	 * Creates a new {@link UnoControlledGame}.
 	 *
@@ -76,9 +82,30 @@ public abstract class UnoControlledGame extends UnoGame {
 		super(unoDeck, cardAmount, rules, random, players);
 	}
 
+	/**
+	 * Creates a new {@link UnoControlledGame}.
+	 *
+	 * @param unoDeck
+	 *            the {@link UnoDeck} to use
+	 * @param cardAmount
+	 *            the amount of cards each player starts with
+	 * @param rules
+	 *            the {@link UnoRulePack} for this {@link UnoGame}
+	 * @param random
+	 *            the random number generator used throughout the game, or {@code null}
+	 *            to use the default
+	 * @param players
+	 *            the {@link UnoPlayer}s for this {@link UnoGame}. Must have at least 2
+	 *            elements
+	 */
+	protected UnoControlledGame(@Nonnull UnoDeck unoDeck, @Nonnegative int cardAmount, @Nonnull UnoRulePack rules,
+								@Nullable UnoRandom random, @Nonnull UnoPlayer... players) {
+		super(unoDeck, cardAmount, rules, random, players);
+	}
+
 	@Override
 	protected void turn(@Nonnull UnoPlayer player) {
-		List<UnoGameFlowRule> rules = filterRuleKind(this.getRules().getRules(), UnoGameFlowRule.class);
+		List<UnoGameFlowRule> rules = this.getRules().getFlowRules();
 
 		boolean skip = initializationPhase(player, this, rules);
 
@@ -87,12 +114,17 @@ public abstract class UnoControlledGame extends UnoGame {
 
 	}
 
-	private static boolean initializationPhase(@Nonnull UnoPlayer player, @Nonnull UnoGame game,
-											   @Nonnull List<UnoGameFlowRule> rules) {
+	static boolean initializationPhase(@Nonnull UnoPlayer player, @Nonnull UnoGame game,
+									   @Nonnull List<UnoGameFlowRule> rules) {
+		var timer = game.getPhaseTimer();
+		long start = timer == null ? 0 : System.nanoTime();
+		int repeats = -1;
+
 		boolean repeat = true;
 		boolean loseATurn = false;
 		while (repeat) {
 			repeat = false;
+			repeats++;
 
 			for (UnoGameFlowRule rule : rules) {
 				var result = rule.initializationPhase(player, game);
@@ -104,30 +136,175 @@ public abstract class UnoControlledGame extends UnoGame {
 			}
 		}
 
+		if (timer != null)
+			timer.onInitializationPhase(player, System.nanoTime() - start, repeats);
+
 		return loseATurn;
 	}
 
 	private static void decisionPhase(@Nonnull UnoPlayer player, @Nonnull UnoGame game,
 									  @Nonnull List<UnoGameFlowRule> rules) {
+		var timer = game.getPhaseTimer();
+		long start = timer == null ? 0 : System.nanoTime();
+		int repeats = -1;
+
 		boolean repeatDecision = true;
 		while (repeatDecision) {
 			repeatDecision = false;
+			repeats++;
 
-			UnoCard decision = player.playCard(game);
+			UnoCard decision = decide(player, game, timer);
 
 			if (game.isEndRequested())
-				return;
+				break;
 			// No need to continue
 
-			for (UnoGameFlowRule rule : rules) {
-				var result = rule.decisionPhase(player, game, decision);
-				if (result.shouldRepeat())
-					repeatDecision = true;
-				if (result.shouldReverseDirection())
-					game.reverseDirection();
+			repeatDecision = applyDecision(player, game, rules, decision);
+		}
+
+		if (timer != null)
+			timer.onDecisionPhase(player, System.nanoTime() - start, repeats);
+	}
+
+	@Nullable
+	static UnoCard decide(@Nonnull UnoPlayer player, @Nonnull UnoGame game, @Nullable UnoPhaseTimer timer) {
+		if (timer == null)
+			return player.playCard(game);
+
+		long start = System.nanoTime();
+		var decision = player.playCard(game);
+		timer.onDecision(player, System.nanoTime() - start);
+		return decision;
+	}
+
+	static boolean applyDecision(@Nonnull UnoPlayer player, @Nonnull UnoGame game,
+								 @Nonnull List<UnoGameFlowRule> rules, @Nullable UnoCard decision) {
+		var timer = game.getPhaseTimer();
+		boolean repeatDecision = false;
+		for (UnoGameFlowRule rule : rules) {
+			UnoPhaseConclusion result;
+			if (timer == null) {
+				result = rule.decisionPhase(player, game, decision);
+			} else {
+				long start = System.nanoTime();
+				result = rule.decisionPhase(player, game, decision);
+				timer.onDecisionRule(rule, player, System.nanoTime() - start);
 			}
 
+			if (result.shouldRepeat())
+				repeatDecision = true;
+			if (result.shouldReverseDirection())
+				game.reverseDirection();
 		}
+
+		return repeatDecision;
+	}
+
+	/**
+	 * Makes a move for a {@link UnoPlayer} without asking them for a decision, and
+	 * records it so that it can be undone with {@link #unmakeMove()}. The move is a
+	 * whole turn that is played through the {@link UnoGameFlowRule}s as usual: the
+	 * initialization phase (which might make the {@link UnoPlayer} draw or lose the
+	 * turn) followed by a decision phase with the given decision. The {@link UnoPlayer}
+	 * is still asked to choose colors and whether to play drawn cards. Victories are not
+	 * checked.<br>
+	 * The undo record covers the {@link UnoPlayer}s' {@link UnoHand}s, the
+	 * {@link UnoDiscardPile} and {@link UnoDrawPile}, the state of all {@link UnoCard}s,
+	 * the direction of play and the last player, so the game may not be changed by
+	 * anything else until the move is unmade. This is meant for lookahead, where moves
+	 * are repeatedly made and unmade on a single game.
+	 *
+	 * @param player
+	 *            the {@link UnoPlayer} to make the move for, which would usually be
+	 *            {@link #getNextPlayer()}
+	 * @param decision
+	 *            the {@link UnoCard} to place or {@code null} to draw
+	 *
+	 * @throws IllegalArgumentException
+	 *             if the {@link UnoPlayer} is not in this game or the decision is not
+	 *             valid, in which case nothing is changed
+	 * @throws IllegalStateException
+	 *             if no game has been played yet
+	 */
+	public void makeMove(@Nonnull UnoPlayer player, @Nullable UnoCard decision) {
+		if (getSeat(player) < 0)
+			throw new IllegalArgumentException("The player is not in this game!");
+		getDraw();
+		// Validates the state
+
+		var table = getCardTable();
+		UnoUndoEntry entry;
+		if (this.moveCount == this.moves.size()) {
+			entry = new UnoUndoEntry(table, getPlayers().size());
+			this.moves.add(entry);
+		} else {
+			entry = this.moves.get(this.moveCount);
+		}
+		entry.record(this);
+		this.moveCount++;
+		// Records the state, reusing records of moves that have been unmade
+
+		setLastPlayer(player);
+		updateTopCard();
+		boolean invalid;
+		setRecording(entry);
+		try {
+			var rules = this.getRules().getFlowRules();
+			invalid = !initializationPhase(player, this, rules) && applyDecision(player, this, rules, decision);
+		} finally {
+			setRecording(null);
+		}
+		updateTopCard();
+
+		if (invalid) {
+			unmakeMove();
+			throw new IllegalArgumentException("The decision is not valid!");
+		}
+	}
+
+	/**
+	 * Undoes the last move made with {@link #makeMove(UnoPlayer, UnoCard)}, restoring
+	 * the exact state the game was in before it.
+	 *
+	 * @throws IllegalStateException
+	 *             if there are no moves to undo
+	 */
+	public void unmakeMove() {
+		if (this.moveCount == 0)
+			throw new IllegalStateException("There are no moves to unmake!");
+
+		this.moves.get(--this.moveCount).undo(this);
+	}
+
+	/**
+	 * @return the amount of moves made with {@link #makeMove(UnoPlayer, UnoCard)} that
+	 *         can be undone with {@link #unmakeMove()}
+	 */
+	@Nonnegative
+	public int getMoveCount() {
+		return this.moveCount;
+	}
+
+	/**
+	 * Forgets all moves made with {@link #makeMove(UnoPlayer, UnoCard)}, keeping the
+	 * current state. This is done automatically when a game is played or restored, but
+	 * must be called manually before the state is changed in any other way.
+	 */
+	public void clearMoves() {
+		this.moveCount = 0;
+	}
+
+	@Nonnull
+	@Override
+	public UnoWinner play() {
+		clearMoves();
+		return super.play();
+	}
+
+	@Override
+	public void restore(@Nonnull UnoGameState state) {
+		clearMoves();
+		super.restore(state);
 	}
 
 }
@@ -0,0 +1,110 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.game;
+
+import javax.annotation.*;
+
+import org.eu.zajc.juno.cards.*;
+import org.eu.zajc.juno.players.UnoPlayer;
+
+/**
+ * A {@link UnoPlayer} whose decisions are submitted to a {@link UnoGameEngine} from
+ * the outside instead of being made when asked, for example by a remote player or an
+ * agent that runs on its own schedule. When an {@link UnoExternalPlayer} is due to
+ * make a decision, the engine stops and waits for it (see
+ * {@link UnoGameEngine#awaitingInput()}) instead of calling the player, so no thread
+ * is held in the meantime.<br>
+ * An {@link UnoExternalPlayer} can only be used with a {@link UnoGameEngine}.
+ *
+ * @author Marko Zajc
+ */
+public final class UnoExternalPlayer extends UnoPlayer {
+
+	@Nullable private UnoCardColor color;
+	@Nullable private UnoCard drawn;
+
+	/**
+	 * Creates a new {@link UnoExternalPlayer}.
+	 *
+	 * @param name
+	 *            the player's name
+	 */
+	public UnoExternalPlayer(@Nonnull String name) {
+		super(name);
+	}
+
+	/**
+	 * Not supported, the decision is submitted with
+	 * {@link UnoGameEngine#submitCard(UnoCard)} instead.
+	 *
+	 * @throws UnsupportedOperationException
+	 *             always
+	 */
+	@Override
+	public UnoCard playCard(UnoGame game) {
+		throw new UnsupportedOperationException("External players can only be used with UnoGameEngine!");
+	}
+
+	/**
+	 * Returns the color submitted with {@link UnoGameEngine#submitColor(UnoCardColor)}.
+	 *
+	 * @throws IllegalStateException
+	 *             if no color has been submitted
+	 */
+	@Override
+	public UnoCardColor chooseColor(UnoGame game) {
+		var chosen = this.color;
+		if (chosen == null)
+			throw new IllegalStateException("No color has been submitted for " + getName() + "!");
+
+		this.color = null;
+		return chosen;
+	}
+
+	/**
+	 * Defers the decision, which is then awaited by the {@link UnoGameEngine} once the
+	 * rest of the turn has been played.
+	 *
+	 * @return {@code false}
+	 */
+	@Override
+	public boolean shouldPlayDrawnCard(UnoGame game, UnoCard drawnCard) {
+		this.drawn = drawnCard;
+		return false;
+	}
+
+	boolean hasColor() {
+		return this.color != null;
+	}
+
+	void setColor(@Nullable UnoCardColor color) {
+		this.color = color;
+	}
+
+	@Nullable
+	UnoCard takeDrawn() {
+		var card = this.drawn;
+		this.drawn = null;
+		return card;
+	}
+
+	void reset() {
+		this.color = null;
+		this.drawn = null;
+	}
+
+}
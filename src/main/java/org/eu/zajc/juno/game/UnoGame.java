@@ -27,17 +27,21 @@ import java.util.*;
 
 import javax.annotation.*;
 
-import org.eu.zajc.juno.cards.UnoCard;
+import org.eu.zajc.juno.cards.*;
 import org.eu.zajc.juno.cards.impl.*;
 import org.eu.zajc.juno.decks.UnoDeck;
 import org.eu.zajc.juno.game.UnoWinner.UnoEndReason;
+import org.eu.zajc.juno.game.event.*;
+import org.eu.zajc.juno.game.timing.UnoPhaseTimer;
+import org.eu.zajc.juno.hands.*;
+import org.eu.zajc.juno.jfr.*;
 import org.eu.zajc.juno.piles.impl.*;
 import org.eu.zajc.juno.players.UnoPlayer;
 import org.eu.zajc.juno.rules.UnoRule;
-import org.eu.zajc.juno.rules.pack.UnoRulePack;
+import org.eu.zajc.juno.rules.pack.*;
 import org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules.UnoHouseRule;
 import org.eu.zajc.juno.rules.types.UnoGameFlowRule;
-import org.eu.zajc.juno.utils.UnoRuleUtils;
+import org.eu.zajc.juno.utils.*;
 
 /**
  * A class representing a game of UNO. {@link UnoGame} is the thing that controls the
@@ -50,16 +54,27 @@ import org.eu.zajc.juno.utils.UnoRuleUtils;
 public abstract class UnoGame {
 
 	@Nonnull private final List<UnoPlayer> players;
+	@Nonnull private final Map<UnoPlayer, Integer> seats;
+	@Nonnull private final UnoHandTracker hands;
 	@Nullable private UnoPlayer last;
+	private int lastSeat = -1;
 	@Nonnegative private final int cardAmount;
 	@Nonnull private final UnoDiscardPile discard = new UnoDiscardPile();
 	@Nonnull private final UnoRulePack rules;
 	@Nonnull private final UnoDeck deck;
+	@Nullable private UnoCardTable cards;
+	@Nullable private UnoPlacementMatrix placementMatrix;
+	private boolean placementMatrixCompiled;
 	@Nullable private UnoCard topCard;
-	@Nullable private final Random random;
+	@Nullable private final UnoRandom random;
 	private UnoDrawPile draw;
-	private boolean endRequested;
+	private volatile boolean endRequested;
 	private boolean reversedDirection;
+	@Nonnull private UnoGameListener[] listeners = new UnoGameListener[0];
+	private final boolean textEvents = overridesOnEvent(getClass());
+	@Nullable private UnoUndoEntry recording;
+	@Nullable private UnoPhaseTimer phaseTimer;
+	@Nullable private UnoGameJfrEvent flightEvent;
 
 	/**
 	 * Creates a new UNO game.
@@ -76,7 +91,7 @@ public abstract class UnoGame {
 	 */
 	protected UnoGame(@Nonnull UnoDeck deck, @Nonnegative int cardAmount, @Nonnull UnoRulePack rules,
 					  @Nonnull UnoPlayer... players) {
-		this(deck, cardAmount, rules, null, players);
+		this(deck, cardAmount, rules, (UnoRandom) null, players);
 	}
 
 	/**
@@ -95,9 +110,30 @@ public abstract class UnoGame {
 	 *            the {@link UnoPlayer}s for this {@link UnoGame}. Must have at least 2
 	 *            elements
 	 */
-	@SuppressWarnings("null")
 	protected UnoGame(@Nonnull UnoDeck deck, @Nonnegative int cardAmount, @Nonnull UnoRulePack rules,
 					  @Nullable Random random, @Nonnull UnoPlayer... players) {
+		this(deck, cardAmount, rules, random == null ? null : UnoRandom.of(random), players);
+	}
+
+	/**
+	 * Creates a new UNO game.
+	 *
+	 * @param deck
+	 *            the {@link UnoDeck} to use
+	 * @param cardAmount
+	 *            the amount of cards each player starts with
+	 * @param rules
+	 *            the {@link UnoRulePack} for this {@link UnoGame}
+	 * @param random
+	 *            the random number generator used throughout the game, or {@code null}
+	 *            to use the default
+	 * @param players
+	 *            the {@link UnoPlayer}s for this {@link UnoGame}. Must have at least 2
+	 *            elements
+	 */
+	@SuppressWarnings("null")
+	protected UnoGame(@Nonnull UnoDeck deck, @Nonnegative int cardAmount, @Nonnull UnoRulePack rules,
+					  @Nullable UnoRandom random, @Nonnull UnoPlayer... players) {
 		if (players.length < 2)
 			throw new IndexOutOfBoundsException("Need at least two players for a game of UNO!");
 		this.deck = deck;
@@ -105,6 +141,12 @@ public abstract class UnoGame {
 		this.rules = rules;
 		this.random = random;
 		this.players = unmodifiableList(asList(players.clone()));
+		this.seats = new IdentityHashMap<>(players.length);
+		for (int i = 0; i < players.length; i++)
+			this.seats.putIfAbsent(players[i], i);
+		// Seats are looked up by identity, so turn resolution doesn't have to search the
+		// player list
+		this.hands = new UnoHandTracker(this.players);
 	}
 
 	/**
@@ -130,14 +172,57 @@ public abstract class UnoGame {
 		this(deck, cardAmount, rules, first, second);
 	}
 
+	/**
+	 * Returns the {@link UnoCardTable} that holds this game's {@link UnoCard}s. It is
+	 * created with {@link UnoDeck#createCardTable()} when it's first needed and reused
+	 * by every subsequent game, so the IDs of the {@link UnoCard}s never change.
+	 *
+	 * @return the {@link UnoCardTable}
+	 */
+	@Nonnull
+	public UnoCardTable getCardTable() {
+		var cardTable = this.cards;
+		if (cardTable == null) {
+			cardTable = this.deck.createCardTable();
+			this.cards = cardTable;
+		}
+		// Creates the table once and reuses its cards in every subsequent game
+
+		return cardTable;
+	}
+
+	/**
+	 * Returns the {@link UnoPlacementMatrix} of this game's {@link UnoRulePack} for its
+	 * {@link UnoCardTable}. This is only available if the {@link UnoRulePack} is a
+	 * {@link UnoFrozenRulePack} whose rules can be compiled into a matrix (see
+	 * {@link UnoPlacementEngine#getMatrix(UnoCardTable)}). The matrix is looked up once
+	 * and reused by every subsequent game.
+	 *
+	 * @return the {@link UnoPlacementMatrix} or {@code null} if it's not available
+	 */
+	@Nullable
+	public UnoPlacementMatrix getPlacementMatrix() {
+		if (!this.placementMatrixCompiled) {
+			if (this.rules instanceof UnoFrozenRulePack)
+				this.placementMatrix = ((UnoFrozenRulePack) this.rules).getPlacementEngine().getMatrix(getCardTable());
+			this.placementMatrixCompiled = true;
+		}
+
+		return this.placementMatrix;
+	}
+
 	private void init() {
-		this.draw = new UnoDrawPile(this.deck, this.random);
+		this.draw = new UnoDrawPile(getCardTable(), getRandom());
 		// Creates the draw pile
 
 		this.getDiscard().clear();
 		this.players.forEach(player -> player.getHand().clear());
 		// Clears every other pile
 
+		this.reversedDirection = false;
+		// Resets the direction from the previous game. A pending end request is kept, so
+		// that a game can be ended before it starts
+
 		this.getDiscard().add(this.draw.drawInitalCard());
 		// Draws the initial card
 
@@ -145,7 +230,7 @@ public abstract class UnoGame {
 		// Deals the cards
 	}
 
-	private void updateTopCard() {
+	void updateTopCard() {
 		this.topCard = this.getDiscard().getTop();
 	}
 
@@ -154,7 +239,22 @@ public abstract class UnoGame {
 	 * implementation when the draw pile gets empty.
 	 */
 	public void discardIntoDraw() {
-		this.getDraw().mergeResetShuffle(this.getDiscard().createDrawPile());
+		var event = new UnoReshuffleJfrEvent();
+		event.begin();
+
+		var undo = this.recording;
+		if (undo != null) {
+			undo.onReshuffle(this.getDiscard());
+			this.draw = new UnoDrawPile(this.getDraw());
+		}
+		// The move that is being recorded keeps the original draw pile, so it's merged
+		// into a copy instead
+
+		this.getDraw().mergeResetShuffle(this.getDiscard());
+		event.commit(this.getDraw().getSize());
+
+		if (this.listeners.length != 0)
+			notifyListeners(new UnoReshuffleEvent(this.getDraw().getSize()));
 	}
 
 	/**
@@ -171,43 +271,198 @@ public abstract class UnoGame {
 	}
 
 	@Nullable
-	private UnoPlayer fallbackVictory() {
-		Optional<UnoPlayer> winner =
-			this.players.stream().min(Comparator.comparingInt(player -> player.getCards().size()));
-		if (winner.isPresent() && this.players.stream()
-			.filter(player -> player.getCards().size() == winner.get().getCards().size())
-			.count() == 1) {
-			return winner.get();
-		} else {
-			return null;
+	UnoPlayer fallbackVictory() {
+		int minSize = getMinHandSize();
+		UnoPlayer winner = null;
+		for (var player : this.players) {
+			if (player.getHandSize() == minSize) {
+				if (winner != null)
+					return null;
+				winner = player;
+			}
 		}
+		// The player with the smallest hand wins, unless it's shared
+
+		return winner;
+	}
+
+	/**
+	 * Returns the size of the smallest {@link UnoHand} in this game. The game keeps
+	 * track of hand sizes through {@link UnoHandListener}s, so this is a constant-time
+	 * operation as long as all {@link UnoHand}s report their changes (see
+	 * {@link UnoHand#isReporting()}), and checks every {@link UnoPlayer} otherwise.
+	 *
+	 * @return the size of the smallest {@link UnoHand}
+	 */
+	@Nonnegative
+	public int getMinHandSize() {
+		if (this.hands.ensureAttached())
+			return this.hands.getMinSize();
+
+		int minSize = Integer.MAX_VALUE;
+		for (var player : this.players)
+			minSize = Math.min(minSize, player.getHandSize());
+		return minSize;
 	}
 
 	/**
-	 * Plays a game of UNO.
+	 * Plays a game of UNO. The {@link UnoCard}s are cloned from the {@link UnoDeck} as
+	 * they're first drawn, and the same {@link UnoCard}s are reset and reused in every
+	 * subsequent game.
 	 *
 	 * @return the UnoWinner
 	 */
 	@Nonnull
 	@SuppressWarnings("null")
 	public UnoWinner play() {
+		start();
+		return playFrom(this.players.get(0));
+	}
+
+	void start() {
+		var event = new UnoGameJfrEvent();
+		event.begin();
+		this.flightEvent = event;
 		init();
 		// Initiates game
-		onEvent("The game begins!");
+		if (isObserved())
+			fireEvent(UnoGameStartEvent.INSTANCE);
+	}
 
+	/**
+	 * Plays the rest of a game from a state that has been set up by the caller instead
+	 * of dealing a new one. This is meant for lookahead, such as playing out a guessed
+	 * copy of another game. Before calling this, the {@link UnoDiscardPile} and the
+	 * {@link UnoPlayer}s' {@link UnoHand}s must hold their {@link UnoCard}s, and the
+	 * state of the top {@link UnoCard} (its color mask, placer and whether it's open)
+	 * must be set. The rest of the state is set up like {@link #restore(UnoGameState)}
+	 * does, and the game is then played with {@link #resume()}, so no start event is
+	 * fired.
+	 *
+	 * @param drawPile
+	 *            the {@link UnoDrawPile} to continue with
+	 * @param next
+	 *            the {@link UnoPlayer} to get the next turn. Their turn starts with the
+	 *            initialization phase
+	 * @param reversed
+	 *            whether the direction of play is reversed
+	 *
+	 * @return the UnoWinner
+	 */
+	@Nonnull
+	@SuppressWarnings("null")
+	protected UnoWinner resume(@Nonnull UnoDrawPile drawPile, @Nonnull UnoPlayer next, boolean reversed) {
+		if (this.getDiscard().getSize() == 0)
+			throw new IllegalStateException("The discard pile must contain at least one card.");
+		int seat = getPlayerIndex(next);
+		// Validates the state
+
+		var lastPlayer = this.players.get(floorMod(seat + (reversed ? 1 : -1), this.players.size()));
+		restore(drawPile, lastPlayer, reversed, this.endRequested);
+		// The player before the next one in the given direction is the last one to have
+		// played
+
+		return resume();
+	}
+
+	/**
+	 * Captures the current state of this {@link UnoGame} into a compact
+	 * {@link UnoGameState}. The snapshot is independent of this game and can later be
+	 * restored into it or into another {@link UnoGame} with the same {@link UnoDeck} and
+	 * amount of {@link UnoPlayer}s with {@link #restore(UnoGameState)}.
+	 *
+	 * @return the {@link UnoGameState}
+	 *
+	 * @throws IllegalStateException
+	 *             if no game has been played yet
+	 */
+	@Nonnull
+	public UnoGameState snapshot() {
+		return new UnoGameState(this, getCardTable());
+	}
+
+	/**
+	 * Restores a {@link UnoGameState} into this {@link UnoGame}, replacing the contents
+	 * of its piles and hands, the state of its {@link UnoCard}s, the direction of play
+	 * and the last player. The snapshot may come from another {@link UnoGame} with the
+	 * same {@link UnoDeck} and amount of {@link UnoPlayer}s, in which case this game
+	 * becomes an independent fork of it. Use {@link #resume()} to play it forward.
+	 *
+	 * @param state
+	 *            the {@link UnoGameState} to restore
+	 *
+	 * @throws IllegalArgumentException
+	 *             if the snapshot was taken from a game with a different {@link UnoDeck}
+	 *             or amount of {@link UnoPlayer}s
+	 */
+	public void restore(@Nonnull UnoGameState state) {
+		state.restore(this, getCardTable(), getRandom());
+	}
+
+	@Nonnull
+	private UnoRandom getRandom() {
+		var unoRandom = this.random;
+		return unoRandom == null ? UnoRandom.threadLocal() : unoRandom;
+	}
+
+	void restore(@Nonnull UnoDrawPile drawPile, @Nullable UnoPlayer lastPlayer, boolean reversed,
+				 boolean requested) {
+		this.draw = drawPile;
+		setLastPlayer(lastPlayer);
+		this.reversedDirection = reversed;
+		this.endRequested = requested;
+		updateTopCard();
+	}
+
+	void setLastPlayer(@Nullable UnoPlayer lastPlayer) {
+		var seat = lastPlayer == null ? null : this.seats.get(lastPlayer);
+		this.last = lastPlayer;
+		this.lastSeat = seat == null ? -1 : seat;
+	}
+
+	void setRecording(@Nullable UnoUndoEntry entry) {
+		this.recording = entry;
+		this.hands.setRecording(entry);
+	}
+
+	boolean isTrackingHands() {
+		return this.hands.ensureAttached();
+	}
+
+	/**
+	 * Plays the rest of a game from its current state, for example after restoring a
+	 * {@link UnoGameState} with {@link #restore(UnoGameState)}. The first turn is given
+	 * to the {@link UnoPlayer} after the last one to have played, so snapshots should be
+	 * taken between turns (for example from a {@link UnoGameListener}). No start event
+	 * is fired.
+	 *
+	 * @return the UnoWinner
+	 */
+	@Nonnull
+	@SuppressWarnings("null")
+	public UnoWinner resume() {
+		getDraw();
+		// Makes sure that there is a game to resume
+
+		var lastPlayer = this.last;
+		return playFrom(lastPlayer == null ? this.players.get(0) : getNextPlayer(lastPlayer));
+	}
+
+	@Nonnull
+	private UnoWinner playFrom(@Nonnull UnoPlayer first) {
 		UnoPlayer winnerPlayer = null;
 
 		boolean fallback = false;
-		for (UnoPlayer player = this.players.get(0); winnerPlayer == null && !fallback && !this.endRequested; player =
+		for (UnoPlayer player = first; winnerPlayer == null && !fallback && !this.endRequested; player =
 			getNextPlayer(player)) {
-			this.last = player;
+			setLastPlayer(player);
 
 			winnerPlayer = playAndCheckPlayers(player);
 			// Gives the players a turn and checks all players. While only the current player
 			// could be checked, certain rules could modify the state of other players, so I'm
 			// opting to check all of them instead.
 
-			if (this.getDiscard().getSize() <= 1 && this.getDraw().getSize() == 0) {
+			if (isExhausted()) {
 				winnerPlayer = fallbackVictory();
 				fallback = true;
 			}
@@ -217,9 +472,36 @@ public abstract class UnoGame {
 		}
 		// Iterates over all players until a winner is declared
 
+		return finish(winnerPlayer, fallback);
+	}
+
+	boolean isExhausted() {
+		return this.getDiscard().getSize() <= 1 && this.getDraw().getSize() == 0;
+	}
+
+	@Nonnull
+	UnoWinner finish(@Nullable UnoPlayer winnerPlayer, boolean fallback) {
 		UnoEndReason reason = determineEndReason(winnerPlayer, fallback);
 		UnoWinner winner = new UnoWinner(winnerPlayer, reason);
-		checkWinnerObjections(winner);
+		this.endRequested = false;
+		// The game is over, so the request doesn't carry over to the next one
+		var timer = this.phaseTimer;
+		if (timer == null) {
+			checkWinnerObjections(winner);
+		} else {
+			long start = System.nanoTime();
+			checkWinnerObjections(winner);
+			timer.onWinnerObjections(System.nanoTime() - start);
+		}
+
+		if (this.listeners.length != 0)
+			notifyListeners(new UnoGameEndEvent(winner));
+
+		var event = this.flightEvent;
+		if (event != null) {
+			this.flightEvent = null;
+			event.commit(this, winner);
+		}
 
 		return winner;
 	}
@@ -241,12 +523,25 @@ public abstract class UnoGame {
 		updateTopCard();
 		// Updates the top card
 
+		var event = new UnoTurnJfrEvent();
+		event.begin();
 		turn(player);
+		event.commit(player);
 		// Plays player's hand
 
 		updateTopCard();
 		// Update top card to avoid last card not being cached
 
+		return findWinner();
+	}
+
+	@Nullable
+	UnoPlayer findWinner() {
+		if (this.hands.ensureAttached() && this.hands.getEmpty() == 0)
+			return null;
+		// Only empty hands can win, and the game is notified of every hand that becomes
+		// empty, including through rules that change other players' hands
+
 		for (UnoPlayer otherPlayer : this.players) {
 			if (checkVictory(otherPlayer, this.getDiscard()))
 				return otherPlayer;
@@ -260,17 +555,15 @@ public abstract class UnoGame {
 		UnoPlayer newWinner = null;
 		boolean winnerObjected = false;
 		boolean objectionsConflict = false;
-		for (UnoRule rule : this.rules.getRules()) {
-			if (rule instanceof UnoGameFlowRule) {
-				var result = ((UnoGameFlowRule) rule).finishPhase(winner, this);
-				if (result.doesObjectWinner()) {
-					if (winnerObjected && newWinner == result.getNewWinner()) {
-						objectionsConflict = true;
-						break;
-					} else {
-						winnerObjected = true;
-						newWinner = result.getNewWinner();
-					}
+		for (UnoGameFlowRule rule : this.rules.getFinishRules()) {
+			var result = rule.finishPhase(winner, this);
+			if (result.doesObjectWinner()) {
+				if (winnerObjected && newWinner == result.getNewWinner()) {
+					objectionsConflict = true;
+					break;
+				} else {
+					winnerObjected = true;
+					newWinner = result.getNewWinner();
 				}
 			}
 		}
@@ -306,14 +599,97 @@ public abstract class UnoGame {
 	 * Called when an event (such as a card being placed, the color of the top card being
 	 * changed, etc) occurs. The given format can be formatted with
 	 * {@link String#format(String, Object...)} or
-	 * {@link PrintStream#printf(String, Object...)} (or a similar method).
+	 * {@link PrintStream#printf(String, Object...)} (or a similar method).<br>
+	 * This is the legacy, text-only way of observing a game and is only called if it's
+	 * overridden. Reshuffles and game ends are not reported through it. Prefer
+	 * registering a {@link UnoGameListener} with
+	 * {@link #addListener(UnoGameListener)}, which receives typed
+	 * {@link UnoGameEvent}s that are only formatted on demand.
 	 *
 	 * @param format
 	 *            the format of the message
 	 * @param arguments
 	 *            arguments for the format
 	 */
-	public abstract void onEvent(@Nonnull String format, @Nonnull Object... arguments);
+	@SuppressWarnings("unused")
+	public void onEvent(@Nonnull String format, @Nonnull Object... arguments) {
+		// not observed by default
+	}
+
+	private static boolean overridesOnEvent(@Nonnull Class<?> type) {
+		try {
+			return type.getMethod("onEvent", String.class, Object[].class).getDeclaringClass() != UnoGame.class;
+		} catch (NoSuchMethodException e) {
+			return true;
+			// Shouldn't happen, but it's safer to keep reporting events
+		}
+	}
+
+	/**
+	 * Registers a {@link UnoGameListener} that will receive all {@link UnoGameEvent}s
+	 * of this {@link UnoGame}, including those of the subsequent games.
+	 *
+	 * @param listener
+	 *            the {@link UnoGameListener} to register
+	 */
+	public void addListener(@Nonnull UnoGameListener listener) {
+		var registered = Arrays.copyOf(this.listeners, this.listeners.length + 1);
+		registered[registered.length - 1] = listener;
+		this.listeners = registered;
+	}
+
+	/**
+	 * Unregisters a {@link UnoGameListener}. Does nothing if the listener is not
+	 * registered.
+	 *
+	 * @param listener
+	 *            the {@link UnoGameListener} to unregister
+	 */
+	@SuppressWarnings("null")
+	public void removeListener(@Nonnull UnoGameListener listener) {
+		for (int i = 0; i < this.listeners.length; i++) {
+			if (this.listeners[i] == listener) {
+				var registered = new UnoGameListener[this.listeners.length - 1];
+				System.arraycopy(this.listeners, 0, registered, 0, i);
+				System.arraycopy(this.listeners, i + 1, registered, i, registered.length - i);
+				this.listeners = registered;
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Returns whether anything observes this {@link UnoGame}'s events, either a
+	 * registered {@link UnoGameListener} or an overridden
+	 * {@link #onEvent(String, Object...)}. {@link UnoGameEvent}s should only be created
+	 * and fired when this returns {@code true}, so that headless games don't allocate
+	 * them at all.
+	 *
+	 * @return whether events are observed
+	 */
+	public final boolean isObserved() {
+		return this.textEvents || this.listeners.length != 0;
+	}
+
+	/**
+	 * Fires an event, passing it to all registered {@link UnoGameListener}s and its
+	 * message to {@link #onEvent(String, Object...)} if it's overridden. Callers should
+	 * check {@link #isObserved()} before creating the event.
+	 *
+	 * @param event
+	 *            the {@link UnoGameEvent} to fire
+	 */
+	@SuppressWarnings("null")
+	public void fireEvent(@Nonnull UnoGameEvent event) {
+		notifyListeners(event);
+		if (this.textEvents)
+			onEvent(event.getFormat(), event.getArguments());
+	}
+
+	private void notifyListeners(@Nonnull UnoGameEvent event) {
+		for (var listener : this.listeners)
+			listener.onEvent(this, event);
+	}
 
 	/**
 	 * Returns the draw pile. This is where cards are drawn from by hands. The discard
@@ -412,11 +788,30 @@ public abstract class UnoGame {
 	 */
 	@Nonnull
 	public final UnoPlayer getPreviousPlayer() {
-		return getNextPlayer(this.last);
+		return getPreviousPlayer(this.last);
+	}
+
+	/**
+	 * Returns the seat of a {@link UnoPlayer}, that is its index in
+	 * {@link #getPlayers()}. Seats are looked up by identity in constant time, so this is
+	 * preferable to {@link List#indexOf(Object)} on large tables.
+	 *
+	 * @param player
+	 *            the {@link UnoPlayer}
+	 *
+	 * @return the seat of the {@link UnoPlayer} or {@code -1} if it is not a part of this
+	 *         game
+	 */
+	public final int getSeat(@Nullable UnoPlayer player) {
+		if (player != null && player == this.last)
+			return this.lastSeat;
+
+		var seat = this.seats.get(player);
+		return seat == null ? -1 : seat;
 	}
 
 	private int getPlayerIndex(UnoPlayer player) {
-		int playerIndex = this.players.indexOf(player);
+		int playerIndex = getSeat(player);
 		if (playerIndex < 0)
 			throw new IllegalArgumentException("The provided UnoPlayer is not a part of this UnoGame.");
 		return playerIndex;
@@ -469,7 +864,9 @@ public abstract class UnoGame {
 	/**
 	 * Fetches the {@link UnoHouseRule}s used in this {@link UnoGame}'s
 	 * {@link UnoRulePack} using {@link UnoRuleUtils#findHouseRules(UnoRulePack)}. This
-	 * is a singleton so it will consume more resources when called multiple times.
+	 * copies them into a new {@link List} on every call - use
+	 * {@link UnoRulePack#getHouseRules()} of {@link #getRules()} to check for a
+	 * {@link UnoHouseRule} without allocating.
 	 *
 	 * @return this {@link UnoGame}'s {@link UnoHouseRule}s
 	 */
@@ -480,12 +877,35 @@ public abstract class UnoGame {
 
 	/**
 	 * Requests the game to be ended on the next turn. The {@link UnoEndReason} reported
-	 * will be {@link UnoEndReason#REQUESTED}.
+	 * will be {@link UnoEndReason#REQUESTED}. This may be called from any thread, for
+	 * example to stop a game that is being played on another one. If the game hasn't
+	 * started yet, it ends as soon as it does. The request is cleared once the game
+	 * ends.
 	 */
 	public void endGame() {
 		this.endRequested = true;
 	}
 
+	/**
+	 * Sets the {@link UnoPhaseTimer} that receives the durations of this game's turn
+	 * phases. Without one (the default), the phases are not timed at all.
+	 *
+	 * @param timer
+	 *            the {@link UnoPhaseTimer} or {@code null} to stop timing
+	 */
+	public void setPhaseTimer(@Nullable UnoPhaseTimer timer) {
+		this.phaseTimer = timer;
+	}
+
+	/**
+	 * @return the {@link UnoPhaseTimer} that receives the durations of this game's turn
+	 *         phases, or {@code null} if they are not timed
+	 */
+	@Nullable
+	public UnoPhaseTimer getPhaseTimer() {
+		return this.phaseTimer;
+	}
+
 	/**
 	 * @return whether {@link #endGame()} has been called
 	 */
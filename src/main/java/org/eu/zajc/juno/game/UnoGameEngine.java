@@ -0,0 +1,518 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.game;
+
+import static org.eu.zajc.juno.cards.UnoCardColor.WILD;
+import static org.eu.zajc.juno.game.UnoControlledGame.*;
+
+import java.util.*;
+
+import javax.annotation.*;
+
+import org.eu.zajc.juno.cards.*;
+import org.eu.zajc.juno.decks.UnoDeck;
+import org.eu.zajc.juno.players.UnoPlayer;
+import org.eu.zajc.juno.rules.pack.UnoRulePack;
+import org.eu.zajc.juno.rules.types.UnoGameFlowRule;
+import org.eu.zajc.juno.utils.UnoRandom;
+
+/**
+ * A step-wise engine that plays a game of UNO as a state machine instead of a single
+ * blocking loop like {@link UnoGame#play()}. Turns are played through the same
+ * initialization and decision phases of the {@link UnoGameFlowRule}s as in
+ * {@link UnoControlledGame}, one at a time with {@link #step()}.<br>
+ * Regular {@link UnoPlayer}s are asked for their decisions as usual while stepping.
+ * When an {@link UnoExternalPlayer} is due to make a decision, the engine instead
+ * stops and waits for it to be submitted (see {@link #awaitingInput()} and
+ * {@link #getState()}), which can happen at any later time and from any thread (but
+ * only one at a time, the engine is not thread-safe). This allows a single thread to
+ * drive any amount of games, and a server to park a game while it waits for a remote
+ * player:
+ *
+ * <pre>
+ * engine.start();
+ * while (engine.getState() != FINISHED) {
+ * 	if (engine.awaitingInput())
+ * 		engine.submitCard(askRemotePlayer(engine.getAwaitedPlayer()));
+ * 	else
+ * 		engine.step();
+ * }
+ * </pre>
+ *
+ * An {@link UnoExternalPlayer} is waited for three kinds of decisions: which
+ * {@link UnoCard} to place at the start of its decision phase
+ * ({@link UnoEngineState#AWAITING_CARD}), which color to give a wild card right after
+ * placing it ({@link UnoEngineState#AWAITING_COLOR}), and whether to place a card it
+ * has drawn after the rest of the decision phase ({@link UnoEngineState#AWAITING_DRAWN_CARD}).
+ *
+ * @author Marko Zajc
+ */
+public final class UnoGameEngine {
+
+	/**
+	 * The states of a {@link UnoGameEngine}.
+	 */
+	public enum UnoEngineState {
+		/**
+		 * The game hasn't been started with {@link UnoGameEngine#start()} yet.
+		 */
+		NEW,
+		/**
+		 * The next turn can be played with {@link UnoGameEngine#step()}.
+		 */
+		READY,
+		/**
+		 * Waiting for an {@link UnoExternalPlayer} to submit a card to place or to draw
+		 * with {@link UnoGameEngine#submitCard(UnoCard)}.
+		 */
+		AWAITING_CARD,
+		/**
+		 * Waiting for an {@link UnoExternalPlayer} to submit the color of the wild card
+		 * they placed with {@link UnoGameEngine#submitColor(UnoCardColor)}.
+		 */
+		AWAITING_COLOR,
+		/**
+		 * Waiting for an {@link UnoExternalPlayer} to decide whether to place the card
+		 * they drew with {@link UnoGameEngine#submitDrawnCard(boolean)}.
+		 */
+		AWAITING_DRAWN_CARD,
+		/**
+		 * The game has ended, see {@link UnoGameEngine#getWinner()}.
+		 */
+		FINISHED;
+
+		/**
+		 * @return whether this state waits for an {@link UnoExternalPlayer}'s decision
+		 */
+		public boolean isAwaiting() {
+			return this == AWAITING_CARD || this == AWAITING_COLOR || this == AWAITING_DRAWN_CARD;
+		}
+	}
+
+	private static final class EngineGame extends UnoControlledGame {
+
+		EngineGame(@Nonnull UnoDeck deck, @Nonnegative int cardAmount, @Nonnull UnoRulePack rules,
+				   @Nullable UnoRandom random, @Nonnull UnoPlayer... players) {
+			super(deck, cardAmount, rules, random, players);
+		}
+
+		@Override
+		public UnoWinner play() {
+			throw new UnsupportedOperationException("This game is played by a UnoGameEngine!");
+		}
+
+		@Override
+		protected void turn(UnoPlayer player) {
+			throw new UnsupportedOperationException("This game is played by a UnoGameEngine!");
+		}
+
+	}
+
+	@Nonnull private final EngineGame game;
+	@Nonnull private UnoEngineState state = UnoEngineState.NEW;
+	@Nullable private UnoPlayer current;
+	@Nullable private UnoExternalPlayer awaited;
+	@Nullable private UnoCard drawnCard;
+	@Nullable private UnoWinner winner;
+
+	/**
+	 * Creates a new {@link UnoGameEngine}.
+	 *
+	 * @param deck
+	 *            the {@link UnoDeck} to use
+	 * @param cardAmount
+	 *            the amount of cards each player starts with
+	 * @param rules
+	 *            the {@link UnoRulePack} for the game
+	 * @param random
+	 *            the random number generator used throughout the game, or {@code null}
+	 *            to use the default
+	 * @param players
+	 *            the {@link UnoPlayer}s for the game, any of which can be
+	 *            {@link UnoExternalPlayer}s. Must have at least 2 elements
+	 */
+	public UnoGameEngine(@Nonnull UnoDeck deck, @Nonnegative int cardAmount, @Nonnull UnoRulePack rules,
+						 @Nullable Random random, @Nonnull UnoPlayer... players) {
+		this(deck, cardAmount, rules, random == null ? null : UnoRandom.of(random), players);
+	}
+
+	/**
+	 * Creates a new {@link UnoGameEngine}.
+	 *
+	 * @param deck
+	 *            the {@link UnoDeck} to use
+	 * @param cardAmount
+	 *            the amount of cards each player starts with
+	 * @param rules
+	 *            the {@link UnoRulePack} for the game
+	 * @param random
+	 *            the random number generator used throughout the game, or {@code null}
+	 *            to use the default
+	 * @param players
+	 *            the {@link UnoPlayer}s for the game, any of which can be
+	 *            {@link UnoExternalPlayer}s. Must have at least 2 elements
+	 */
+	public UnoGameEngine(@Nonnull UnoDeck deck, @Nonnegative int cardAmount, @Nonnull UnoRulePack rules,
+						 @Nullable UnoRandom random, @Nonnull UnoPlayer... players) {
+		this.game = new EngineGame(deck, cardAmount, rules, random, players);
+	}
+
+	/**
+	 * Deals a new game, discarding the previous one if there is one, and fires
+	 * {@link org.eu.zajc.juno.game.event.UnoGameStartEvent}. The first turn goes to the
+	 * first {@link UnoPlayer}.
+	 *
+	 * @return the new state, which is always {@link UnoEngineState#READY}
+	 */
+	@Nonnull
+	@SuppressWarnings("null")
+	public UnoEngineState start() {
+		for (var player : this.game.getPlayers()) {
+			if (player instanceof UnoExternalPlayer)
+				((UnoExternalPlayer) player).reset();
+		}
+		this.awaited = null;
+		this.drawnCard = null;
+		this.winner = null;
+
+		this.game.start();
+		this.current = this.game.getPlayers().get(0);
+		this.state = UnoEngineState.READY;
+		return this.state;
+	}
+
+	/**
+	 * Plays the next turn. Regular {@link UnoPlayer}s play their whole turn, while
+	 * {@link UnoExternalPlayer}s play the initialization phase, after which their
+	 * decision is awaited.
+	 *
+	 * @return the new state
+	 *
+	 * @throws IllegalStateException
+	 *             if the state is not {@link UnoEngineState#READY}
+	 */
+	@Nonnull
+	@SuppressWarnings("null")
+	public UnoEngineState step() {
+		checkState(UnoEngineState.READY);
+
+		var player = this.current;
+		this.game.setLastPlayer(player);
+		this.game.updateTopCard();
+		if (initializationPhase(player, this.game, flowRules())) {
+			endTurn();
+			return this.state;
+		}
+		// The player has lost their turn
+
+		if (player instanceof UnoExternalPlayer) {
+			await(UnoEngineState.AWAITING_CARD, (UnoExternalPlayer) player);
+			return this.state;
+		}
+
+		boolean repeat = true;
+		while (repeat) {
+			var decision = decide(player, this.game, this.game.getPhaseTimer());
+			if (this.game.isEndRequested())
+				break;
+			// No need to continue
+
+			repeat = applyDecision(player, this.game, flowRules(), decision);
+		}
+		endTurn();
+		return this.state;
+	}
+
+	/**
+	 * Plays turns with {@link #step()} until a decision is awaited or the game ends.
+	 *
+	 * @return the new state
+	 *
+	 * @throws IllegalStateException
+	 *             if the state is not {@link UnoEngineState#READY} or awaiting a
+	 *             decision
+	 */
+	@Nonnull
+	public UnoEngineState run() {
+		if (!this.state.isAwaiting())
+			checkState(UnoEngineState.READY);
+
+		while (this.state == UnoEngineState.READY)
+			step();
+		return this.state;
+	}
+
+	/**
+	 * Submits the decision of the awaited {@link UnoExternalPlayer} in
+	 * {@link UnoEngineState#AWAITING_CARD}, as {@link UnoPlayer#playCard(UnoGame)} would
+	 * return it. If the {@link UnoCard} can't be placed, nothing is changed (apart from
+	 * {@link org.eu.zajc.juno.game.event.UnoInvalidCardEvent} being fired) and the
+	 * decision is awaited again.
+	 *
+	 * @param card
+	 *            the {@link UnoCard} to place or {@code null} to draw
+	 *
+	 * @return whether the decision was accepted
+	 *
+	 * @throws IllegalStateException
+	 *             if the state is not {@link UnoEngineState#AWAITING_CARD}
+	 */
+	@SuppressWarnings("null")
+	public boolean submitCard(@Nullable UnoCard card) {
+		checkState(UnoEngineState.AWAITING_CARD);
+
+		var player = this.awaited;
+		if (applyDecision(player, this.game, flowRules(), card))
+			return false;
+
+		afterDecision(player);
+		return true;
+	}
+
+	/**
+	 * Submits the color of the wild card the awaited {@link UnoExternalPlayer} has
+	 * placed in {@link UnoEngineState#AWAITING_COLOR}. The color is applied by the
+	 * {@link UnoGameFlowRule}s in the next turn, as with
+	 * {@link UnoPlayer#chooseColor(UnoGame)}.
+	 *
+	 * @param color
+	 *            the chosen color
+	 *
+	 * @throws IllegalArgumentException
+	 *             if the color is {@link UnoCardColor#WILD}
+	 * @throws IllegalStateException
+	 *             if the state is not {@link UnoEngineState#AWAITING_COLOR}
+	 */
+	@SuppressWarnings("null")
+	public void submitColor(@Nonnull UnoCardColor color) {
+		checkState(UnoEngineState.AWAITING_COLOR);
+		if (color == WILD)
+			throw new IllegalArgumentException("Can't choose the wild color!");
+
+		this.awaited.setColor(color);
+		endTurn();
+	}
+
+	/**
+	 * Submits whether the awaited {@link UnoExternalPlayer} places the card they drew
+	 * ({@link #getDrawnCard()}) in {@link UnoEngineState#AWAITING_DRAWN_CARD}, as
+	 * {@link UnoPlayer#shouldPlayDrawnCard(UnoGame, UnoCard)} would return it.
+	 *
+	 * @param play
+	 *            whether to place the drawn card
+	 *
+	 * @throws IllegalStateException
+	 *             if the state is not {@link UnoEngineState#AWAITING_DRAWN_CARD}
+	 */
+	@SuppressWarnings("null")
+	public void submitDrawnCard(boolean play) {
+		checkState(UnoEngineState.AWAITING_DRAWN_CARD);
+
+		var player = this.awaited;
+		var drawn = this.drawnCard;
+		this.drawnCard = null;
+		if (play && applyDecision(player, this.game, flowRules(), drawn)) {
+			await(UnoEngineState.AWAITING_CARD, player);
+			return;
+		}
+		// A rule asked for the decision to be repeated
+
+		afterDecision(player);
+	}
+
+	/**
+	 * Submits a decision encoded with {@link UnoMoves}, such as one generated by
+	 * {@link UnoMoveGenerator}. The type of the move must match the state: a
+	 * {@link UnoMoves#PLACE} move or {@link UnoMoves#DRAW_MOVE} for
+	 * {@link UnoEngineState#AWAITING_CARD} and a {@link UnoMoves#PLAY_DRAWN} move or
+	 * {@link UnoMoves#KEEP_DRAWN_MOVE} for {@link UnoEngineState#AWAITING_DRAWN_CARD}.
+	 * The color of a placed wild card is submitted along with it, so the color is not
+	 * awaited separately.
+	 *
+	 * @param move
+	 *            the encoded move
+	 *
+	 * @return whether the decision was accepted
+	 *
+	 * @throws IllegalArgumentException
+	 *             if the type of the move doesn't match the state
+	 * @throws IllegalStateException
+	 *             if no decision is awaited
+	 */
+	@SuppressWarnings("null")
+	public boolean submitDecision(int move) {
+		int type = UnoMoves.getType(move);
+		if (this.state == UnoEngineState.AWAITING_CARD && (type == UnoMoves.PLACE || type == UnoMoves.DRAW)
+			|| this.state == UnoEngineState.AWAITING_DRAWN_CARD
+			   && (type == UnoMoves.PLAY_DRAWN || type == UnoMoves.KEEP_DRAWN)) {
+			var player = this.awaited;
+			player.setColor(UnoMoves.getColor(move));
+
+			boolean accepted;
+			if (this.state == UnoEngineState.AWAITING_CARD) {
+				accepted = submitCard(UnoMoves.getCard(this.game.getCardTable(), move));
+			} else {
+				submitDrawnCard(type == UnoMoves.PLAY_DRAWN);
+				accepted = true;
+			}
+
+			if (!accepted || this.state == UnoEngineState.AWAITING_CARD)
+				player.setColor(null);
+			// The color is kept until the rules ask for it, unless no card was placed
+			return accepted;
+
+		} else if (this.state.isAwaiting()) {
+			throw new IllegalArgumentException("The move doesn't match the awaited decision!");
+
+		} else {
+			throw new IllegalStateException("No decision is awaited!");
+		}
+	}
+
+	/**
+	 * Requests the game to be ended. If a decision is awaited, the game ends right away,
+	 * otherwise it ends after the current turn.
+	 */
+	public void endGame() {
+		this.game.endGame();
+		if (this.state.isAwaiting())
+			endTurn();
+	}
+
+	@SuppressWarnings("null")
+	private void afterDecision(@Nonnull UnoExternalPlayer player) {
+		var drawn = player.takeDrawn();
+		if (drawn != null) {
+			this.drawnCard = drawn;
+			await(UnoEngineState.AWAITING_DRAWN_CARD, player);
+			return;
+		}
+		// The rules have asked whether to place the drawn card
+
+		var top = this.game.getDiscard().getTop();
+		var table = this.game.getCardTable();
+		if (top != null && top.getColor() == WILD && table.getPlacer(table.getId(top)) == player
+			&& !player.hasColor()) {
+			await(UnoEngineState.AWAITING_COLOR, player);
+			return;
+		}
+		// The player has placed a wild card, its color is asked for in the next turn
+
+		endTurn();
+	}
+
+	private void endTurn() {
+		this.awaited = null;
+		this.game.updateTopCard();
+
+		var winnerPlayer = this.game.findWinner();
+		boolean fallback = false;
+		if (this.game.isExhausted()) {
+			winnerPlayer = this.game.fallbackVictory();
+			fallback = true;
+		}
+		// Same as in UnoGame#play()
+
+		if (winnerPlayer != null || fallback || this.game.isEndRequested()) {
+			this.winner = this.game.finish(winnerPlayer, fallback);
+			this.state = UnoEngineState.FINISHED;
+		} else {
+			this.current = this.game.getNextPlayer(this.current);
+			this.state = UnoEngineState.READY;
+		}
+	}
+
+	private void await(@Nonnull UnoEngineState awaitedState, @Nonnull UnoExternalPlayer player) {
+		this.awaited = player;
+		this.state = awaitedState;
+	}
+
+	private void checkState(@Nonnull UnoEngineState expected) {
+		if (this.state != expected)
+			throw new IllegalStateException("The engine is " + this.state + ", not " + expected + "!");
+	}
+
+	@Nonnull
+	private List<UnoGameFlowRule> flowRules() {
+		return this.game.getRules().getFlowRules();
+	}
+
+	/**
+	 * @return the current state
+	 */
+	@Nonnull
+	public UnoEngineState getState() {
+		return this.state;
+	}
+
+	/**
+	 * @return whether the engine is waiting for an {@link UnoExternalPlayer}'s decision
+	 */
+	public boolean awaitingInput() {
+		return this.state.isAwaiting();
+	}
+
+	/**
+	 * @return the {@link UnoExternalPlayer} whose decision is awaited, or {@code null}
+	 *         if none is
+	 */
+	@Nullable
+	public UnoExternalPlayer getAwaitedPlayer() {
+		return this.awaited;
+	}
+
+	/**
+	 * @return the {@link UnoPlayer} whose turn it is (or was, if the game has ended), or
+	 *         {@code null} if the game hasn't been started
+	 */
+	@Nullable
+	public UnoPlayer getCurrentPlayer() {
+		return this.current;
+	}
+
+	/**
+	 * @return the {@link UnoCard} the awaited {@link UnoExternalPlayer} has drawn in
+	 *         {@link UnoEngineState#AWAITING_DRAWN_CARD}, or {@code null} in other
+	 *         states
+	 */
+	@Nullable
+	public UnoCard getDrawnCard() {
+		return this.drawnCard;
+	}
+
+	/**
+	 * @return the {@link UnoWinner} of the game in {@link UnoEngineState#FINISHED}, or
+	 *         {@code null} in other states
+	 */
+	@Nullable
+	public UnoWinner getWinner() {
+		return this.winner;
+	}
+
+	/**
+	 * Returns the {@link UnoGame} this engine plays, which is what the
+	 * {@link UnoPlayer}s and {@link UnoGameFlowRule}s see. It can be used to inspect the
+	 * game and to register listeners, but it can't be played on its own.
+	 *
+	 * @return the {@link UnoGame}
+	 */
+	@Nonnull
+	public UnoGame getGame() {
+		return this.game;
+	}
+
+}
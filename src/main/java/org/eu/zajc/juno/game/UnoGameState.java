@@ -0,0 +1,211 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.game;
+
+import java.util.*;
+
+import javax.annotation.*;
+
+import org.eu.zajc.juno.cards.*;
+import org.eu.zajc.juno.decks.UnoDeck;
+import org.eu.zajc.juno.hands.UnoHand;
+import org.eu.zajc.juno.piles.impl.*;
+import org.eu.zajc.juno.players.UnoPlayer;
+import org.eu.zajc.juno.utils.UnoRandom;
+
+/**
+ * An immutable snapshot of a {@link UnoGame}'s state, taken with
+ * {@link UnoGame#snapshot()}. It captures the contents of the {@link UnoDrawPile},
+ * the {@link UnoDiscardPile} and every {@link UnoPlayer}'s {@link UnoHand}, the state
+ * of every {@link UnoCard} (color masks, open flags and placers), the direction of
+ * play and the last {@link UnoPlayer} to have played.<br>
+ * {@link UnoCard}s are stored by their IDs in the game's {@link UnoCardTable} and
+ * {@link UnoPlayer}s by their seat (index in {@link UnoGame#getPlayers()}), so the
+ * whole snapshot is a handful of primitive arrays. For the same reason, a snapshot
+ * can be restored into any {@link UnoGame} that uses the same {@link UnoDeck} and the
+ * same amount of {@link UnoPlayer}s, not only the one it was taken from. Restoring it
+ * into a separate game with {@link UnoGame#restore(UnoGameState)} forks the game,
+ * and the fork can then be played forward with {@link UnoGame#resume()} without
+ * affecting the original.
+ *
+ * @author Marko Zajc
+ */
+public final class UnoGameState {
+
+	@Nonnull private final int[] ids;
+	@Nonnull private final int[] ends;
+	@Nonnull private final int[] placers;
+	@Nonnull private final byte[] masks;
+	@Nonnull private final long[] open;
+	private final int lastSeat;
+	private final boolean reversed;
+	private final boolean endRequested;
+
+	@SuppressWarnings("null")
+	UnoGameState(@Nonnull UnoGame game, @Nonnull UnoCardTable table) {
+		var players = game.getPlayers();
+		var draw = game.getDraw();
+		var discard = game.getDiscard().getCards();
+
+		int total = draw.getSize() + discard.size();
+		for (var player : players)
+			total += player.getHandSize();
+
+		this.ids = new int[total];
+		this.ends = new int[2 + players.size()];
+		int position = draw.copyIds(table, this.ids, 0);
+		this.ends[0] = position;
+		position = store(table, discard, position);
+		this.ends[1] = position;
+		for (int seat = 0; seat < players.size(); seat++) {
+			position = store(table, players.get(seat).getCards(), position);
+			this.ends[2 + seat] = position;
+		}
+		// Stores the cards of each pile by ID, the draw pile in draw order and the discard
+		// pile from the top down
+
+		this.placers = new int[discard.size()];
+		for (int i = 0; i < this.placers.length; i++)
+			this.placers[i] = game.getSeat(table.getPlacer(table.getId(discard.get(i))));
+		// Only the discarded cards have placers
+
+		this.masks = table.getMasks();
+		this.open = table.getOpenFlags();
+
+		this.lastSeat = game.getSeat(game.getLastPlayer());
+		this.reversed = game.isReversedDirection();
+		this.endRequested = game.isEndRequested();
+	}
+
+	private int store(@Nonnull UnoCardTable table, @Nonnull List<UnoCard> cards, int position) {
+		for (var card : cards) {
+			int id = table.getId(card);
+			if (id < 0)
+				throw new IllegalStateException("The game contains a card that doesn't belong to its deck.");
+			this.ids[position++] = id;
+		}
+
+		return position;
+	}
+
+	void restore(@Nonnull UnoGame game, @Nonnull UnoCardTable table, @Nonnull UnoRandom random) {
+		var players = game.getPlayers();
+		if (table.getSize() != this.masks.length)
+			throw new IllegalArgumentException("The game doesn't use the same deck as the snapshot.");
+		if (players.size() != this.ends.length - 2)
+			throw new IllegalArgumentException("The game doesn't have the same amount of players as the snapshot.");
+
+		table.setState(this.masks, this.open);
+		// Restores the masks and open flags, and clears the placers
+
+		var discard = game.getDiscard();
+		discard.clear();
+		discard.addAll(view(table, this.ends[0], this.ends[1]));
+		for (int i = 0; i < this.placers.length; i++) {
+			if (this.placers[i] >= 0)
+				table.getCard(this.ids[this.ends[0] + i]).setPlacer(players.get(this.placers[i]));
+		}
+		// Restores the discard pile and its placers
+
+		for (int seat = 0; seat < players.size(); seat++) {
+			var hand = players.get(seat).getHand();
+			hand.clear();
+			hand.addAll(view(table, this.ends[1 + seat], this.ends[2 + seat]));
+		}
+		// Restores the hands
+
+		game.restore(new UnoDrawPile(table, this.ids, 0, this.ends[0], random),
+					 this.lastSeat < 0 ? null : players.get(this.lastSeat), this.reversed, this.endRequested);
+	}
+
+	@Nonnull
+	private List<UnoCard> view(@Nonnull UnoCardTable table, int from, int to) {
+		return new AbstractList<>() {
+
+			@Override
+			public UnoCard get(int index) {
+				return table.getCard(UnoGameState.this.ids[from + index]);
+			}
+
+			@Override
+			public int size() {
+				return to - from;
+			}
+
+		};
+	}
+
+	/**
+	 * @return the amount of {@link UnoPlayer}s in the game
+	 */
+	@Nonnegative
+	public int getPlayerCount() {
+		return this.ends.length - 2;
+	}
+
+	/**
+	 * @return the amount of {@link UnoCard}s in the {@link UnoDrawPile}
+	 */
+	@Nonnegative
+	public int getDrawSize() {
+		return this.ends[0];
+	}
+
+	/**
+	 * @return the amount of {@link UnoCard}s in the {@link UnoDiscardPile}
+	 */
+	@Nonnegative
+	public int getDiscardSize() {
+		return this.ends[1] - this.ends[0];
+	}
+
+	/**
+	 * Returns the size of a {@link UnoPlayer}'s {@link UnoHand}.
+	 *
+	 * @param seat
+	 *            the index of the {@link UnoPlayer} in {@link UnoGame#getPlayers()}
+	 *
+	 * @return the amount of {@link UnoCard}s in their {@link UnoHand}
+	 */
+	@Nonnegative
+	public int getHandSize(@Nonnegative int seat) {
+		return this.ends[2 + seat] - this.ends[1 + seat];
+	}
+
+	/**
+	 * @return the index of the last {@link UnoPlayer} to have played in
+	 *         {@link UnoGame#getPlayers()}, or {@code -1} if no one has played yet
+	 */
+	public int getLastSeat() {
+		return this.lastSeat;
+	}
+
+	/**
+	 * @return whether the direction of play was reversed
+	 */
+	public boolean isReversedDirection() {
+		return this.reversed;
+	}
+
+	/**
+	 * @return whether the game's end was requested
+	 */
+	public boolean isEndRequested() {
+		return this.endRequested;
+	}
+
+}
@@ -0,0 +1,190 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.game;
+
+import java.util.*;
+
+import javax.annotation.*;
+
+import org.eu.zajc.juno.hands.*;
+import org.eu.zajc.juno.players.UnoPlayer;
+
+/**
+ * Keeps track of the hand sizes of a {@link UnoGame}'s {@link UnoPlayer}s through
+ * {@link UnoHandListener}s, so that the game can tell whether any hand is empty and
+ * what the smallest hand size is without checking every {@link UnoPlayer}. Sizes are
+ * counted in a histogram, so both are constant-time (amortized) operations.<br>
+ * The tracker attaches to the {@link UnoPlayer}s lazily. If a {@link UnoPlayer} is
+ * taken over by another game's tracker, this one reattaches on its next query. If a
+ * {@link UnoPlayer} holds a {@link UnoHand} that doesn't report changes, the tracker
+ * can't be used and the game falls back to checking every {@link UnoPlayer}.<br>
+ * While a move of a {@link UnoControlledGame} is being recorded, the tracker also
+ * forwards upcoming changes of the hands to its {@link UnoUndoEntry}.
+ *
+ * @author Marko Zajc
+ */
+final class UnoHandTracker {
+
+	@Nonnull private final List<UnoPlayer> players;
+	@Nonnull private final Seat[] seats;
+	@Nonnull private final int[] sizes;
+	@Nonnull private final boolean[] unreported;
+	@Nonnull private int[] counts = new int[16];
+	@Nullable private UnoUndoEntry recording;
+	private int minSize;
+	private int unreportedCount;
+	private boolean attached;
+
+	private final class Seat implements UnoHandListener {
+
+		private final int index;
+
+		Seat(int index) {
+			this.index = index;
+		}
+
+		@Override
+		public void onHandChanged(UnoHand hand) {
+			if (UnoHandTracker.this.players.get(this.index).getHand() == hand)
+				update(this.index, hand);
+			// Ignores hands that the player has already given away
+		}
+
+		@Override
+		public void onHandChanging(UnoHand hand) {
+			var entry = UnoHandTracker.this.recording;
+			if (entry != null)
+				entry.onHandChanging(hand);
+		}
+
+		@Override
+		public void onDetached(UnoPlayer player) {
+			UnoHandTracker.this.attached = false;
+		}
+
+	}
+
+	UnoHandTracker(@Nonnull List<UnoPlayer> players) {
+		this.players = players;
+		this.seats = new Seat[players.size()];
+		this.sizes = new int[players.size()];
+		this.unreported = new boolean[players.size()];
+		for (int i = 0; i < this.seats.length; i++)
+			this.seats[i] = new Seat(i);
+	}
+
+	/**
+	 * Attaches to all {@link UnoPlayer}s if it's not already attached and reads their
+	 * hand sizes.
+	 *
+	 * @return whether the tracker can be used, meaning that it's attached to all
+	 *         {@link UnoPlayer}s and all of their hands report changes
+	 */
+	boolean ensureAttached() {
+		if (this.attached)
+			return this.unreportedCount == 0;
+
+		this.attached = true;
+		Arrays.fill(this.counts, 0);
+		this.unreportedCount = 0;
+		for (int i = 0; i < this.seats.length; i++) {
+			var player = this.players.get(i);
+			if (player.getHandListener() != this.seats[i])
+				player.setHandListener(this.seats[i]);
+
+			var hand = player.getHand();
+			this.sizes[i] = hand.getSize();
+			count(hand.getSize());
+			this.unreported[i] = !hand.isReporting();
+			if (this.unreported[i])
+				this.unreportedCount++;
+		}
+		// If the same player sits at multiple seats, attaching the later seat detaches the
+		// earlier one, so the tracker doesn't stay attached either
+
+		this.minSize = 0;
+		seekMin();
+		return this.attached && this.unreportedCount == 0;
+	}
+
+	/**
+	 * @return the amount of {@link UnoPlayer}s with an empty hand. Only valid if
+	 *         {@link #ensureAttached()} returns {@code true}
+	 */
+	@Nonnegative
+	int getEmpty() {
+		return this.counts[0];
+	}
+
+	/**
+	 * @return the size of the smallest hand. Only valid if {@link #ensureAttached()}
+	 *         returns {@code true}
+	 */
+	@Nonnegative
+	int getMinSize() {
+		return this.minSize;
+	}
+
+	/**
+	 * @return the amount of {@link UnoPlayer}s with the smallest hand. Only valid if
+	 *         {@link #ensureAttached()} returns {@code true}
+	 */
+	@Nonnegative
+	int getMinCount() {
+		return this.counts[this.minSize];
+	}
+
+	void setRecording(@Nullable UnoUndoEntry entry) {
+		this.recording = entry;
+	}
+
+	void update(int seat, @Nonnull UnoHand hand) {
+		if (!this.attached)
+			return;
+
+		boolean unreportedHand = !hand.isReporting();
+		if (this.unreported[seat] != unreportedHand) {
+			this.unreported[seat] = unreportedHand;
+			this.unreportedCount += unreportedHand ? 1 : -1;
+		}
+		// The player has been given a new hand, which may or may not report changes
+
+		int size = hand.getSize();
+		int old = this.sizes[seat];
+		if (old != size) {
+			this.sizes[seat] = size;
+			this.counts[old]--;
+			count(size);
+			if (size < this.minSize)
+				this.minSize = size;
+			else if (old == this.minSize)
+				seekMin();
+		}
+	}
+
+	private void count(int size) {
+		if (size >= this.counts.length)
+			this.counts = Arrays.copyOf(this.counts, Math.max(size + 1, this.counts.length * 2));
+		this.counts[size]++;
+	}
+
+	private void seekMin() {
+		while (this.minSize < this.counts.length - 1 && this.counts[this.minSize] == 0)
+			this.minSize++;
+	}
+
+}
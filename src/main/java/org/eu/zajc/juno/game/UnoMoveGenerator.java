@@ -0,0 +1,227 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.game;
+
+import static org.eu.zajc.juno.cards.UnoCardColor.WILD;
+
+import javax.annotation.*;
+
+import org.eu.zajc.juno.cards.*;
+import org.eu.zajc.juno.hands.UnoHand;
+import org.eu.zajc.juno.players.UnoPlayer;
+import org.eu.zajc.juno.rules.pack.*;
+
+/**
+ * Generates the legal moves of a {@link UnoPlayer} as {@code int}s encoded with
+ * {@link UnoMoves} into an array supplied by the caller. Placement is checked with
+ * the {@link UnoPlacementEngine} of the {@link UnoRulePack} the generator was created
+ * for, or with its {@link UnoPlacementMatrix} if the {@link UnoGame} has one, and wild
+ * cards are expanded into one move per color they can be given.
+ * Generating moves doesn't allocate, which makes the generator suitable for search
+ * algorithms and learning agents that enumerate moves millions of times.<br>
+ * A generator is immutable and can be shared between threads and {@link UnoGame}s
+ * that use the same rules.
+ *
+ * @author Marko Zajc
+ */
+public final class UnoMoveGenerator {
+
+	private static final UnoCardColor[] CHOSEN_COLORS =
+		{ UnoCardColor.RED, UnoCardColor.GREEN, UnoCardColor.BLUE, UnoCardColor.YELLOW };
+
+	@Nonnull private final UnoPlacementEngine engine;
+
+	/**
+	 * Creates a new {@link UnoMoveGenerator} for a {@link UnoRulePack}. If it's a
+	 * {@link UnoFrozenRulePack}, its {@link UnoPlacementEngine} is reused, otherwise one
+	 * is compiled, so later changes to the {@link UnoRulePack} are not reflected.
+	 *
+	 * @param rules
+	 *            the {@link UnoRulePack} to generate moves for
+	 */
+	public UnoMoveGenerator(@Nonnull UnoRulePack rules) {
+		this.engine = rules instanceof UnoFrozenRulePack ? ((UnoFrozenRulePack) rules).getPlacementEngine()
+														 : UnoPlacementEngine.compile(rules);
+	}
+
+	/**
+	 * Returns the size of the array needed to hold all moves of a {@link UnoPlayer}
+	 * with the given amount of {@link UnoCard}s, assuming every one of them is a wild
+	 * card.
+	 *
+	 * @param handSize
+	 *            the amount of {@link UnoCard}s in the hand
+	 *
+	 * @return the maximum amount of moves
+	 */
+	@Nonnegative
+	public static int getMaxMoves(@Nonnegative int handSize) {
+		return handSize * CHOSEN_COLORS.length + 1;
+	}
+
+	/**
+	 * Generates the moves a {@link UnoPlayer} can make when asked to play a card: a
+	 * {@link UnoMoves#PLACE} move for every {@link UnoCard} in their hand that can be
+	 * placed on the top card (four of them for wild cards, one for each color), followed
+	 * by {@link UnoMoves#DRAW_MOVE}.<br>
+	 * If the game has a {@link UnoPlacementMatrix} and the hand keeps a bitset of its
+	 * cards' IDs ({@link UnoHand#getCardIds(UnoCardTable)}), the placeable cards are
+	 * found with a bitwise AND and the moves are stored in the order of the cards' IDs.
+	 * Like {@link UnoHand#getColorCount(UnoCardColor)}, this looks at the cards' original
+	 * colors, as cards in a hand don't normally have a color mask. Otherwise, the moves
+	 * are stored in the order of the hand.
+	 *
+	 * @param game
+	 *            the ongoing {@link UnoGame}
+	 * @param player
+	 *            the {@link UnoPlayer} to generate the moves for
+	 * @param moves
+	 *            the array to store the moves in, at least
+	 *            {@link #getMaxMoves(int)} long
+	 *
+	 * @return the amount of moves stored
+	 *
+	 * @throws IllegalArgumentException
+	 *             if the array is too short or a {@link UnoCard} in the hand isn't a
+	 *             part of the game's {@link UnoCardTable}
+	 */
+	@Nonnegative
+	@SuppressWarnings("null")
+	public int generate(@Nonnull UnoGame game, @Nonnull UnoPlayer player, @Nonnull int[] moves) {
+		var hand = player.getHand();
+		var cards = hand.getCards();
+		if (moves.length < getMaxMoves(cards.size()))
+			throw new IllegalArgumentException("The move array is too short for this hand!");
+
+		var table = game.getCardTable();
+		var top = game.getTopCard();
+		var matrix = getMatrix(game);
+		int row = matrix == null ? -1 : matrix.getRow(top, hand);
+		var ids = row < 0 ? null : hand.getCardIds(table);
+		int count = 0;
+		if (ids != null) {
+			int words = UnoPlacementMatrix.getWords(matrix.getSize());
+			for (int word = 0; word < words; word++) {
+				long placeable = matrix.getPlaceable(row, ids, word);
+				while (placeable != 0) {
+					int id = word * Long.SIZE + Long.numberOfTrailingZeros(placeable);
+					placeable &= placeable - 1;
+					count = add(moves, count, UnoMoves.PLACE, id, table.getCard(id));
+				}
+			}
+			moves[count++] = UnoMoves.DRAW_MOVE;
+			return count;
+		}
+		// Goes through the set bits of the hand's placeable cards
+
+		for (int i = 0; i < cards.size(); i++) {
+			var card = cards.get(i);
+			int id = getId(table, card);
+			boolean placeable;
+			if (row >= 0 && card.getColor() == card.getOriginalColor())
+				placeable = matrix.canPlaceCard(row, id);
+			else
+				placeable = this.engine.canPlaceCard(top, card, hand);
+			// Cards with a color mask aren't in the matrix
+
+			if (placeable)
+				count = add(moves, count, UnoMoves.PLACE, id, card);
+		}
+		moves[count++] = UnoMoves.DRAW_MOVE;
+
+		return count;
+	}
+
+	/**
+	 * Generates the moves a {@link UnoPlayer} can make after drawing a card: a
+	 * {@link UnoMoves#PLAY_DRAWN} move if the drawn {@link UnoCard} can be placed on the
+	 * top card (four of them for a wild card, one for each color), followed by
+	 * {@link UnoMoves#KEEP_DRAWN_MOVE}.
+	 *
+	 * @param game
+	 *            the ongoing {@link UnoGame}
+	 * @param player
+	 *            the {@link UnoPlayer} that drew the card
+	 * @param drawn
+	 *            the drawn {@link UnoCard}
+	 * @param moves
+	 *            the array to store the moves in, at least {@code getMaxMoves(1)}
+	 *            long
+	 *
+	 * @return the amount of moves stored
+	 *
+	 * @throws IllegalArgumentException
+	 *             if the array is too short or the drawn {@link UnoCard} isn't a part of
+	 *             the game's {@link UnoCardTable}
+	 */
+	@Nonnegative
+	@SuppressWarnings("null")
+	public int generateDrawn(@Nonnull UnoGame game, @Nonnull UnoPlayer player, @Nonnull UnoCard drawn,
+							 @Nonnull int[] moves) {
+		if (moves.length < getMaxMoves(1))
+			throw new IllegalArgumentException("The move array is too short!");
+
+		int id = getId(game.getCardTable(), drawn);
+		int count = 0;
+		if (this.engine.canPlaceCard(game.getTopCard(), drawn, player.getHand()))
+			count = add(moves, count, UnoMoves.PLAY_DRAWN, id, drawn);
+		moves[count++] = UnoMoves.KEEP_DRAWN_MOVE;
+
+		return count;
+	}
+
+	@Nullable
+	private UnoPlacementMatrix getMatrix(@Nonnull UnoGame game) {
+		var matrix = game.getPlacementMatrix();
+		if (matrix == null || matrix.getEngine() != this.engine)
+			return null;
+		// The game might be using different rules
+
+		return matrix;
+	}
+
+	private static int getId(@Nonnull UnoCardTable table, @Nonnull UnoCard card) {
+		int id = table.getId(card);
+		if (id < 0)
+			throw new IllegalArgumentException(card + " isn't a part of the game's card table!");
+		// Moves refer to cards by their ID, so there would be no way to encode it
+
+		return id;
+	}
+
+	private static int add(@Nonnull int[] moves, int count, int type, int id, @Nonnull UnoCard card) {
+		if (card.getOriginalColor() != WILD) {
+			moves[count++] = type == UnoMoves.PLACE ? UnoMoves.place(id, null) : UnoMoves.playDrawn(id, null);
+
+		} else {
+			for (var color : CHOSEN_COLORS)
+				moves[count++] = type == UnoMoves.PLACE ? UnoMoves.place(id, color) : UnoMoves.playDrawn(id, color);
+		}
+		// Wild cards get a move for each color they can be given
+
+		return count;
+	}
+
+	/**
+	 * @return the {@link UnoPlacementEngine} used to check placement
+	 */
+	@Nonnull
+	public UnoPlacementEngine getPlacementEngine() {
+		return this.engine;
+	}
+
+}
@@ -0,0 +1,212 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.game;
+
+import static org.eu.zajc.juno.cards.UnoCardColor.WILD;
+
+import javax.annotation.*;
+
+import org.eu.zajc.juno.cards.*;
+import org.eu.zajc.juno.players.UnoPlayer;
+
+/**
+ * Encodes the moves a {@link UnoPlayer} can make into {@code int}s, as generated by
+ * {@link UnoMoveGenerator}. A move is one of four types:
+ * <ul>
+ * <li>{@link #PLACE} - placing a {@link UnoCard} from the hand, which is what
+ * {@link UnoPlayer#playCard(UnoGame)} returns</li>
+ * <li>{@link #DRAW} - drawing a card instead, which is what a {@code null} from
+ * {@link UnoPlayer#playCard(UnoGame)} means</li>
+ * <li>{@link #PLAY_DRAWN} and {@link #KEEP_DRAWN} - playing or keeping the
+ * {@link UnoCard} that was just drawn, which is what
+ * {@link UnoPlayer#shouldPlayDrawnCard(UnoGame, UnoCard)} decides</li>
+ * </ul>
+ * Moves that place a {@link UnoCard} carry its ID in the game's
+ * {@link UnoCardTable} (see {@link UnoGame#getCardTable()}) and, for wild cards,
+ * the {@link UnoCardColor} that would be answered to
+ * {@link UnoPlayer#chooseColor(UnoGame)}.
+ *
+ * @author Marko Zajc
+ */
+public final class UnoMoves {
+
+	/**
+	 * The type of moves that place a {@link UnoCard} from the hand.
+	 */
+	public static final int PLACE = 0;
+	/**
+	 * The type of the move that draws a card, and the move itself.
+	 */
+	public static final int DRAW = 1;
+	/**
+	 * The type of moves that place the {@link UnoCard} that was just drawn.
+	 */
+	public static final int PLAY_DRAWN = 2;
+	/**
+	 * The type of the move that keeps the {@link UnoCard} that was just drawn.
+	 */
+	public static final int KEEP_DRAWN = 3;
+
+	private static final int ID_BITS = 24;
+	private static final int ID_MASK = (1 << ID_BITS) - 1;
+	private static final int COLOR_SHIFT = ID_BITS;
+	private static final int COLOR_MASK = 0b111;
+	private static final int TYPE_SHIFT = COLOR_SHIFT + 3;
+	private static final UnoCardColor[] COLORS = UnoCardColor.values();
+	// The layout is [type:2][color + 1:3][card ID:24], with a color of 0 meaning none
+
+	/**
+	 * The encoded move that draws a card.
+	 */
+	public static final int DRAW_MOVE = DRAW << TYPE_SHIFT;
+	/**
+	 * The encoded move that keeps the {@link UnoCard} that was just drawn.
+	 */
+	public static final int KEEP_DRAWN_MOVE = KEEP_DRAWN << TYPE_SHIFT;
+
+	private UnoMoves() {}
+
+	/**
+	 * Encodes a move that places a {@link UnoCard}.
+	 *
+	 * @param id
+	 *            the ID of the {@link UnoCard} in the game's {@link UnoCardTable}
+	 * @param color
+	 *            the color to choose for a wild card, or {@code null} for other cards
+	 *
+	 * @return the encoded move
+	 *
+	 * @throws IllegalArgumentException
+	 *             if the ID is out of range or the color is {@link UnoCardColor#WILD}
+	 */
+	public static int place(@Nonnegative int id, @Nullable UnoCardColor color) {
+		return encode(PLACE, id, color);
+	}
+
+	/**
+	 * Encodes a move that places the {@link UnoCard} that was just drawn.
+	 *
+	 * @param id
+	 *            the ID of the {@link UnoCard} in the game's {@link UnoCardTable}
+	 * @param color
+	 *            the color to choose for a wild card, or {@code null} for other cards
+	 *
+	 * @return the encoded move
+	 *
+	 * @throws IllegalArgumentException
+	 *             if the ID is out of range or the color is {@link UnoCardColor#WILD}
+	 */
+	public static int playDrawn(@Nonnegative int id, @Nullable UnoCardColor color) {
+		return encode(PLAY_DRAWN, id, color);
+	}
+
+	private static int encode(int type, int id, @Nullable UnoCardColor color) {
+		if (id < 0 || id > ID_MASK)
+			throw new IllegalArgumentException("The card ID is out of range!");
+		if (color == WILD)
+			throw new IllegalArgumentException("Can't choose the wild color!");
+
+		return type << TYPE_SHIFT | (color == null ? 0 : color.ordinal() + 1) << COLOR_SHIFT | id;
+	}
+
+	/**
+	 * @param move
+	 *            the encoded move
+	 *
+	 * @return the type of the move, one of {@link #PLACE}, {@link #DRAW},
+	 *         {@link #PLAY_DRAWN} and {@link #KEEP_DRAWN}
+	 */
+	public static int getType(int move) {
+		return move >>> TYPE_SHIFT;
+	}
+
+	/**
+	 * @param move
+	 *            the encoded move
+	 *
+	 * @return whether the move places a {@link UnoCard}, either from the hand or the
+	 *         one that was just drawn
+	 */
+	public static boolean isPlacement(int move) {
+		int type = getType(move);
+		return type == PLACE || type == PLAY_DRAWN;
+	}
+
+	/**
+	 * @param move
+	 *            the encoded move
+	 *
+	 * @return the ID of the placed {@link UnoCard} in the game's {@link UnoCardTable},
+	 *         or {@code -1} if the move doesn't place one
+	 */
+	public static int getCardId(int move) {
+		return isPlacement(move) ? move & ID_MASK : -1;
+	}
+
+	/**
+	 * Decodes the placed {@link UnoCard} of a move.
+	 *
+	 * @param table
+	 *            the game's {@link UnoCardTable}
+	 * @param move
+	 *            the encoded move
+	 *
+	 * @return the placed {@link UnoCard}, or {@code null} if the move doesn't place one
+	 */
+	@Nullable
+	public static UnoCard getCard(@Nonnull UnoCardTable table, int move) {
+		return isPlacement(move) ? table.getCard(move & ID_MASK) : null;
+	}
+
+	/**
+	 * @param move
+	 *            the encoded move
+	 *
+	 * @return the color chosen for the placed wild card, or {@code null} if the move
+	 *         doesn't place a wild card
+	 */
+	@Nullable
+	public static UnoCardColor getColor(int move) {
+		int color = move >>> COLOR_SHIFT & COLOR_MASK;
+		return color == 0 ? null : COLORS[color - 1];
+	}
+
+	/**
+	 * Formats an encoded move for debugging.
+	 *
+	 * @param table
+	 *            the game's {@link UnoCardTable}
+	 * @param move
+	 *            the encoded move
+	 *
+	 * @return a description of the move
+	 */
+	@Nonnull
+	public static String toString(@Nonnull UnoCardTable table, int move) {
+		switch (getType(move)) {
+			case DRAW:
+				return "Draw";
+			case KEEP_DRAWN:
+				return "Keep the drawn card";
+			default:
+				var color = getColor(move);
+				var prefix = getType(move) == PLAY_DRAWN ? "Play drawn " : "Place ";
+				return prefix + getCard(table, move) + (color == null ? "" : " as " + color);
+		}
+	}
+
+}
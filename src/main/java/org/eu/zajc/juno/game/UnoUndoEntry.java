@@ -0,0 +1,235 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.game;
+
+import java.util.*;
+
+import javax.annotation.*;
+
+import org.eu.zajc.juno.cards.*;
+import org.eu.zajc.juno.hands.*;
+import org.eu.zajc.juno.piles.impl.*;
+import org.eu.zajc.juno.players.UnoPlayer;
+
+/**
+ * The undo record of a single move made with
+ * {@link UnoControlledGame#makeMove(UnoPlayer, UnoCard)}. It only saves what the move
+ * changes, so recording a move doesn't depend on the size of the game:
+ * <ul>
+ * <li>Moves only draw from the {@link UnoDrawPile} and place onto the
+ * {@link UnoDiscardPile}, so the piles are rewound to their previous sizes.</li>
+ * <li>Placed {@link UnoCard}s are given a color mask and a placer, which they didn't
+ * have in a {@link UnoHand}, so they are reset. The only other card that can be
+ * given a color is the previous top card, whose state is saved. Rules may also close
+ * any of the open cards in the {@link UnoDiscardPile} (for example a stack of draw
+ * cards), so the open flags of the {@link UnoCardTable} are saved as well, which only
+ * takes a bit per {@link UnoCard}.</li>
+ * <li>The contents of a {@link UnoHand} are copied right before it first changes,
+ * which the game's {@link UnoHandListener}s are notified of. If the hands can't be
+ * tracked (see {@link UnoHand#isReporting()}), all of them are copied up front.</li>
+ * <li>Which {@link UnoHand} each {@link UnoPlayer} holds is saved as well, which
+ * covers swapped hands.</li>
+ * </ul>
+ * A reshuffle is the only thing that rearranges the piles and resets the state of
+ * many cards at once, so the {@link UnoDiscardPile} and the state of all
+ * {@link UnoCard}s are saved only if one happens during the move. The arrays the
+ * record is kept in are reused by later moves.
+ *
+ * @author Marko Zajc
+ */
+final class UnoUndoEntry {
+
+	@Nonnull private final UnoCardTable table;
+	@Nonnull private final UnoHand[] hands;
+	@Nonnull private UnoHand[] changed;
+	@Nonnull private int[] changedEnds;
+	@Nonnull private UnoCard[] changedCards = new UnoCard[32];
+	private int changedCount;
+	@Nonnull private final long[] openFlags;
+	@Nullable private UnoCard top;
+	@Nullable private UnoCardColor topMask;
+	@Nullable private UnoPlayer topPlacer;
+	@Nullable private UnoPlayer last;
+	private boolean reversed;
+	private boolean endRequested;
+	@Nullable private UnoDrawPile draw;
+	private int drawSize;
+	private int discardSize;
+	@Nullable private List<UnoCard> discard;
+	@Nullable private byte[] masks;
+	@Nullable private long[] open;
+	@Nullable private UnoPlayer[] placers;
+
+	UnoUndoEntry(@Nonnull UnoCardTable table, @Nonnegative int playerCount) {
+		this.table = table;
+		this.openFlags = table.getOpenFlags();
+		this.hands = new UnoHand[playerCount];
+		this.changed = new UnoHand[playerCount];
+		this.changedEnds = new int[playerCount];
+	}
+
+	void record(@Nonnull UnoGame game) {
+		var players = game.getPlayers();
+		for (int seat = 0; seat < this.hands.length; seat++)
+			this.hands[seat] = players.get(seat).getHand();
+		this.changedCount = 0;
+		if (!game.isTrackingHands()) {
+			for (var hand : this.hands)
+				onHandChanging(hand);
+		}
+		// Changes of the hands are reported while the move is recorded, unless they can't
+		// be tracked
+
+		var topCard = game.getDiscard().getTop();
+		int topId = this.table.getId(topCard);
+		if (topId >= 0) {
+			this.top = topCard;
+			this.topMask = topCard.getColor() == topCard.getOriginalColor() ? null : topCard.getColor();
+			this.topPlacer = this.table.getPlacer(topId);
+		} else {
+			this.top = null;
+		}
+		this.table.copyOpenFlags(this.openFlags);
+		// The color of a wild top card may be chosen in the next move, and open cards may
+		// be closed
+
+		this.last = game.getLastPlayer();
+		this.reversed = game.isReversedDirection();
+		this.endRequested = game.isEndRequested();
+		this.draw = game.getDraw();
+		this.drawSize = game.getDraw().getSize();
+		this.discardSize = game.getDiscard().getSize();
+		this.discard = null;
+	}
+
+	/**
+	 * Saves the contents of a {@link UnoHand} before its first change in the move.
+	 *
+	 * @param hand
+	 *            the {@link UnoHand} that is about to change
+	 */
+	void onHandChanging(@Nonnull UnoHand hand) {
+		for (int i = 0; i < this.changedCount; i++) {
+			if (this.changed[i] == hand)
+				return;
+		}
+
+		if (this.changedCount == this.changed.length) {
+			this.changed = Arrays.copyOf(this.changed, this.changedCount * 2);
+			this.changedEnds = Arrays.copyOf(this.changedEnds, this.changedCount * 2);
+		}
+		int position = this.changedCount == 0 ? 0 : this.changedEnds[this.changedCount - 1];
+		var cards = hand.getCards();
+		if (position + cards.size() > this.changedCards.length)
+			this.changedCards = Arrays.copyOf(this.changedCards, (position + cards.size()) * 2);
+
+		for (int i = 0; i < cards.size(); i++)
+			this.changedCards[position++] = cards.get(i);
+		this.changed[this.changedCount] = hand;
+		this.changedEnds[this.changedCount++] = position;
+	}
+
+	/**
+	 * Saves the contents of the {@link UnoDiscardPile} and the state of all
+	 * {@link UnoCard}s before the discard pile is merged into the {@link UnoDrawPile}.
+	 * Only the first reshuffle of a move is saved, as that's the one that has to be
+	 * undone.
+	 *
+	 * @param discardPile
+	 *            the {@link UnoDiscardPile} that is about to be reshuffled
+	 */
+	void onReshuffle(@Nonnull UnoDiscardPile discardPile) {
+		if (this.discard != null)
+			return;
+
+		this.discard = new ArrayList<>(discardPile.getCards());
+		if (this.masks == null) {
+			this.masks = this.table.getMasks();
+			this.open = this.table.getOpenFlags();
+			this.placers = new UnoPlayer[this.table.getSize()];
+		}
+		this.table.copyState(this.masks, this.open, this.placers);
+	}
+
+	@SuppressWarnings("null")
+	void undo(@Nonnull UnoGame game) {
+		var discardPile = game.getDiscard();
+		var savedDiscard = this.discard;
+		if (savedDiscard == null) {
+			resetPlaced(discardPile.getCards(), discardPile.getSize() - this.discardSize);
+			discardPile.truncate(this.discardSize);
+		} else {
+			this.table.setState(this.masks, this.open, this.placers);
+			resetPlaced(savedDiscard, savedDiscard.size() - this.discardSize);
+			discardPile.clear();
+			discardPile.addAll(savedDiscard);
+			this.discard = null;
+		}
+		// Puts placed cards back, or the whole pile if it was reshuffled. The cards placed
+		// after a reshuffle get the state they had when it happened, as they might have
+		// been drawn from the reshuffled pile
+
+		var topCard = this.top;
+		if (topCard != null) {
+			topCard.reset();
+			if (this.topMask != null)
+				topCard.setColorMask(this.topMask);
+			if (this.topPlacer != null)
+				topCard.setPlacer(this.topPlacer);
+			this.top = null;
+			this.topPlacer = null;
+		}
+		this.table.setOpenFlags(this.openFlags);
+		// Restores the previous top card and reopens the cards that were closed, while the
+		// placed cards get back the flags they had in the hand
+
+		this.draw.rewind(this.drawSize);
+		// Puts drawn cards back. A reshuffle replaces the pile with a copy, so the saved
+		// one is always intact
+
+		var cards = Arrays.asList(this.changedCards);
+		for (int i = 0; i < this.changedCount; i++) {
+			var hand = this.changed[i];
+			hand.clear();
+			hand.addAll(cards.subList(i == 0 ? 0 : this.changedEnds[i - 1], this.changedEnds[i]));
+			this.changed[i] = null;
+		}
+		if (this.changedCount != 0)
+			Arrays.fill(this.changedCards, 0, this.changedEnds[this.changedCount - 1], null);
+		this.changedCount = 0;
+		// Restores the hands that have changed
+
+		var players = game.getPlayers();
+		for (int seat = 0; seat < this.hands.length; seat++) {
+			var player = players.get(seat);
+			if (player.getHand() != this.hands[seat])
+				player.setHand(this.hands[seat]);
+			this.hands[seat] = null;
+		}
+		// Gives the hands back to the players they belonged to
+
+		game.restore(this.draw, this.last, this.reversed, this.endRequested);
+		this.draw = null;
+		this.last = null;
+	}
+
+	private static void resetPlaced(@Nonnull List<UnoCard> topDown, int placed) {
+		for (int i = 0; i < placed; i++)
+			topDown.get(i).reset();
+	}
+
+}
@@ -0,0 +1,62 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.game.event;
+
+import javax.annotation.Nonnull;
+
+import org.eu.zajc.juno.cards.UnoCard;
+import org.eu.zajc.juno.players.UnoPlayer;
+
+/**
+ * Fired when a {@link UnoPlayer} places a {@link UnoCard} on the discard pile.
+ *
+ * @author Marko Zajc
+ */
+public final class UnoCardPlacedEvent extends UnoPlayerEvent {
+
+	@Nonnull private final UnoCard card;
+
+	/**
+	 * @param player
+	 *            the {@link UnoPlayer} that placed the card
+	 * @param card
+	 *            the placed {@link UnoCard}
+	 */
+	public UnoCardPlacedEvent(@Nonnull UnoPlayer player, @Nonnull UnoCard card) {
+		super(player);
+		this.card = card;
+	}
+
+	/**
+	 * @return the placed {@link UnoCard}
+	 */
+	@Nonnull
+	public UnoCard getCard() {
+		return this.card;
+	}
+
+	@Override
+	public String getFormat() {
+		return "%s places a %s.";
+	}
+
+	@Override
+	public Object[] getArguments() {
+		return new Object[] { getPlayer().getName(), this.card.toString() };
+	}
+
+}
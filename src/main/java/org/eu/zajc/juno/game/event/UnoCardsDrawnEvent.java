@@ -0,0 +1,115 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.game.event;
+
+import javax.annotation.*;
+
+import org.eu.zajc.juno.cards.UnoCard;
+import org.eu.zajc.juno.cards.impl.UnoDrawCard;
+import org.eu.zajc.juno.players.UnoPlayer;
+
+/**
+ * Fired when a {@link UnoPlayer} draws cards, either voluntarily (a single card) or
+ * as a penalty of one or more consecutive {@link UnoDrawCard}s.
+ *
+ * @author Marko Zajc
+ */
+public final class UnoCardsDrawnEvent extends UnoPlayerEvent {
+
+	@Nonnegative private final int amount;
+	@Nullable private final UnoDrawCard source;
+	@Nonnegative private final int sources;
+
+	/**
+	 * Creates an event for a single voluntarily drawn card.
+	 *
+	 * @param player
+	 *            the {@link UnoPlayer} that drew the card
+	 */
+	public UnoCardsDrawnEvent(@Nonnull UnoPlayer player) {
+		this(player, 1, null, 0);
+	}
+
+	/**
+	 * Creates an event for cards drawn as a penalty.
+	 *
+	 * @param player
+	 *            the {@link UnoPlayer} that drew the cards
+	 * @param amount
+	 *            the amount of drawn cards
+	 * @param source
+	 *            the {@link UnoDrawCard} that caused the draw, or {@code null} if the
+	 *            cards were drawn voluntarily
+	 * @param sources
+	 *            the amount of consecutive {@link UnoDrawCard}s that caused the draw
+	 */
+	public UnoCardsDrawnEvent(@Nonnull UnoPlayer player, @Nonnegative int amount, @Nullable UnoDrawCard source,
+							  @Nonnegative int sources) {
+		super(player);
+		this.amount = amount;
+		this.source = source;
+		this.sources = sources;
+	}
+
+	/**
+	 * @return the amount of drawn {@link UnoCard}s
+	 */
+	@Nonnegative
+	public int getAmount() {
+		return this.amount;
+	}
+
+	/**
+	 * @return the (top) {@link UnoDrawCard} that caused the draw, or {@code null} if
+	 *         the card was drawn voluntarily
+	 */
+	@Nullable
+	public UnoDrawCard getSource() {
+		return this.source;
+	}
+
+	/**
+	 * @return the amount of consecutive {@link UnoDrawCard}s that caused the draw, or
+	 *         {@code 0} if the card was drawn voluntarily
+	 */
+	@Nonnegative
+	public int getSources() {
+		return this.sources;
+	}
+
+	@Override
+	public String getFormat() {
+		if (this.source == null)
+			return "%s draws a card.";
+		else if (this.sources == 1)
+			return "%s draws %s cards from a %s.";
+		else
+			return "%s draws %s cards from %s %ss.";
+	}
+
+	@Override
+	public Object[] getArguments() {
+		var drawCard = this.source;
+		if (drawCard == null)
+			return super.getArguments();
+		else if (this.sources == 1)
+			return new Object[] { getPlayer().getName(), this.amount, drawCard.toString() };
+		else
+			return new Object[] { getPlayer().getName(), this.amount, this.sources, drawCard.toString() };
+	}
+
+}
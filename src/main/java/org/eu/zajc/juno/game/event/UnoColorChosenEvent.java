@@ -0,0 +1,62 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.game.event;
+
+import javax.annotation.Nonnull;
+
+import org.eu.zajc.juno.cards.UnoCardColor;
+import org.eu.zajc.juno.players.UnoPlayer;
+
+/**
+ * Fired when a {@link UnoPlayer} chooses the color of a wild card they have placed.
+ *
+ * @author Marko Zajc
+ */
+public final class UnoColorChosenEvent extends UnoPlayerEvent {
+
+	@Nonnull private final UnoCardColor color;
+
+	/**
+	 * @param player
+	 *            the {@link UnoPlayer} that chose the color
+	 * @param color
+	 *            the chosen {@link UnoCardColor}
+	 */
+	public UnoColorChosenEvent(@Nonnull UnoPlayer player, @Nonnull UnoCardColor color) {
+		super(player);
+		this.color = color;
+	}
+
+	/**
+	 * @return the chosen {@link UnoCardColor}
+	 */
+	@Nonnull
+	public UnoCardColor getColor() {
+		return this.color;
+	}
+
+	@Override
+	public String getFormat() {
+		return "%s sets the color to %s.";
+	}
+
+	@Override
+	public Object[] getArguments() {
+		return new Object[] { getPlayer().getName(), this.color.toString() };
+	}
+
+}
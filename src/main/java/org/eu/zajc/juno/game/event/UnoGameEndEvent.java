@@ -0,0 +1,64 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.game.event;
+
+import javax.annotation.Nonnull;
+
+import org.eu.zajc.juno.game.UnoWinner;
+import org.eu.zajc.juno.players.UnoPlayer;
+
+/**
+ * Fired when a game ends, after the flow rules have had a chance to change its
+ * {@link UnoWinner}.
+ *
+ * @author Marko Zajc
+ */
+public final class UnoGameEndEvent extends UnoGameEvent {
+
+	@Nonnull private final UnoWinner winner;
+
+	/**
+	 * @param winner
+	 *            the final {@link UnoWinner} of the game
+	 */
+	public UnoGameEndEvent(@Nonnull UnoWinner winner) {
+		this.winner = winner;
+	}
+
+	/**
+	 * @return the final {@link UnoWinner} of the game
+	 */
+	@Nonnull
+	public UnoWinner getWinner() {
+		return this.winner;
+	}
+
+	@Override
+	public String getFormat() {
+		return this.winner.getWinner() == null ? "The game ends in a draw (%s)." : "%s wins the game (%s).";
+	}
+
+	@Override
+	public Object[] getArguments() {
+		UnoPlayer player = this.winner.getWinner();
+		if (player == null)
+			return new Object[] { this.winner.getEndReason() };
+		else
+			return new Object[] { player.getName(), this.winner.getEndReason() };
+	}
+
+}
@@ -0,0 +1,76 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.game.event;
+
+import javax.annotation.Nonnull;
+
+import org.eu.zajc.juno.game.UnoGame;
+
+/**
+ * A typed event that occurs in a {@link UnoGame}, such as a card being placed or the
+ * color of the top card being changed. Events are only created when the
+ * {@link UnoGame} is observed (see {@link UnoGame#isObserved()}) and carry
+ * structured data about what happened. Their human-readable message is only
+ * formatted when {@link #getMessage()} is called, so listeners that don't need text
+ * don't pay for it.
+ *
+ * @author Marko Zajc
+ */
+public abstract class UnoGameEvent {
+
+	/**
+	 * An empty array of arguments for events whose format has no placeholders.
+	 */
+	@Nonnull protected static final Object[] NO_ARGUMENTS = new Object[0];
+
+	/**
+	 * Returns the format of this event's message, to be used with
+	 * {@link String#format(String, Object...)} and {@link #getArguments()}.
+	 *
+	 * @return the message format
+	 */
+	@Nonnull
+	public abstract String getFormat();
+
+	/**
+	 * Returns the arguments of this event's message format. A new array is created on
+	 * each call.
+	 *
+	 * @return the format arguments
+	 */
+	@Nonnull
+	public Object[] getArguments() {
+		return NO_ARGUMENTS;
+	}
+
+	/**
+	 * Formats this event's message.
+	 *
+	 * @return the human-readable message
+	 */
+	@Nonnull
+	@SuppressWarnings("null")
+	public String getMessage() {
+		return String.format(getFormat(), getArguments());
+	}
+
+	@Override
+	public String toString() {
+		return getMessage();
+	}
+
+}
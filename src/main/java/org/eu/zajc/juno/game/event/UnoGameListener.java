@@ -0,0 +1,43 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.game.event;
+
+import javax.annotation.Nonnull;
+
+import org.eu.zajc.juno.game.UnoGame;
+
+/**
+ * A listener for {@link UnoGameEvent}s, registered with
+ * {@link UnoGame#addListener(UnoGameListener)}. Listeners are called on the thread
+ * that plays the game, in the order they were registered.
+ *
+ * @author Marko Zajc
+ */
+@FunctionalInterface
+public interface UnoGameListener {
+
+	/**
+	 * Called when an event occurs in a {@link UnoGame}.
+	 *
+	 * @param game
+	 *            the {@link UnoGame} the event occurred in
+	 * @param event
+	 *            the {@link UnoGameEvent}
+	 */
+	void onEvent(@Nonnull UnoGame game, @Nonnull UnoGameEvent event);
+
+}
@@ -0,0 +1,40 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.game.event;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Fired when a game begins, after the cards have been dealt.
+ *
+ * @author Marko Zajc
+ */
+public final class UnoGameStartEvent extends UnoGameEvent {
+
+	/**
+	 * The only instance of {@link UnoGameStartEvent}, as it carries no data.
+	 */
+	@Nonnull public static final UnoGameStartEvent INSTANCE = new UnoGameStartEvent();
+
+	private UnoGameStartEvent() {}
+
+	@Override
+	public String getFormat() {
+		return "The game begins!";
+	}
+
+}
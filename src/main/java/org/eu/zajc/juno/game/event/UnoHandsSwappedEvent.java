@@ -0,0 +1,61 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.game.event;
+
+import javax.annotation.Nonnull;
+
+import org.eu.zajc.juno.players.UnoPlayer;
+
+/**
+ * Fired when two {@link UnoPlayer}s swap their hands.
+ *
+ * @author Marko Zajc
+ */
+public final class UnoHandsSwappedEvent extends UnoPlayerEvent {
+
+	@Nonnull private final UnoPlayer other;
+
+	/**
+	 * @param player
+	 *            the {@link UnoPlayer} that initiated the swap
+	 * @param other
+	 *            the {@link UnoPlayer} they swapped hands with
+	 */
+	public UnoHandsSwappedEvent(@Nonnull UnoPlayer player, @Nonnull UnoPlayer other) {
+		super(player);
+		this.other = other;
+	}
+
+	/**
+	 * @return the {@link UnoPlayer} that the initiating player swapped hands with
+	 */
+	@Nonnull
+	public UnoPlayer getOther() {
+		return this.other;
+	}
+
+	@Override
+	public String getFormat() {
+		return "Players swap hands.";
+	}
+
+	@Override
+	public Object[] getArguments() {
+		return NO_ARGUMENTS;
+	}
+
+}
@@ -0,0 +1,44 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.game.event;
+
+import javax.annotation.Nonnull;
+
+import org.eu.zajc.juno.players.UnoPlayer;
+
+/**
+ * Fired when a {@link UnoPlayer} tries to place a card that can't be placed. The
+ * {@link UnoPlayer} is asked to decide again.
+ *
+ * @author Marko Zajc
+ */
+public final class UnoInvalidCardEvent extends UnoPlayerEvent {
+
+	/**
+	 * @param player
+	 *            the {@link UnoPlayer} that tried to place the card
+	 */
+	public UnoInvalidCardEvent(@Nonnull UnoPlayer player) {
+		super(player);
+	}
+
+	@Override
+	public String getFormat() {
+		return "%s tries to place an invalid card.";
+	}
+
+}
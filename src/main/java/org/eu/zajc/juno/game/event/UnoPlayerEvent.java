@@ -0,0 +1,53 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.game.event;
+
+import javax.annotation.Nonnull;
+
+import org.eu.zajc.juno.players.UnoPlayer;
+
+/**
+ * A {@link UnoGameEvent} caused by or affecting a single {@link UnoPlayer}.
+ *
+ * @author Marko Zajc
+ */
+public abstract class UnoPlayerEvent extends UnoGameEvent {
+
+	@Nonnull private final UnoPlayer player;
+
+	/**
+	 * @param player
+	 *            the {@link UnoPlayer} this event concerns
+	 */
+	protected UnoPlayerEvent(@Nonnull UnoPlayer player) {
+		this.player = player;
+	}
+
+	/**
+	 * @return the {@link UnoPlayer} this event concerns
+	 */
+	@Nonnull
+	public UnoPlayer getPlayer() {
+		return this.player;
+	}
+
+	@Override
+	public Object[] getArguments() {
+		return new Object[] { this.player.getName() };
+	}
+
+}
@@ -0,0 +1,56 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.game.event;
+
+import javax.annotation.Nonnegative;
+
+/**
+ * Fired when the discard pile is shuffled back into the draw pile.
+ *
+ * @author Marko Zajc
+ */
+public final class UnoReshuffleEvent extends UnoGameEvent {
+
+	@Nonnegative private final int cards;
+
+	/**
+	 * @param cards
+	 *            the size of the draw pile after the reshuffle
+	 */
+	public UnoReshuffleEvent(@Nonnegative int cards) {
+		this.cards = cards;
+	}
+
+	/**
+	 * @return the size of the draw pile after the reshuffle
+	 */
+	@Nonnegative
+	public int getCards() {
+		return this.cards;
+	}
+
+	@Override
+	public String getFormat() {
+		return "The discard pile is shuffled into the draw pile (%s cards).";
+	}
+
+	@Override
+	public Object[] getArguments() {
+		return new Object[] { this.cards };
+	}
+
+}
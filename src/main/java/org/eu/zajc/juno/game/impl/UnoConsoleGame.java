@@ -26,6 +26,7 @@ import javax.annotation.Nonnull;
 
 import org.eu.zajc.juno.decks.impl.UnoStandardDeck;
 import org.eu.zajc.juno.game.*;
+import org.eu.zajc.juno.game.event.UnoGameEvent;
 import org.eu.zajc.juno.players.UnoPlayer;
 import org.eu.zajc.juno.players.impl.*;
 import org.eu.zajc.juno.rules.pack.UnoRulePack;
@@ -62,6 +63,7 @@ public class UnoConsoleGame extends UnoControlledGame {
 	public UnoConsoleGame() {
 		super(UnoStandardDeck.getDeck(), 7, getRulePack(), new UnoConsolePlayer("Player"),
 			  new UnoStrategicPlayer("Billy the StrategicUnoHand"));
+		addListener(UnoConsoleGame::printEvent);
 	}
 
 	/**
@@ -99,10 +101,8 @@ public class UnoConsoleGame extends UnoControlledGame {
 		}
 	}
 
-	@Override
-	public void onEvent(String format, Object... arguments) {
-		out.printf(format, arguments);
-		out.println();
+	private static void printEvent(@Nonnull UnoGame game, @Nonnull UnoGameEvent event) {
+		out.println(event.getMessage());
 		try {
 			sleep(500);
 		} catch (InterruptedException e) {
@@ -0,0 +1,159 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.game.timing;
+
+import static java.util.Collections.unmodifiableMap;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.*;
+
+import org.eu.zajc.juno.players.UnoPlayer;
+import org.eu.zajc.juno.rules.types.UnoGameFlowRule;
+
+/**
+ * An {@link UnoPhaseTimer} that aggregates the durations into
+ * {@link UnoTimingHistogram}s: one per {@link UnoPlayer} name for their decisions, one
+ * per {@link UnoGameFlowRule} class for their decision phases, and one each for whole
+ * initialization phases, whole decision phases and winner objections. Repeats are
+ * summed up. It is thread-safe, so a single instance can be shared between games that
+ * are played in parallel.<br>
+ * Decisions are keyed by name rather than by {@link UnoPlayer} so that the amount of
+ * histograms stays bounded when new {@link UnoPlayer}s are created for every game, as
+ * simulations do. Players that share a name thus share a histogram.
+ *
+ * @author Marko Zajc
+ */
+public class UnoPhaseHistograms implements UnoPhaseTimer {
+
+	@Nonnull private final Map<String, UnoTimingHistogram> decisions = new ConcurrentHashMap<>();
+	@Nonnull private final Map<Class<?>, UnoTimingHistogram> rules = new ConcurrentHashMap<>();
+	@Nonnull private final UnoTimingHistogram initializationPhases = new UnoTimingHistogram();
+	@Nonnull private final UnoTimingHistogram decisionPhases = new UnoTimingHistogram();
+	@Nonnull private final UnoTimingHistogram objections = new UnoTimingHistogram();
+	@Nonnull private final LongAdder initializationRepeats = new LongAdder();
+	@Nonnull private final LongAdder decisionRepeats = new LongAdder();
+
+	@Override
+	public void onInitializationPhase(UnoPlayer player, long nanos, int repeats) {
+		this.initializationPhases.record(nanos);
+		if (repeats != 0)
+			this.initializationRepeats.add(repeats);
+	}
+
+	@Override
+	public void onDecision(UnoPlayer player, long nanos) {
+		this.decisions.computeIfAbsent(player.getName(), n -> new UnoTimingHistogram()).record(nanos);
+	}
+
+	@Override
+	public void onDecisionRule(UnoGameFlowRule rule, UnoPlayer player, long nanos) {
+		this.rules.computeIfAbsent(rule.getClass(), c -> new UnoTimingHistogram()).record(nanos);
+	}
+
+	@Override
+	public void onDecisionPhase(UnoPlayer player, long nanos, int repeats) {
+		this.decisionPhases.record(nanos);
+		if (repeats != 0)
+			this.decisionRepeats.add(repeats);
+	}
+
+	@Override
+	public void onWinnerObjections(long nanos) {
+		this.objections.record(nanos);
+	}
+
+	/**
+	 * @return an unmodifiable view of the histograms of {@link UnoPlayer}s' decisions,
+	 *         by the players' names
+	 */
+	@Nonnull
+	@SuppressWarnings("null")
+	public Map<String, UnoTimingHistogram> getDecisions() {
+		return unmodifiableMap(this.decisions);
+	}
+
+	/**
+	 * @return an unmodifiable view of the histograms of {@link UnoGameFlowRule}s'
+	 *         decision phases, by the rules' classes
+	 */
+	@Nonnull
+	@SuppressWarnings("null")
+	public Map<Class<?>, UnoTimingHistogram> getRules() {
+		return unmodifiableMap(this.rules);
+	}
+
+	/**
+	 * @return the histogram of whole initialization phases
+	 */
+	@Nonnull
+	public UnoTimingHistogram getInitializationPhases() {
+		return this.initializationPhases;
+	}
+
+	/**
+	 * @return the histogram of whole decision phases
+	 */
+	@Nonnull
+	public UnoTimingHistogram getDecisionPhases() {
+		return this.decisionPhases;
+	}
+
+	/**
+	 * @return the histogram of winner objection checks
+	 */
+	@Nonnull
+	public UnoTimingHistogram getObjections() {
+		return this.objections;
+	}
+
+	/**
+	 * @return the total amount of initialization phase repeats
+	 */
+	@Nonnegative
+	public long getInitializationRepeats() {
+		return this.initializationRepeats.sum();
+	}
+
+	/**
+	 * @return the total amount of decision repeats
+	 */
+	@Nonnegative
+	public long getDecisionRepeats() {
+		return this.decisionRepeats.sum();
+	}
+
+	@Override
+	public String toString() {
+		var builder = new StringBuilder();
+		builder.append("Initialization phases: ")
+			.append(this.initializationPhases)
+			.append(", repeats=")
+			.append(getInitializationRepeats());
+		builder.append("\nDecision phases: ")
+			.append(this.decisionPhases)
+			.append(", repeats=")
+			.append(getDecisionRepeats());
+		this.decisions.forEach((n, h) -> builder.append("\n  Decisions of ").append(n).append(": ").append(h));
+		this.rules.forEach((c, h) -> builder.append("\n  ").append(c.getSimpleName()).append(": ").append(h));
+		builder.append("\nWinner objections: ").append(this.objections);
+		return builder.toString();
+	}
+
+}
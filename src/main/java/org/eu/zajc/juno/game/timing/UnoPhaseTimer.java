@@ -0,0 +1,98 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.game.timing;
+
+import javax.annotation.*;
+
+import org.eu.zajc.juno.game.*;
+import org.eu.zajc.juno.players.UnoPlayer;
+import org.eu.zajc.juno.rules.types.UnoGameFlowRule;
+
+/**
+ * Receives the durations of the phases of a {@link UnoControlledGame}'s turns, which
+ * helps to tell where the time of a slow turn went. A timer is installed with
+ * {@link UnoGame#setPhaseTimer(UnoPhaseTimer)}. Games without a timer don't read the
+ * clock at all.<br>
+ * All durations are in nanoseconds, as measured by {@link System#nanoTime()}. Methods
+ * are called on the thread that plays the game, so a timer that is shared between
+ * games played in parallel must be thread-safe. All methods do nothing by default.
+ *
+ * @author Marko Zajc
+ * @see UnoPhaseHistograms
+ */
+public interface UnoPhaseTimer {
+
+	/**
+	 * Called after the initialization phase of a turn.
+	 *
+	 * @param player
+	 *            the {@link UnoPlayer} whose turn it is
+	 * @param nanos
+	 *            the duration of the whole phase, including repeats
+	 * @param repeats
+	 *            how many times the {@link UnoGameFlowRule}s have asked for the phase
+	 *            to be repeated
+	 */
+	default void onInitializationPhase(@Nonnull UnoPlayer player, long nanos, @Nonnegative int repeats) {}
+
+	/**
+	 * Called after a {@link UnoPlayer} has decided which card to place with
+	 * {@link UnoPlayer#playCard(UnoGame)}.
+	 *
+	 * @param player
+	 *            the {@link UnoPlayer}
+	 * @param nanos
+	 *            the duration of the decision
+	 */
+	default void onDecision(@Nonnull UnoPlayer player, long nanos) {}
+
+	/**
+	 * Called after a {@link UnoGameFlowRule} has processed a decision in its
+	 * {@link UnoGameFlowRule#decisionPhase(UnoPlayer, UnoGame, org.eu.zajc.juno.cards.UnoCard)}.
+	 *
+	 * @param rule
+	 *            the {@link UnoGameFlowRule}
+	 * @param player
+	 *            the {@link UnoPlayer} whose decision it was
+	 * @param nanos
+	 *            the duration of the rule's decision phase
+	 */
+	default void onDecisionRule(@Nonnull UnoGameFlowRule rule, @Nonnull UnoPlayer player, long nanos) {}
+
+	/**
+	 * Called after the decision phase of a turn.
+	 *
+	 * @param player
+	 *            the {@link UnoPlayer} whose turn it is
+	 * @param nanos
+	 *            the duration of the whole phase, including the decisions and repeats
+	 * @param repeats
+	 *            how many times the {@link UnoGameFlowRule}s have asked for the
+	 *            decision to be repeated
+	 */
+	default void onDecisionPhase(@Nonnull UnoPlayer player, long nanos, @Nonnegative int repeats) {}
+
+	/**
+	 * Called after the {@link UnoGameFlowRule}s have been asked for objections to the
+	 * winner at the end of a game.
+	 *
+	 * @param nanos
+	 *            the duration of the finish phase
+	 */
+	default void onWinnerObjections(long nanos) {}
+
+}
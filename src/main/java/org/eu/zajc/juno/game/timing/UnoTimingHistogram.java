@@ -0,0 +1,127 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.game.timing;
+
+import java.util.concurrent.atomic.*;
+
+import javax.annotation.Nonnegative;
+
+/**
+ * A thread-safe histogram of durations in nanoseconds with power-of-two buckets, so
+ * recording a value is a few atomic increments and reported percentiles are accurate
+ * to a factor of two. Bucket {@code i} counts the values in
+ * {@code [2^(i-1), 2^i)}, and bucket 0 counts zeroes and negative values.
+ *
+ * @author Marko Zajc
+ */
+public final class UnoTimingHistogram {
+
+	private static final int BUCKETS = Long.SIZE;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder total = new LongAdder();
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+	/**
+	 * Records a duration.
+	 *
+	 * @param nanos
+	 *            the duration in nanoseconds
+	 */
+	public void record(long nanos) {
+		long value = Math.max(nanos, 0);
+		this.buckets.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(value));
+		this.count.increment();
+		this.total.add(value);
+		this.max.accumulate(value);
+	}
+
+	/**
+	 * @return the amount of recorded durations
+	 */
+	@Nonnegative
+	public long getCount() {
+		return this.count.sum();
+	}
+
+	/**
+	 * @return the sum of all recorded durations in nanoseconds
+	 */
+	@Nonnegative
+	public long getTotalNanos() {
+		return this.total.sum();
+	}
+
+	/**
+	 * @return the mean recorded duration in nanoseconds, or {@code 0} if none have been
+	 *         recorded
+	 */
+	public double getMeanNanos() {
+		long n = getCount();
+		return n == 0 ? 0 : (double) getTotalNanos() / n;
+	}
+
+	/**
+	 * @return the longest recorded duration in nanoseconds
+	 */
+	@Nonnegative
+	public long getMaxNanos() {
+		return this.max.get();
+	}
+
+	/**
+	 * Returns an upper bound of a percentile of the recorded durations, which is the
+	 * upper bound of the bucket the percentile falls into (but never more than
+	 * {@link #getMaxNanos()}).
+	 *
+	 * @param percentile
+	 *            the percentile, between {@code 0} and {@code 100}
+	 *
+	 * @return the upper bound in nanoseconds, or {@code 0} if no durations have been
+	 *         recorded
+	 *
+	 * @throws IllegalArgumentException
+	 *             if the percentile is out of range
+	 */
+	@Nonnegative
+	public long getPercentileNanos(double percentile) {
+		if (percentile < 0 || percentile > 100)
+			throw new IllegalArgumentException("The percentile must be between 0 and 100!");
+
+		long n = getCount();
+		if (n == 0)
+			return 0;
+
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100 * n));
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += this.buckets.get(i);
+			if (seen >= rank)
+				return Math.min(i == 0 ? 0 : (1L << i) - 1, getMaxNanos());
+		}
+
+		return getMaxNanos();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("n=%d mean=%.0fns p50=%dns p99=%dns max=%dns", getCount(), getMeanNanos(),
+							 getPercentileNanos(50), getPercentileNanos(99), getMaxNanos());
+	}
+
+}
@@ -22,11 +22,12 @@ import java.util.*;
 
 import javax.annotation.*;
 
-import org.eu.zajc.juno.cards.UnoCard;
+import org.eu.zajc.juno.cards.*;
 import org.eu.zajc.juno.game.UnoGame;
 import org.eu.zajc.juno.piles.UnoPile;
 import org.eu.zajc.juno.piles.impl.UnoDiscardPile;
 import org.eu.zajc.juno.players.UnoPlayer;
+import org.eu.zajc.juno.rules.pack.UnoPlacementMatrix;
 
 /**
  * A representation of a hand - a container for {@link UnoCard}s that is owned by a
@@ -42,7 +43,61 @@ public class UnoHand implements UnoPile {
 	/**
 	 * Hand's cards
 	 */
-	@Nonnull protected final List<UnoCard> cards = new ArrayList<>();
+	@Nonnull protected final List<UnoCard> cards;
+	@Nullable private UnoHandListener listener;
+
+	/**
+	 * Creates a new {@link UnoHand} backed by an {@link ArrayList} that keeps count of
+	 * its cards' colors.
+	 */
+	public UnoHand() {
+		this(new ColorCountingList());
+	}
+
+	/**
+	 * Creates a new {@link UnoHand} backed by a custom {@link List} implementation.
+	 *
+	 * @param cards
+	 *            the (empty) {@link List} to store the cards in
+	 */
+	protected UnoHand(@Nonnull List<UnoCard> cards) {
+		this.cards = cards;
+		if (cards instanceof ReportingList)
+			((ReportingList) cards).hand = this;
+	}
+
+	/**
+	 * Checks whether this hand reports changes in its size to its
+	 * {@link UnoHandListener}. This is the case if it's backed by a
+	 * {@link ReportingList}, which includes the {@link List}s of {@link #UnoHand()} and
+	 * built-in subclasses.
+	 *
+	 * @return whether this hand reports changes
+	 */
+	public final boolean isReporting() {
+		return this.cards instanceof ReportingList;
+	}
+
+	/**
+	 * @return the {@link UnoHandListener} changes of this hand are reported to, or
+	 *         {@code null} if there is none
+	 */
+	@Nullable
+	public final UnoHandListener getListener() {
+		return this.listener;
+	}
+
+	/**
+	 * Sets the {@link UnoHandListener} to report changes of this hand to. This is
+	 * normally managed by {@link UnoPlayer#setHandListener(UnoHandListener)} and
+	 * {@link UnoPlayer#setHand(UnoHand)}.
+	 *
+	 * @param listener
+	 *            the {@link UnoHandListener} or {@code null} to remove it
+	 */
+	public final void setListener(@Nullable UnoHandListener listener) {
+		this.listener = listener;
+	}
 
 	@Nonnull
 	@Override
@@ -55,6 +110,79 @@ public class UnoHand implements UnoPile {
 		return this.cards.size();
 	}
 
+	/**
+	 * Counts the {@link UnoCard}s of a certain color in this hand. Cards are counted by
+	 * their original color ({@link UnoCard#getOriginalColor()}), as cards in a hand
+	 * don't normally have a color mask. Hands created with {@link #UnoHand()} keep the
+	 * counts up to date as cards are added and removed (including through
+	 * {@link #getCards()}), so this is a constant-time operation for them. Hands backed
+	 * by a custom {@link List} count their cards on every call.
+	 *
+	 * @param color
+	 *            the {@link UnoCardColor} to count
+	 *
+	 * @return the amount of {@link UnoCard}s of that color
+	 */
+	@Nonnegative
+	public int getColorCount(@Nonnull UnoCardColor color) {
+		if (this.cards instanceof ColorCountingList)
+			return ((ColorCountingList) this.cards).colorCounts[color.ordinal()];
+
+		int count = 0;
+		for (var card : this.cards) {
+			if (card.getOriginalColor() == color)
+				count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Returns a bitset of the IDs of this hand's {@link UnoCard}s in a
+	 * {@link UnoCardTable}, which can be passed to
+	 * {@link UnoPlacementMatrix#getPlaceable(int, long[], long[])}. Hands created with
+	 * {@link #UnoHand()} and built-in subclasses keep it up to date as cards are added
+	 * and removed (including through {@link #getCards()}), so this is a constant-time
+	 * operation. The array belongs to the hand, must not be modified and is only valid
+	 * until the hand changes.
+	 *
+	 * @param table
+	 *            the {@link UnoCardTable} of the {@link UnoCard}s
+	 *
+	 * @return the bitset, or {@code null} if this hand doesn't keep one or holds
+	 *         {@link UnoCard}s that aren't in the {@link UnoCardTable}
+	 *
+	 * @see UnoCardIdSet
+	 */
+	@Nullable
+	public final long[] getCardIds(@Nonnull UnoCardTable table) {
+		if (this.cards instanceof ReportingList) {
+			var ids = ((ReportingList) this.cards).getIdSet();
+			if (ids != null)
+				return ids.get(table);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Counts the {@link UnoCard}s of a certain kind in this hand.
+	 *
+	 * @param kind
+	 *            the {@link Class} of the {@link UnoCard}s to count (subclasses are
+	 *            counted as well)
+	 *
+	 * @return the amount of {@link UnoCard}s of that kind
+	 */
+	@Nonnegative
+	public int getKindCount(@Nonnull Class<? extends UnoCard> kind) {
+		int count = 0;
+		for (var card : this.cards) {
+			if (kind.isInstance(card))
+				count++;
+		}
+		return count;
+	}
+
 	/**
 	 * Draws an amount of cards from the draw pile in the given {@link UnoGame} (this
 	 * will also add the cards to the {@link UnoHand}).
@@ -96,6 +224,18 @@ public class UnoHand implements UnoPile {
 		return true;
 	}
 
+	/**
+	 * Adds {@link UnoCard}s to this {@link UnoHand} directly, without drawing them. This
+	 * is meant for restoring a {@link UnoHand} or dealing a prepared one, so the
+	 * {@link UnoCard}s should not be in any other pile.
+	 *
+	 * @param added
+	 *            the {@link UnoCard}s to add
+	 */
+	public final void addAll(@Nonnull Collection<UnoCard> added) {
+		this.cards.addAll(added);
+	}
+
 	/**
 	 * Clears the {@link UnoHand}, dereferencing all {@link UnoCard}s from it.
 	 */
@@ -103,4 +243,169 @@ public class UnoHand implements UnoPile {
 		this.cards.clear();
 	}
 
+	/**
+	 * A base for {@link List}s backing a {@link UnoHand} that report changes in their
+	 * size to the {@link UnoHandListener} of the hand. Implementations must call
+	 * {@link #changing()} before every change of their contents and
+	 * {@link #sizeChanged()} after every change of their size.
+	 */
+	protected abstract static class ReportingList extends AbstractList<UnoCard> {
+
+		@Nullable private UnoHand hand;
+
+		/**
+		 * Returns the {@link UnoCardIdSet} this list updates on every change, which is
+		 * used by {@link UnoHand#getCardIds(UnoCardTable)}. Lists don't keep one by
+		 * default.
+		 *
+		 * @return the {@link UnoCardIdSet} or {@code null} if this list doesn't keep one
+		 */
+		@Nullable
+		protected UnoCardIdSet getIdSet() {
+			return null;
+		}
+
+		/**
+		 * Reports an upcoming change of the contents to the {@link UnoHandListener} of
+		 * the {@link UnoHand} this list backs, if any.
+		 */
+		protected final void changing() {
+			var owner = this.hand;
+			if (owner != null) {
+				var listener = owner.listener;
+				if (listener != null)
+					listener.onHandChanging(owner);
+			}
+		}
+
+		/**
+		 * Reports a change in size to the {@link UnoHandListener} of the {@link UnoHand}
+		 * this list backs, if any.
+		 */
+		protected final void sizeChanged() {
+			var owner = this.hand;
+			if (owner != null) {
+				var listener = owner.listener;
+				if (listener != null)
+					listener.onHandChanged(owner);
+			}
+		}
+
+	}
+
+	private static final class ColorCountingList extends ReportingList implements RandomAccess {
+
+		@Nonnull private final List<UnoCard> cards = new ArrayList<>();
+		@Nonnull final int[] colorCounts = new int[UnoCardColor.values().length];
+		@Nonnull private final UnoCardIdSet ids = new UnoCardIdSet();
+
+		@Override
+		protected UnoCardIdSet getIdSet() {
+			return this.ids;
+		}
+
+		@Override
+		public UnoCard get(int index) {
+			return this.cards.get(index);
+		}
+
+		@Override
+		public int size() {
+			return this.cards.size();
+		}
+
+		@Override
+		public UnoCard set(int index, UnoCard card) {
+			changing();
+			var old = this.cards.set(index, card);
+			uncount(old);
+			count(card);
+			return old;
+		}
+
+		@Override
+		public void add(int index, UnoCard card) {
+			changing();
+			this.cards.add(index, card);
+			this.modCount++;
+			count(card);
+			sizeChanged();
+		}
+
+		@Override
+		public boolean addAll(Collection<? extends UnoCard> added) {
+			if (added.isEmpty())
+				return false;
+
+			changing();
+			int size = this.cards.size();
+			if (!this.cards.addAll(added))
+				return false;
+
+			this.modCount++;
+			for (int i = size; i < this.cards.size(); i++)
+				count(this.cards.get(i));
+			sizeChanged();
+			return true;
+		}
+
+		@Override
+		public UnoCard remove(int index) {
+			Objects.checkIndex(index, this.cards.size());
+			changing();
+			var removed = this.cards.remove(index);
+			this.modCount++;
+			uncount(removed);
+			sizeChanged();
+			return removed;
+		}
+
+		@Override
+		public boolean remove(Object o) {
+			int index = this.cards.indexOf(o);
+			if (index < 0)
+				return false;
+
+			remove(index);
+			return true;
+		}
+
+		@Override
+		public int indexOf(Object o) {
+			return this.cards.indexOf(o);
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return this.cards.contains(o);
+		}
+
+		@Override
+		public void clear() {
+			changing();
+			this.cards.clear();
+			this.modCount++;
+			Arrays.fill(this.colorCounts, 0);
+			this.ids.clear();
+			sizeChanged();
+		}
+
+		private void count(@Nullable UnoCard card) {
+			if (card != null) {
+				this.colorCounts[card.getOriginalColor().ordinal()]++;
+				this.ids.add(card);
+			}
+		}
+
+		private void uncount(@Nullable UnoCard card) {
+			if (card != null) {
+				this.colorCounts[card.getOriginalColor().ordinal()]--;
+				this.ids.remove(card);
+			}
+		}
+
+	}
+	// Delegates to an ArrayList and counts the colors and IDs of the cards that go
+	// through it
+
 }
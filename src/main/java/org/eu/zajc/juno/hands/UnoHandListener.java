@@ -0,0 +1,67 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.hands;
+
+import javax.annotation.Nonnull;
+
+import org.eu.zajc.juno.cards.UnoCard;
+import org.eu.zajc.juno.game.UnoGame;
+import org.eu.zajc.juno.players.UnoPlayer;
+
+/**
+ * A listener for changes in the size of a {@link UnoHand}, registered with
+ * {@link UnoPlayer#setHandListener(UnoHandListener)}. The listener follows the
+ * {@link UnoPlayer}'s {@link UnoHand}, so it's also called when the {@link UnoHand}
+ * is replaced with {@link UnoPlayer#setHand(UnoHand)}. {@link UnoGame} uses this to
+ * keep track of its players' hand sizes without checking all of them after every
+ * turn.<br>
+ * Only {@link UnoHand}s that can report changes to their cards (see
+ * {@link UnoHand#isReporting()}) call the listener when their size changes.
+ *
+ * @author Marko Zajc
+ */
+public interface UnoHandListener {
+
+	/**
+	 * Called when the size of a {@link UnoHand} changes or when a {@link UnoPlayer} is
+	 * given a new {@link UnoHand}.
+	 *
+	 * @param hand
+	 *            the {@link UnoHand}
+	 */
+	void onHandChanged(@Nonnull UnoHand hand);
+
+	/**
+	 * Called right before the {@link UnoCard}s of a {@link UnoHand} change, while it
+	 * still holds the previous ones. Unlike {@link #onHandChanged(UnoHand)}, this is
+	 * also called for changes that keep the size, such as replacing a {@link UnoCard}.
+	 *
+	 * @param hand
+	 *            the {@link UnoHand}
+	 */
+	default void onHandChanging(@Nonnull UnoHand hand) {}
+
+	/**
+	 * Called when the listener is replaced with another one on a {@link UnoPlayer},
+	 * after which it no longer receives changes of its {@link UnoHand}s.
+	 *
+	 * @param player
+	 *            the {@link UnoPlayer}
+	 */
+	default void onDetached(@Nonnull UnoPlayer player) {}
+
+}
@@ -0,0 +1,259 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.hands.impl;
+
+import java.util.*;
+
+import javax.annotation.*;
+
+import org.eu.zajc.juno.cards.*;
+import org.eu.zajc.juno.cards.impl.*;
+import org.eu.zajc.juno.hands.UnoHand;
+import org.eu.zajc.juno.players.UnoPlayer;
+import org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules.UnoHouseRule;
+
+/**
+ * A {@link UnoHand} optimized for large hands (for example under the
+ * {@link UnoHouseRule#PROGRESSIVE} house rule). Its {@link #getCards()} list keeps
+ * an index of its {@link UnoCard}s, the amount of cards of each color and each
+ * built-in kind and the bitset of {@link #getCardIds(UnoCardTable)}, and updates them
+ * on every change. This makes adding, removing and
+ * looking up a {@link UnoCard} as well as {@link #getColorCount(UnoCardColor)} and
+ * {@link #getKindCount(Class)} constant-time operations.<br>
+ * <br>
+ * <b>Note:</b> to remove a card in constant time, the last card of the list takes its
+ * place, meaning that removals don't preserve the order of the remaining cards.
+ * {@link UnoCard}s are compared by identity, and the same {@link UnoCard} can't be
+ * added to the list twice. Use {@link UnoPlayer#setHand(UnoHand)} to give a
+ * {@link UnoPlayer} a {@link UnoCountingHand}.
+ *
+ * @author Marko Zajc
+ */
+public class UnoCountingHand extends UnoHand {
+
+	private static final int KIND_NUMERIC = 0;
+	private static final int KIND_SKIP = 1;
+	private static final int KIND_REVERSE = 2;
+	private static final int KIND_DRAW = 3;
+	private static final int KIND_WILD = 4;
+	private static final int KINDS = 5;
+
+	/**
+	 * Creates a new {@link UnoCountingHand}.
+	 */
+	public UnoCountingHand() {
+		super(new CountingList());
+	}
+
+	@Override
+	public int getColorCount(UnoCardColor color) {
+		return ((CountingList) this.cards).colorCounts[color.ordinal()];
+	}
+
+	@Override
+	public int getKindCount(Class<? extends UnoCard> kind) {
+		int index = kindIndex(kind);
+		if (index >= 0)
+			return ((CountingList) this.cards).kindCounts[index];
+		else if (kind == UnoCard.class)
+			return this.cards.size();
+		else
+			return super.getKindCount(kind);
+		// Custom kinds aren't counted
+	}
+
+	private static int kindIndex(@Nonnull Class<? extends UnoCard> kind) {
+		if (kind == UnoNumericCard.class)
+			return KIND_NUMERIC;
+		else if (kind == UnoSkipCard.class)
+			return KIND_SKIP;
+		else if (kind == UnoReverseCard.class)
+			return KIND_REVERSE;
+		else if (kind == UnoDrawCard.class)
+			return KIND_DRAW;
+		else if (kind == UnoWildCard.class)
+			return KIND_WILD;
+		else
+			return -1;
+	}
+
+	private static int kindIndex(@Nonnull UnoCard card) {
+		if (card instanceof UnoNumericCard)
+			return KIND_NUMERIC;
+		else if (card instanceof UnoSkipCard)
+			return KIND_SKIP;
+		else if (card instanceof UnoReverseCard)
+			return KIND_REVERSE;
+		else if (card instanceof UnoDrawCard)
+			return KIND_DRAW;
+		else if (card instanceof UnoWildCard)
+			return KIND_WILD;
+		else
+			return -1;
+	}
+
+	private static final class CountingList extends ReportingList implements RandomAccess {
+
+		@Nonnull private UnoCard[] elements = new UnoCard[16];
+		private int size;
+		@Nonnull private final Map<UnoCard, Integer> positions = new IdentityHashMap<>();
+		@Nonnull final int[] colorCounts = new int[UnoCardColor.values().length];
+		@Nonnull final int[] kindCounts = new int[KINDS];
+		@Nonnull private final UnoCardIdSet ids = new UnoCardIdSet();
+
+		@Override
+		protected UnoCardIdSet getIdSet() {
+			return this.ids;
+		}
+
+		@Override
+		public UnoCard get(int index) {
+			Objects.checkIndex(index, this.size);
+			return this.elements[index];
+		}
+
+		@Override
+		public int size() {
+			return this.size;
+		}
+
+		@Override
+		public UnoCard set(int index, UnoCard card) {
+			Objects.checkIndex(index, this.size);
+			var old = this.elements[index];
+			if (old == card)
+				return old;
+
+			checkAbsent(card);
+			changing();
+			uncount(old);
+			this.positions.remove(old);
+			this.elements[index] = card;
+			this.positions.put(card, index);
+			count(card);
+			return old;
+		}
+
+		@Override
+		public void add(int index, UnoCard card) {
+			Objects.checkIndex(index, this.size + 1);
+			checkAbsent(card);
+			changing();
+			if (this.size == this.elements.length)
+				this.elements = Arrays.copyOf(this.elements, this.size * 2);
+
+			if (index < this.size) {
+				System.arraycopy(this.elements, index, this.elements, index + 1, this.size - index);
+				for (int i = index + 1; i <= this.size; i++)
+					this.positions.put(this.elements[i], i);
+			}
+			// Inserting in the middle has to shift the rest, appending doesn't
+
+			this.elements[index] = card;
+			this.positions.put(card, index);
+			this.size++;
+			this.modCount++;
+			count(card);
+			sizeChanged();
+		}
+
+		@Override
+		public UnoCard remove(int index) {
+			Objects.checkIndex(index, this.size);
+			changing();
+			var removed = this.elements[index];
+			int last = --this.size;
+			if (index != last) {
+				var moved = this.elements[last];
+				this.elements[index] = moved;
+				this.positions.put(moved, index);
+			}
+			// Moves the last card into the gap
+
+			this.elements[last] = null;
+			this.positions.remove(removed);
+			this.modCount++;
+			uncount(removed);
+			sizeChanged();
+			return removed;
+		}
+
+		@Override
+		public boolean remove(Object o) {
+			int index = indexOf(o);
+			if (index < 0)
+				return false;
+
+			remove(index);
+			return true;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return this.positions.containsKey(o);
+		}
+
+		@Override
+		public int indexOf(Object o) {
+			var index = this.positions.get(o);
+			return index == null ? -1 : index;
+		}
+
+		@Override
+		public int lastIndexOf(Object o) {
+			return indexOf(o);
+		}
+
+		@Override
+		public void clear() {
+			changing();
+			Arrays.fill(this.elements, 0, this.size, null);
+			this.size = 0;
+			this.positions.clear();
+			Arrays.fill(this.colorCounts, 0);
+			Arrays.fill(this.kindCounts, 0);
+			this.ids.clear();
+			this.modCount++;
+			sizeChanged();
+		}
+
+		private void checkAbsent(@Nullable UnoCard card) {
+			if (card == null)
+				throw new NullPointerException("Can't add null to a hand");
+			if (this.positions.containsKey(card))
+				throw new IllegalArgumentException("The card " + card + " is already in this hand");
+		}
+
+		private void count(@Nonnull UnoCard card) {
+			this.colorCounts[card.getOriginalColor().ordinal()]++;
+			int kind = kindIndex(card);
+			if (kind >= 0)
+				this.kindCounts[kind]++;
+			this.ids.add(card);
+		}
+
+		private void uncount(@Nonnull UnoCard card) {
+			this.colorCounts[card.getOriginalColor().ordinal()]--;
+			int kind = kindIndex(card);
+			if (kind >= 0)
+				this.kindCounts[kind]--;
+			this.ids.remove(card);
+		}
+
+	}
+
+}
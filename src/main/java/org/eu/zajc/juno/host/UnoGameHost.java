@@ -0,0 +1,378 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.host;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
+
+import javax.annotation.*;
+
+import org.eu.zajc.juno.game.*;
+import org.eu.zajc.juno.players.UnoPlayer;
+import org.eu.zajc.juno.players.impl.UnoStreamPlayer;
+
+/**
+ * A host that plays many {@link UnoGame}s at once, each with {@link UnoGame#play()} on
+ * a thread of its own. On Java 21 and later (with the multi-release jar built by the
+ * {@code java21} profile), these are virtual threads, so blocking {@link UnoPlayer}s
+ * such as {@link UnoStreamPlayer} can be used at tens of thousands of concurrent
+ * tables without a platform thread for each. On older versions, platform threads are
+ * used instead.<br>
+ * The host plays at most a fixed amount of games at once. Games submitted beyond that
+ * wait in a bounded admission queue and are started as running games finish, and
+ * games submitted when the queue is full are rejected. {@link #shutdown()} stops
+ * admitting games but lets the admitted ones finish, while {@link #shutdownNow()}
+ * also ends the running games and drops the queued ones. Game threads are interrupted
+ * on {@link #shutdownNow()}, which unblocks {@link UnoPlayer}s waiting in an
+ * interruptible way, but not ones blocked on I/O that can't be interrupted (such as an
+ * {@link UnoStreamPlayer} reading from {@link System#in}), whose games end once their
+ * decision is made.
+ *
+ * @author Marko Zajc
+ */
+public final class UnoGameHost implements AutoCloseable {
+
+	private static final class Table {
+
+		@Nonnull final UnoGame game;
+		@Nonnull final CompletableFuture<UnoWinner> result = new CompletableFuture<>();
+		boolean cancelled;
+		@Nullable Thread thread;
+
+		Table(@Nonnull UnoGame game) {
+			this.game = game;
+		}
+
+	}
+
+	@Nonnull private final ThreadFactory threads;
+	private final boolean virtual;
+	@Nonnegative private final int maxGames;
+	@Nonnegative private final int queueCapacity;
+
+	@Nonnull private final Lock lock = new ReentrantLock();
+	@Nonnull private final Condition terminated = this.lock.newCondition();
+	@Nonnull private final ArrayDeque<Table> queue = new ArrayDeque<>();
+	@Nonnull private final Set<Table> running = new HashSet<>();
+	private long completed;
+	private boolean shutdown;
+
+	/**
+	 * Creates a new {@link UnoGameHost} that plays games on virtual threads where
+	 * available.
+	 *
+	 * @param maxGames
+	 *            the maximum amount of games to play at once
+	 * @param queueCapacity
+	 *            the maximum amount of games waiting to be started
+	 */
+	public UnoGameHost(@Nonnegative int maxGames, @Nonnegative int queueCapacity) {
+		this(maxGames, queueCapacity, UnoHostThreads.newFactory("juno-game-"), UnoHostThreads.isVirtual());
+	}
+
+	/**
+	 * Creates a new {@link UnoGameHost} that plays games on threads from the given
+	 * {@link ThreadFactory}.
+	 *
+	 * @param maxGames
+	 *            the maximum amount of games to play at once
+	 * @param queueCapacity
+	 *            the maximum amount of games waiting to be started
+	 * @param threads
+	 *            the {@link ThreadFactory} to create a thread for each game with
+	 */
+	public UnoGameHost(@Nonnegative int maxGames, @Nonnegative int queueCapacity, @Nonnull ThreadFactory threads) {
+		this(maxGames, queueCapacity, threads, false);
+	}
+
+	private UnoGameHost(int maxGames, int queueCapacity, @Nonnull ThreadFactory threads, boolean virtual) {
+		if (maxGames < 1)
+			throw new IllegalArgumentException("The host must be able to play at least one game!");
+		if (queueCapacity < 0)
+			throw new IllegalArgumentException("The queue capacity can't be negative!");
+		this.maxGames = maxGames;
+		this.queueCapacity = queueCapacity;
+		this.threads = threads;
+		this.virtual = virtual;
+	}
+
+	/**
+	 * Admits a {@link UnoGame} to be played. It is started right away if fewer than the
+	 * maximum amount of games are running, and queued otherwise. The game must not be
+	 * played elsewhere until it finishes.
+	 *
+	 * @param game
+	 *            the {@link UnoGame} to play
+	 *
+	 * @return a {@link CompletableFuture} that completes with the game's
+	 *         {@link UnoWinner}, or exceptionally if the game throws or is dropped by
+	 *         {@link #shutdownNow()}
+	 *
+	 * @throws RejectedExecutionException
+	 *             if the admission queue is full or the host has been shut down
+	 */
+	@Nonnull
+	public CompletableFuture<UnoWinner> submit(@Nonnull UnoGame game) {
+		var table = new Table(game);
+		this.lock.lock();
+		try {
+			if (this.shutdown)
+				throw new RejectedExecutionException("The host has been shut down!");
+
+			if (this.running.size() >= this.maxGames) {
+				if (this.queue.size() >= this.queueCapacity)
+					throw new RejectedExecutionException("The admission queue is full!");
+
+				this.queue.add(table);
+				return table.result;
+			}
+
+			this.running.add(table);
+		} finally {
+			this.lock.unlock();
+		}
+
+		start(table);
+		return table.result;
+	}
+
+	private void start(@Nonnull Table table) {
+		try {
+			this.threads.newThread(() -> play(table)).start();
+		} catch (RuntimeException | OutOfMemoryError e) {
+			table.result.completeExceptionally(e);
+			finish(table);
+		}
+	}
+
+	private void play(@Nonnull Table table) {
+		try {
+			if (attach(table))
+				table.result.complete(table.game.play());
+			else
+				table.result.cancel(false);
+		} catch (Throwable t) { // NOSONAR
+			table.result.completeExceptionally(t);
+		} finally {
+			finish(table);
+		}
+	}
+
+	private boolean attach(@Nonnull Table table) {
+		this.lock.lock();
+		try {
+			if (table.cancelled)
+				return false;
+
+			table.thread = Thread.currentThread();
+			return true;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	private void finish(@Nonnull Table table) {
+		Table next;
+		this.lock.lock();
+		try {
+			table.thread = null;
+			this.running.remove(table);
+			this.completed++;
+
+			next = this.queue.poll();
+			if (next != null)
+				this.running.add(next);
+			else if (this.running.isEmpty())
+				this.terminated.signalAll();
+		} finally {
+			this.lock.unlock();
+		}
+
+		if (next != null)
+			start(next);
+	}
+
+	/**
+	 * Stops admitting new games. Running and queued games are still played to the end.
+	 */
+	public void shutdown() {
+		this.lock.lock();
+		try {
+			this.shutdown = true;
+			this.terminated.signalAll();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Stops admitting new games, requests all running games to end with
+	 * {@link UnoGame#endGame()}, interrupts their threads and drops the queued ones,
+	 * whose futures are cancelled. Running games that haven't started yet are not
+	 * played, and their futures are cancelled as well.
+	 *
+	 * @return the {@link UnoGame}s that were dropped from the queue
+	 */
+	@Nonnull
+	public List<UnoGame> shutdownNow() {
+		List<Table> dropped;
+		this.lock.lock();
+		try {
+			this.shutdown = true;
+			dropped = new ArrayList<>(this.queue);
+			this.queue.clear();
+			for (var table : this.running) {
+				table.cancelled = true;
+				table.game.endGame();
+				var thread = table.thread;
+				if (thread != null)
+					thread.interrupt();
+			}
+			this.terminated.signalAll();
+		} finally {
+			this.lock.unlock();
+		}
+
+		var games = new ArrayList<UnoGame>(dropped.size());
+		for (var table : dropped) {
+			table.result.cancel(false);
+			games.add(table.game);
+		}
+		return games;
+	}
+
+	/**
+	 * Waits for all admitted games to finish after {@link #shutdown()} or
+	 * {@link #shutdownNow()}.
+	 *
+	 * @param timeout
+	 *            the maximum time to wait
+	 * @param unit
+	 *            the unit of the timeout
+	 *
+	 * @return whether all games have finished
+	 *
+	 * @throws InterruptedException
+	 *             if interrupted while waiting
+	 */
+	public boolean awaitTermination(long timeout, @Nonnull TimeUnit unit) throws InterruptedException {
+		long remaining = unit.toNanos(timeout);
+		this.lock.lock();
+		try {
+			while (!isTerminatedLocked()) {
+				if (remaining <= 0)
+					return false;
+				remaining = this.terminated.awaitNanos(remaining);
+			}
+			return true;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Shuts the host down with {@link #shutdown()} and waits for all admitted games to
+	 * finish. If interrupted while waiting, the remaining games are ended with
+	 * {@link #shutdownNow()}.
+	 */
+	@Override
+	public void close() {
+		shutdown();
+		try {
+			awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private boolean isTerminatedLocked() {
+		return this.shutdown && this.running.isEmpty() && this.queue.isEmpty();
+	}
+
+	/**
+	 * @return whether the host has been shut down and all admitted games have finished
+	 */
+	public boolean isTerminated() {
+		this.lock.lock();
+		try {
+			return isTerminatedLocked();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * @return whether the host has been shut down
+	 */
+	public boolean isShutdown() {
+		this.lock.lock();
+		try {
+			return this.shutdown;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * @return the amount of games currently being played
+	 */
+	@Nonnegative
+	public int getRunningGames() {
+		this.lock.lock();
+		try {
+			return this.running.size();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * @return the amount of games waiting in the admission queue
+	 */
+	@Nonnegative
+	public int getQueuedGames() {
+		this.lock.lock();
+		try {
+			return this.queue.size();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * @return the amount of games that have finished, including ones that have thrown
+	 */
+	@Nonnegative
+	public long getCompletedGames() {
+		this.lock.lock();
+		try {
+			return this.completed;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * @return whether games are played on virtual threads
+	 */
+	public boolean isVirtual() {
+		return this.virtual;
+	}
+
+}
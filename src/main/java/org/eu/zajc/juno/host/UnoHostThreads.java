@@ -0,0 +1,61 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.host;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Creates the threads {@link UnoGameHost} plays its games on. This is the baseline
+ * implementation, which uses platform daemon threads. When built with the
+ * {@code java21} profile, the multi-release jar carries a Java 21 version of this
+ * class that uses virtual threads instead.
+ *
+ * @author Marko Zajc
+ */
+final class UnoHostThreads {
+
+	private UnoHostThreads() {}
+
+	/**
+	 * Creates a {@link ThreadFactory} for game threads.
+	 *
+	 * @param prefix
+	 *            the prefix of the threads' names, which are suffixed with a counter
+	 *
+	 * @return the {@link ThreadFactory}
+	 */
+	@Nonnull
+	static ThreadFactory newFactory(@Nonnull String prefix) {
+		var counter = new AtomicLong();
+		return r -> {
+			var thread = new Thread(r, prefix + counter.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	/**
+	 * @return whether {@link #newFactory(String)} creates virtual threads
+	 */
+	static boolean isVirtual() {
+		return false;
+	}
+
+}
@@ -0,0 +1,61 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.jfr;
+
+import javax.annotation.Nonnull;
+
+import org.eu.zajc.juno.cards.UnoCard;
+import org.eu.zajc.juno.players.UnoPlayer;
+
+import jdk.jfr.*;
+
+/**
+ * A JDK Flight Recorder event for a {@link UnoCard} being placed onto the discard
+ * pile.
+ *
+ * @author Marko Zajc
+ */
+@Name("org.eu.zajc.juno.CardPlaced")
+@Label("UNO Card Placed")
+@Description("A card being placed onto the discard pile")
+@Category("JUNO")
+@StackTrace(false)
+public final class UnoCardPlacedJfrEvent extends Event {
+
+	@Label("Player") private String player;
+	@Label("Card") private String card;
+	@Label("Hand Size") private int handSize;
+
+	/**
+	 * Commits an event if it is enabled.
+	 *
+	 * @param placer
+	 *            the {@link UnoPlayer} that placed the card
+	 * @param placed
+	 *            the placed {@link UnoCard}
+	 */
+	public static void commit(@Nonnull UnoPlayer placer, @Nonnull UnoCard placed) {
+		var event = new UnoCardPlacedJfrEvent();
+		if (event.shouldCommit()) {
+			event.player = placer.getName();
+			event.card = placed.toString();
+			event.handSize = placer.getHandSize();
+			event.commit();
+		}
+	}
+
+}
@@ -0,0 +1,63 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.jfr;
+
+import javax.annotation.*;
+
+import org.eu.zajc.juno.cards.impl.UnoDrawCard;
+import org.eu.zajc.juno.players.UnoPlayer;
+
+import jdk.jfr.*;
+
+/**
+ * A JDK Flight Recorder event for a {@link UnoPlayer} drawing multiple cards because
+ * of one or more (stacked) {@link UnoDrawCard}s.
+ *
+ * @author Marko Zajc
+ */
+@Name("org.eu.zajc.juno.CardsDrawn")
+@Label("UNO Cards Drawn")
+@Description("A player drawing multiple cards because of one or more stacked draw cards")
+@Category("JUNO")
+@StackTrace(false)
+public final class UnoCardsDrawnJfrEvent extends Event {
+
+	@Label("Player") private String player;
+	@Label("Amount") private int amount;
+	@Label("Stacked Draw Cards") private int stacked;
+
+	/**
+	 * Commits an event if it is enabled.
+	 *
+	 * @param drawer
+	 *            the {@link UnoPlayer} that drew the cards
+	 * @param drawn
+	 *            the amount of drawn cards
+	 * @param drawCards
+	 *            the amount of {@link UnoDrawCard}s that made the player draw
+	 */
+	public static void commit(@Nonnull UnoPlayer drawer, @Nonnegative int drawn, @Nonnegative int drawCards) {
+		var event = new UnoCardsDrawnJfrEvent();
+		if (event.shouldCommit()) {
+			event.player = drawer.getName();
+			event.amount = drawn;
+			event.stacked = drawCards;
+			event.commit();
+		}
+	}
+
+}
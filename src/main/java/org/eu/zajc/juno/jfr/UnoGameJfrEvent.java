@@ -0,0 +1,62 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.jfr;
+
+import javax.annotation.*;
+
+import org.eu.zajc.juno.game.*;
+import org.eu.zajc.juno.players.UnoPlayer;
+
+import jdk.jfr.*;
+
+/**
+ * A JDK Flight Recorder event that spans a whole {@link UnoGame}, from dealing the
+ * cards to the end of the game.
+ *
+ * @author Marko Zajc
+ */
+@Name("org.eu.zajc.juno.Game")
+@Label("UNO Game")
+@Description("A game of UNO, from dealing the cards to the end of the game")
+@Category("JUNO")
+@StackTrace(false)
+public final class UnoGameJfrEvent extends Event {
+
+	@Label("Players") private int players;
+	@Label("End Reason") private String endReason;
+	@Label("Winner") private String winner;
+
+	/**
+	 * Commits the event if it is enabled and the game took longer than its threshold.
+	 *
+	 * @param game
+	 *            the {@link UnoGame} that has ended
+	 * @param result
+	 *            the {@link UnoWinner} of the game
+	 */
+	public void commit(@Nonnull UnoGame game, @Nonnull UnoWinner result) {
+		end();
+		if (shouldCommit()) {
+			this.players = game.getPlayers().size();
+			this.endReason = result.getEndReason().name();
+			UnoPlayer winnerPlayer = result.getWinner();
+			this.winner = winnerPlayer == null ? null : winnerPlayer.getName();
+			commit();
+		}
+	}
+
+}
@@ -0,0 +1,55 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.jfr;
+
+import javax.annotation.Nonnegative;
+
+import org.eu.zajc.juno.game.UnoGame;
+
+import jdk.jfr.*;
+
+/**
+ * A JDK Flight Recorder event that spans the discard pile being shuffled back into
+ * the draw pile with {@link UnoGame#discardIntoDraw()}.
+ *
+ * @author Marko Zajc
+ */
+@Name("org.eu.zajc.juno.Reshuffle")
+@Label("UNO Reshuffle")
+@Description("The discard pile being shuffled back into the draw pile")
+@Category("JUNO")
+@StackTrace(false)
+public final class UnoReshuffleJfrEvent extends Event {
+
+	@Label("Draw Pile Size") private int drawPileSize;
+
+	/**
+	 * Commits the event if it is enabled and the reshuffle took longer than its
+	 * threshold.
+	 *
+	 * @param size
+	 *            the size of the draw pile after the reshuffle
+	 */
+	public void commit(@Nonnegative int size) {
+		end();
+		if (shouldCommit()) {
+			this.drawPileSize = size;
+			commit();
+		}
+	}
+
+}
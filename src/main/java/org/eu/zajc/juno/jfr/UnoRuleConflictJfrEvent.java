@@ -0,0 +1,66 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.jfr;
+
+import javax.annotation.Nonnull;
+
+import org.eu.zajc.juno.rules.UnoRule;
+import org.eu.zajc.juno.rules.UnoRule.ConflictResolution;
+import org.eu.zajc.juno.rules.pack.UnoRulePack;
+
+import jdk.jfr.*;
+
+/**
+ * A JDK Flight Recorder event for a conflict between two {@link UnoRule}s being
+ * resolved with {@link UnoRulePack#resolveConflicts()}.
+ *
+ * @author Marko Zajc
+ */
+@Name("org.eu.zajc.juno.RuleConflict")
+@Label("UNO Rule Conflict")
+@Description("A conflict between two rules being resolved")
+@Category("JUNO")
+@StackTrace(false)
+public final class UnoRuleConflictJfrEvent extends Event {
+
+	@Label("Rule") private Class<?> rule;
+	@Label("Conflicting Rule") private Class<?> conflictingRule;
+	@Label("Resolution") private String resolution;
+
+	/**
+	 * Commits an event if it is enabled.
+	 *
+	 * @param checked
+	 *            the {@link UnoRule} whose {@link UnoRule#conflictsWith(UnoRule)} was
+	 *            called
+	 * @param conflicting
+	 *            the {@link UnoRule} it conflicts with
+	 * @param result
+	 *            the {@link ConflictResolution}
+	 */
+	public static void commit(@Nonnull UnoRule checked, @Nonnull UnoRule conflicting,
+							  @Nonnull ConflictResolution result) {
+		var event = new UnoRuleConflictJfrEvent();
+		if (event.shouldCommit()) {
+			event.rule = checked.getClass();
+			event.conflictingRule = conflicting.getClass();
+			event.resolution = result.name();
+			event.commit();
+		}
+	}
+
+}
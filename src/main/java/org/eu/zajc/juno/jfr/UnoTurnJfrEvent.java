@@ -0,0 +1,55 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.jfr;
+
+import javax.annotation.Nonnull;
+
+import org.eu.zajc.juno.players.UnoPlayer;
+
+import jdk.jfr.*;
+
+/**
+ * A JDK Flight Recorder event that spans a {@link UnoPlayer}'s turn.
+ *
+ * @author Marko Zajc
+ */
+@Name("org.eu.zajc.juno.Turn")
+@Label("UNO Turn")
+@Description("A player's turn, including their decisions and the rules' processing")
+@Category("JUNO")
+@StackTrace(false)
+public final class UnoTurnJfrEvent extends Event {
+
+	@Label("Player") private String player;
+	@Label("Hand Size") private int handSize;
+
+	/**
+	 * Commits the event if it is enabled and the turn took longer than its threshold.
+	 *
+	 * @param turnPlayer
+	 *            the {@link UnoPlayer} whose turn it was
+	 */
+	public void commit(@Nonnull UnoPlayer turnPlayer) {
+		end();
+		if (shouldCommit()) {
+			this.player = turnPlayer.getName();
+			this.handSize = turnPlayer.getHandSize();
+			commit();
+		}
+	}
+
+}
@@ -20,7 +20,7 @@ import static java.util.Collections.emptyList;
 
 import java.util.*;
 
-import javax.annotation.Nonnull;
+import javax.annotation.*;
 
 import org.eu.zajc.juno.cards.UnoCard;
 import org.eu.zajc.juno.game.UnoGame;
@@ -28,22 +28,51 @@ import org.eu.zajc.juno.hands.UnoHand;
 import org.eu.zajc.juno.piles.UnoPile;
 
 /**
- * A class representing
+ * A class representing the discard pile - the pile that {@link UnoHand}s place their
+ * cards on. The cards are stored as an array-backed stack with the top card at the
+ * end, so placing a card doesn't have to shift the rest of the pile, but
+ * {@link #getCards()} still lists them from the top down.
  *
  * @author Marko Zajc
  */
 public class UnoDiscardPile implements UnoPile {
 
-	@Nonnull private final List<UnoCard> cards = new ArrayList<>();
+	private static final int INITIAL_CAPACITY = 128;
 
+	@Nonnull private UnoCard[] stack = new UnoCard[INITIAL_CAPACITY];
+	private int size;
+	@Nonnull private final List<UnoCard> view = new TopDownView();
+
+	private class TopDownView extends AbstractList<UnoCard> implements RandomAccess {
+
+		@Override
+		public UnoCard get(int index) {
+			Objects.checkIndex(index, UnoDiscardPile.this.size);
+			return UnoDiscardPile.this.stack[UnoDiscardPile.this.size - 1 - index];
+		}
+
+		@Override
+		public int size() {
+			return UnoDiscardPile.this.size;
+		}
+
+	}
+
+	/**
+	 * Returns the cards in this pile, with the top card at index 0. The returned
+	 * {@link List} is an unmodifiable live view, meaning that it reflects cards that are
+	 * placed or removed after it has been returned.
+	 *
+	 * @return an unmodifiable view of this pile's cards
+	 */
 	@Override
 	public List<UnoCard> getCards() {
-		return this.cards;
+		return this.view;
 	}
 
 	@Override
 	public int getSize() {
-		return this.cards.size();
+		return this.size;
 	}
 
 	/**
@@ -53,19 +82,23 @@ public class UnoDiscardPile implements UnoPile {
 	 * @param card
 	 *            {@link UnoCard} to discard
 	 */
-	public void add(UnoCard card) {
-		this.cards.add(0, card);
+	public void add(@Nonnull UnoCard card) {
+		if (this.size == this.stack.length)
+			this.stack = Arrays.copyOf(this.stack, this.size * 2);
+
+		this.stack[this.size++] = card;
 	}
 
 	/**
 	 * Adds a {@link List} of {@link UnoCard}s to the pile (only used when initializing
-	 * the discard pile).
+	 * the discard pile). The first {@link UnoCard} of the list becomes the top card.
 	 *
 	 * @param cards
 	 *            {@link List} of {@link UnoCard}s to discard
 	 */
-	public void addAll(List<UnoCard> cards) {
-		this.cards.addAll(0, cards);
+	public void addAll(@Nonnull List<UnoCard> cards) {
+		for (int i = cards.size() - 1; i >= 0; i--)
+			add(cards.get(i));
 	}
 
 	/**
@@ -75,11 +108,12 @@ public class UnoDiscardPile implements UnoPile {
 	 * @return the top {@link UnoCard} or {@code null} if this pile is empty (shouldn't
 	 *         happen)
 	 */
+	@Nullable
 	public UnoCard getTop() {
-		if (this.cards.isEmpty())
+		if (this.size == 0)
 			return null;
 
-		return this.cards.get(0);
+		return this.stack[this.size - 1];
 	}
 
 	/**
@@ -93,23 +127,66 @@ public class UnoDiscardPile implements UnoPile {
 	 */
 	@SuppressWarnings("null")
 	public UnoDrawPile createDrawPile() {
-		if (this.cards.isEmpty())
+		if (this.size == 0)
 			return new UnoDrawPile(emptyList(), false);
 
-		UnoCard top = this.cards.remove(0);
+		UnoCard top = this.stack[this.size - 1];
 
-		UnoDrawPile pile = new UnoDrawPile(this.cards, true);
-		this.cards.clear();
-		this.cards.add(top);
+		UnoDrawPile pile = new UnoDrawPile(this.view.subList(1, this.size), true);
+		clear();
+		this.stack[0] = top;
+		this.size = 1;
 
 		return pile;
 	}
 
+	/**
+	 * Moves all {@link UnoCard}s but the top one into an array, bottom card first,
+	 * leaving only the top card in this pile. This is the order {@link UnoDrawPile}
+	 * stores its cards in, so the moved cards would be drawn from the top down.
+	 *
+	 * @param target
+	 *            the array to move the cards into, starting at index 0
+	 *
+	 * @return the amount of moved cards
+	 */
+	int drainInto(@Nonnull UnoCard[] target) {
+		if (this.size <= 1)
+			return 0;
+
+		int moved = this.size - 1;
+		System.arraycopy(this.stack, 0, target, 0, moved);
+		this.stack[0] = this.stack[moved];
+		Arrays.fill(this.stack, 1, this.size, null);
+		this.size = 1;
+
+		return moved;
+	}
+
+	/**
+	 * Removes the most recently added {@link UnoCard}s from the top of the pile until it
+	 * only holds the given amount of cards. This is meant for undoing placements.
+	 *
+	 * @param newSize
+	 *            the size to truncate the pile to
+	 *
+	 * @throws IllegalArgumentException
+	 *             if the pile is smaller than that or the size is negative
+	 */
+	public void truncate(@Nonnegative int newSize) {
+		if (newSize < 0 || newSize > this.size)
+			throw new IllegalArgumentException("Can't truncate the pile to a larger size!");
+
+		Arrays.fill(this.stack, newSize, this.size, null);
+		this.size = newSize;
+	}
+
 	/**
 	 * Clears the pile, dereferencing all {@link UnoCard}s from it.
 	 */
 	public void clear() {
-		this.cards.clear();
+		Arrays.fill(this.stack, 0, this.size, null);
+		this.size = 0;
 	}
 
 }
@@ -17,32 +17,39 @@
 package org.eu.zajc.juno.piles.impl;
 
 import static java.util.Collections.unmodifiableList;
-import static org.eu.zajc.juno.utils.UnoUtils.filterKind;
 
 import java.util.*;
 
 import javax.annotation.*;
 
-import org.eu.zajc.juno.cards.UnoCard;
+import org.eu.zajc.juno.cards.*;
 import org.eu.zajc.juno.cards.impl.UnoNumericCard;
-import org.eu.zajc.juno.decks.UnoDeck;
+import org.eu.zajc.juno.decks.*;
 import org.eu.zajc.juno.game.UnoGame;
 import org.eu.zajc.juno.piles.UnoPile;
-import org.eu.zajc.juno.utils.UnoGameUtils;
+import org.eu.zajc.juno.utils.*;
 
 /**
  * A class representing a UNO draw pile. A draw pile behaves as the "entry point" for
  * cards as it is the pile that will be initialized from the {@link UnoDeck}. It is
  * (unlike the {@link UnoDiscardPile}) a FIFO queue that supports polling cards in
- * order, automatically removing from the pile itself whilst doing so.
+ * order, automatically removing from the pile itself whilst doing so.<br>
+ * The cards are stored in an array with the next card to draw at the end, so drawing
+ * and shuffling (an in-place Fisher-Yates shuffle) don't allocate. A pile created
+ * from a {@link UnoCardTable} stores the IDs of its cards alongside them, and only
+ * requests each {@link UnoCard} from the table (see
+ * {@link UnoCardTable#getCard(int)}) once it's drawn.
  *
  * @author Marko Zajc
  */
 public class UnoDrawPile implements UnoPile {
 
-	@Nonnull private final Queue<UnoCard> cards;
+	@Nonnull private UnoCard[] cards;
+	@Nullable private int[] ids;
+	@Nullable private final UnoCardTable table;
+	private int size;
 	private boolean initialDrawn;
-	@Nullable private Random random; // TODO can be changed to RandomGenerator in Java 21
+	@Nonnull private final UnoRandom random;
 
 	/**
 	 * Creates a new {@link UnoDrawPile} from a {@link UnoDeck}.
@@ -51,7 +58,7 @@ public class UnoDrawPile implements UnoPile {
 	 *            the {@link UnoDeck} to create this pile from
 	 */
 	public UnoDrawPile(@Nonnull UnoDeck deck) {
-		this(deck.getCards(), null, false);
+		this(deck.getCards(), UnoRandom.threadLocal(), false);
 	}
 
 	/**
@@ -61,12 +68,132 @@ public class UnoDrawPile implements UnoPile {
 	 *            the {@link UnoDeck} to create this pile from
 	 * @param random
 	 *            the random number generator used to shuffle the deck on
-	 *            {@link #shuffle()}, or {@code null} to use Collections API's default
+	 *            {@link #shuffle()}, or {@code null} to use the default
 	 */
 	public UnoDrawPile(@Nonnull UnoDeck deck, @Nullable Random random) {
+		this(deck.getCards(), toUnoRandom(random), false);
+	}
+
+	/**
+	 * Creates a new {@link UnoDrawPile} from a {@link UnoDeck}.
+	 *
+	 * @param deck
+	 *            the {@link UnoDeck} to create this pile from
+	 * @param random
+	 *            the random number generator used to shuffle the deck on
+	 *            {@link #shuffle()}
+	 */
+	public UnoDrawPile(@Nonnull UnoDeck deck, @Nonnull UnoRandom random) {
 		this(deck.getCards(), random, false);
 	}
 
+	/**
+	 * Creates a new {@link UnoDrawPile} from all {@link UnoCard}s in a
+	 * {@link UnoCardTable}. The {@link UnoCard}s are reset first.
+	 *
+	 * @param cards
+	 *            the {@link UnoCardTable} to create this pile from
+	 * @param random
+	 *            the random number generator used to shuffle the deck on
+	 *            {@link #shuffle()}, or {@code null} to use the default
+	 */
+	public UnoDrawPile(@Nonnull UnoCardTable cards, @Nullable Random random) {
+		this(cards, toUnoRandom(random));
+	}
+
+	/**
+	 * Creates a new {@link UnoDrawPile} from all {@link UnoCard}s in a
+	 * {@link UnoCardTable}. The {@link UnoCard}s are reset first.
+	 *
+	 * @param cards
+	 *            the {@link UnoCardTable} to create this pile from
+	 * @param random
+	 *            the random number generator used to shuffle the deck on
+	 *            {@link #shuffle()}
+	 */
+	@SuppressWarnings("null")
+	public UnoDrawPile(@Nonnull UnoCardTable cards, @Nonnull UnoRandom random) {
+		this.table = cards;
+		this.size = cards.getSize();
+		this.cards = new UnoCard[this.size];
+		this.ids = new int[this.size];
+		for (int i = 0; i < this.size; i++)
+			this.ids[this.size - 1 - i] = i;
+		// The first card is drawn first, so it goes to the end
+
+		this.random = random;
+		cards.reset();
+		shuffle();
+	}
+
+	/**
+	 * Creates a new {@link UnoDrawPile} from a range of {@link UnoCard} IDs in a
+	 * {@link UnoCardTable}. The pile is not shuffled and the {@link UnoCard}s keep their
+	 * state. This is meant for restoring a pile that has been saved by ID, so the
+	 * {@link UnoCard}s should not be in any other pile.
+	 *
+	 * @param cards
+	 *            the {@link UnoCardTable} the IDs refer to
+	 * @param ids
+	 *            an array containing the IDs
+	 * @param from
+	 *            the index of the first ID in the array, which is the ID of the
+	 *            {@link UnoCard} to be drawn first
+	 * @param to
+	 *            the index after the last ID in the array
+	 * @param random
+	 *            the random number generator used to shuffle the deck on
+	 *            {@link #shuffle()}
+	 */
+	public UnoDrawPile(@Nonnull UnoCardTable cards, @Nonnull int[] ids, @Nonnegative int from, @Nonnegative int to,
+					   @Nonnull UnoRandom random) {
+		this.table = cards;
+		this.size = to - from;
+		this.cards = new UnoCard[this.size];
+		var pileIds = new int[this.size];
+		for (int i = 0; i < this.size; i++)
+			pileIds[this.size - 1 - i] = ids[from + i];
+		this.ids = pileIds;
+		// The first card is drawn first, so it goes to the end
+
+		this.random = random;
+		this.initialDrawn = true;
+	}
+
+	/**
+	 * Creates a copy of another {@link UnoDrawPile} that holds the same
+	 * {@link UnoCard}s in the same order and shares its random number generator. The
+	 * {@link UnoCard}s keep their state, and drawing from or merging into either pile
+	 * doesn't affect the other.
+	 *
+	 * @param pile
+	 *            the {@link UnoDrawPile} to copy
+	 */
+	public UnoDrawPile(@Nonnull UnoDrawPile pile) {
+		this.table = pile.table;
+		this.size = pile.size;
+		this.cards = Arrays.copyOf(pile.cards, pile.size);
+		var pileIds = pile.ids;
+		this.ids = pileIds == null ? null : Arrays.copyOf(pileIds, pile.size);
+		this.random = pile.random;
+		this.initialDrawn = pile.initialDrawn;
+	}
+
+	/**
+	 * Creates a new shuffled {@link UnoDrawPile} from a {@link List} of
+	 * {@link UnoCard}s. The {@link UnoCard}s keep their state, so they should not be in
+	 * any other pile.
+	 *
+	 * @param cards
+	 *            the {@link List} of cards to create this pile from
+	 * @param random
+	 *            the random number generator used to shuffle the deck on
+	 *            {@link #shuffle()}
+	 */
+	public UnoDrawPile(@Nonnull List<UnoCard> cards, @Nonnull UnoRandom random) {
+		this(cards, random, false);
+	}
+
 	/**
 	 * Creates a new {@link UnoDrawPile} from a {@link List} of cards.
 	 *
@@ -78,53 +205,202 @@ public class UnoDrawPile implements UnoPile {
 	 *            have a state (for example cards are a fresh clone from a deck)
 	 */
 	UnoDrawPile(@Nonnull List<UnoCard> cards, boolean resetAll) {
-		this(cards, null, resetAll);
+		this(cards, UnoRandom.threadLocal(), resetAll);
 	}
 
 	/**
 	 * Creates a new {@link UnoDrawPile} from a {@link List} of cards.
 	 *
 	 * @param cards
-	 *            the {@link List} of cards to create this pile from
+	 *            the {@link List} of cards to create this pile from, in the order they
+	 *            would be drawn in before shuffling
+	 * @param random
+	 *            the random number generator used to shuffle the deck on
+	 *            {@link #shuffle()}
 	 * @param resetAll
 	 *            whether to reset all {@link UnoCard}s from the list. It is VERY
 	 *            IMPORTANT that this is only set to {@code false} when none of the cards
 	 *            have a state (for example cards are a fresh clone from a deck)
-	 * @param random
-	 *            the random number generator used to shuffle the deck on
-	 *            {@link #shuffle()}, or {@code null} to use Collections API's default
-	 *
 	 */
-	UnoDrawPile(@Nonnull List<UnoCard> cards, @Nullable Random random, boolean resetAll) {
-		this.cards = new ArrayDeque<>(cards);
+	UnoDrawPile(@Nonnull List<UnoCard> cards, @Nonnull UnoRandom random, boolean resetAll) {
+		this.table = null;
+		this.size = cards.size();
+		this.cards = new UnoCard[this.size];
+		for (int i = 0; i < this.size; i++)
+			this.cards[this.size - 1 - i] = cards.get(i);
+		// The first card is drawn first, so it goes to the end
+
 		this.random = random;
 
-		if (resetAll)
-			this.cards.forEach(UnoCard::reset);
+		if (resetAll) {
+			for (int i = 0; i < this.size; i++)
+				this.cards[i].reset();
+		}
 
 		shuffle();
 	}
 
+	@Nonnull
+	private static UnoRandom toUnoRandom(@Nullable Random random) {
+		return random == null ? UnoRandom.threadLocal() : UnoRandom.of(random);
+	}
+
+	/**
+	 * @return a modifiable clone of this pile's cards, in the order they will be drawn
+	 *         in
+	 */
 	@Override
 	public List<UnoCard> getCards() {
-		return new ArrayList<>(this.cards);
+		var result = new ArrayList<UnoCard>(this.size);
+		for (int i = this.size - 1; i >= 0; i--)
+			result.add(cardAt(i));
+		return result;
+	}
+
+	/**
+	 * Copies the IDs of this pile's {@link UnoCard}s in a {@link UnoCardTable} into an
+	 * array, in the order they will be drawn in. Unlike {@link #getCards()}, this
+	 * doesn't request {@link UnoCard}s that haven't been drawn yet from the table.
+	 *
+	 * @param cardTable
+	 *            the {@link UnoCardTable} the {@link UnoCard}s belong to
+	 * @param target
+	 *            the array to copy the IDs into
+	 * @param offset
+	 *            the index in the array to copy the first ID to
+	 *
+	 * @return the index after the last copied ID
+	 *
+	 * @throws IllegalStateException
+	 *             if a {@link UnoCard} in this pile doesn't belong to the table
+	 */
+	public int copyIds(@Nonnull UnoCardTable cardTable, @Nonnull int[] target, @Nonnegative int offset) {
+		var pileIds = this.table == cardTable ? this.ids : null;
+		for (int i = this.size - 1; i >= 0; i--) {
+			int id = pileIds == null ? -1 : pileIds[i];
+			var card = this.cards[i];
+			if (id < 0 && card != null)
+				id = cardTable.getId(card);
+			if (id < 0)
+				throw new IllegalStateException("The pile contains a card that doesn't belong to the table.");
+			target[offset++] = id;
+		}
+
+		return offset;
+	}
+
+	@Nonnull
+	@SuppressWarnings("null")
+	private UnoCard cardAt(int index) {
+		var card = this.cards[index];
+		if (card == null) {
+			card = this.table.getCard(this.ids[index]);
+			this.cards[index] = card;
+		}
+		// Cards of a table are only requested once they're needed
+
+		return card;
+	}
+
+	private int idOf(@Nonnull UnoCard card) {
+		var cardTable = this.table;
+		return cardTable == null ? -1 : cardTable.getId(card);
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity > this.cards.length) {
+			this.cards = Arrays.copyOf(this.cards, capacity);
+			var pileIds = this.ids;
+			if (pileIds != null)
+				this.ids = Arrays.copyOf(pileIds, capacity);
+		}
+	}
+
+	@SuppressWarnings("null")
+	private void resetAll() {
+		var pileIds = this.ids;
+		for (int i = 0; i < this.size; i++) {
+			var card = this.cards[i];
+			if (card != null)
+				card.reset();
+			else
+				this.table.reset(pileIds[i]);
+		}
 	}
 
 	@Override
 	public int getSize() {
-		return this.cards.size();
+		return this.size;
 	}
 
 	/**
 	 * Merges another {@link UnoDrawPile} into this pile, resets all of the cards (from
-	 * both s
+	 * both piles) and shuffles it. The other pile is emptied.
+	 *
+	 * @param pile
+	 *            the pile to merge
+	 */
+	public void mergeResetShuffle(@Nonnull UnoDrawPile pile) {
+		int merged = pile.size;
+		int newSize = this.size + merged;
+		ensureCapacity(newSize);
+
+		var pileIds = this.ids;
+		System.arraycopy(this.cards, 0, this.cards, merged, this.size);
+		if (pileIds != null)
+			System.arraycopy(pileIds, 0, pileIds, merged, this.size);
+
+		boolean sameTable = pile.table == this.table && pile.ids != null;
+		for (int i = 0; i < merged; i++) {
+			if (sameTable) {
+				this.cards[i] = pile.cards[i];
+				pileIds[i] = pile.ids[i];
+			} else {
+				var card = pile.cardAt(i);
+				this.cards[i] = card;
+				if (pileIds != null)
+					pileIds[i] = idOf(card);
+			}
+		}
+		// The merged cards go after this pile's own cards
+
+		Arrays.fill(pile.cards, 0, merged, null);
+		pile.size = 0;
+		this.size = newSize;
+
+		resetAll();
+		shuffle();
+	}
+
+	/**
+	 * Merges all {@link UnoCard}s but the top one from a {@link UnoDiscardPile} into
+	 * this pile, resets all of the cards (from both piles) and shuffles it. This merges
+	 * the same cards as {@link UnoDiscardPile#createDrawPile()} with
+	 * {@link #mergeResetShuffle(UnoDrawPile)}, but moves them directly, without creating
+	 * an intermediate pile, which matters with large piles such as the ones of a
+	 * {@link UnoShoe}. As the cards are only shuffled once, with this pile's random
+	 * number generator, seeded games stay reproducible.
 	 *
 	 * @param pile
 	 *            the pile to merge
 	 */
-	public void mergeResetShuffle(UnoDrawPile pile) {
-		this.cards.addAll(pile.cards);
-		this.cards.forEach(UnoCard::reset);
+	public void mergeResetShuffle(@Nonnull UnoDiscardPile pile) {
+		int merged = Math.max(pile.getSize() - 1, 0);
+		int newSize = this.size + merged;
+		ensureCapacity(newSize);
+
+		var pileIds = this.ids;
+		System.arraycopy(this.cards, 0, this.cards, merged, this.size);
+		pile.drainInto(this.cards);
+		if (pileIds != null) {
+			System.arraycopy(pileIds, 0, pileIds, merged, this.size);
+			for (int i = 0; i < merged; i++)
+				pileIds[i] = idOf(this.cards[i]);
+		}
+		// The merged cards go after this pile's own cards
+		this.size = newSize;
+
+		resetAll();
 		shuffle();
 	}
 
@@ -155,11 +431,11 @@ public class UnoDrawPile implements UnoPile {
 		if (amount > this.getSize())
 			throw new IllegalStateException("There aren't enough cards in this pile!");
 
-		var result = new ArrayList<UnoCard>(amount);
+		var result = new UnoCard[amount];
 		for (int i = 0; i < amount; i++)
-			result.add(this.cards.poll());
+			result[i] = draw();
 
-		return unmodifiableList(result);
+		return unmodifiableList(Arrays.asList(result));
 	}
 
 	/**
@@ -173,23 +449,55 @@ public class UnoDrawPile implements UnoPile {
 	@Nonnull
 	@SuppressWarnings("null")
 	public UnoCard draw() {
-		if (this.cards.isEmpty())
+		if (this.size == 0)
 			throw new IllegalStateException("There are no more cards to draw!");
 
-		return this.cards.poll();
+		return cardAt(--this.size);
+		// The slot is kept so that the card can be put back with rewind(int)
+	}
+
+	/**
+	 * Puts the most recently drawn {@link UnoCard}s back onto this pile, in the order
+	 * they were drawn in, until it holds the given amount of cards again. This is meant
+	 * for undoing draws, so the pile must not have been shuffled or merged since it held
+	 * that many cards, and the {@link UnoCard}s should be removed from wherever they
+	 * were drawn to.
+	 *
+	 * @param newSize
+	 *            the size of the pile before the draws
+	 *
+	 * @throws IllegalArgumentException
+	 *             if the pile has never held that many cards or if it's smaller than
+	 *             the current size
+	 */
+	public void rewind(@Nonnegative int newSize) {
+		if (newSize < this.size || newSize > this.cards.length || newSize > 0 && this.cards[newSize - 1] == null)
+			throw new IllegalArgumentException("Can't rewind to a size the pile hasn't had!");
+
+		this.size = newSize;
 	}
 
 	/**
-	 * Shuffles the entire pile.
+	 * Shuffles the entire pile in place. With a {@link Random}-backed
+	 * {@link UnoRandom}, this produces the same order as
+	 * {@link Collections#shuffle(List, Random)}.
 	 */
 	public final void shuffle() {
-		var cardsCopy = new ArrayList<>(getCards());
-		if (this.random == null)
-			Collections.shuffle(cardsCopy);
-		else
-			Collections.shuffle(cardsCopy, this.random);
-		this.cards.clear();
-		this.cards.addAll(cardsCopy);
+		int last = this.size - 1;
+		var pileIds = this.ids;
+		for (int i = this.size; i > 1; i--) {
+			int a = last - (i - 1);
+			int b = last - this.random.nextInt(i);
+			var card = this.cards[a];
+			this.cards[a] = this.cards[b];
+			this.cards[b] = card;
+			if (pileIds != null) {
+				int id = pileIds[a];
+				pileIds[a] = pileIds[b];
+				pileIds[b] = id;
+			}
+		}
+		// Fisher-Yates over the draw order, which is the reverse of the array's order
 	}
 
 	/**
@@ -200,6 +508,10 @@ public class UnoDrawPile implements UnoPile {
 	 * initialization method.
 	 *
 	 * @return the initial card
+	 *
+	 * @throws IllegalStateException
+	 *             if the initial card has already been drawn or if there are no
+	 *             {@link UnoNumericCard}s in this pile
 	 */
 	public UnoCard drawInitalCard() {
 		if (this.initialDrawn)
@@ -207,8 +519,20 @@ public class UnoDrawPile implements UnoPile {
 
 		this.initialDrawn = true;
 
-		UnoCard initial = filterKind(UnoNumericCard.class, this.cards).get(0);
-		this.cards.remove(initial);
-		return initial;
+		var pileIds = this.ids;
+		for (int i = this.size - 1; i >= 0; i--) {
+			var card = this.cards[i];
+			if (card == null ? this.table.getDefinition(pileIds[i]) instanceof UnoNumericCard
+							 : card instanceof UnoNumericCard) {
+				card = cardAt(i);
+				System.arraycopy(this.cards, i + 1, this.cards, i, this.size - 1 - i);
+				if (pileIds != null)
+					System.arraycopy(pileIds, i + 1, pileIds, i, this.size - 1 - i);
+				this.cards[--this.size] = null;
+				return card;
+			}
+		}
+
+		throw new IllegalStateException("There are no numeric cards in this pile!");
 	}
 }
@@ -0,0 +1,129 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.players;
+
+import java.util.concurrent.*;
+
+import javax.annotation.*;
+
+import org.eu.zajc.juno.cards.*;
+import org.eu.zajc.juno.game.*;
+import org.eu.zajc.juno.hands.UnoHand;
+import org.eu.zajc.juno.players.impl.*;
+
+/**
+ * An asynchronous counterpart of {@link UnoPlayer}, whose decisions are returned as
+ * {@link CompletionStage}s that can be completed later and from any thread, for
+ * example once a message from a remote player arrives. Asynchronous players are
+ * seated in an {@link UnoAsyncGame}, which doesn't hold a thread while it waits for
+ * them.<br>
+ * Every method receives the {@link UnoPlayer} that represents this player in the game
+ * (its seat), which holds the {@link UnoHand} to decide for. Regular
+ * {@link UnoPlayer}s can be adapted with {@link #of(UnoPlayer)} and
+ * {@link #of(UnoPlayer, Executor)}.
+ *
+ * @author Marko Zajc
+ */
+public interface UnoAsyncPlayer {
+
+	/**
+	 * @return this player's name
+	 */
+	@Nonnull
+	String getName();
+
+	/**
+	 * Decides which {@link UnoCard} to place, see {@link UnoPlayer#playCard(UnoGame)}.
+	 *
+	 * @param game
+	 *            the ongoing {@link UnoGame}
+	 * @param seat
+	 *            the {@link UnoPlayer} representing this player in the game
+	 *
+	 * @return a {@link CompletionStage} that completes with the {@link UnoCard} to place
+	 *         or {@code null} to draw
+	 */
+	@Nonnull
+	CompletionStage<UnoCard> playCard(@Nonnull UnoGame game, @Nonnull UnoPlayer seat);
+
+	/**
+	 * Decides the color of a placed wild card, see
+	 * {@link UnoPlayer#chooseColor(UnoGame)}.
+	 *
+	 * @param game
+	 *            the ongoing {@link UnoGame}
+	 * @param seat
+	 *            the {@link UnoPlayer} representing this player in the game
+	 *
+	 * @return a {@link CompletionStage} that completes with the chosen color, which
+	 *         must not be {@link UnoCardColor#WILD}
+	 */
+	@Nonnull
+	CompletionStage<UnoCardColor> chooseColor(@Nonnull UnoGame game, @Nonnull UnoPlayer seat);
+
+	/**
+	 * Decides whether to place a drawn {@link UnoCard}, see
+	 * {@link UnoPlayer#shouldPlayDrawnCard(UnoGame, UnoCard)}.
+	 *
+	 * @param game
+	 *            the ongoing {@link UnoGame}
+	 * @param seat
+	 *            the {@link UnoPlayer} representing this player in the game
+	 * @param drawnCard
+	 *            the drawn {@link UnoCard}
+	 *
+	 * @return a {@link CompletionStage} that completes with whether to place the card
+	 */
+	@Nonnull
+	CompletionStage<Boolean> shouldPlayDrawnCard(@Nonnull UnoGame game, @Nonnull UnoPlayer seat,
+												 @Nonnull UnoCard drawnCard);
+
+	/**
+	 * Adapts a regular {@link UnoPlayer} whose decisions are quick (for example
+	 * {@link UnoStrategicPlayer}). Its methods are called directly on the thread driving
+	 * the game, and the returned {@link CompletionStage}s are already completed. The
+	 * player is given the seat's {@link UnoHand} before every decision.
+	 *
+	 * @param player
+	 *            the {@link UnoPlayer} to adapt
+	 *
+	 * @return the adapted {@link UnoAsyncPlayer}
+	 */
+	@Nonnull
+	static UnoAsyncPlayer of(@Nonnull UnoPlayer player) {
+		return new UnoAsyncPlayerAdapter(player, null);
+	}
+
+	/**
+	 * Adapts a regular {@link UnoPlayer} whose decisions block (for example
+	 * {@link UnoStreamPlayer}, which waits for input). Its methods are called on the
+	 * given {@link Executor}, so the blocking only holds one of the executor's threads.
+	 * The player is given the seat's {@link UnoHand} before every decision.
+	 *
+	 * @param player
+	 *            the {@link UnoPlayer} to adapt
+	 * @param executor
+	 *            the {@link Executor} to call the player on
+	 *
+	 * @return the adapted {@link UnoAsyncPlayer}
+	 */
+	@Nonnull
+	static UnoAsyncPlayer of(@Nonnull UnoPlayer player, @Nonnull Executor executor) {
+		return new UnoAsyncPlayerAdapter(player, executor);
+	}
+
+}
@@ -22,7 +22,7 @@ import javax.annotation.*;
 
 import org.eu.zajc.juno.cards.*;
 import org.eu.zajc.juno.game.UnoGame;
-import org.eu.zajc.juno.hands.UnoHand;
+import org.eu.zajc.juno.hands.*;
 import org.eu.zajc.juno.players.impl.*;
 
 /**
@@ -41,6 +41,7 @@ public abstract class UnoPlayer {
 
 	@Nonnull private UnoHand hand;
 	@Nonnull private final String name;
+	@Nullable private UnoHandListener handListener;
 
 	/**
 	 * Creates a new {@link UnoPlayer}.
@@ -71,13 +72,58 @@ public abstract class UnoPlayer {
 
 	/**
 	 * Sets this player's {@link UnoHand}, changing its entire inventory of cards. Take
-	 * care not to ruin the card economy while using this!
+	 * care not to ruin the card economy while using this! The
+	 * {@link UnoHandListener}, if any, is moved to the new {@link UnoHand} and notified.
 	 *
 	 * @param hand
 	 *            the new {@link UnoHand}.
 	 */
 	public final void setHand(@Nonnull UnoHand hand) {
+		var old = this.hand;
 		this.hand = hand;
+
+		var listener = this.handListener;
+		if (listener != null) {
+			if (old != hand && old.getListener() == listener)
+				old.setListener(null);
+			hand.setListener(listener);
+			listener.onHandChanged(hand);
+		}
+		// Another player may have already taken over the old hand (for example when two
+		// players swap hands), in which case its listener is left alone
+	}
+
+	/**
+	 * Sets the {@link UnoHandListener} that is notified of changes to this player's
+	 * {@link UnoHand}, including replacing it with {@link #setHand(UnoHand)}. A player
+	 * can only have one listener - {@link UnoGame} sets it when it starts keeping track
+	 * of the player, so this shouldn't be used on players that are in a game. The
+	 * previous listener is notified with {@link UnoHandListener#onDetached(UnoPlayer)}.
+	 *
+	 * @param listener
+	 *            the {@link UnoHandListener} or {@code null} to remove it
+	 */
+	public final void setHandListener(@Nullable UnoHandListener listener) {
+		var previous = this.handListener;
+		if (previous == listener)
+			return;
+
+		this.handListener = listener;
+		if (listener != null)
+			this.hand.setListener(listener);
+		else if (this.hand.getListener() == previous)
+			this.hand.setListener(null);
+		if (previous != null)
+			previous.onDetached(this);
+	}
+
+	/**
+	 * @return the {@link UnoHandListener} of this player, or {@code null} if there is
+	 *         none
+	 */
+	@Nullable
+	public final UnoHandListener getHandListener() {
+		return this.handListener;
 	}
 
 	/**
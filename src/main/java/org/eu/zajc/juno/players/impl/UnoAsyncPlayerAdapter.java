@@ -0,0 +1,110 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.players.impl;
+
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+import javax.annotation.*;
+
+import org.eu.zajc.juno.cards.*;
+import org.eu.zajc.juno.game.UnoGame;
+import org.eu.zajc.juno.players.*;
+
+/**
+ * An {@link UnoAsyncPlayer} that delegates to a regular {@link UnoPlayer}, either
+ * directly or on an {@link Executor}. Use {@link UnoAsyncPlayer#of(UnoPlayer)} and
+ * {@link UnoAsyncPlayer#of(UnoPlayer, Executor)} to create one.
+ *
+ * @author Marko Zajc
+ */
+public final class UnoAsyncPlayerAdapter implements UnoAsyncPlayer {
+
+	@Nonnull private final UnoPlayer player;
+	@Nullable private final Executor executor;
+
+	/**
+	 * Creates a new {@link UnoAsyncPlayerAdapter}.
+	 *
+	 * @param player
+	 *            the {@link UnoPlayer} to delegate to
+	 * @param executor
+	 *            the {@link Executor} to call the player on, or {@code null} to call it
+	 *            directly
+	 */
+	public UnoAsyncPlayerAdapter(@Nonnull UnoPlayer player, @Nullable Executor executor) {
+		this.player = player;
+		this.executor = executor;
+	}
+
+	@Override
+	public String getName() {
+		return this.player.getName();
+	}
+
+	@Override
+	public CompletionStage<UnoCard> playCard(UnoGame game, UnoPlayer seat) {
+		return call(seat, () -> this.player.playCard(game));
+	}
+
+	@Override
+	public CompletionStage<UnoCardColor> chooseColor(UnoGame game, UnoPlayer seat) {
+		return call(seat, () -> this.player.chooseColor(game));
+	}
+
+	@Override
+	public CompletionStage<Boolean> shouldPlayDrawnCard(UnoGame game, UnoPlayer seat, UnoCard drawnCard) {
+		return call(seat, () -> this.player.shouldPlayDrawnCard(game, drawnCard));
+	}
+
+	@Nonnull
+	@SuppressWarnings("null")
+	private <T> CompletionStage<T> call(@Nonnull UnoPlayer seat, @Nonnull Supplier<T> decision) {
+		if (this.player != seat)
+			this.player.setHand(seat.getHand());
+		// The player decides for the seat's hand
+
+		var delegate = this.executor;
+		if (delegate == null) {
+			try {
+				return CompletableFuture.completedFuture(decision.get());
+			} catch (RuntimeException e) {
+				return CompletableFuture.failedFuture(e);
+			}
+		}
+
+		return CompletableFuture.supplyAsync(decision, delegate);
+	}
+
+	/**
+	 * @return the adapted {@link UnoPlayer}
+	 */
+	@Nonnull
+	public UnoPlayer getPlayer() {
+		return this.player;
+	}
+
+	/**
+	 * @return the {@link Executor} the player is called on, or {@code null} if it is
+	 *         called directly
+	 */
+	@Nullable
+	public Executor getExecutor() {
+		return this.executor;
+	}
+
+}
@@ -0,0 +1,765 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.players.impl;
+
+import static java.lang.Math.*;
+import static org.eu.zajc.juno.cards.UnoCardColor.*;
+import static org.eu.zajc.juno.utils.UnoRuleUtils.getPlaceableCards;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.IntUnaryOperator;
+
+import javax.annotation.*;
+
+import org.eu.zajc.juno.cards.*;
+import org.eu.zajc.juno.cards.impl.*;
+import org.eu.zajc.juno.decks.UnoDeck;
+import org.eu.zajc.juno.game.*;
+import org.eu.zajc.juno.hands.UnoHand;
+import org.eu.zajc.juno.piles.impl.UnoDrawPile;
+import org.eu.zajc.juno.players.UnoPlayer;
+import org.eu.zajc.juno.rules.pack.*;
+import org.eu.zajc.juno.utils.*;
+
+/**
+ * An automated player that decides which cards to place with information set Monte
+ * Carlo tree search (ISMCTS). For every decision, it repeatedly guesses the hidden
+ * information (the other players' hands and the order of the draw pile) from the
+ * cards it can see, plays the guessed game out with the game's own
+ * {@link UnoRulePack} and grows a tree of all players' decisions from the outcomes.
+ * The {@link UnoCard} that was tried the most is then placed. Because the playouts
+ * use the same flow rules and {@link UnoRuleUtils} placement logic as the actual
+ * game, house rules are respected.<br>
+ * The amount of work per decision is limited by a playout budget, which is either an
+ * amount of iterations or a wall-clock duration. The search can be split among
+ * multiple threads (on the {@link ForkJoinPool#commonPool()}), each growing its own
+ * tree, which are merged at the end (root parallelization). The player thus gets
+ * stronger the more CPU time it's given. Colors are chosen and drawn cards are placed
+ * heuristically.
+ *
+ * @author Marko Zajc
+ */
+public class UnoMonteCarloPlayer extends UnoPlayer {
+
+	private static final long DEFAULT_ITERATIONS = 1000;
+	private static final double EXPLORATION = 0.7;
+	private static final int TURN_LIMIT = 300;
+	private static final int DRAW = -1;
+	@Nonnull private static final UnoCardColor[] COLORS = { RED, GREEN, BLUE, YELLOW };
+
+	@Nonnegative private final long iterations;
+	@Nonnegative private final long nanos;
+	@Nonnegative private final int parallelism;
+	@Nullable private final Random random;
+	@Nullable private UnoRulePack frozenFrom;
+	private int frozenVersion;
+	@Nullable private UnoFrozenRulePack frozen;
+	@Nullable private Signatures signatures;
+
+	/**
+	 * Creates a new {@link UnoMonteCarloPlayer} that plays 1000 playouts per decision,
+	 * split among all available processors.
+	 *
+	 * @param name
+	 *            this player's name
+	 */
+	public UnoMonteCarloPlayer(@Nonnull String name) {
+		this(name, DEFAULT_ITERATIONS, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Creates a new {@link UnoMonteCarloPlayer} with an iteration budget.
+	 *
+	 * @param name
+	 *            this player's name
+	 * @param iterations
+	 *            the total amount of playouts per decision, split among the threads
+	 * @param parallelism
+	 *            the amount of threads to search on
+	 */
+	public UnoMonteCarloPlayer(@Nonnull String name, @Nonnegative long iterations, @Nonnegative int parallelism) {
+		this(name, iterations, parallelism, null);
+	}
+
+	/**
+	 * Creates a new {@link UnoMonteCarloPlayer} with an iteration budget that makes its
+	 * random decisions with the given {@link Random}. As the amount of playouts doesn't
+	 * depend on timing, a seeded {@link Random} makes this player's decisions
+	 * reproducible.
+	 *
+	 * @param name
+	 *            this player's name
+	 * @param iterations
+	 *            the total amount of playouts per decision, split among the threads
+	 * @param parallelism
+	 *            the amount of threads to search on
+	 * @param random
+	 *            the {@link Random} to seed the searches and choose colors with, or
+	 *            {@code null} to use {@link ThreadLocalRandom}
+	 */
+	public UnoMonteCarloPlayer(@Nonnull String name, @Nonnegative long iterations, @Nonnegative int parallelism,
+							   @Nullable Random random) {
+		this(name, iterations, 0, parallelism, random);
+		if (iterations < 1)
+			throw new IllegalArgumentException("Need at least one iteration!");
+	}
+
+	/**
+	 * Creates a new {@link UnoMonteCarloPlayer} with a wall-clock budget. At least one
+	 * playout is played on each thread, even if the budget is exceeded.
+	 *
+	 * @param name
+	 *            this player's name
+	 * @param budget
+	 *            the time to search for per decision
+	 * @param parallelism
+	 *            the amount of threads to search on
+	 */
+	public UnoMonteCarloPlayer(@Nonnull String name, @Nonnull Duration budget, @Nonnegative int parallelism) {
+		this(name, 0, budget.toNanos(), parallelism, null);
+		if (budget.isNegative() || budget.isZero())
+			throw new IllegalArgumentException("The budget must be positive!");
+	}
+
+	private UnoMonteCarloPlayer(@Nonnull String name, @Nonnegative long iterations, @Nonnegative long nanos,
+								@Nonnegative int parallelism, @Nullable Random random) {
+		super(name);
+		if (parallelism < 1)
+			throw new IllegalArgumentException("Parallelism must be at least 1!");
+		this.iterations = iterations;
+		this.nanos = nanos;
+		this.parallelism = parallelism;
+		this.random = random;
+	}
+
+	@Override
+	@SuppressWarnings("null")
+	public UnoCard playCard(UnoGame game) {
+		var possible = UnoGameUtils.getPlaceableCards(game, getHand());
+		if (possible.isEmpty())
+			return null;
+		// Draws a card if no other option is possible
+
+		var search = new Search(game, this, freeze(game.getRules()), sign(game));
+		int move = search.run(this.iterations, this.nanos, this.parallelism, getRandom());
+		if (move == DRAW)
+			return null;
+
+		for (var card : possible) {
+			if (search.getSignature(card) == move)
+				return card;
+		}
+
+		return possible.get(0);
+		// Shouldn't happen, the best move is always one of the placeable cards
+	}
+
+	@Nonnull
+	private Signatures sign(@Nonnull UnoGame game) {
+		var cached = this.signatures;
+		if (cached == null || cached.deck != game.getDeck()) {
+			cached = new Signatures(game.getDeck(), game.getCardTable());
+			this.signatures = cached;
+		}
+		// The signatures only depend on the deck's definitions, so they're only assigned
+		// again once the deck is swapped
+
+		return cached;
+	}
+
+	@Nonnull
+	private UnoFrozenRulePack freeze(@Nonnull UnoRulePack rules) {
+		var cached = this.frozen;
+		if (cached == null || this.frozenFrom != rules || this.frozenVersion != rules.getVersion()) {
+			cached = rules.freeze();
+			this.frozen = cached;
+			this.frozenFrom = rules;
+			this.frozenVersion = rules.getVersion();
+		}
+		// Freezing a mutable pack compiles its placement engine, so it's only done again
+		// once the pack is swapped or modified
+
+		return cached;
+	}
+
+	@Nonnull
+	private Random getRandom() {
+		var r = this.random;
+		return r != null ? r : ThreadLocalRandom.current();
+	}
+
+	@Override
+	public UnoCardColor chooseColor(UnoGame game) {
+		return chooseColor(getHand(), getRandom()::nextInt);
+	}
+
+	@Override
+	public boolean shouldPlayDrawnCard(UnoGame game, UnoCard drawnCard) {
+		return true;
+	}
+
+	@Nonnull
+	@SuppressWarnings("null")
+	static UnoCardColor chooseColor(@Nonnull UnoHand hand, @Nonnull IntUnaryOperator nextInt) {
+		UnoCardColor best = null;
+		int bestCount = 0;
+		for (var color : COLORS) {
+			int count = hand.getColorCount(color);
+			if (count > bestCount) {
+				best = color;
+				bestCount = count;
+			}
+		}
+		// Chooses the most common color in the hand
+
+		if (best == null)
+			return COLORS[nextInt.applyAsInt(COLORS.length)];
+		else
+			return best;
+	}
+
+	/**
+	 * Assigns every {@link UnoCard} ID of a {@link UnoDeck}'s {@link UnoCardTable} a
+	 * signature, which is the index of its group of equal definitions. Built-in cards
+	 * are grouped by their type, color and value, while every definition of a custom
+	 * card gets its own signature.
+	 */
+	private static final class Signatures {
+
+		@Nonnull private final UnoDeck deck;
+		@Nonnull private final int[] byId;
+		@Nonnegative private final int count;
+
+		@SuppressWarnings("null")
+		Signatures(@Nonnull UnoDeck deck, @Nonnull UnoCardTable table) {
+			this.deck = deck;
+
+			var groups = new HashMap<Object, Integer>();
+			this.byId = new int[table.getSize()];
+			for (int id = 0; id < this.byId.length; id++)
+				this.byId[id] = groups.computeIfAbsent(groupOf(table.getDefinition(id)), k -> groups.size());
+			this.count = groups.size();
+		}
+
+		@Nonnull
+		@SuppressWarnings("null")
+		private static Object groupOf(@Nonnull UnoCard definition) {
+			var type = definition.getClass();
+			if (type == UnoNumericCard.class)
+				return List.of(type, definition.getOriginalColor(), ((UnoNumericCard) definition).getNumber());
+
+			else if (type == UnoDrawCard.class)
+				return List.of(type, definition.getOriginalColor(), ((UnoDrawCard) definition).getAmount());
+
+			else if (type == UnoSkipCard.class || type == UnoReverseCard.class || type == UnoWildCard.class)
+				return List.of(type, definition.getOriginalColor());
+
+			else
+				return definition;
+			// Subclasses and custom cards might carry additional state, so they're only
+			// grouped with the same definition
+		}
+
+	}
+
+	/**
+	 * Everything that is visible to the searching player at the time of the decision,
+	 * with {@link UnoCard}s replaced by their {@link Signatures}. Shared between the
+	 * workers.
+	 */
+	private static final class Search {
+
+		@Nonnull private final UnoDeck deck;
+		@Nonnull private final UnoFrozenRulePack rules;
+		@Nonnull private final UnoCardTable cards;
+		@Nonnull private final int[] deckSignatures;
+		@Nonnegative private final int distinct;
+		@Nonnull private final int[] hand;
+		@Nonnull private final int[] discard;
+		@Nonnull private final int[] handSizes;
+		@Nullable private final UnoCardColor topMask;
+		private final boolean topOpen;
+		private final int topPlacer;
+		private final int seat;
+		private final boolean reversed;
+
+		@SuppressWarnings("null")
+		Search(@Nonnull UnoGame game, @Nonnull UnoPlayer player, @Nonnull UnoFrozenRulePack rules,
+			   @Nonnull Signatures signatures) {
+			this.deck = game.getDeck();
+			this.rules = rules;
+			this.cards = game.getCardTable();
+			this.deckSignatures = signatures.byId;
+			this.distinct = signatures.count;
+
+			var players = game.getPlayers();
+			this.seat = game.getSeat(player);
+			this.handSizes = new int[players.size()];
+			for (int i = 0; i < this.handSizes.length; i++)
+				this.handSizes[i] = players.get(i).getHandSize();
+
+			this.hand = signaturesOf(player.getCards());
+			this.discard = signaturesOf(game.getDiscard().getCards());
+			// Top card first
+
+			var top = game.getDiscard().getTop();
+			this.topMask = top.getColor() == top.getOriginalColor() ? null : top.getColor();
+			this.topOpen = top.isOpen();
+			this.topPlacer = game.getSeat(placerOf(top));
+			this.reversed = game.isReversedDirection();
+		}
+
+		@Nullable
+		private static UnoPlayer placerOf(@Nonnull UnoCard card) {
+			try {
+				return card.getPlacer();
+			} catch (IllegalStateException e) {
+				return null;
+				// The initial card doesn't have a placer
+			}
+		}
+
+		int getSignature(@Nonnull UnoCard card) {
+			int id = this.cards.getId(card);
+			if (id < 0)
+				throw new IllegalArgumentException(card + " isn't a part of the game's card table!");
+
+			return this.deckSignatures[id];
+		}
+
+		@Nonnull
+		private int[] signaturesOf(@Nonnull List<UnoCard> cards) {
+			var result = new int[cards.size()];
+			for (int i = 0; i < result.length; i++)
+				result[i] = getSignature(cards.get(i));
+			return result;
+		}
+
+		int run(@Nonnegative long iterations, @Nonnegative long nanos, @Nonnegative int parallelism,
+				@Nonnull Random seeds) {
+			long deadline = System.nanoTime() + nanos;
+			long perWorker = (iterations + parallelism - 1) / parallelism;
+
+			var others = new ArrayList<CompletableFuture<long[]>>(parallelism - 1);
+			for (int i = 1; i < parallelism; i++) {
+				long seed = seeds.nextLong();
+				others.add(CompletableFuture.supplyAsync(() -> new Worker(this, seed).search(perWorker, deadline),
+														 ForkJoinPool.commonPool()));
+			}
+			// Grows the other trees in the background
+
+			var visits = new Worker(this, seeds.nextLong()).search(perWorker, deadline);
+			try {
+				for (var other : others) {
+					long[] otherVisits = other.join();
+					for (int i = 0; i < visits.length; i++)
+						visits[i] += otherVisits[i];
+				}
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof RuntimeException)
+					throw (RuntimeException) e.getCause();
+				throw new IllegalStateException("A search has failed", e.getCause());
+			}
+			// Merges the root statistics of all trees
+
+			int best = 0;
+			for (int i = 1; i < visits.length; i++) {
+				if (visits[i] > visits[best])
+					best = i;
+			}
+
+			return best - 1;
+		}
+
+	}
+
+	/**
+	 * A node of a search tree, representing a decision of a player.
+	 */
+	private static final class Node {
+
+		private final int seat;
+		private final int move;
+		@Nonnull private final List<Node> children = new ArrayList<>();
+		private int visits;
+		private int availability;
+		private double reward;
+
+		Node(int seat, int move) {
+			this.seat = seat;
+			this.move = move;
+		}
+
+		@Nullable
+		Node getChild(int childSeat, int childMove) {
+			for (var child : this.children) {
+				if (child.seat == childSeat && child.move == childMove)
+					return child;
+			}
+
+			return null;
+		}
+
+		double getScore() {
+			return this.reward / this.visits + EXPLORATION * sqrt(log(this.availability) / this.visits);
+		}
+
+	}
+
+	/**
+	 * Grows a single search tree by playing out guessed copies of the game on its own
+	 * set of {@link UnoCard}s.
+	 */
+	private static final class Worker {
+
+		@Nonnull private final Search search;
+		@Nonnull private final SplittableRandom random;
+		@Nonnull private final UnoRandom unoRandom;
+		@Nonnull private final UnoCardTable table;
+		@Nullable private final UnoPlacementMatrix matrix;
+		@Nonnull private final int[][] positions;
+		@Nonnull private final boolean[] used;
+		@Nonnull private final Agent[] agents;
+		@Nonnull private final SearchHand[] hands;
+		@Nonnull private final SearchGame game;
+		@Nonnull private final List<UnoCard> discard = new ArrayList<>();
+		@Nonnull private final int[] unseen;
+		private int unseenFrom;
+		private int unseenTo;
+		@Nonnull private final int[] stamps;
+		@Nonnull private final int[] moves;
+		@Nonnull private final List<Node> path = new ArrayList<>();
+		@Nonnull private final Node root;
+		private int stamp;
+		@Nullable private Node node;
+
+		@SuppressWarnings("null")
+		Worker(@Nonnull Search search, long seed) {
+			this.search = search;
+			this.random = new SplittableRandom(seed);
+			this.unoRandom = UnoRandom.of(this.random);
+			this.table = search.deck.createCardTable();
+			this.matrix = search.rules.getPlacementEngine().getMatrix(this.table);
+			this.used = new boolean[this.table.getSize()];
+			this.unseen = new int[this.table.getSize()];
+
+			int distinct = search.distinct;
+			var counts = new int[distinct];
+			for (int signature : search.deckSignatures)
+				counts[signature]++;
+			this.positions = new int[distinct][];
+			for (int i = 0; i < distinct; i++)
+				this.positions[i] = new int[counts[i]];
+			Arrays.fill(counts, 0);
+			for (int i = 0; i < search.deckSignatures.length; i++) {
+				int signature = search.deckSignatures[i];
+				this.positions[signature][counts[signature]++] = i;
+			}
+			// Indexes this worker's cards by signature
+
+			this.agents = new Agent[search.handSizes.length];
+			this.hands = new SearchHand[this.agents.length];
+			for (int i = 0; i < this.agents.length; i++) {
+				this.agents[i] = new Agent(this, i);
+				this.hands[i] = new SearchHand();
+			}
+			this.game = new SearchGame(search.deck, search.rules, this.agents);
+
+			this.stamps = new int[distinct];
+			this.moves = new int[distinct + 1];
+			this.root = new Node(-1, DRAW);
+		}
+
+		@Nonnull
+		long[] search(@Nonnegative long iterations, long deadline) {
+			if (iterations > 0) {
+				for (long i = 0; i < iterations; i++)
+					iterate();
+			} else {
+				do {
+					iterate();
+				} while (System.nanoTime() < deadline);
+			}
+
+			var visits = new long[this.search.distinct + 1];
+			for (var child : this.root.children)
+				visits[child.move + 1] += child.visits;
+			return visits;
+		}
+
+		private void iterate() {
+			var mySeat = this.search.seat;
+			determinize();
+
+			this.node = this.root;
+			this.path.clear();
+			this.path.add(this.root);
+			var pile = new UnoDrawPile(this.table, this.unseen, this.unseenFrom, this.unseenTo, this.unoRandom);
+			var winner = this.game.play(pile, this.agents[mySeat], this.search.reversed);
+			// Plays the guessed game out
+
+			int winnerSeat = -1;
+			for (int i = 0; i < this.agents.length; i++) {
+				if (this.agents[i] == winner.getWinner())
+					winnerSeat = i;
+			}
+			for (var visited : this.path) {
+				visited.visits++;
+				if (visited.seat == winnerSeat)
+					visited.reward += 1;
+				else if (winnerSeat < 0)
+					visited.reward += 1D / this.agents.length;
+			}
+			// Backpropagates the outcome from each decider's perspective
+		}
+
+		@SuppressWarnings("null")
+		private void determinize() {
+			this.table.reset();
+			Arrays.fill(this.used, false);
+			for (int i = 0; i < this.agents.length; i++) {
+				this.hands[i].clear();
+				this.agents[i].setHand(this.hands[i]);
+			}
+			// Resets the previous playout
+
+			var myHand = this.hands[this.search.seat];
+			for (int signature : this.search.hand) {
+				var card = take(signature);
+				if (card != null)
+					myHand.add(card);
+			}
+
+			this.discard.clear();
+			for (int signature : this.search.discard) {
+				var card = take(signature);
+				if (card != null)
+					this.discard.add(card);
+			}
+			this.game.getDiscard().clear();
+			this.game.getDiscard().addAll(this.discard);
+
+			var top = this.game.getDiscard().getTop();
+			if (this.search.topMask != null)
+				top.setColorMask(this.search.topMask);
+			if (this.search.topOpen)
+				top.markOpen();
+			if (this.search.topPlacer >= 0)
+				top.setPlacer(this.agents[this.search.topPlacer]);
+			// Places the visible cards
+
+			int count = 0;
+			for (int id = 0; id < this.used.length; id++) {
+				if (!this.used[id])
+					this.unseen[count++] = id;
+			}
+			for (int i = count - 1; i > 0; i--) {
+				int j = this.random.nextInt(i + 1);
+				int id = this.unseen[i];
+				this.unseen[i] = this.unseen[j];
+				this.unseen[j] = id;
+			}
+			// Shuffles the cards that can't be seen
+
+			int dealt = 0;
+			for (int seat = 0; seat < this.hands.length; seat++) {
+				if (seat == this.search.seat)
+					continue;
+
+				var hand = this.hands[seat];
+				for (int i = 0; i < this.search.handSizes[seat] && dealt < count; i++)
+					hand.add(this.table.getCard(this.unseen[dealt++]));
+			}
+			this.unseenFrom = dealt;
+			this.unseenTo = count;
+			// Deals the other hands, the rest becomes the draw pile as it is, so it isn't
+			// shuffled again
+		}
+
+		@Nullable
+		private UnoCard take(int signature) {
+			if (signature == DRAW)
+				return null;
+
+			for (int position : this.positions[signature]) {
+				if (!this.used[position]) {
+					this.used[position] = true;
+					return this.table.getCard(position);
+				}
+			}
+
+			return null;
+		}
+
+		@Nullable
+		private UnoCard playout(@Nonnull List<UnoCard> possible) {
+			if (possible.isEmpty())
+				return null;
+
+			int start = this.random.nextInt(possible.size());
+			for (int i = 0; i < possible.size(); i++) {
+				var card = possible.get((start + i) % possible.size());
+				if (card.getOriginalColor() != WILD)
+					return card;
+			}
+			// Prefers colored cards and saves the wild ones for later
+
+			return possible.get(start);
+		}
+
+		@Nullable
+		@SuppressWarnings("null")
+		UnoCard decide(@Nonnull Agent agent, @Nonnull UnoGame playout) {
+			var hand = agent.getHand();
+			var top = playout.getDiscard().getTop();
+			var placementMatrix = this.matrix;
+			List<UnoCard> possible;
+			if (placementMatrix != null)
+				possible = placementMatrix.getPlaceableCards(this.table, top, hand.getCards(), hand);
+			else
+				possible = getPlaceableCards(top, hand.getCards(), playout.getRules(), hand);
+			// The cards of all workers share the layout of the deck, and thus the matrix
+
+			var current = this.node;
+			if (current == null)
+				return playout(possible);
+			// Plays randomly outside of the tree
+
+			int count = 0;
+			this.stamp++;
+			this.moves[count++] = DRAW;
+			for (var card : possible) {
+				int signature = this.search.deckSignatures[this.table.getId(card)];
+				if (this.stamps[signature] != this.stamp) {
+					this.stamps[signature] = this.stamp;
+					this.moves[count++] = signature;
+				}
+			}
+			// Collects the distinct legal moves
+
+			Node chosen = null;
+			int untried = 0;
+			for (int i = 0; i < count; i++) {
+				var child = current.getChild(agent.seat, this.moves[i]);
+				if (child == null) {
+					this.moves[untried++] = this.moves[i];
+				} else {
+					child.availability++;
+					if (untried == 0 && (chosen == null || child.getScore() > chosen.getScore()))
+						chosen = child;
+				}
+			}
+			// Counts the availability of the known moves and finds the untried ones
+
+			if (untried > 0) {
+				chosen = new Node(agent.seat, this.moves[this.random.nextInt(untried)]);
+				chosen.availability++;
+				current.children.add(chosen);
+				this.node = null;
+				// Expands the tree and leaves it
+
+			} else {
+				this.node = chosen;
+			}
+			this.path.add(chosen);
+
+			if (chosen.move == DRAW)
+				return null;
+			for (var card : possible) {
+				if (this.search.deckSignatures[this.table.getId(card)] == chosen.move)
+					return card;
+			}
+
+			return null;
+		}
+
+	}
+
+	/**
+	 * A stand-in for a player in a guessed copy of the game, deciding through its
+	 * {@link Worker}.
+	 */
+	private static final class Agent extends UnoPlayer {
+
+		@Nonnull private final Worker worker;
+		private final int seat;
+
+		Agent(@Nonnull Worker worker, int seat) {
+			super("Seat " + seat);
+			this.worker = worker;
+			this.seat = seat;
+		}
+
+		@Override
+		public UnoCard playCard(UnoGame game) {
+			return this.worker.decide(this, game);
+		}
+
+		@Override
+		public UnoCardColor chooseColor(UnoGame game) {
+			return UnoMonteCarloPlayer.chooseColor(getHand(), this.worker.random::nextInt);
+		}
+
+		@Override
+		public boolean shouldPlayDrawnCard(UnoGame game, UnoCard drawnCard) {
+			return true;
+		}
+
+	}
+
+	/**
+	 * A {@link UnoHand} that can be dealt specific {@link UnoCard}s.
+	 */
+	private static final class SearchHand extends UnoHand {
+
+		void add(@Nonnull UnoCard card) {
+			this.cards.add(card);
+		}
+
+	}
+
+	/**
+	 * A headless game that plays guessed copies of the searched game, ending them after
+	 * {@value UnoMonteCarloPlayer#TURN_LIMIT} turns.
+	 */
+	private static final class SearchGame extends UnoControlledGame {
+
+		private int turns;
+
+		SearchGame(@Nonnull UnoDeck deck, @Nonnull UnoRulePack rules, @Nonnull UnoPlayer... players) {
+			super(deck, 0, rules, players);
+		}
+
+		@Nonnull
+		UnoWinner play(@Nonnull UnoDrawPile draw, @Nonnull UnoPlayer next, boolean reversed) {
+			this.turns = 0;
+			return resume(draw, next, reversed);
+		}
+
+		@Override
+		protected void turn(UnoPlayer player) {
+			super.turn(player);
+
+			if (++this.turns >= TURN_LIMIT)
+				endGame();
+		}
+
+	}
+
+}
@@ -19,11 +19,10 @@ package org.eu.zajc.juno.players.impl;
 import static java.lang.Math.max;
 import static org.eu.zajc.juno.cards.UnoCardColor.WILD;
 import static org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules.UnoHouseRule.*;
-import static org.eu.zajc.juno.utils.UnoRuleUtils.getPlaceableCards;
+import static org.eu.zajc.juno.utils.UnoGameUtils.getPlaceableCards;
 import static org.eu.zajc.juno.utils.UnoUtils.*;
 
 import java.util.*;
-import java.util.Map.Entry;
 import java.util.concurrent.ThreadLocalRandom;
 
 import javax.annotation.*;
@@ -31,9 +30,9 @@ import javax.annotation.*;
 import org.eu.zajc.juno.cards.*;
 import org.eu.zajc.juno.cards.impl.*;
 import org.eu.zajc.juno.game.UnoGame;
+import org.eu.zajc.juno.hands.UnoHand;
 import org.eu.zajc.juno.players.UnoPlayer;
 import org.eu.zajc.juno.rules.pack.impl.house.UnoSevenORulePack;
-import org.eu.zajc.juno.utils.UnoUtils;
 
 /**
  * An automated hand that uses strategic logic to decide cards and colors to return.
@@ -43,6 +42,7 @@ import org.eu.zajc.juno.utils.UnoUtils;
  */
 public class UnoStrategicPlayer extends UnoPlayer {
 
+	private static final UnoCardColor[] COLORS = UnoCardColor.values();
 	private static final int DRAW_CARD_THRESHOLD = 3;
 
 	private static final float DESPERATION_THRESHOLD = 2;
@@ -57,6 +57,8 @@ public class UnoStrategicPlayer extends UnoPlayer {
 	private static final float FACTOR_PLACE_WILD = .7F;
 	private static final float FACTOR_PLACE_ANY = .9F;
 
+	@Nullable private final Random random;
+
 	/**
 	 * Creates a new {@link UnoStrategicPlayer}.
 	 *
@@ -64,63 +66,78 @@ public class UnoStrategicPlayer extends UnoPlayer {
 	 *            this player's name
 	 */
 	public UnoStrategicPlayer(@Nonnull String name) {
+		this(name, null);
+	}
+
+	/**
+	 * Creates a new {@link UnoStrategicPlayer} that makes its random decisions with the
+	 * given random number generator. Seeding it makes the player's decisions
+	 * reproducible, but the player can't be shared between threads unless the generator
+	 * is thread-safe.
+	 *
+	 * @param name
+	 *            this player's name
+	 * @param random
+	 *            the random number generator to use, or {@code null} to use the calling
+	 *            thread's {@link ThreadLocalRandom}
+	 */
+	public UnoStrategicPlayer(@Nonnull String name, @Nullable Random random) {
 		super(name);
+		this.random = random;
 	}
 
 	@Override
 	@SuppressWarnings("null")
 	public UnoCard playCard(UnoGame game) {
-		var top = game.getDiscard().getTop();
-		var possible = getPlaceableCards(top, this.getCards(), game.getRules(), this.getHand());
+		var possible = getPlaceableCards(game, this.getHand());
 		var next = game.getNextPlayer();
 
 		if (possible.isEmpty())
 			return null;
 		// Draws a card if no other option is possible
 
-		var colorAnalysis = analyzeColors(getCards());
-		// Analyzes the colors
-		if (decideRandomly(game, FACTOR_SEVENO_STRATEGY) && game.getHouseRules().contains(SEVENO)) {
-			var sevenoCard = sevenoStrategy(possible, colorAnalysis, next);
+		var hand = getHand();
+		if (decideRandomly(game, FACTOR_SEVENO_STRATEGY) && game.getRules().getHouseRules().contains(SEVENO)) {
+			var sevenoCard = sevenoStrategy(possible, hand, next);
 			if (sevenoCard != null)
 				return sevenoCard;
 		}
 		// Apply the Seven-O strategy if applicable
 
 		if (decideRandomly(game, FACTOR_PLACE_DRAW)) {
-			var drawCard = chooseDrawCard(possible, colorAnalysis, game, next);
+			var drawCard = chooseDrawCard(possible, hand, game, next);
 			if (drawCard != null)
 				return drawCard;
 		}
 		// Places a draw card if necessary
 
 		if (decideRandomly(game, FACTOR_PLACE_ACTION_SLIDE) && game.getPlayers().size() == 2) {
-			var skipCard = chooseCard(possible, colorAnalysis, UnoSkipCard.class);
+			var skipCard = chooseCard(possible, hand, UnoSkipCard.class);
 			if (skipCard != null)
 				return skipCard;
 
-			var reverseCard = chooseCard(possible, colorAnalysis, UnoReverseCard.class);
+			var reverseCard = chooseCard(possible, hand, UnoReverseCard.class);
 			if (reverseCard != null)
 				return reverseCard;
 		}
 		// Places an action card (skip or reverse) if there are two players
 
 		if (decideRandomly(game, FACTOR_PLACE_SKIP) && next.getHandSize() < game.getNextPlayer(next).getHandSize()) {
-			var skipCard = chooseCard(possible, colorAnalysis, UnoSkipCard.class);
+			var skipCard = chooseCard(possible, hand, UnoSkipCard.class);
 			if (skipCard != null)
 				return skipCard;
 		}
 		// Places a skip card if the next player has less cards than the second-next player
 
 		if (decideRandomly(game, FACTOR_PLACE_REVERSE) && next.getHandSize() < game.getPreviousPlayer().getHandSize()) {
-			var skipCard = chooseCard(possible, colorAnalysis, UnoReverseCard.class);
+			var skipCard = chooseCard(possible, hand, UnoReverseCard.class);
 			if (skipCard != null)
 				return skipCard;
 		}
 		// Places a skip card if the next player has less cards than the previous player
 
 		List<UnoCard> possibleNumeric;
-		if (game.getHouseRules().contains(SEVENO) && this.getHand().getSize() - 1 >= next.getHand().getSize()) {
+		if (game.getRules().getHouseRules().contains(SEVENO) && this.getHand().getSize() - 1 >= next.getHand().getSize()) {
 			possibleNumeric = new ArrayList<>(possible);
 			possibleNumeric.removeAll(sevenoFilter(possible));
 		} else {
@@ -130,7 +147,7 @@ public class UnoStrategicPlayer extends UnoPlayer {
 		// if we do not want to place them
 
 		if (decideRandomly(game, FACTOR_PLACE_NUMERIC)) {
-			var numericCard = chooseCard(possibleNumeric, colorAnalysis, UnoNumericCard.class);
+			var numericCard = chooseCard(possibleNumeric, hand, UnoNumericCard.class);
 			if (numericCard != null)
 				return numericCard;
 		}
@@ -152,10 +169,9 @@ public class UnoStrategicPlayer extends UnoPlayer {
 	}
 
 	private boolean decideRandomly(UnoGame game, float baseFactor) {
-		float roll = ThreadLocalRandom.current().nextFloat();
+		float roll = this.random == null ? ThreadLocalRandom.current().nextFloat() : this.random.nextFloat();
 		float desperation =
-			max(1F, (this.getHandSize() - game.getPlayers().stream().mapToInt(UnoPlayer::getHandSize).min().orElse(0))
-				/ DESPERATION_THRESHOLD);
+			max(1F, (this.getHandSize() - game.getMinHandSize()) / DESPERATION_THRESHOLD);
 		float factor = baseFactor * desperation;
 		return factor >= roll;
 	}
@@ -174,8 +190,8 @@ public class UnoStrategicPlayer extends UnoPlayer {
 	 *
 	 * @param possiblePlacements
 	 *            The list of possible placements.
-	 * @param colorAnalysis
-	 *            The return of {@link UnoUtils#analyzeColors(Collection)}
+	 * @param hand
+	 *            This player's {@link UnoHand}
 	 * @param opponent
 	 *            The other {@link UnoPlayer}
 	 *
@@ -185,21 +201,19 @@ public class UnoStrategicPlayer extends UnoPlayer {
 	 */
 	@Deprecated(since = "2.3", forRemoval = false)
 	@Nullable
-	private UnoNumericCard sevenoStrategy(List<UnoCard> possiblePlacements,
-										  List<Entry<Long, UnoCardColor>> colorAnalysis, UnoPlayer opponent) {
+	private UnoNumericCard sevenoStrategy(List<UnoCard> possiblePlacements, UnoHand hand, UnoPlayer opponent) {
 		if (this.getHandSize() - 1 <= opponent.getHandSize())
 			return null;
 
-		return chooseBestColorCard(sevenoFilter(possiblePlacements), colorAnalysis);
+		return chooseBestColorCard(sevenoFilter(possiblePlacements), hand);
 	}
 
 	@Nullable
-	private static UnoDrawCard chooseDrawCard(List<UnoCard> possiblePlacements,
-											  List<Entry<Long, UnoCardColor>> colorAnalysis, UnoGame game,
+	private static UnoDrawCard chooseDrawCard(List<UnoCard> possiblePlacements, UnoHand hand, UnoGame game,
 											  UnoPlayer next) {
 
 		boolean shouldPlay = false;
-		if (game.getHouseRules().contains(PROGRESSIVE)) {
+		if (game.getRules().getHouseRules().contains(PROGRESSIVE)) {
 			// Progressive UNO is enabled
 			shouldPlay = game.getTopCard() instanceof UnoDrawCard || next.getHand().getSize() <= DRAW_CARD_THRESHOLD;
 
@@ -214,62 +228,76 @@ public class UnoStrategicPlayer extends UnoPlayer {
 		if (!shouldPlay)
 			return null;
 
-		return chooseCard(possiblePlacements, colorAnalysis, UnoDrawCard.class);
+		return chooseCard(possiblePlacements, hand, UnoDrawCard.class);
 	}
 
 	@Nullable
-	private static <T extends UnoCard> T chooseCard(List<UnoCard> possiblePlacements,
-													List<Entry<Long, UnoCardColor>> colorAnalysis, Class<T> type) {
-		return chooseBestColorCard(filterKind(type, possiblePlacements), colorAnalysis);
+	private static <T extends UnoCard> T chooseCard(List<UnoCard> possiblePlacements, UnoHand hand, Class<T> type) {
+		return chooseBestColorCard(filterKind(type, possiblePlacements), hand);
 	}
 
 	/**
-	 * Does some strategic thinking; uses the analysis of this hand's cards and tries to
-	 * place the card that has the color of most cards. If, for example, the hand has two
-	 * blue and one red card, this will prefer the blue cards.
+	 * Does some strategic thinking; uses the color counts of this hand's cards and tries
+	 * to place the card that has the color of most cards. If, for example, the hand has
+	 * two blue and one red card, this will prefer the blue cards.
 	 *
 	 * @param <T>
 	 *            type of the {@link UnoCard} to return
 	 * @param possiblePlacements
 	 *            all possible cards
-	 * @param colorAnalysis
-	 *            color analysis of the entire hand
-	 *            ({@link UnoUtils#analyzeColors(Collection)})
+	 * @param hand
+	 *            the entire hand ({@link UnoHand#getColorCount(UnoCardColor)})
 	 *
 	 * @return the best possible card or {@code null} if there are no cards of the
 	 *         requested kind
 	 */
 	@Nullable
-	private static <T extends UnoCard> T chooseBestColorCard(List<T> possiblePlacements,
-															 List<Entry<Long, UnoCardColor>> colorAnalysis) {
+	private static <T extends UnoCard> T chooseBestColorCard(List<T> possiblePlacements, UnoHand hand) {
 		if (possiblePlacements.isEmpty())
 			return null;
 		// In case there's no card of the requested kind
 
-		for (Entry<Long, UnoCardColor> color : colorAnalysis) {
-			if (color.getValue() == WILD)
-				continue;
-			// Skips the wild cards because it might be a good idea to save them for later
+		int tried = 1 << WILD.ordinal();
+		// Skips the wild cards because it might be a good idea to save them for later
 
-			List<T> matches = getColorCards(color.getValue(), possiblePlacements);
-			// Gets the cards of
+		for (int i = 1; i < COLORS.length; i++) {
+			var color = mostCommonColor(hand, tried);
+			tried |= 1 << color.ordinal();
 
-			if (!matches.isEmpty())
-				return matches.get(0);
+			for (var card : possiblePlacements) {
+				if (card.getColor() == color)
+					return card;
+			}
+			// Gets the first card of that color
 		}
 
 		return possiblePlacements.get(0);
 		// Fallback method
 	}
 
-	@Override
+	@Nonnull
 	@SuppressWarnings("null")
+	private static UnoCardColor mostCommonColor(UnoHand hand, int excluded) {
+		UnoCardColor best = null;
+		int bestCount = -1;
+		for (var color : COLORS) {
+			if ((excluded & 1 << color.ordinal()) != 0)
+				continue;
+
+			int count = hand.getColorCount(color);
+			if (count > bestCount) {
+				best = color;
+				bestCount = count;
+			}
+		}
+		// Ties go to the first color, which is the order analyzeColors() sorts them in
+
+		return best;
+	}
+
+	@Override
 	public UnoCardColor chooseColor(UnoGame game) {
-		return analyzeColors(this.getCards()).stream()
-			.filter(p -> p.getValue() != WILD)
-			.findFirst()
-			.orElseThrow(() -> new IllegalStateException("Couldn't choose a color (UnoUtils malfunctioned!)"))
-			.getValue();
+		return mostCommonColor(getHand(), 1 << WILD.ordinal());
 	}
 
 	@Override
@@ -17,11 +17,11 @@
 package org.eu.zajc.juno.rules.impl.flow;
 
 import static org.eu.zajc.juno.utils.UnoGameUtils.canPlaceCard;
-import static org.eu.zajc.juno.utils.UnoRuleUtils.filterRuleKind;
 
 import org.eu.zajc.juno.cards.UnoCard;
 import org.eu.zajc.juno.cards.impl.UnoDrawCard;
 import org.eu.zajc.juno.game.UnoGame;
+import org.eu.zajc.juno.game.event.UnoCardsDrawnEvent;
 import org.eu.zajc.juno.hands.UnoHand;
 import org.eu.zajc.juno.players.UnoPlayer;
 import org.eu.zajc.juno.rules.types.UnoGameFlowRule;
@@ -36,15 +36,14 @@ import org.eu.zajc.juno.utils.MutableBoolean;
  */
 public class CardDrawingRule implements UnoGameFlowRule {
 
-	private static final String DRAW_CARDS = "%s draws %s cards from a %s.";
-	private static final String DRAW_CARD = "%s draws a card.";
-
 	@Override
 	public UnoInitializationConclusion initializationPhase(UnoPlayer player, UnoGame game) {
 		if (game.getTopCard() instanceof UnoDrawCard && game.getTopCard().isOpen()) {
 			((UnoDrawCard) game.getTopCard()).drawTo(game, player);
-			game.onEvent(DRAW_CARDS, player.getName(), ((UnoDrawCard) game.getTopCard()).getAmount(),
-						 game.getTopCard().toString());
+			if (game.isObserved()) {
+				var drawCard = (UnoDrawCard) game.getTopCard();
+				game.fireEvent(new UnoCardsDrawnEvent(player, drawCard.getAmount(), drawCard, 1));
+			}
 
 			return new UnoInitializationConclusion(false, true);
 		}
@@ -58,10 +57,11 @@ public class CardDrawingRule implements UnoGameFlowRule {
 		MutableBoolean shouldRepeat = new MutableBoolean();
 		if (decidedCard == null) {
 			UnoCard drawn = player.getHand().draw(game, 1).get(0);
-			game.onEvent(DRAW_CARD, player.getName());
+			if (game.isObserved())
+				game.fireEvent(new UnoCardsDrawnEvent(player));
 
 			if (canPlaceCard(player, game, drawn) && player.shouldPlayDrawnCard(game, drawn)) {
-				filterRuleKind(game.getRules().getRules(), UnoGameFlowRule.class).forEach(gfr -> {
+				game.getRules().getFlowRules().forEach(gfr -> {
 					UnoPhaseConclusion conclusion = gfr.decisionPhase(player, game, drawn);
 					if (conclusion.shouldRepeat())
 						shouldRepeat.set(true);
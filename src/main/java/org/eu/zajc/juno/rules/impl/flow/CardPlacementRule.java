@@ -21,6 +21,7 @@ import static org.eu.zajc.juno.utils.UnoGameUtils.placeCard;
 
 import org.eu.zajc.juno.cards.UnoCard;
 import org.eu.zajc.juno.game.UnoGame;
+import org.eu.zajc.juno.game.event.*;
 import org.eu.zajc.juno.hands.UnoHand;
 import org.eu.zajc.juno.players.UnoPlayer;
 import org.eu.zajc.juno.rules.types.UnoGameFlowRule;
@@ -34,18 +35,17 @@ import org.eu.zajc.juno.rules.types.flow.UnoPhaseConclusion;
  */
 public class CardPlacementRule implements UnoGameFlowRule {
 
-	private static final String CARD_PLACED = "%s places a %s.";
-	private static final String INVALID_CARD = "%s tries to place an invalid card.";
-
 	@Override
 	public UnoPhaseConclusion decisionPhase(UnoPlayer player, UnoGame game, UnoCard decidedCard) {
 		if (decidedCard != null) {
 			if (!placeCard(game, player, decidedCard)) {
-				game.onEvent(INVALID_CARD, player.getName());
+				if (game.isObserved())
+					game.fireEvent(new UnoInvalidCardEvent(player));
 				return new UnoPhaseConclusion(true, false);
 			}
 
-			game.onEvent(CARD_PLACED, decidedCard.getPlacer().getName(), decidedCard.toString());
+			if (game.isObserved())
+				game.fireEvent(new UnoCardPlacedEvent(decidedCard.getPlacer(), decidedCard));
 		}
 
 		return NOTHING;
@@ -21,6 +21,7 @@ import static org.eu.zajc.juno.rules.types.flow.UnoInitializationConclusion.NOTH
 
 import org.eu.zajc.juno.cards.*;
 import org.eu.zajc.juno.game.UnoGame;
+import org.eu.zajc.juno.game.event.*;
 import org.eu.zajc.juno.players.UnoPlayer;
 import org.eu.zajc.juno.rules.types.UnoGameFlowRule;
 import org.eu.zajc.juno.rules.types.flow.UnoInitializationConclusion;
@@ -33,21 +34,20 @@ import org.eu.zajc.juno.rules.types.flow.UnoInitializationConclusion;
  */
 public class ColorChoosingRule implements UnoGameFlowRule {
 
-	private static final String INVALID_COLOR = "%s tries to set an invalid color.";
-	private static final String COLOR_CHANGED = "%s sets the color to %s.";
-
 	@Override
 	public UnoInitializationConclusion initializationPhase(UnoPlayer player, UnoGame game) {
 		if (game.getTopCard() != null && game.getTopCard().getColor() == WILD && !game.getTopCard().isOpen()) {
 			UnoCardColor color = game.getTopCard().getPlacer().chooseColor(game);
 
 			if (color == WILD) {
-				game.onEvent(INVALID_COLOR, game.getTopCard().getPlacer().getName());
+				if (game.isObserved())
+					game.fireEvent(new UnoInvalidColorEvent(game.getTopCard().getPlacer()));
 				return new UnoInitializationConclusion(true, false);
 			}
 
 			game.getTopCard().setColorMask(color);
-			game.onEvent(COLOR_CHANGED, game.getTopCard().getPlacer().getName(), color.toString());
+			if (game.isObserved())
+				game.fireEvent(new UnoColorChosenEvent(game.getTopCard().getPlacer(), color));
 		}
 
 		return NOTHING;
@@ -19,6 +19,7 @@ package org.eu.zajc.juno.rules.impl.flow;
 import org.eu.zajc.juno.cards.UnoCard;
 import org.eu.zajc.juno.cards.impl.UnoReverseCard;
 import org.eu.zajc.juno.game.UnoGame;
+import org.eu.zajc.juno.game.event.*;
 import org.eu.zajc.juno.players.UnoPlayer;
 import org.eu.zajc.juno.rules.types.UnoGameFlowRule;
 import org.eu.zajc.juno.rules.types.flow.*;
@@ -31,15 +32,13 @@ import org.eu.zajc.juno.rules.types.flow.*;
  */
 public class ReverseCardRule implements UnoGameFlowRule {
 
-	private static final String FLOW_REVERSED = "The order of play has been switched.";
-	private static final String LOST_A_TURN = "%s loses a turn.";
-
 	@Override
 	public UnoInitializationConclusion initializationPhase(UnoPlayer player, UnoGame game) {
 		if (game.getTopCard() instanceof UnoReverseCard && game.getTopCard().isOpen()) {
 			// only occurs in 2-player games
 			game.getTopCard().markClosed();
-			game.onEvent(LOST_A_TURN, player.getName());
+			if (game.isObserved())
+				game.fireEvent(new UnoTurnLostEvent(player, game.getTopCard()));
 			return new UnoInitializationConclusion(false, true);
 		}
 
@@ -50,7 +49,8 @@ public class ReverseCardRule implements UnoGameFlowRule {
 	public UnoPhaseConclusion decisionPhase(UnoPlayer player, UnoGame game, UnoCard decidedCard) {
 		if (decidedCard instanceof UnoReverseCard) {
 			if (game.getPlayers().size() > 2) {
-				game.onEvent(FLOW_REVERSED);
+				if (game.isObserved())
+					game.fireEvent(new UnoDirectionReversedEvent(player));
 				return new UnoPhaseConclusion(false, true);
 
 			} else if (!decidedCard.isOpen()) {
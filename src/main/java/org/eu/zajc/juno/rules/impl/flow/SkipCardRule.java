@@ -19,6 +19,7 @@ package org.eu.zajc.juno.rules.impl.flow;
 import org.eu.zajc.juno.cards.UnoCard;
 import org.eu.zajc.juno.cards.impl.UnoSkipCard;
 import org.eu.zajc.juno.game.UnoGame;
+import org.eu.zajc.juno.game.event.UnoTurnLostEvent;
 import org.eu.zajc.juno.players.UnoPlayer;
 import org.eu.zajc.juno.rules.types.UnoGameFlowRule;
 import org.eu.zajc.juno.rules.types.flow.*;
@@ -30,13 +31,12 @@ import org.eu.zajc.juno.rules.types.flow.*;
  */
 public class SkipCardRule implements UnoGameFlowRule {
 
-	private static final String LOST_A_TURN = "%s loses a turn.";
-
 	@Override
 	public UnoInitializationConclusion initializationPhase(UnoPlayer player, UnoGame game) {
 		if (game.getTopCard() instanceof UnoSkipCard && game.getTopCard().isOpen()) {
 			game.getTopCard().markClosed();
-			game.onEvent(LOST_A_TURN, player.getName());
+			if (game.isObserved())
+				game.fireEvent(new UnoTurnLostEvent(player, game.getTopCard()));
 			return new UnoInitializationConclusion(false, true);
 		}
 
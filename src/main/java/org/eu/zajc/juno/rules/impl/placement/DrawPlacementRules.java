@@ -24,7 +24,6 @@ import org.eu.zajc.juno.cards.impl.UnoDrawCard;
 import org.eu.zajc.juno.hands.UnoHand;
 import org.eu.zajc.juno.rules.pack.UnoRulePack;
 import org.eu.zajc.juno.rules.types.UnoCardPlacementRule;
-import org.eu.zajc.juno.utils.UnoUtils;
 
 /**
  * Placement rules for {@link UnoDrawCard}.
@@ -74,7 +73,7 @@ public class DrawPlacementRules {
 		public PlacementClearance canBePlaced(UnoCard target, UnoCard card, UnoHand hand) {
 			if (card instanceof UnoDrawCard && target.getOriginalColor() != WILD
 				&& ((UnoDrawCard) card).getAmount() == 4
-				&& !UnoUtils.getColorCards(target.getOriginalColor(), hand.getCards()).isEmpty())
+				&& hand.getColorCount(target.getOriginalColor()) != 0)
 				return PROHIBITED;
 			// Prohibits the placement of the wild draw four if the hand possesses a card that
 			// has the same color as the target (assumed to be the top of the discard pile) card.
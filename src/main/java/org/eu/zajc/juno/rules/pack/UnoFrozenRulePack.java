@@ -0,0 +1,108 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.rules.pack;
+
+import java.util.*;
+
+import javax.annotation.*;
+
+import org.eu.zajc.juno.cards.UnoCard;
+import org.eu.zajc.juno.game.UnoGame;
+import org.eu.zajc.juno.hands.UnoHand;
+import org.eu.zajc.juno.rules.UnoRule;
+import org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules.UnoHouseRule;
+import org.eu.zajc.juno.rules.types.*;
+import org.eu.zajc.juno.utils.UnoRuleUtils;
+
+/**
+ * An immutable {@link UnoRulePack}, created with {@link UnoRulePack#freeze()}. Its
+ * typed rule views ({@link #getPlacementRules()}, {@link #getFlowRules()} and
+ * {@link #getFinishRules()}) and its {@link #getHouseRules()} are computed once and
+ * cached, as is its compiled {@link UnoPlacementEngine}, which is picked up by
+ * {@link UnoRuleUtils#canPlaceCard(UnoCard, UnoCard, UnoRulePack, UnoHand)}.
+ * This avoids filtering the rules on every turn and placement check, and makes it
+ * safe to share a single instance between any amount of concurrent
+ * {@link UnoGame}s.<br>
+ * Methods that combine or resolve packs, such as
+ * {@link #addPacks(UnoRulePack...)}, still return regular mutable
+ * {@link UnoRulePack}s.
+ *
+ * @author Marko Zajc
+ */
+public final class UnoFrozenRulePack extends UnoRulePack {
+
+	@Nonnull private final List<UnoCardPlacementRule> placementRules;
+	@Nonnull private final List<UnoGameFlowRule> flowRules;
+	@Nonnull private final List<UnoGameFlowRule> finishRules;
+	@Nonnull private final UnoPlacementEngine placementEngine;
+	@Nonnull private final Set<UnoHouseRule> houseRules;
+
+	@SuppressWarnings("null")
+	UnoFrozenRulePack(@Nonnull List<UnoRule> rules) {
+		super(rules, true);
+		this.placementRules = List.copyOf(super.getPlacementRules());
+		this.flowRules = List.copyOf(super.getFlowRules());
+		this.finishRules = List.copyOf(super.getFinishRules());
+		this.placementEngine = UnoPlacementEngine.compile(getRules());
+		this.houseRules = findHouseRules(getRules());
+	}
+
+	/**
+	 * @return this {@link UnoRulePack}'s rules as an unmodifiable {@link List}
+	 */
+	@Override
+	public List<UnoRule> getRules() {
+		return super.getRules();
+	}
+
+	@Override
+	public List<UnoCardPlacementRule> getPlacementRules() {
+		return this.placementRules;
+	}
+
+	@Override
+	public List<UnoGameFlowRule> getFlowRules() {
+		return this.flowRules;
+	}
+
+	@Override
+	public List<UnoGameFlowRule> getFinishRules() {
+		return this.finishRules;
+	}
+
+	@Override
+	public Set<UnoHouseRule> getHouseRules() {
+		return this.houseRules;
+	}
+
+	/**
+	 * @return the {@link UnoPlacementEngine} compiled from this {@link UnoRulePack}
+	 */
+	@Nonnull
+	public UnoPlacementEngine getPlacementEngine() {
+		return this.placementEngine;
+	}
+
+	/**
+	 * @return this {@link UnoFrozenRulePack}, as it's already frozen
+	 */
+	@Override
+	public UnoFrozenRulePack freeze() {
+		return this;
+	}
+
+}
@@ -0,0 +1,418 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.rules.pack;
+
+import static org.eu.zajc.juno.cards.UnoCardColor.WILD;
+import static org.eu.zajc.juno.rules.types.UnoCardPlacementRule.PlacementClearance.*;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.*;
+
+import org.eu.zajc.juno.cards.*;
+import org.eu.zajc.juno.cards.impl.*;
+import org.eu.zajc.juno.decks.UnoDeck;
+import org.eu.zajc.juno.hands.UnoHand;
+import org.eu.zajc.juno.rules.UnoRule;
+import org.eu.zajc.juno.rules.impl.placement.ActionPlacementRules.ActionPlacementRule;
+import org.eu.zajc.juno.rules.impl.placement.ColorPlacementRules.*;
+import org.eu.zajc.juno.rules.impl.placement.DrawPlacementRules.*;
+import org.eu.zajc.juno.rules.impl.placement.NumericPlacementRules.NumericPlacementRule;
+import org.eu.zajc.juno.rules.pack.impl.house.UnoProgressiveRulePack;
+import org.eu.zajc.juno.rules.types.UnoCardPlacementRule;
+import org.eu.zajc.juno.rules.types.UnoCardPlacementRule.PlacementClearance;
+import org.eu.zajc.juno.utils.UnoRuleUtils;
+
+/**
+ * A {@link UnoRulePack}'s {@link UnoCardPlacementRule}s, compiled for fast placement
+ * checks. Rules that only look at the type, color and value of both cards (the
+ * official color, numeric, action and draw amount placement rules) are evaluated
+ * once for every pair of built-in {@link UnoCard}s when the engine is compiled, and
+ * their combined {@link PlacementClearance} is stored in a lookup table. All other
+ * rules, such as the ones that depend on the {@link UnoHand} or whether a card is
+ * open, are still evaluated for every check, as are all rules for {@link UnoCard}s
+ * that aren't of a built-in type.<br>
+ * The results of {@link #canPlaceCard(UnoCard, UnoCard, UnoHand)} are identical to
+ * those of {@link UnoRuleUtils#canPlaceCard(UnoCard, UnoCard, UnoRulePack, UnoHand)}
+ * with the {@link UnoRulePack} the engine was compiled from. The engine is immutable
+ * and does not reflect later changes to that {@link UnoRulePack}.<br>
+ * If all of its other rules are known to depend on nothing more than whether the
+ * target card is open and whether the hand holds a card of the target's color, the
+ * engine can also be compiled further into a {@link UnoPlacementMatrix} for a
+ * {@link UnoCardTable} with {@link #getMatrix(UnoCardTable)}.
+ *
+ * @author Marko Zajc
+ */
+public final class UnoPlacementEngine {
+
+	private static final byte TABLE_NEUTRAL = 0;
+	private static final byte TABLE_ALLOWED = 1;
+	private static final byte TABLE_PROHIBITED = 2;
+
+	private static final int COLORS = 4;
+	private static final int NUMBERS = 10;
+	private static final int COLOR_STATES = COLORS + COLORS + 1;
+	// The four regular colors, followed by the wild color with each of the four masks
+	// and the wild color without a mask
+
+	private static final int SKIP_KEYS = COLORS * NUMBERS;
+	private static final int REVERSE_KEYS = SKIP_KEYS + COLOR_STATES;
+	private static final int WILD_KEYS = REVERSE_KEYS + COLOR_STATES;
+	private static final int DRAW_TWO_KEYS = WILD_KEYS + COLOR_STATES;
+	private static final int DRAW_FOUR_KEYS = DRAW_TWO_KEYS + COLOR_STATES;
+	static final int KEYS = DRAW_FOUR_KEYS + COLOR_STATES;
+
+	@Nonnull private static final UnoCard[] PROTOTYPES = createPrototypes();
+
+	@Nonnull private final byte[] table;
+	@Nonnull private final UnoCardPlacementRule[] staticRules;
+	@Nonnull private final UnoCardPlacementRule[] dynamicRules;
+	private final boolean matrixCompatible;
+	@Nonnull private final Map<UnoPlacementMatrix.Layout, UnoPlacementMatrix> matrices = new ConcurrentHashMap<>();
+
+	private UnoPlacementEngine(@Nonnull byte[] table, @Nonnull UnoCardPlacementRule[] staticRules,
+							   @Nonnull UnoCardPlacementRule[] dynamicRules) {
+		this.table = table;
+		this.staticRules = staticRules;
+		this.dynamicRules = dynamicRules;
+		this.matrixCompatible = Arrays.stream(dynamicRules).allMatch(UnoPlacementEngine::isStateRule);
+	}
+
+	/**
+	 * Compiles the {@link UnoCardPlacementRule}s of a {@link UnoRulePack} into a
+	 * {@link UnoPlacementEngine}.
+	 *
+	 * @param rules
+	 *            the {@link UnoRulePack} to compile
+	 *
+	 * @return the compiled {@link UnoPlacementEngine}
+	 */
+	@Nonnull
+	public static UnoPlacementEngine compile(@Nonnull UnoRulePack rules) {
+		return compile(rules.getRules());
+	}
+
+	/**
+	 * Compiles the {@link UnoCardPlacementRule}s from a {@link Collection} of
+	 * {@link UnoRule}s into a {@link UnoPlacementEngine}. Other kinds of
+	 * {@link UnoRule}s are ignored.
+	 *
+	 * @param rules
+	 *            the {@link UnoRule}s to compile
+	 *
+	 * @return the compiled {@link UnoPlacementEngine}
+	 */
+	@Nonnull
+	public static UnoPlacementEngine compile(@Nonnull Collection<UnoRule> rules) {
+		List<UnoCardPlacementRule> staticRules = new ArrayList<>();
+		List<UnoCardPlacementRule> dynamicRules = new ArrayList<>();
+		for (var rule : rules) {
+			if (!(rule instanceof UnoCardPlacementRule))
+				continue;
+
+			if (isStatic(rule))
+				staticRules.add((UnoCardPlacementRule) rule);
+			else
+				dynamicRules.add((UnoCardPlacementRule) rule);
+		}
+
+		var table = new byte[KEYS * KEYS];
+		var hand = new UnoHand();
+		// None of the static rules look at the hand
+		for (int target = 0; target < KEYS; target++) {
+			for (int card = 0; card < KEYS; card++) {
+				var targetPrototype = PROTOTYPES[target];
+				var cardPrototype = PROTOTYPES[card];
+				if (targetPrototype != null && cardPrototype != null)
+					table[target * KEYS + card] = evaluate(staticRules, targetPrototype, cardPrototype, hand);
+			}
+		}
+
+		return new UnoPlacementEngine(table, staticRules.toArray(new UnoCardPlacementRule[0]),
+									  dynamicRules.toArray(new UnoCardPlacementRule[0]));
+	}
+
+	private static boolean isStatic(@Nonnull UnoRule rule) {
+		var type = rule.getClass();
+		return type == ColorPlacementRule.class || type == WildColorPlacementRule.class
+			|| type == NumericPlacementRule.class || type == ActionPlacementRule.class
+			|| type == DrawAmountPlacementRule.class;
+		// Exact matches only, a subclass might as well look at the hand
+	}
+
+	private static boolean isStateRule(@Nonnull UnoRule rule) {
+		var type = rule.getClass();
+		return type == OpenDrawCardPlacementRule.class || type == UnoProgressiveRulePack.PlacementRule.class
+			|| type == DrawFourHitchPlacementRule.class;
+		// Rules that only depend on whether the target is open and whether the hand holds
+		// a card of the target's color (besides the cards themselves)
+	}
+
+	private static byte evaluate(@Nonnull List<UnoCardPlacementRule> rules, @Nonnull UnoCard target,
+								 @Nonnull UnoCard card, @Nonnull UnoHand hand) {
+		byte result = TABLE_NEUTRAL;
+		for (var rule : rules) {
+			var clearance = rule.canBePlaced(target, card, hand);
+			if (clearance == PROHIBITED)
+				return TABLE_PROHIBITED;
+			else if (clearance == ALLOWED)
+				result = TABLE_ALLOWED;
+		}
+		return result;
+	}
+
+	/**
+	 * Determines whether a {@link UnoCard} can be placed on top of the the
+	 * {@code target} {@link UnoCard}.
+	 *
+	 * @param target
+	 *            the target (top of the discard) {@link UnoCard}
+	 * @param card
+	 *            the {@link UnoCard} to dry-run placement for
+	 * @param hand
+	 *            the current {@link UnoHand}
+	 *
+	 * @return {@code true} if the card can be placed on top of the {@code target}
+	 *         {@link UnoCard}, meaning at least one rule returns
+	 *         {@link PlacementClearance#ALLOWED} and none return
+	 *         {@link PlacementClearance#PROHIBITED}
+	 *
+	 * @see UnoRuleUtils#canPlaceCard(UnoCard, UnoCard, UnoRulePack, UnoHand)
+	 */
+	public boolean canPlaceCard(@Nonnull UnoCard target, @Nonnull UnoCard card, @Nonnull UnoHand hand) {
+		boolean allowed;
+		int targetKey = keyOf(target);
+		int cardKey = keyOf(card);
+		if (targetKey >= 0 && cardKey >= 0) {
+			byte result = this.table[targetKey * KEYS + cardKey];
+			if (result == TABLE_PROHIBITED)
+				return false;
+			allowed = result == TABLE_ALLOWED;
+
+		} else {
+			allowed = false;
+			for (var rule : this.staticRules) {
+				var clearance = rule.canBePlaced(target, card, hand);
+				if (clearance == PROHIBITED)
+					return false;
+				else if (clearance == ALLOWED)
+					allowed = true;
+			}
+		}
+		// Looks up the static rules or evaluates them if either card isn't a built-in one
+
+		for (var rule : this.dynamicRules) {
+			var clearance = rule.canBePlaced(target, card, hand);
+			if (clearance == PROHIBITED)
+				return false;
+			else if (clearance == ALLOWED)
+				allowed = true;
+		}
+
+		return allowed;
+	}
+
+	/**
+	 * Determines which {@link UnoCard} from a {@link Collection} can be placed on top of
+	 * the {@code target} {@link UnoCard}.
+	 *
+	 * @param target
+	 *            the target (top of the discard) {@link UnoCard}
+	 * @param cards
+	 *            {@link Collection} of {@link UnoCard}s to dry-run placement for
+	 * @param hand
+	 *            the current {@link UnoHand}
+	 *
+	 * @return a {@link List} of {@link UnoCard}s that can be placed on top of the
+	 *         {@code target} {@link UnoCard}
+	 *
+	 * @see UnoRuleUtils#getPlaceableCards(UnoCard, Collection, UnoRulePack, UnoHand)
+	 */
+	@Nonnull
+	public List<UnoCard> getPlaceableCards(@Nonnull UnoCard target, @Nonnull Collection<UnoCard> cards,
+										   @Nonnull UnoHand hand) {
+		List<UnoCard> placeable = new ArrayList<>(cards.size());
+		for (var card : cards) {
+			if (canPlaceCard(target, card, hand))
+				placeable.add(card);
+		}
+		return placeable;
+	}
+
+	/**
+	 * Returns the {@link UnoPlacementMatrix} of this engine for a {@link UnoCardTable}.
+	 * Matrices are compiled once for each distinct layout of card types (so all tables
+	 * created from the same {@link UnoDeck} share one) and cached.
+	 *
+	 * @param cardTable
+	 *            the {@link UnoCardTable}
+	 *
+	 * @return the {@link UnoPlacementMatrix}, or {@code null} if the engine has rules
+	 *         whose results can't be precomputed or the table holds
+	 *         {@link UnoCard}s that aren't of a built-in type
+	 */
+	@Nullable
+	public UnoPlacementMatrix getMatrix(@Nonnull UnoCardTable cardTable) {
+		if (!this.matrixCompatible)
+			return null;
+
+		var keys = new int[cardTable.getSize()];
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = keyOf(cardTable.getDefinition(i), false);
+			if (keys[i] < 0)
+				return null;
+		}
+
+		return this.matrices.computeIfAbsent(new UnoPlacementMatrix.Layout(keys), this::compileMatrix);
+	}
+
+	@Nonnull
+	private UnoPlacementMatrix compileMatrix(@Nonnull UnoPlacementMatrix.Layout layout) {
+		var keys = layout.getKeys();
+		var targets = createPrototypes();
+		// Fresh prototypes, as targets are marked open
+		var emptyHand = new UnoHand();
+		var colorHands = new UnoHand[UnoCardColor.values().length];
+		for (var color : UnoCardColor.values()) {
+			colorHands[color.ordinal()] = new UnoHand();
+			colorHands[color.ordinal()].getCards()
+				.add(color == WILD ? new UnoWildCard() : new UnoNumericCard(color, 0));
+		}
+		// Hands with and without a card of each color, for the "hitch" rule
+
+		var matrix = new UnoPlacementMatrix(this, keys.length);
+		for (int key = 0; key < KEYS; key++) {
+			var target = targets[key];
+			if (target == null)
+				continue;
+
+			for (int open = 0; open < 2; open++) {
+				if (open == 1)
+					target.markOpen();
+
+				for (int hitch = 0; hitch < 2; hitch++) {
+					var hand = hitch == 1 ? colorHands[target.getOriginalColor().ordinal()] : emptyHand;
+					int row = UnoPlacementMatrix.rowOf(key, open == 1, hitch == 1);
+					for (int id = 0; id < keys.length; id++) {
+						if (canPlaceCard(target, PROTOTYPES[keys[id]], hand))
+							matrix.set(row, id);
+					}
+				}
+			}
+		}
+
+		return matrix;
+	}
+
+	/**
+	 * @return the {@link UnoCardPlacementRule}s that are looked up in the table for
+	 *         built-in {@link UnoCard}s
+	 */
+	@Nonnull
+	@SuppressWarnings("null")
+	public List<UnoCardPlacementRule> getStaticRules() {
+		return List.of(this.staticRules);
+	}
+
+	/**
+	 * @return the {@link UnoCardPlacementRule}s that are evaluated on every check
+	 */
+	@Nonnull
+	@SuppressWarnings("null")
+	public List<UnoCardPlacementRule> getDynamicRules() {
+		return List.of(this.dynamicRules);
+	}
+
+	private static int colorStateOf(@Nonnull UnoCard card, boolean masked) {
+		var original = card.getOriginalColor();
+		if (original != WILD)
+			return original.ordinal();
+
+		var color = masked ? card.getColor() : WILD;
+		if (color == WILD)
+			return COLORS + COLORS;
+		// No mask
+
+		return COLORS + color.ordinal();
+	}
+
+	private static int keyOf(@Nonnull UnoCard card) {
+		return keyOf(card, true);
+	}
+
+	static int keyOf(@Nonnull UnoCard card, boolean masked) {
+		var type = card.getClass();
+		if (type == UnoNumericCard.class)
+			return card.getOriginalColor().ordinal() * NUMBERS + ((UnoNumericCard) card).getNumber();
+
+		else if (type == UnoSkipCard.class)
+			return SKIP_KEYS + colorStateOf(card, masked);
+
+		else if (type == UnoReverseCard.class)
+			return REVERSE_KEYS + colorStateOf(card, masked);
+
+		else if (type == UnoWildCard.class)
+			return WILD_KEYS + colorStateOf(card, masked);
+
+		else if (type == UnoDrawCard.class) {
+			int amount = ((UnoDrawCard) card).getAmount();
+			boolean wild = card.getOriginalColor() == WILD;
+			if (amount == 2 && !wild)
+				return DRAW_TWO_KEYS + colorStateOf(card, masked);
+			else if (amount == 4 && wild)
+				return DRAW_FOUR_KEYS + colorStateOf(card, masked);
+		}
+
+		return -1;
+		// Subclasses and custom cards might carry additional state
+	}
+
+	@Nonnull
+	private static UnoCard[] createPrototypes() {
+		var prototypes = new UnoCard[KEYS];
+		var colors = UnoCardColor.values();
+		for (int color = 0; color < COLORS; color++) {
+			for (int number = 0; number < NUMBERS; number++)
+				prototypes[color * NUMBERS + number] = new UnoNumericCard(colors[color], number);
+
+			prototypes[SKIP_KEYS + color] = new UnoSkipCard(colors[color]);
+			prototypes[REVERSE_KEYS + color] = new UnoReverseCard(colors[color]);
+			prototypes[DRAW_TWO_KEYS + color] = new UnoDrawCard(colors[color]);
+		}
+		// Non-wild cards can't have a mask, and wild and draw four cards are always wild
+
+		for (int state = COLORS; state < COLOR_STATES; state++) {
+			var mask = state == COLORS + COLORS ? null : colors[state - COLORS];
+			prototypes[SKIP_KEYS + state] = masked(new UnoSkipCard(WILD), mask);
+			prototypes[REVERSE_KEYS + state] = masked(new UnoReverseCard(WILD), mask);
+			prototypes[WILD_KEYS + state] = masked(new UnoWildCard(), mask);
+			prototypes[DRAW_FOUR_KEYS + state] = masked(new UnoDrawCard(), mask);
+		}
+		// Wild cards with and without each of the masks
+
+		return prototypes;
+	}
+
+	@Nonnull
+	private static UnoCard masked(@Nonnull UnoCard card, @Nullable UnoCardColor mask) {
+		if (mask != null)
+			card.setColorMask(mask);
+		return card;
+	}
+
+}
@@ -0,0 +1,286 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.rules.pack;
+
+import java.util.*;
+
+import javax.annotation.*;
+
+import org.eu.zajc.juno.cards.*;
+import org.eu.zajc.juno.decks.impl.UnoStandardDeck;
+import org.eu.zajc.juno.hands.UnoHand;
+import org.eu.zajc.juno.rules.impl.placement.DrawPlacementRules.DrawFourHitchPlacementRule;
+
+/**
+ * A {@link UnoPlacementEngine} compiled for the {@link UnoCard}s of a
+ * {@link UnoCardTable} into a bit-matrix. Each row of the matrix belongs to a target
+ * card in a certain state - its type, color and color mask, whether it's open, and
+ * whether the hand holds a card of its color (which is what
+ * {@link DrawFourHitchPlacementRule} looks at) - and holds a bit for every
+ * {@link UnoCard} in the table, at the card's ID, that is set if the card can be
+ * placed on that target. Finding all placeable cards of a hand then only takes a
+ * bitwise AND of the hand's cards (as a bitset of IDs) with one row, which is two
+ * {@code long}s for the 108 cards of the {@link UnoStandardDeck}.<br>
+ * The columns describe {@link UnoCard}s without a color mask, as cards in a hand
+ * don't have one. A matrix is immutable and can be shared between all
+ * {@link UnoCardTable}s with the same layout of card types, and thus between
+ * threads.
+ *
+ * @author Marko Zajc
+ *
+ * @see UnoPlacementEngine#getMatrix(UnoCardTable)
+ */
+public final class UnoPlacementMatrix {
+
+	@Nonnull private final UnoPlacementEngine engine;
+	@Nonnegative private final int size;
+	@Nonnegative private final int words;
+	@Nonnull private final long[] rows;
+
+	static final class Layout {
+
+		@Nonnull private final int[] keys;
+		private final int hash;
+
+		Layout(@Nonnull int[] keys) {
+			this.keys = keys;
+			this.hash = Arrays.hashCode(keys);
+		}
+
+		@Nonnull
+		int[] getKeys() {
+			return this.keys;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof Layout && Arrays.equals(this.keys, ((Layout) obj).keys);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+
+	}
+	// The types of the cards in a table, ordered by their IDs
+
+	UnoPlacementMatrix(@Nonnull UnoPlacementEngine engine, @Nonnegative int size) {
+		this.engine = engine;
+		this.size = size;
+		this.words = getWords(size);
+		this.rows = new long[UnoPlacementEngine.KEYS * 4 * this.words];
+	}
+
+	static int rowOf(int key, boolean open, boolean hitch) {
+		return key << 2 | (open ? 2 : 0) | (hitch ? 1 : 0);
+	}
+
+	void set(int row, int id) {
+		this.rows[row * this.words + (id >>> 6)] |= 1L << id;
+	}
+
+	/**
+	 * Returns the amount of {@code long}s needed for a bitset of a given amount of
+	 * {@link UnoCard}s.
+	 *
+	 * @param cards
+	 *            the amount of {@link UnoCard}s
+	 *
+	 * @return the amount of {@code long}s
+	 */
+	@Nonnegative
+	public static int getWords(@Nonnegative int cards) {
+		return (cards + Long.SIZE - 1) / Long.SIZE;
+	}
+
+	/**
+	 * Finds the row of the matrix for a target card. The result is only valid as long as
+	 * the target's state and the hand's cards don't change.
+	 *
+	 * @param target
+	 *            the target (top of the discard) {@link UnoCard}
+	 * @param hand
+	 *            the {@link UnoHand} of the player placing cards
+	 *
+	 * @return the row, or {@code -1} if the target isn't of a built-in type, in which
+	 *         case placement must be checked with
+	 *         {@link UnoPlacementEngine#canPlaceCard(UnoCard, UnoCard, UnoHand)}
+	 */
+	public int getRow(@Nonnull UnoCard target, @Nonnull UnoHand hand) {
+		int key = UnoPlacementEngine.keyOf(target, true);
+		if (key < 0)
+			return -1;
+
+		return rowOf(key, target.isOpen(), hand.getColorCount(target.getOriginalColor()) != 0);
+	}
+
+	/**
+	 * Checks whether a {@link UnoCard} can be placed on the target of a row.
+	 *
+	 * @param row
+	 *            the row, as returned by {@link #getRow(UnoCard, UnoHand)}
+	 * @param id
+	 *            the ID of the {@link UnoCard} in its {@link UnoCardTable}
+	 *
+	 * @return whether the card can be placed
+	 */
+	public boolean canPlaceCard(@Nonnegative int row, @Nonnegative int id) {
+		return (this.rows[row * this.words + (id >>> 6)] & 1L << id) != 0;
+	}
+
+	/**
+	 * Finds the placeable {@link UnoCard}s among a bitset of them by ANDing it with a
+	 * row.
+	 *
+	 * @param row
+	 *            the row, as returned by {@link #getRow(UnoCard, UnoHand)}
+	 * @param cards
+	 *            the {@link UnoCard}s to check as a bitset of their IDs, at least
+	 *            {@link #getWords(int)} long
+	 * @param placeable
+	 *            the bitset to store the placeable {@link UnoCard}s in, at least
+	 *            {@link #getWords(int)} long. May be the same array as {@code cards}
+	 *
+	 * @return the amount of placeable {@link UnoCard}s
+	 */
+	@Nonnegative
+	public int getPlaceable(@Nonnegative int row, @Nonnull long[] cards, @Nonnull long[] placeable) {
+		int offset = row * this.words;
+		int count = 0;
+		for (int i = 0; i < this.words; i++) {
+			placeable[i] = cards[i] & this.rows[offset + i];
+			count += Long.bitCount(placeable[i]);
+		}
+		return count;
+	}
+
+	/**
+	 * Finds the placeable {@link UnoCard}s among a single word of a bitset of them. This
+	 * is {@link #getPlaceable(int, long[], long[])} one word at a time, for callers that
+	 * iterate the result without storing it.
+	 *
+	 * @param row
+	 *            the row, as returned by {@link #getRow(UnoCard, UnoHand)}
+	 * @param cards
+	 *            the {@link UnoCard}s to check as a bitset of their IDs
+	 * @param word
+	 *            the index of the word, less than {@link #getWords(int)}
+	 *
+	 * @return the word of the bitset of placeable {@link UnoCard}s
+	 */
+	public long getPlaceable(@Nonnegative int row, @Nonnull long[] cards, @Nonnegative int word) {
+		return cards[word] & this.rows[row * this.words + word];
+	}
+
+	/**
+	 * Determines which {@link UnoCard}s from a {@link List} can be placed on top of the
+	 * {@code target} {@link UnoCard}. Cards are looked up in the matrix by their IDs in
+	 * the given {@link UnoCardTable}; cards that aren't in it and cards with a color
+	 * mask are checked with the {@link UnoPlacementEngine} instead, as is everything if
+	 * the target isn't of a built-in type. If the {@link List} is the hand's own and
+	 * the hand keeps a bitset of its cards' IDs ({@link UnoHand#getCardIds(UnoCardTable)}),
+	 * all of them are looked up at once with
+	 * {@link #getPlaceable(int, long[], long[])}.
+	 *
+	 * @param cardTable
+	 *            the {@link UnoCardTable} the matrix was compiled for, or one with the
+	 *            same layout of card types
+	 * @param target
+	 *            the target (top of the discard) {@link UnoCard}
+	 * @param cards
+	 *            {@link List} of {@link UnoCard}s to dry-run placement for
+	 * @param hand
+	 *            the current {@link UnoHand}
+	 *
+	 * @return a {@link List} of {@link UnoCard}s that can be placed on top of the
+	 *         {@code target} {@link UnoCard}
+	 *
+	 * @see UnoPlacementEngine#getPlaceableCards(UnoCard, Collection, UnoHand)
+	 */
+	@Nonnull
+	public List<UnoCard> getPlaceableCards(@Nonnull UnoCardTable cardTable, @Nonnull UnoCard target,
+										   @Nonnull List<UnoCard> cards, @Nonnull UnoHand hand) {
+		int row = getRow(target, hand);
+		if (row < 0)
+			return this.engine.getPlaceableCards(target, cards, hand);
+
+		var ids = cards == hand.getCards() ? hand.getCardIds(cardTable) : null;
+		if (ids != null)
+			return getPlaceableCards(row, ids, cardTable, target, cards, hand);
+
+		List<UnoCard> placeable = new ArrayList<>(cards.size());
+		for (int i = 0; i < cards.size(); i++) {
+			var card = cards.get(i);
+			int id = cardTable.getId(card);
+			boolean canPlace;
+			if (id >= 0 && card.getColor() == card.getOriginalColor())
+				canPlace = canPlaceCard(row, id);
+			else
+				canPlace = this.engine.canPlaceCard(target, card, hand);
+			// Cards from outside of the table and ones with a color mask aren't in the matrix
+
+			if (canPlace)
+				placeable.add(card);
+		}
+
+		return placeable;
+	}
+
+	@Nonnull
+	private List<UnoCard> getPlaceableCards(int row, @Nonnull long[] ids, @Nonnull UnoCardTable cardTable,
+											@Nonnull UnoCard target, @Nonnull List<UnoCard> cards,
+											@Nonnull UnoHand hand) {
+		var bits = new long[this.words];
+		List<UnoCard> placeable = new ArrayList<>(getPlaceable(row, ids, bits));
+		for (int i = 0; i < cards.size(); i++) {
+			var card = cards.get(i);
+			boolean canPlace;
+			if (card.getColor() == card.getOriginalColor()) {
+				int id = cardTable.getId(card);
+				canPlace = (bits[id >>> 6] & 1L << id) != 0;
+			} else {
+				canPlace = this.engine.canPlaceCard(target, card, hand);
+			}
+			// All of the cards are in the table, but ones with a color mask aren't in the
+			// matrix
+
+			if (canPlace)
+				placeable.add(card);
+		}
+		// Goes through the hand to keep its order
+
+		return placeable;
+	}
+
+	/**
+	 * @return the amount of {@link UnoCard}s (columns) in this matrix
+	 */
+	@Nonnegative
+	public int getSize() {
+		return this.size;
+	}
+
+	/**
+	 * @return the {@link UnoPlacementEngine} this matrix was compiled from
+	 */
+	@Nonnull
+	public UnoPlacementEngine getEngine() {
+		return this.engine;
+	}
+
+}
@@ -17,24 +17,92 @@
 package org.eu.zajc.juno.rules.pack;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableSet;
 import static java.util.stream.Collectors.toList;
+import static org.eu.zajc.juno.utils.UnoRuleUtils.filterRuleKind;
 
 import java.util.*;
 
 import javax.annotation.*;
 
+import org.eu.zajc.juno.game.*;
+import org.eu.zajc.juno.jfr.UnoRuleConflictJfrEvent;
 import org.eu.zajc.juno.rules.*;
 import org.eu.zajc.juno.rules.UnoRule.ConflictResolution;
+import org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules.UnoHouseRule;
+import org.eu.zajc.juno.rules.types.*;
 
 /**
  * A pack of {@link UnoRule}s. Multiple {@link UnoRulePack}s can be combined into one
- * using {@link #ofPacks(Collection)}.
+ * using {@link #ofPacks(Collection)}. A {@link UnoRulePack}'s list of rules is
+ * mutable - use {@link #freeze()} to get an immutable copy that is faster to play
+ * with.
  *
  * @author Marko Zajc
  */
 public class UnoRulePack {
 
 	@Nonnull private final List<UnoRule> rules;
+	@Nullable private Views views;
+
+	private static final class RuleList extends AbstractList<UnoRule> implements RandomAccess {
+
+		@Nonnull private final List<UnoRule> rules;
+		private int version;
+
+		RuleList(@Nonnull Collection<UnoRule> rules) {
+			this.rules = new ArrayList<>(rules);
+		}
+
+		@Override
+		public UnoRule get(int index) {
+			return this.rules.get(index);
+		}
+
+		@Override
+		public int size() {
+			return this.rules.size();
+		}
+
+		@Override
+		public UnoRule set(int index, UnoRule element) {
+			var previous = this.rules.set(index, element);
+			this.version++;
+			return previous;
+		}
+
+		@Override
+		public void add(int index, UnoRule element) {
+			this.rules.add(index, element);
+			this.modCount++;
+			this.version++;
+		}
+
+		@Override
+		public UnoRule remove(int index) {
+			var removed = this.rules.remove(index);
+			this.modCount++;
+			this.version++;
+			return removed;
+		}
+
+	}
+	// A list that counts all changes, including the ones made through its views
+
+	private static final class Views {
+
+		private final int version;
+		@Nullable private List<UnoCardPlacementRule> placementRules;
+		@Nullable private List<UnoGameFlowRule> flowRules;
+		@Nullable private List<UnoGameFlowRule> finishRules;
+		@Nullable private Set<UnoHouseRule> houseRules;
+
+		Views(int version) {
+			this.version = version;
+		}
+
+	}
+	// Typed views of the rules, each computed when it's first needed
 
 	/**
 	 * Creates a new {@link UnoRulePack} from a {@link Collection} of {@link UnoRule}s.
@@ -43,7 +111,25 @@ public class UnoRulePack {
 	 *            the {@link UnoRule}s
 	 */
 	public UnoRulePack(@Nonnull Collection<UnoRule> rules) {
-		this.rules = new ArrayList<>(rules);
+		this.rules = new RuleList(rules);
+	}
+
+	/**
+	 * Creates a new {@link UnoRulePack} from a {@link List} of {@link UnoRule}s that
+	 * can optionally be unmodifiable. An unmodifiable {@link List} is only copied if
+	 * it isn't already unmodifiable (see {@link List#copyOf(Collection)}), so immutable
+	 * subclasses can share it instead of storing the rules twice. The version of an
+	 * unmodifiable {@link UnoRulePack} never changes.
+	 *
+	 * @param rules
+	 *            the {@link UnoRule}s
+	 * @param unmodifiable
+	 *            whether the {@link UnoRule}s should be kept in an unmodifiable
+	 *            {@link List}
+	 */
+	@SuppressWarnings("null")
+	protected UnoRulePack(@Nonnull List<UnoRule> rules, boolean unmodifiable) {
+		this.rules = unmodifiable ? List.copyOf(rules) : new RuleList(rules);
 	}
 
 	/**
@@ -95,6 +181,159 @@ public class UnoRulePack {
 		return this.rules;
 	}
 
+	/**
+	 * Returns the version of this {@link UnoRulePack}'s rules, which changes whenever
+	 * they're modified, including through views of {@link #getRules()}. Together with
+	 * the identity of the pack, this can be used to cache anything derived from the
+	 * rules, such as the result of {@link #freeze()}.
+	 *
+	 * @return the version of the rules
+	 */
+	public int getVersion() {
+		var list = this.rules;
+		return list instanceof RuleList ? ((RuleList) list).version : 0;
+	}
+
+	@Nonnull
+	private Views getViews() {
+		var cached = this.views;
+		int version = getVersion();
+		if (cached == null || cached.version != version) {
+			cached = new Views(version);
+			this.views = cached;
+		}
+
+		return cached;
+	}
+
+	/**
+	 * Returns this {@link UnoRulePack}'s {@link UnoCardPlacementRule}s. They are found
+	 * once and cached until the list of rules is changed.
+	 *
+	 * @return an unmodifiable {@link List} of this {@link UnoRulePack}'s
+	 *         {@link UnoCardPlacementRule}s
+	 */
+	@Nonnull
+	@SuppressWarnings("null")
+	public List<UnoCardPlacementRule> getPlacementRules() {
+		var views = getViews();
+		var placementRules = views.placementRules;
+		if (placementRules == null) {
+			placementRules = List.copyOf(filterRuleKind(this.rules, UnoCardPlacementRule.class));
+			views.placementRules = placementRules;
+		}
+
+		return placementRules;
+	}
+
+	/**
+	 * Returns this {@link UnoRulePack}'s {@link UnoGameFlowRule}s. They are found once
+	 * and cached until the list of rules is changed, so this is cheap enough to be
+	 * called on every turn.
+	 *
+	 * @return an unmodifiable {@link List} of this {@link UnoRulePack}'s
+	 *         {@link UnoGameFlowRule}s
+	 */
+	@Nonnull
+	@SuppressWarnings("null")
+	public List<UnoGameFlowRule> getFlowRules() {
+		var views = getViews();
+		var flowRules = views.flowRules;
+		if (flowRules == null) {
+			flowRules = List.copyOf(filterRuleKind(this.rules, UnoGameFlowRule.class));
+			views.flowRules = flowRules;
+		}
+
+		return flowRules;
+	}
+
+	/**
+	 * Returns this {@link UnoRulePack}'s {@link UnoGameFlowRule}s that override
+	 * {@link UnoGameFlowRule#finishPhase(UnoWinner, UnoGame)}. The rest of the
+	 * {@link UnoGameFlowRule}s can't object the winner, so they can be skipped when the
+	 * game ends. Like {@link #getFlowRules()}, they are cached until the list of rules
+	 * is changed.
+	 *
+	 * @return an unmodifiable {@link List} of this {@link UnoRulePack}'s
+	 *         {@link UnoGameFlowRule}s with a finish phase
+	 */
+	@Nonnull
+	@SuppressWarnings("null")
+	public List<UnoGameFlowRule> getFinishRules() {
+		var views = getViews();
+		var finishRules = views.finishRules;
+		if (finishRules == null) {
+			var found = new ArrayList<UnoGameFlowRule>();
+			for (var rule : getFlowRules()) {
+				if (hasFinishPhase(rule))
+					found.add(rule);
+			}
+			finishRules = List.copyOf(found);
+			views.finishRules = finishRules;
+		}
+
+		return finishRules;
+	}
+
+	/**
+	 * Returns the {@link UnoHouseRule}s whose {@link UnoRule}s are all included in this
+	 * {@link UnoRulePack}. They are found once and cached until the list of rules is
+	 * changed, so this is cheap enough to be called on every decision. The house rule
+	 * packs themselves are assumed not to change.
+	 *
+	 * @return an unmodifiable {@link Set} (backed by an {@link EnumSet}) of the
+	 *         {@link UnoHouseRule}s included in this pack
+	 */
+	@Nonnull
+	public Set<UnoHouseRule> getHouseRules() {
+		var views = getViews();
+		var houseRules = views.houseRules;
+		if (houseRules == null) {
+			houseRules = findHouseRules(this.rules);
+			views.houseRules = houseRules;
+		}
+
+		return houseRules;
+	}
+
+	@Nonnull
+	@SuppressWarnings("null")
+	static Set<UnoHouseRule> findHouseRules(@Nonnull List<UnoRule> rules) {
+		var found = EnumSet.noneOf(UnoHouseRule.class);
+		for (var houseRule : UnoHouseRule.values()) {
+			if (rules.containsAll(houseRule.getPack().getRules()))
+				found.add(houseRule);
+		}
+
+		return unmodifiableSet(found);
+	}
+
+	private static boolean hasFinishPhase(@Nonnull UnoGameFlowRule rule) {
+		try {
+			return rule.getClass()
+				.getMethod("finishPhase", UnoWinner.class, UnoGame.class)
+				.getDeclaringClass() != UnoGameFlowRule.class;
+		} catch (NoSuchMethodException e) {
+			return true;
+			// Shouldn't happen, but it's safer to keep the rule
+		}
+	}
+
+	/**
+	 * Creates an immutable copy of this {@link UnoRulePack} that caches its typed rule
+	 * views and its compiled {@link UnoPlacementEngine}. Frozen {@link UnoRulePack}s can
+	 * be safely shared between any amount of concurrent {@link UnoGame}s.
+	 *
+	 * @return the frozen {@link UnoRulePack}
+	 *
+	 * @see UnoFrozenRulePack
+	 */
+	@Nonnull
+	@CheckReturnValue
+	public UnoFrozenRulePack freeze() {
+		return new UnoFrozenRulePack(getRules());
+	}
+
 	/**
 	 * Creates a new {@link UnoRulePack} that includes this {@link UnoRulePack} and a
 	 * {@link Collection} of additional {@link UnoRulePack}.
@@ -160,6 +399,7 @@ public class UnoRulePack {
 
 				if (conflict != null) {
 					// Proceeds if conflicts have been found
+					UnoRuleConflictJfrEvent.commit(rule, checkRule, conflict);
 					switch (conflict) {
 						case FAIL:
 							throw new UnoRuleConflictException(rule, checkRule);
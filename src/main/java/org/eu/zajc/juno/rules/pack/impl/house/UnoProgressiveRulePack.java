@@ -17,7 +17,6 @@
 package org.eu.zajc.juno.rules.pack.impl.house;
 
 import static org.eu.zajc.juno.utils.UnoGameUtils.canPlaceCard;
-import static org.eu.zajc.juno.utils.UnoRuleUtils.filterRuleKind;
 
 import java.util.*;
 
@@ -26,7 +25,9 @@ import javax.annotation.Nonnull;
 import org.eu.zajc.juno.cards.UnoCard;
 import org.eu.zajc.juno.cards.impl.UnoDrawCard;
 import org.eu.zajc.juno.game.UnoGame;
+import org.eu.zajc.juno.game.event.UnoCardsDrawnEvent;
 import org.eu.zajc.juno.hands.UnoHand;
+import org.eu.zajc.juno.jfr.UnoCardsDrawnJfrEvent;
 import org.eu.zajc.juno.piles.impl.UnoDiscardPile;
 import org.eu.zajc.juno.players.UnoPlayer;
 import org.eu.zajc.juno.rules.UnoRule;
@@ -35,7 +36,6 @@ import org.eu.zajc.juno.rules.impl.placement.DrawPlacementRules.OpenDrawCardPlac
 import org.eu.zajc.juno.rules.pack.UnoRulePack;
 import org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules;
 import org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules.UnoHouseRule;
-import org.eu.zajc.juno.rules.types.UnoGameFlowRule;
 import org.eu.zajc.juno.rules.types.flow.*;
 
 /**
@@ -173,11 +173,9 @@ public class UnoProgressiveRulePack {
 			}
 
 			player.getHand().draw(game, amount);
+			UnoCardsDrawnJfrEvent.commit(player, amount, cards.size());
 		}
 
-		private static final String DRAW_CARDS = "%s draws %s cards from %s %s%s.";
-		private static final String DRAW_CARD = "%s draws a card.";
-
 		@SuppressWarnings("null")
 		private static final void drawDeterminedCards(@Nonnull UnoGame game, @Nonnull UnoPlayer player) {
 			List<UnoDrawCard> consecutive = getConsecutive(game.getDiscard());
@@ -187,19 +185,20 @@ public class UnoProgressiveRulePack {
 				drawAll(consecutive, game, player);
 				// Draw all cards to the hand
 
-				game.onEvent(DRAW_CARDS, player.getName(), consecutive.size() * consecutive.get(0).getAmount(),
-							 consecutive.size(), consecutive.get(0).toString(), consecutive.size() == 1 ? "" : "s");
+				if (game.isObserved())
+					game.fireEvent(new UnoCardsDrawnEvent(player, consecutive.size() * consecutive.get(0).getAmount(),
+														  consecutive.get(0), consecutive.size()));
 
 			} else {
 				// If the top card is not a draw card
 
 				UnoCard drawn = player.getHand().draw(game, 1).get(0);
-				game.onEvent(DRAW_CARD, player.getName());
+				if (game.isObserved())
+					game.fireEvent(new UnoCardsDrawnEvent(player));
 				// Draw a single card to the hand
 
 				if (canPlaceCard(player, game, drawn) && player.shouldPlayDrawnCard(game, drawn)) {
-					filterRuleKind(game.getRules().getRules(), UnoGameFlowRule.class)
-						.forEach(gfr -> gfr.decisionPhase(player, game, drawn));
+					game.getRules().getFlowRules().forEach(gfr -> gfr.decisionPhase(player, game, drawn));
 				}
 				// Allow the player to place the card (if possible)
 			}
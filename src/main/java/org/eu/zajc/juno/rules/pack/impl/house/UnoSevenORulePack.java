@@ -23,6 +23,7 @@ import javax.annotation.Nonnull;
 import org.eu.zajc.juno.cards.UnoCard;
 import org.eu.zajc.juno.cards.impl.UnoNumericCard;
 import org.eu.zajc.juno.game.UnoGame;
+import org.eu.zajc.juno.game.event.UnoHandsSwappedEvent;
 import org.eu.zajc.juno.hands.UnoHand;
 import org.eu.zajc.juno.players.UnoPlayer;
 import org.eu.zajc.juno.rules.pack.UnoRulePack;
@@ -85,7 +86,8 @@ public class UnoSevenORulePack {
 				foe.setHand(playerHand);
 				// Swap hands
 
-				game.onEvent("Players swap hands.");
+				if (game.isObserved())
+					game.fireEvent(new UnoHandsSwappedEvent(player, foe));
 			}
 
 			return NOTHING;
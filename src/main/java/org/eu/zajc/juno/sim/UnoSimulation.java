@@ -0,0 +1,194 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.sim;
+
+import static java.util.Collections.unmodifiableList;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import javax.annotation.*;
+
+import org.eu.zajc.juno.decks.UnoDeck;
+import org.eu.zajc.juno.game.*;
+import org.eu.zajc.juno.players.UnoPlayer;
+import org.eu.zajc.juno.players.impl.UnoStrategicPlayer;
+import org.eu.zajc.juno.rules.pack.UnoRulePack;
+
+/**
+ * A headless runner that plays a batch of games between automated {@link UnoPlayer}s
+ * (such as {@link UnoStrategicPlayer}) across multiple threads and aggregates the
+ * outcomes into a {@link UnoSimulationResult}.<br>
+ * Each worker thread creates its own set of {@link UnoPlayer}s from the supplied
+ * factories and one {@link UnoControlledGame} per rotation of their seats, which it
+ * then replays for as long as there are games left to play. The seats are rotated
+ * by the index of each game, so every seat starts the same share of games and the
+ * first mover's advantage doesn't skew the results. Player factories must thus produce
+ * {@link UnoPlayer}s that can be reused across consecutive games, and may be called
+ * from multiple threads at once. Events are discarded.
+ *
+ * @author Marko Zajc
+ */
+public class UnoSimulation {
+
+	@Nonnull private final UnoDeck deck;
+	@Nonnegative private final int cardAmount;
+	@Nonnull private final UnoRulePack rules;
+	@Nonnull private final List<Supplier<? extends UnoPlayer>> players;
+
+	/**
+	 * Creates a new {@link UnoSimulation}.
+	 *
+	 * @param deck
+	 *            the {@link UnoDeck} to use
+	 * @param cardAmount
+	 *            the amount of cards each player starts with
+	 * @param rules
+	 *            the {@link UnoRulePack} to use. A frozen copy of it is shared between
+	 *            all threads
+	 * @param players
+	 *            factories for the {@link UnoPlayer}s of each seat, in turn order.
+	 *            Must have at least 2 elements
+	 */
+	public UnoSimulation(@Nonnull UnoDeck deck, @Nonnegative int cardAmount, @Nonnull UnoRulePack rules,
+						 @Nonnull List<Supplier<? extends UnoPlayer>> players) {
+		if (players.size() < 2)
+			throw new IndexOutOfBoundsException("Need at least two players for a game of UNO!");
+		this.deck = deck;
+		this.cardAmount = cardAmount;
+		this.rules = rules.freeze();
+		this.players = unmodifiableList(new ArrayList<>(players));
+	}
+
+	/**
+	 * Plays a batch of games using one thread per available processor.
+	 *
+	 * @param games
+	 *            the amount of games to play
+	 *
+	 * @return the aggregated {@link UnoSimulationResult}
+	 */
+	@Nonnull
+	public UnoSimulationResult run(@Nonnegative long games) {
+		return run(games, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Plays a batch of games on a dedicated thread pool.
+	 *
+	 * @param games
+	 *            the amount of games to play
+	 * @param parallelism
+	 *            the amount of threads to play the games on
+	 *
+	 * @return the aggregated {@link UnoSimulationResult}
+	 */
+	@Nonnull
+	public UnoSimulationResult run(@Nonnegative long games, @Nonnegative int parallelism) {
+		if (parallelism < 1)
+			throw new IllegalArgumentException("Parallelism must be at least 1!");
+
+		var executor = Executors.newFixedThreadPool(parallelism, r -> {
+			var thread = new Thread(r, "juno-simulation");
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			return run(games, parallelism, executor);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Plays a batch of games on the given {@link ExecutorService}. The executor is not
+	 * shut down afterwards.
+	 *
+	 * @param games
+	 *            the amount of games to play
+	 * @param workers
+	 *            the amount of worker tasks to submit to the executor. This should
+	 *            usually match the executor's parallelism
+	 * @param executor
+	 *            the {@link ExecutorService} to play the games on
+	 *
+	 * @return the aggregated {@link UnoSimulationResult}
+	 */
+	@Nonnull
+	public UnoSimulationResult run(@Nonnegative long games, @Nonnegative int workers,
+								   @Nonnull ExecutorService executor) {
+		if (games < 0)
+			throw new IllegalArgumentException("Can't play less than 0 games!");
+		if (workers < 1)
+			throw new IllegalArgumentException("Need at least one worker!");
+
+		var remaining = new AtomicLong(games);
+		var tasks = new ArrayList<Callable<UnoSimulationResult>>(workers);
+		for (int i = 0; i < workers; i++)
+			tasks.add(() -> work(remaining));
+
+		long start = System.nanoTime();
+		var result = new UnoSimulationResult(this.players.size());
+		try {
+			for (var future : executor.invokeAll(tasks))
+				result.merge(future.get());
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("The simulation was interrupted", e);
+
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			throw new IllegalStateException("A simulated game has failed", e.getCause());
+		}
+		result.setElapsedNanos(System.nanoTime() - start);
+
+		return result;
+	}
+
+	@Nonnull
+	private UnoSimulationResult work(@Nonnull AtomicLong remaining) {
+		var seats = new UnoPlayer[this.players.size()];
+		for (int i = 0; i < seats.length; i++)
+			seats[i] = this.players.get(i).get();
+
+		var games = new UnoSimulationGame[seats.length];
+		for (int rotation = 0; rotation < games.length; rotation++) {
+			var rotated = new UnoPlayer[seats.length];
+			for (int i = 0; i < seats.length; i++)
+				rotated[i] = seats[(i + rotation) % seats.length];
+			games[rotation] = new UnoSimulationGame(this.deck, this.cardAmount, this.rules, rotated);
+		}
+		// The game at rotation r is started by the player of seat r
+
+		var result = new UnoSimulationResult(seats.length);
+		long index;
+		while ((index = remaining.getAndDecrement()) > 0) {
+			int rotation = (int) (index % seats.length);
+			var game = games[rotation];
+			var winner = game.play();
+			int seat = game.getSeat(winner.getWinner());
+			result.record(winner, seat < 0 ? seat : (seat + rotation) % seats.length, game.getTurns());
+		}
+
+		return result;
+	}
+
+}
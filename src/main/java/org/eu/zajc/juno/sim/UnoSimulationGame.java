@@ -0,0 +1,68 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.sim;
+
+import java.util.Random;
+
+import javax.annotation.*;
+
+import org.eu.zajc.juno.decks.UnoDeck;
+import org.eu.zajc.juno.game.*;
+import org.eu.zajc.juno.players.UnoPlayer;
+import org.eu.zajc.juno.rules.pack.UnoRulePack;
+
+/**
+ * A headless {@link UnoControlledGame} used by {@link UnoSimulation} and
+ * {@link UnoTournament}. Nothing observes its events, so none are created, and the
+ * amount of turns taken in the last {@link #play()} is recorded.
+ *
+ * @author Marko Zajc
+ */
+class UnoSimulationGame extends UnoControlledGame {
+
+	private long turns;
+
+	UnoSimulationGame(@Nonnull UnoDeck deck, @Nonnegative int cardAmount, @Nonnull UnoRulePack rules,
+					  @Nonnull UnoPlayer... players) {
+		super(deck, cardAmount, rules, players);
+	}
+
+	UnoSimulationGame(@Nonnull UnoDeck deck, @Nonnegative int cardAmount, @Nonnull UnoRulePack rules,
+					  @Nullable Random random, @Nonnull UnoPlayer... players) {
+		super(deck, cardAmount, rules, random, players);
+	}
+
+	@Override
+	public UnoWinner play() {
+		this.turns = 0;
+		return super.play();
+	}
+
+	@Override
+	protected void turn(UnoPlayer player) {
+		this.turns++;
+		super.turn(player);
+	}
+
+	/**
+	 * @return the amount of turns taken in the last game
+	 */
+	long getTurns() {
+		return this.turns;
+	}
+
+}
@@ -0,0 +1,211 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.sim;
+
+import static java.lang.Math.*;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import javax.annotation.*;
+
+import org.eu.zajc.juno.game.UnoWinner;
+import org.eu.zajc.juno.game.UnoWinner.UnoEndReason;
+import org.eu.zajc.juno.players.UnoPlayer;
+
+/**
+ * Aggregated statistics of a batch of games played by {@link UnoSimulation}. Wins
+ * are counted per seat, meaning the index of the winning {@link UnoPlayer} in the
+ * list of player factories the simulation was created with.
+ *
+ * @author Marko Zajc
+ */
+public class UnoSimulationResult {
+
+	@Nonnull private final long[] wins;
+	@Nonnull private final long[] endReasons = new long[UnoEndReason.values().length];
+	private long games;
+	private long draws;
+	private long turns;
+	private long minTurns = Long.MAX_VALUE;
+	private long maxTurns;
+	private long elapsedNanos;
+
+	UnoSimulationResult(@Nonnegative int seats) {
+		this.wins = new long[seats];
+	}
+
+	void record(@Nonnull UnoWinner winner, int winnerSeat, long gameTurns) {
+		this.games++;
+		if (winnerSeat < 0)
+			this.draws++;
+		else
+			this.wins[winnerSeat]++;
+
+		this.endReasons[winner.getEndReason().ordinal()]++;
+
+		this.turns += gameTurns;
+		this.minTurns = min(this.minTurns, gameTurns);
+		this.maxTurns = max(this.maxTurns, gameTurns);
+	}
+
+	void merge(@Nonnull UnoSimulationResult other) {
+		this.games += other.games;
+		this.draws += other.draws;
+		for (int i = 0; i < this.wins.length; i++)
+			this.wins[i] += other.wins[i];
+
+		for (int i = 0; i < this.endReasons.length; i++)
+			this.endReasons[i] += other.endReasons[i];
+
+		this.turns += other.turns;
+		this.minTurns = min(this.minTurns, other.minTurns);
+		this.maxTurns = max(this.maxTurns, other.maxTurns);
+	}
+
+	void setElapsedNanos(long elapsedNanos) {
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	/**
+	 * @return the amount of games played
+	 */
+	public long getGames() {
+		return this.games;
+	}
+
+	/**
+	 * @return the amount of seats (players) in each game
+	 */
+	public int getSeats() {
+		return this.wins.length;
+	}
+
+	/**
+	 * Returns the amount of games won by the player in a given seat.
+	 *
+	 * @param seat
+	 *            the seat index, as ordered in the simulation's player factories
+	 *
+	 * @return the amount of games won by that seat
+	 */
+	public long getWins(@Nonnegative int seat) {
+		return this.wins[seat];
+	}
+
+	/**
+	 * Returns the share of games won by the player in a given seat.
+	 *
+	 * @param seat
+	 *            the seat index, as ordered in the simulation's player factories
+	 *
+	 * @return the win rate of that seat in the range of 0-1
+	 */
+	public double getWinRate(@Nonnegative int seat) {
+		if (this.games == 0)
+			return 0;
+
+		return (double) this.wins[seat] / this.games;
+	}
+
+	/**
+	 * @return the amount of games that ended without a winner
+	 */
+	public long getDraws() {
+		return this.draws;
+	}
+
+	/**
+	 * Returns the amount of games that ended for a given {@link UnoEndReason}.
+	 *
+	 * @param reason
+	 *            the {@link UnoEndReason}
+	 *
+	 * @return the amount of games that ended for that reason
+	 */
+	public long getEndReasonCount(@Nonnull UnoEndReason reason) {
+		return this.endReasons[reason.ordinal()];
+	}
+
+	/**
+	 * @return the total amount of turns taken across all games
+	 */
+	public long getTotalTurns() {
+		return this.turns;
+	}
+
+	/**
+	 * @return the average amount of turns per game
+	 */
+	public double getAverageTurns() {
+		if (this.games == 0)
+			return 0;
+
+		return (double) this.turns / this.games;
+	}
+
+	/**
+	 * @return the least amount of turns taken by a single game, or {@code 0} if no
+	 *         games were played
+	 */
+	public long getMinTurns() {
+		if (this.games == 0)
+			return 0;
+
+		return this.minTurns;
+	}
+
+	/**
+	 * @return the most turns taken by a single game
+	 */
+	public long getMaxTurns() {
+		return this.maxTurns;
+	}
+
+	/**
+	 * @return the wall-clock time the simulation took, in nanoseconds
+	 */
+	public long getElapsedNanos() {
+		return this.elapsedNanos;
+	}
+
+	/**
+	 * @return the throughput of the simulation in games per second
+	 */
+	public double getGamesPerSecond() {
+		if (this.elapsedNanos == 0)
+			return 0;
+
+		return this.games * (double) SECONDS.toNanos(1) / this.elapsedNanos;
+	}
+
+	@Override
+	public String toString() {
+		var builder = new StringBuilder();
+		builder.append(String.format("%d games in %.3f s (%.1f games/s), %.1f turns/game [%d-%d]", this.games,
+									 this.elapsedNanos / (double) SECONDS.toNanos(1), getGamesPerSecond(),
+									 getAverageTurns(), getMinTurns(), this.maxTurns));
+
+		for (int i = 0; i < this.wins.length; i++)
+			builder.append(String.format("%nSeat %d: %d wins (%.2f%%)", i, this.wins[i], getWinRate(i) * 100));
+		builder.append(String.format("%nDraws: %d", this.draws));
+
+		for (var reason : UnoEndReason.values())
+			builder.append(String.format("%n%s: %d", reason, getEndReasonCount(reason)));
+
+		return builder.toString();
+	}
+
+}
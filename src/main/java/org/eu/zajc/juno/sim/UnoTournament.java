@@ -0,0 +1,394 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.sim;
+
+import static java.util.Collections.unmodifiableList;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import javax.annotation.*;
+
+import org.eu.zajc.juno.decks.UnoDeck;
+import org.eu.zajc.juno.game.UnoControlledGame;
+import org.eu.zajc.juno.players.UnoPlayer;
+import org.eu.zajc.juno.players.impl.UnoStrategicPlayer;
+import org.eu.zajc.juno.rules.pack.UnoRulePack;
+
+/**
+ * A headless runner that plays a tournament between automated {@link UnoPlayer}s
+ * (entrants) across multiple threads and rates them with Elo ratings, collected into
+ * a {@link UnoTournamentResult}. Entrants are seated at tables of a fixed size, and
+ * each table plays one game in every permutation of its seats, so no entrant is
+ * favored by its position in the turn order.<br>
+ * Every game is played with a fresh {@link UnoControlledGame} and fresh
+ * {@link UnoPlayer}s, and both are given random number generators seeded from the
+ * tournament's master seed in a fixed order. As long as the entrants make their
+ * random decisions with the {@link Random} they're created with (for example with
+ * {@link UnoStrategicPlayer#UnoStrategicPlayer(String, Random)}), a tournament thus
+ * produces the same result for the same master seed regardless of the amount of
+ * threads it's played on. Ratings are also updated in a fixed order, after the games
+ * of a batch have been played.
+ *
+ * @author Marko Zajc
+ */
+public class UnoTournament {
+
+	/**
+	 * The ways of pairing entrants in a {@link UnoTournament}.
+	 *
+	 * @author Marko Zajc
+	 */
+	public enum UnoTournamentFormat {
+
+		/**
+		 * Every combination of entrants is seated at a table once per round. All rounds
+		 * are played as a single batch, so there is enough work to keep all threads busy.
+		 */
+		ROUND_ROBIN,
+
+		/**
+		 * In each round, the entrants are ordered by their current rating and seated at
+		 * tables with their neighbors. The highest rated entrant that isn't seated yet
+		 * opens a table, which is filled with the closest rated entrants that have shared
+		 * a table with its players the least, so rematches are avoided while possible.
+		 * If the entrants can't be split evenly, the ones that sat out the least amount
+		 * of rounds (and out of those, the lowest rated ones) sit out the round. Each
+		 * round is played as its own batch, as it depends on the ratings of the previous
+		 * one.
+		 */
+		SWISS
+
+	}
+
+	@Nonnull private final UnoDeck deck;
+	@Nonnegative private final int cardAmount;
+	@Nonnull private final UnoRulePack rules;
+	@Nonnegative private final int tableSize;
+	@Nonnull private final List<Function<Random, ? extends UnoPlayer>> entrants;
+
+	/**
+	 * Creates a new {@link UnoTournament}.
+	 *
+	 * @param deck
+	 *            the {@link UnoDeck} to use
+	 * @param cardAmount
+	 *            the amount of cards each player starts with
+	 * @param rules
+	 *            the {@link UnoRulePack} to use. A frozen copy of it is shared between
+	 *            all threads
+	 * @param tableSize
+	 *            the amount of players in each game. Every table plays
+	 *            {@code tableSize!} games per round, so this should be kept small
+	 * @param entrants
+	 *            factories for the entrants' {@link UnoPlayer}s. Each is given a seeded
+	 *            {@link Random} that the player should make its random decisions with,
+	 *            and may be called from multiple threads at once. Must have at least
+	 *            {@code tableSize} elements
+	 */
+	public UnoTournament(@Nonnull UnoDeck deck, @Nonnegative int cardAmount, @Nonnull UnoRulePack rules,
+						 @Nonnegative int tableSize, @Nonnull List<Function<Random, ? extends UnoPlayer>> entrants) {
+		if (tableSize < 2)
+			throw new IllegalArgumentException("Need at least two players for a game of UNO!");
+		if (entrants.size() < tableSize)
+			throw new IllegalArgumentException("Need at least as many entrants as there are seats at a table!");
+		this.deck = deck;
+		this.cardAmount = cardAmount;
+		this.rules = rules.freeze();
+		this.tableSize = tableSize;
+		this.entrants = unmodifiableList(new ArrayList<>(entrants));
+	}
+
+	/**
+	 * Plays a tournament using one thread per available processor.
+	 *
+	 * @param format
+	 *            the {@link UnoTournamentFormat}
+	 * @param rounds
+	 *            the amount of rounds to play
+	 * @param seed
+	 *            the master seed
+	 *
+	 * @return the {@link UnoTournamentResult}
+	 */
+	@Nonnull
+	public UnoTournamentResult run(@Nonnull UnoTournamentFormat format, @Nonnegative int rounds, long seed) {
+		return run(format, rounds, seed, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Plays a tournament on a dedicated thread pool.
+	 *
+	 * @param format
+	 *            the {@link UnoTournamentFormat}
+	 * @param rounds
+	 *            the amount of rounds to play
+	 * @param seed
+	 *            the master seed
+	 * @param parallelism
+	 *            the amount of threads to play the games on
+	 *
+	 * @return the {@link UnoTournamentResult}
+	 */
+	@Nonnull
+	public UnoTournamentResult run(@Nonnull UnoTournamentFormat format, @Nonnegative int rounds, long seed,
+								   @Nonnegative int parallelism) {
+		if (parallelism < 1)
+			throw new IllegalArgumentException("Parallelism must be at least 1!");
+
+		var executor = Executors.newFixedThreadPool(parallelism, r -> {
+			var thread = new Thread(r, "juno-tournament");
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			return run(format, rounds, seed, parallelism, executor);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Plays a tournament on the given {@link ExecutorService}. The executor is not shut
+	 * down afterwards.
+	 *
+	 * @param format
+	 *            the {@link UnoTournamentFormat}
+	 * @param rounds
+	 *            the amount of rounds to play
+	 * @param seed
+	 *            the master seed
+	 * @param workers
+	 *            the amount of worker tasks to submit to the executor for each batch of
+	 *            games. This should usually match the executor's parallelism
+	 * @param executor
+	 *            the {@link ExecutorService} to play the games on
+	 *
+	 * @return the {@link UnoTournamentResult}
+	 */
+	@Nonnull
+	public UnoTournamentResult run(@Nonnull UnoTournamentFormat format, @Nonnegative int rounds, long seed,
+								   @Nonnegative int workers, @Nonnull ExecutorService executor) {
+		if (rounds < 0)
+			throw new IllegalArgumentException("Can't play less than 0 rounds!");
+		if (workers < 1)
+			throw new IllegalArgumentException("Need at least one worker!");
+
+		var master = new SplittableRandom(seed);
+		var result = new UnoTournamentResult(this.entrants.size());
+		long start = System.nanoTime();
+		if (format == UnoTournamentFormat.ROUND_ROBIN) {
+			var schedule = new ArrayList<int[]>();
+			var tables = combinations(this.entrants.size(), this.tableSize);
+			for (int i = 0; i < rounds; i++) {
+				for (var table : tables)
+					addPermutations(schedule, table);
+			}
+			play(schedule, master, result, workers, executor);
+
+		} else {
+			var meetings = new int[this.entrants.size() * this.entrants.size()];
+			for (int i = 0; i < rounds; i++) {
+				var schedule = new ArrayList<int[]>();
+				for (var table : swissTables(result, meetings))
+					addPermutations(schedule, table);
+				play(schedule, master, result, workers, executor);
+			}
+		}
+		result.setElapsedNanos(System.nanoTime() - start);
+
+		return result;
+	}
+
+	private void play(@Nonnull List<int[]> schedule, @Nonnull SplittableRandom master,
+					  @Nonnull UnoTournamentResult result, int workers, @Nonnull ExecutorService executor) {
+		int stride = this.tableSize + 1;
+		var seeds = new long[schedule.size() * stride];
+		for (int i = 0; i < seeds.length; i++)
+			seeds[i] = master.nextLong();
+		// The seeds are drawn up front, so they don't depend on the order in which the
+		// games are played
+
+		var winners = new int[schedule.size()];
+		var next = new AtomicInteger();
+		var tasks = new ArrayList<Callable<Void>>(workers);
+		for (int i = 0; i < workers; i++) {
+			tasks.add(() -> {
+				int game;
+				while ((game = next.getAndIncrement()) < winners.length)
+					winners[game] = playGame(schedule.get(game), seeds, game * stride);
+				return null;
+			});
+		}
+
+		try {
+			for (var future : executor.invokeAll(tasks))
+				future.get();
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("The tournament was interrupted", e);
+
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			throw new IllegalStateException("A tournament game has failed", e.getCause());
+		}
+
+		for (int i = 0; i < winners.length; i++)
+			result.record(schedule.get(i), winners[i]);
+	}
+
+	private int playGame(@Nonnull int[] seats, @Nonnull long[] seeds, int offset) {
+		var players = new UnoPlayer[seats.length];
+		for (int i = 0; i < seats.length; i++)
+			players[i] = this.entrants.get(seats[i]).apply(new Random(seeds[offset + 1 + i]));
+
+		var game = new UnoSimulationGame(this.deck, this.cardAmount, this.rules, new Random(seeds[offset]), players);
+		var winner = game.play().getWinner();
+		for (int i = 0; i < players.length; i++) {
+			if (players[i] == winner)
+				return i;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Seats the entrants for a round of a Swiss tournament.
+	 *
+	 * @param result
+	 *            the results so far, which the byes of this round are recorded into
+	 * @param meetings
+	 *            the amount of times each pair of entrants has shared a table, indexed
+	 *            by {@code a * entrants + b}, which this round's tables are added to
+	 *
+	 * @return the tables
+	 */
+	@Nonnull
+	List<int[]> swissTables(@Nonnull UnoTournamentResult result, @Nonnull int[] meetings) {
+		int size = this.entrants.size();
+		var ranking = result.getRanking();
+
+		var sittingOut = new boolean[size];
+		var candidates = new ArrayList<Integer>(size);
+		for (int i = size - 1; i >= 0; i--)
+			candidates.add(ranking[i]);
+		candidates.sort(Comparator.comparingLong(result::getByes));
+		// The sort is stable, so entrants that sat out equally often stay ordered from the
+		// lowest rated one up
+		for (int i = 0; i < size % this.tableSize; i++) {
+			int entrant = candidates.get(i);
+			sittingOut[entrant] = true;
+			result.recordBye(entrant);
+		}
+
+		var waiting = new ArrayList<Integer>(size);
+		for (int entrant : ranking) {
+			if (!sittingOut[entrant])
+				waiting.add(entrant);
+		}
+
+		var tables = new ArrayList<int[]>(size / this.tableSize);
+		while (!waiting.isEmpty()) {
+			var table = new int[this.tableSize];
+			table[0] = waiting.remove(0);
+			for (int seat = 1; seat < table.length; seat++) {
+				int best = 0;
+				int bestMeetings = Integer.MAX_VALUE;
+				for (int i = 0; i < waiting.size() && bestMeetings > 0; i++) {
+					int candidate = waiting.get(i);
+					int met = 0;
+					for (int j = 0; j < seat; j++)
+						met += meetings[table[j] * size + candidate];
+					if (met < bestMeetings) {
+						best = i;
+						bestMeetings = met;
+					}
+				}
+				table[seat] = waiting.remove(best);
+			}
+			// Takes the closest rated entrant that has met the ones at the table the least
+
+			for (int a : table) {
+				for (int b : table) {
+					if (a != b)
+						meetings[a * size + b]++;
+				}
+			}
+			tables.add(table);
+		}
+
+		return tables;
+	}
+
+	@Nonnull
+	private static List<int[]> combinations(int size, int tableSize) {
+		var combinations = new ArrayList<int[]>();
+		var table = new int[tableSize];
+		for (int i = 0; i < tableSize; i++)
+			table[i] = i;
+
+		while (true) {
+			combinations.add(table.clone());
+
+			int i = tableSize - 1;
+			while (i >= 0 && table[i] == size - tableSize + i)
+				i--;
+			if (i < 0)
+				return combinations;
+
+			table[i]++;
+			for (int j = i + 1; j < tableSize; j++)
+				table[j] = table[j - 1] + 1;
+		}
+		// Advances the rightmost index that can still be advanced and resets the ones after
+		// it, which lists the combinations in lexicographic order
+	}
+
+	private static void addPermutations(@Nonnull List<int[]> schedule, @Nonnull int[] table) {
+		var seats = table.clone();
+		Arrays.sort(seats);
+		while (true) {
+			schedule.add(seats.clone());
+
+			int i = seats.length - 2;
+			while (i >= 0 && seats[i] >= seats[i + 1])
+				i--;
+			if (i < 0)
+				return;
+
+			int j = seats.length - 1;
+			while (seats[j] <= seats[i])
+				j--;
+			swap(seats, i, j);
+			for (int a = i + 1, b = seats.length - 1; a < b; a++, b--)
+				swap(seats, a, b);
+		}
+		// Lists the seat permutations in lexicographic order with the usual next
+		// permutation algorithm
+	}
+
+	private static void swap(@Nonnull int[] array, int i, int j) {
+		int temp = array[i];
+		array[i] = array[j];
+		array[j] = temp;
+	}
+
+}
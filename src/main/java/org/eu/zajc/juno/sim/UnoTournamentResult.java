@@ -0,0 +1,261 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.sim;
+
+import static java.lang.Math.*;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.*;
+
+import javax.annotation.*;
+
+/**
+ * The outcome of a {@link UnoTournament}. Entrants are identified by their index in
+ * the list of entrant factories the tournament was created with.<br>
+ * Ratings are Elo ratings that start at {@value #INITIAL_RATING} and are updated
+ * after every game. A game of more than two players is rated as a set of two-player
+ * games between every pair of its players - the winner beats every other player and
+ * the rest draw among themselves - with the K-factor ({@value #K_FACTOR}) split
+ * between them. If the game has no winner, all pairs draw.
+ *
+ * @author Marko Zajc
+ */
+public class UnoTournamentResult {
+
+	/**
+	 * The rating every entrant starts with.
+	 */
+	public static final double INITIAL_RATING = 1500;
+
+	/**
+	 * The maximum amount of rating an entrant can gain or lose in a single game.
+	 */
+	public static final double K_FACTOR = 16;
+
+	private static final double Z_95 = 1.959964;
+
+	@Nonnull private final double[] ratings;
+	@Nonnull private final double[] scores;
+	@Nonnull private final long[] pairings;
+	@Nonnull private final long[] entrantGames;
+	@Nonnull private final long[] wins;
+	@Nonnull private final long[] byes;
+	private long games;
+	private long draws;
+	private long elapsedNanos;
+
+	UnoTournamentResult(@Nonnegative int entrants) {
+		this.ratings = new double[entrants];
+		this.scores = new double[entrants];
+		this.pairings = new long[entrants];
+		this.entrantGames = new long[entrants];
+		this.wins = new long[entrants];
+		this.byes = new long[entrants];
+		Arrays.fill(this.ratings, INITIAL_RATING);
+	}
+
+	void record(@Nonnull int[] seats, int winnerSeat) {
+		this.games++;
+		if (winnerSeat < 0)
+			this.draws++;
+		else
+			this.wins[seats[winnerSeat]]++;
+
+		var deltas = new double[seats.length];
+		for (int a = 0; a < seats.length; a++) {
+			for (int b = a + 1; b < seats.length; b++) {
+				double expected = 1 / (1 + pow(10, (this.ratings[seats[b]] - this.ratings[seats[a]]) / 400));
+				double score;
+				if (winnerSeat == a)
+					score = 1;
+				else if (winnerSeat == b)
+					score = 0;
+				else
+					score = 0.5;
+
+				deltas[a] += score - expected;
+				deltas[b] -= score - expected;
+				this.scores[seats[a]] += score;
+				this.scores[seats[b]] += 1 - score;
+				this.pairings[seats[a]]++;
+				this.pairings[seats[b]]++;
+			}
+		}
+		// All ratings are updated from the ratings before the game
+
+		for (int i = 0; i < seats.length; i++) {
+			this.ratings[seats[i]] += K_FACTOR / (seats.length - 1) * deltas[i];
+			this.entrantGames[seats[i]]++;
+		}
+	}
+
+	void recordBye(@Nonnegative int entrant) {
+		this.byes[entrant]++;
+	}
+
+	void setElapsedNanos(long elapsedNanos) {
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	/**
+	 * @return the amount of entrants
+	 */
+	public int getEntrants() {
+		return this.ratings.length;
+	}
+
+	/**
+	 * @return the amount of games played
+	 */
+	public long getGames() {
+		return this.games;
+	}
+
+	/**
+	 * @return the amount of games that ended without a winner
+	 */
+	public long getDraws() {
+		return this.draws;
+	}
+
+	/**
+	 * Returns the amount of games played by an entrant.
+	 *
+	 * @param entrant
+	 *            the entrant's index
+	 *
+	 * @return the amount of games the entrant played in
+	 */
+	public long getGames(@Nonnegative int entrant) {
+		return this.entrantGames[entrant];
+	}
+
+	/**
+	 * Returns the amount of games won by an entrant.
+	 *
+	 * @param entrant
+	 *            the entrant's index
+	 *
+	 * @return the amount of games the entrant won
+	 */
+	public long getWins(@Nonnegative int entrant) {
+		return this.wins[entrant];
+	}
+
+	/**
+	 * Returns the amount of Swiss rounds an entrant sat out because the entrants
+	 * couldn't be split into tables evenly. This is always {@code 0} in round-robin
+	 * tournaments.
+	 *
+	 * @param entrant
+	 *            the entrant's index
+	 *
+	 * @return the amount of rounds the entrant sat out
+	 */
+	public long getByes(@Nonnegative int entrant) {
+		return this.byes[entrant];
+	}
+
+	/**
+	 * Returns the Elo rating of an entrant.
+	 *
+	 * @param entrant
+	 *            the entrant's index
+	 *
+	 * @return the entrant's rating
+	 */
+	public double getRating(@Nonnegative int entrant) {
+		return this.ratings[entrant];
+	}
+
+	/**
+	 * Returns the margin of error of an entrant's rating at a 95% confidence level,
+	 * meaning that the entrant's true rating lies within {@code rating ± margin} with a
+	 * 95% probability. The margin is derived from the standard error of the entrant's
+	 * score in its pairwise comparisons (see {@link UnoTournamentResult}), which are
+	 * treated as independent games. A half of a win and a half of a loss are added to
+	 * the score, so entrants that won or lost every comparison still get a finite
+	 * margin.
+	 *
+	 * @param entrant
+	 *            the entrant's index
+	 *
+	 * @return the margin of error, or {@link Double#POSITIVE_INFINITY} if the entrant
+	 *         hasn't played any games
+	 */
+	public double getRatingMargin(@Nonnegative int entrant) {
+		long n = this.pairings[entrant];
+		if (n == 0)
+			return Double.POSITIVE_INFINITY;
+
+		double p = (this.scores[entrant] + 0.5) / (n + 1);
+		return Z_95 * 400 / (log(10) * sqrt(n * p * (1 - p)));
+		// The standard error of the score, scaled by the slope of the Elo curve at it
+	}
+
+	/**
+	 * @return the entrants' indices ordered by their rating, from the highest to the
+	 *         lowest
+	 */
+	@Nonnull
+	public int[] getRanking() {
+		var ranking = new Integer[this.ratings.length];
+		for (int i = 0; i < ranking.length; i++)
+			ranking[i] = i;
+		Arrays.sort(ranking, Comparator.comparingDouble((Integer i) -> -this.ratings[i]));
+
+		var result = new int[ranking.length];
+		for (int i = 0; i < ranking.length; i++)
+			result[i] = ranking[i];
+		return result;
+	}
+
+	/**
+	 * @return the wall-clock time the tournament took, in nanoseconds
+	 */
+	public long getElapsedNanos() {
+		return this.elapsedNanos;
+	}
+
+	/**
+	 * @return the throughput of the tournament in games per second
+	 */
+	public double getGamesPerSecond() {
+		if (this.elapsedNanos == 0)
+			return 0;
+
+		return this.games * (double) SECONDS.toNanos(1) / this.elapsedNanos;
+	}
+
+	@Override
+	public String toString() {
+		var builder = new StringBuilder();
+		builder.append(String.format("%d games in %.3f s (%.1f games/s), %d draws", this.games,
+									 this.elapsedNanos / (double) SECONDS.toNanos(1), getGamesPerSecond(),
+									 this.draws));
+
+		int place = 1;
+		for (int entrant : getRanking()) {
+			builder.append(String.format("%n#%d Entrant %d: %.1f +/- %.1f (%d/%d wins)", place++, entrant,
+										 this.ratings[entrant], getRatingMargin(entrant), this.wins[entrant],
+										 this.entrantGames[entrant]));
+		}
+
+		return builder.toString();
+	}
+
+}
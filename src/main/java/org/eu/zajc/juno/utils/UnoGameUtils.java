@@ -16,15 +16,17 @@
  */
 package org.eu.zajc.juno.utils;
 
-import java.util.List;
+import java.util.*;
 
 import javax.annotation.*;
 
-import org.eu.zajc.juno.cards.UnoCard;
+import org.eu.zajc.juno.cards.*;
 import org.eu.zajc.juno.game.UnoGame;
+import org.eu.zajc.juno.hands.UnoHand;
+import org.eu.zajc.juno.jfr.UnoCardPlacedJfrEvent;
 import org.eu.zajc.juno.piles.impl.UnoDrawPile;
 import org.eu.zajc.juno.players.UnoPlayer;
-import org.eu.zajc.juno.rules.pack.UnoRulePack;
+import org.eu.zajc.juno.rules.pack.*;
 
 /**
  * A class containing various utilities that utilize or are connected with the
@@ -54,6 +56,34 @@ public class UnoGameUtils {
 		return UnoRuleUtils.canPlaceCard(game.getTopCard(), card, game.getRules(), placer.getHand());
 	}
 
+	/**
+	 * Determines which {@link UnoCard}s from a {@link UnoHand} can be placed on the top
+	 * card. {@link UnoRulePack} and top of the discard pile are sourced from the given
+	 * game. If the game has a {@link UnoPlacementMatrix}, the {@link UnoCard}s are
+	 * looked up in it with
+	 * {@link UnoPlacementMatrix#getPlaceableCards(UnoCardTable, UnoCard, List, UnoHand)},
+	 * otherwise this is the same as
+	 * {@link UnoRuleUtils#getPlaceableCards(UnoCard, Collection, UnoRulePack, UnoHand)}.
+	 *
+	 * @param game
+	 *            the ongoing {@link UnoGame}
+	 * @param hand
+	 *            the {@link UnoHand} to check the {@link UnoCard}s of
+	 *
+	 * @return a {@link List} of {@link UnoCard}s that can be placed on top of the
+	 *         discard pile, in the order of the hand
+	 */
+	@Nonnull
+	@SuppressWarnings("null")
+	public static List<UnoCard> getPlaceableCards(@Nonnull UnoGame game, @Nonnull UnoHand hand) {
+		var top = game.getDiscard().getTop();
+		var matrix = game.getPlacementMatrix();
+		if (matrix == null)
+			return UnoRuleUtils.getPlaceableCards(top, hand.getCards(), game.getRules(), hand);
+
+		return matrix.getPlaceableCards(game.getCardTable(), top, hand.getCards(), hand);
+	}
+
 	/**
 	 * Safely draws an amount of {@link UnoCard} from the piles in the {@link UnoGame}.
 	 * The "safely" of it means that it will shuffle and merge the discard pile into the
@@ -98,13 +128,14 @@ public class UnoGameUtils {
 	 *
 	 * @return whether the card was placed or not. Returns {@code false} in case
 	 *         {@link #canPlaceCard(UnoPlayer, UnoGame, UnoCard)} returns {@code false}
+	 *         or the card is not in the player's hand
 	 */
 	public static final boolean placeCard(@Nonnull UnoGame game, @Nonnull UnoPlayer player, @Nonnull UnoCard card) {
-		if (!canPlaceCard(player, game, card))
+		if (!canPlaceCard(player, game, card) || !player.getHand().addToDiscard(game.getDiscard(), card))
 			return false;
 
-		player.getHand().addToDiscard(game.getDiscard(), card);
 		card.setPlacer(player);
+		UnoCardPlacedJfrEvent.commit(player, card);
 
 		return true;
 	}
@@ -0,0 +1,85 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.utils;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.annotation.*;
+
+import org.eu.zajc.juno.piles.impl.UnoDrawPile;
+
+/**
+ * A source of random numbers for shuffling, such as in {@link UnoDrawPile}. This
+ * allows any random number generator to be plugged in, not just subclasses of
+ * {@link Random}.
+ *
+ * @author Marko Zajc
+ */
+@FunctionalInterface
+public interface UnoRandom {
+
+	/**
+	 * Returns a random integer between 0 (inclusive) and {@code bound} (exclusive).
+	 *
+	 * @param bound
+	 *            the upper bound, must be positive
+	 *
+	 * @return the random integer
+	 */
+	int nextInt(@Nonnegative int bound);
+
+	/**
+	 * Creates a {@link UnoRandom} backed by a {@link Random}. Shuffles using it produce
+	 * the same order as {@link Collections#shuffle(List, Random)} would.
+	 *
+	 * @param random
+	 *            the {@link Random} to use
+	 *
+	 * @return the {@link UnoRandom}
+	 */
+	@Nonnull
+	static UnoRandom of(@Nonnull Random random) {
+		return random::nextInt;
+	}
+
+	/**
+	 * Creates a {@link UnoRandom} backed by a {@link SplittableRandom}. Note that
+	 * {@link SplittableRandom} is not thread-safe, so the returned {@link UnoRandom}
+	 * must not be shared between threads - use {@link SplittableRandom#split()} to give
+	 * each thread its own generator instead.
+	 *
+	 * @param random
+	 *            the {@link SplittableRandom} to use
+	 *
+	 * @return the {@link UnoRandom}
+	 */
+	@Nonnull
+	static UnoRandom of(@Nonnull SplittableRandom random) {
+		return random::nextInt;
+	}
+
+	/**
+	 * @return a {@link UnoRandom} backed by the calling thread's
+	 *         {@link ThreadLocalRandom}
+	 */
+	@Nonnull
+	static UnoRandom threadLocal() {
+		return bound -> ThreadLocalRandom.current().nextInt(bound);
+	}
+
+}
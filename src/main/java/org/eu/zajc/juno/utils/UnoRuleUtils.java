@@ -16,7 +16,6 @@
  */
 package org.eu.zajc.juno.utils;
 
-import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.toList;
 import static org.eu.zajc.juno.rules.types.UnoCardPlacementRule.PlacementClearance.*;
 
@@ -28,7 +27,7 @@ import org.eu.zajc.juno.cards.UnoCard;
 import org.eu.zajc.juno.hands.UnoHand;
 import org.eu.zajc.juno.rules.UnoRule;
 import org.eu.zajc.juno.rules.impl.placement.DrawPlacementRules.DrawFourHitchPlacementRule;
-import org.eu.zajc.juno.rules.pack.UnoRulePack;
+import org.eu.zajc.juno.rules.pack.*;
 import org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules.UnoHouseRule;
 import org.eu.zajc.juno.rules.types.UnoCardPlacementRule;
 import org.eu.zajc.juno.rules.types.UnoCardPlacementRule.PlacementClearance;
@@ -88,17 +87,26 @@ public class UnoRuleUtils {
 	 * @return {@code true} if the card can be placed on top of the {@code target}
 	 *         {@link UnoCard}, meaning at least one rule returns
 	 *         {@link PlacementClearance#ALLOWED} and none return
-	 *         {@link PlacementClearance#PROHIBITED}
+	 *         {@link PlacementClearance#PROHIBITED}. This is looked up in the
+	 *         {@link UnoPlacementEngine} if the {@link UnoRulePack} is a
+	 *         {@link UnoFrozenRulePack}
 	 *
 	 * @see #getProhibitingRule(UnoCard, UnoCard, UnoRulePack, UnoHand)
 	 * @see #getProhibitingRules(UnoCard, UnoCard, UnoRulePack, UnoHand)
 	 * @see #getPlaceableCards(UnoCard, Collection, UnoRulePack, UnoHand)
+	 * @see UnoPlacementEngine
 	 */
 	public static boolean canPlaceCard(@Nonnull UnoCard target, @Nonnull UnoCard card, @Nonnull UnoRulePack rules,
 									   @Nonnull UnoHand hand) {
+		if (rules instanceof UnoFrozenRulePack)
+			return ((UnoFrozenRulePack) rules).getPlacementEngine().canPlaceCard(target, card, hand);
+
 		boolean allowed = false;
-		for (var rule : filterRuleKind(rules.getRules(), UnoCardPlacementRule.class)) {
-			var clearance = rule.canBePlaced(target, card, hand);
+		for (var rule : rules.getRules()) {
+			if (!(rule instanceof UnoCardPlacementRule))
+				continue;
+
+			var clearance = ((UnoCardPlacementRule) rule).canBePlaced(target, card, hand);
 			if (clearance == PROHIBITED)
 				return false;
 			else if (clearance == ALLOWED)
@@ -129,10 +137,14 @@ public class UnoRuleUtils {
 	 * @see #canPlaceCard(UnoCard, UnoCard, UnoRulePack, UnoHand)
 	 */
 	@Nonnull
-	@SuppressWarnings("null")
 	public static List<UnoCard> getPlaceableCards(@Nonnull UnoCard target, @Nonnull Collection<UnoCard> cards,
 												  @Nonnull UnoRulePack rules, @Nonnull UnoHand hand) {
-		return cards.stream().filter(c -> canPlaceCard(target, c, rules, hand)).collect(toList());
+		List<UnoCard> placeable = new ArrayList<>(cards.size());
+		for (var card : cards) {
+			if (canPlaceCard(target, card, rules, hand))
+				placeable.add(card);
+		}
+		return placeable;
 	}
 
 	/**
@@ -162,7 +174,7 @@ public class UnoRuleUtils {
 	@SuppressWarnings("null")
 	public static List<UnoCardPlacementRule> getProhibitingRules(@Nonnull UnoCard target, @Nonnull UnoCard card,
 																 @Nonnull UnoRulePack rules, @Nonnull UnoHand hand) {
-		return filterRuleKind(rules.getRules(), UnoCardPlacementRule.class).stream().filter(r -> {
+		return rules.getPlacementRules().stream().filter(r -> {
 			return r.canBePlaced(target, card, hand) == PROHIBITED;
 		}).collect(toList());
 	}
@@ -194,9 +206,10 @@ public class UnoRuleUtils {
 	@Nullable
 	public static UnoCardPlacementRule getProhibitingRule(@Nonnull UnoCard target, @Nonnull UnoCard card,
 														  @Nonnull UnoRulePack rules, @Nonnull UnoHand hand) {
-		for (var rule : filterRuleKind(rules.getRules(), UnoCardPlacementRule.class)) {
-			if (rule.canBePlaced(target, card, hand) == PROHIBITED)
-				return rule;
+		for (var rule : rules.getRules()) {
+			if (rule instanceof UnoCardPlacementRule
+				&& ((UnoCardPlacementRule) rule).canBePlaced(target, card, hand) == PROHIBITED)
+				return (UnoCardPlacementRule) rule;
 		}
 		return null;
 	}
@@ -248,13 +261,12 @@ public class UnoRuleUtils {
 	 *            the {@link UnoRulePack} to scan
 	 *
 	 * @return all complete {@link UnoHouseRule}s included in this pack
+	 *
+	 * @see UnoRulePack#getHouseRules()
 	 */
 	@Nonnull
-	@SuppressWarnings("null")
 	public static List<UnoHouseRule> findHouseRules(UnoRulePack rules) {
-		return asList(UnoHouseRule.values()).stream()
-			.filter(hr -> rules.getRules().containsAll(hr.getPack().getRules()))
-			.collect(toList());
+		return new ArrayList<>(rules.getHouseRules());
 	}
 
 	private UnoRuleUtils() {}
@@ -25,6 +25,7 @@ import java.util.Map.Entry;
 
 import org.eu.zajc.juno.cards.*;
 import org.eu.zajc.juno.cards.impl.UnoNumericCard;
+import org.eu.zajc.juno.hands.UnoHand;
 
 /**
  * A class containing various utilities, mostly used to process lists of
@@ -55,6 +56,28 @@ public class UnoUtils {
 		return result;
 	}
 
+	/**
+	 * Analyzes the cards in a {@link UnoHand} and returns them in an {@link Entry} of
+	 * {@link UnoCardColor} (right) and quantity of cards of that color (left). Unlike
+	 * {@link #analyzeColors(Collection)}, this reads the counts from
+	 * {@link UnoHand#getColorCount(UnoCardColor)} instead of scanning the cards once
+	 * per color.
+	 *
+	 * @param hand
+	 *            the {@link UnoHand} to analyze
+	 *
+	 * @return {@link Entry} of quantity and {@link UnoCardColor}
+	 */
+	public static List<Entry<Long, UnoCardColor>> analyzeColors(UnoHand hand) {
+		List<Entry<Long, UnoCardColor>> result = new ArrayList<>();
+
+		for (var color : UnoCardColor.values())
+			result.add(new SimpleEntry<>((long) hand.getColorCount(color), color));
+
+		sort(result, Comparator.comparing(Entry<Long, UnoCardColor>::getKey).reversed());
+		return result;
+	}
+
 	/**
 	 * Gets all cards of a certain color from a list of {@link UnoCard}s.
 	 *
@@ -0,0 +1,54 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.host;
+
+import java.util.concurrent.ThreadFactory;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Creates the threads {@link UnoGameHost} plays its games on. This is the Java 21
+ * implementation, which uses virtual threads, so a game whose player blocks (for
+ * example while waiting for input) doesn't hold a platform thread.
+ *
+ * @author Marko Zajc
+ */
+final class UnoHostThreads {
+
+	private UnoHostThreads() {}
+
+	/**
+	 * Creates a {@link ThreadFactory} for game threads.
+	 *
+	 * @param prefix
+	 *            the prefix of the threads' names, which are suffixed with a counter
+	 *
+	 * @return the {@link ThreadFactory}
+	 */
+	@Nonnull
+	static ThreadFactory newFactory(@Nonnull String prefix) {
+		return Thread.ofVirtual().name(prefix, 0).factory();
+	}
+
+	/**
+	 * @return whether {@link #newFactory(String)} creates virtual threads
+	 */
+	static boolean isVirtual() {
+		return true;
+	}
+
+}
@@ -0,0 +1,120 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.cards;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.eu.zajc.juno.TestUtils.getDummyPlayer;
+import static org.eu.zajc.juno.cards.UnoCardColor.*;
+
+import org.eu.zajc.juno.cards.impl.*;
+import org.eu.zajc.juno.decks.impl.UnoStandardDeck;
+import org.eu.zajc.juno.players.UnoPlayer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnoCardTableTest {
+
+	@Test
+	@SuppressWarnings("null")
+	void testBind() {
+		UnoPlayer placer = getDummyPlayer(emptyList());
+		UnoCard wild = new UnoWildCard();
+		wild.setColorMask(BLUE);
+		wild.setPlacer(placer);
+		wild.markOpen();
+		UnoCard numeric = new UnoNumericCard(RED, 5);
+		// Creates cards with and without a state
+
+		UnoCardTable table = new UnoCardTable(asList(numeric, wild));
+		// Moves the cards into a table
+
+		assertEquals(BLUE, wild.getColor());
+		assertEquals(placer, wild.getPlacer());
+		assertTrue(wild.isOpen());
+		assertFalse(numeric.isOpen());
+		assertEquals(RED, numeric.getColor());
+		// Tests that the state has been carried over
+
+		assertEquals(0, table.getId(numeric));
+		assertEquals(1, table.getId(wild));
+		assertEquals(-1, table.getId(new UnoWildCard()));
+		assertSame(wild, table.getCard(1));
+		// Tests the IDs
+
+		assertThrows(IllegalArgumentException.class, () -> new UnoCardTable(asList(numeric, numeric)));
+	}
+
+	@Test
+	@SuppressWarnings("null")
+	void testReset() {
+		var cards = UnoStandardDeck.getDeck().getCards();
+		UnoCardTable table = new UnoCardTable(cards);
+		assertEquals(cards.size(), table.getSize());
+
+		UnoPlayer placer = getDummyPlayer(emptyList());
+		for (var card : cards) {
+			if (card.getOriginalColor() == WILD)
+				card.setColorMask(GREEN);
+			card.setPlacer(placer);
+			card.markOpen();
+		}
+		// Gives every card a state
+
+		table.reset();
+		// Resets the table
+
+		for (var card : cards) {
+			assertEquals(card.getOriginalColor(), card.getColor());
+			assertFalse(card.isOpen());
+			assertThrows(IllegalStateException.class, () -> card.getPlacer());
+		}
+		// Tests the state
+	}
+
+	@Test
+	@SuppressWarnings("null")
+	void testSharedDefinitions() {
+		var deck = UnoStandardDeck.getDeck();
+		UnoCardTable first = deck.createCardTable();
+		UnoCardTable second = deck.createCardTable();
+		assertEquals(deck.getCards().size(), first.getSize());
+		// Creates two tables from the same deck
+
+		assertSame(first.getDefinition(0), second.getDefinition(0));
+		UnoCard card = first.getCard(0);
+		assertSame(card, first.getCard(0));
+		assertNotSame(card, second.getCard(0));
+		assertNotSame(card, first.getDefinition(0));
+		assertEquals(0, first.getId(card));
+		assertEquals(-1, second.getId(card));
+		// Tests that the definitions are shared, but the cards are not
+
+		UnoCard wild = first.getCard(first.getSize() - 1);
+		wild.setColorMask(RED);
+		assertEquals(RED, wild.getColor());
+		assertEquals(WILD, second.getCard(second.getSize() - 1).getColor());
+		assertEquals(WILD, first.getDefinition(first.getSize() - 1).getColor());
+		// Tests that the state is kept per table
+
+		assertThrows(IllegalStateException.class, () -> new UnoCardTable(asList(card)));
+		assertEquals(0, first.getId(card));
+		// Tests that cards can't be moved out of a table
+	}
+
+}
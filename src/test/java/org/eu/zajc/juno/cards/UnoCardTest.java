@@ -99,4 +99,24 @@ class UnoCardTest {
 		// Test the state
 	}
 
+	@Test
+	void testCloneCard() {
+		var drawFour = new UnoDrawCard();
+		var skip = new UnoSkipCard(WILD);
+		var reverse = new UnoReverseCard(WILD);
+		for (var card : new UnoCard[] { drawFour, skip, reverse }) {
+			card.setColorMask(BLUE);
+			// Masks the wild card
+
+			var clone = card.cloneCard();
+			assertSame(card.getClass(), clone.getClass());
+			assertEquals(WILD, clone.getOriginalColor());
+			assertEquals(WILD, clone.getColor());
+			// Test that the clone is wild and unmasked, like the card's definition
+		}
+
+		assertEquals(4, ((UnoDrawCard) drawFour.cloneCard()).getAmount());
+		// Test that the amount is kept
+	}
+
 }
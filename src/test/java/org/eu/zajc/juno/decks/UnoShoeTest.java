@@ -0,0 +1,91 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.decks;
+
+import static org.eu.zajc.juno.game.UnoWinner.UnoEndReason.FALLBACK;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+import org.eu.zajc.juno.cards.UnoCard;
+import org.eu.zajc.juno.decks.impl.UnoStandardDeck;
+import org.eu.zajc.juno.players.UnoPlayer;
+import org.eu.zajc.juno.players.impl.UnoStrategicPlayer;
+import org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules;
+import org.eu.zajc.juno.sim.UnoSimulation;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnoShoeTest {
+
+	@Test
+	void testCards() {
+		var shoe = new UnoShoe(UnoStandardDeck.getDeck(), 3);
+		var cards = shoe.getCards();
+		assertEquals(3, shoe.getCopies());
+		assertEquals(3 * UnoStandardDeck.getExpectedSize(), cards.size());
+
+		Set<UnoCard> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+		distinct.addAll(cards);
+		assertEquals(cards.size(), distinct.size());
+		// Every copy is a clone of its own
+
+		var standard = UnoStandardDeck.getDeck().getCards();
+		for (int i = 0; i < cards.size(); i++)
+			assertEquals(standard.get(i % standard.size()).toString(), cards.get(i).toString());
+		// Copies follow each other
+
+		assertThrows(IllegalArgumentException.class, () -> new UnoShoe(UnoStandardDeck.getDeck(), 0));
+	}
+
+	@Test
+	void testCardTable() {
+		var deck = UnoStandardDeck.getDeck();
+		var shoe = new UnoShoe(new UnoShoe(deck, 2), 3);
+		var table = shoe.createCardTable();
+		var base = deck.createCardTable();
+		assertEquals(6 * UnoStandardDeck.getExpectedSize(), table.getSize());
+		// A shoe of shoes holds copies of the innermost deck
+
+		for (int i = 0; i < table.getSize(); i++)
+			assertSame(base.getDefinition(i % base.getSize()), table.getDefinition(i));
+		// Every copy shares the deck's definitions
+
+		var first = table.getCard(0);
+		var copy = table.getCard(base.getSize());
+		assertNotSame(first, copy);
+		assertEquals(first.toString(), copy.toString());
+		assertEquals(base.getSize(), table.getId(copy));
+		// Copies have their own cards and IDs
+	}
+
+	@Test
+	void testLargeTable() {
+		var players = new ArrayList<Supplier<? extends UnoPlayer>>();
+		for (int i = 0; i < 50; i++)
+			players.add(() -> new UnoStrategicPlayer("Strategic"));
+
+		var simulation = new UnoSimulation(new UnoShoe(UnoStandardDeck.getDeck(), 5), 7, UnoOfficialRules.getPack(),
+										   players);
+		var result = simulation.run(5, 1);
+		assertEquals(5, result.getGames());
+		assertEquals(0, result.getEndReasonCount(FALLBACK));
+		// 350 of the 540 cards are dealt
+	}
+
+}
@@ -0,0 +1,233 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.game;
+
+import static org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules.UnoHouseRule.PROGRESSIVE;
+import static org.eu.zajc.juno.utils.UnoRuleUtils.getPlaceableCards;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import javax.annotation.*;
+
+import org.eu.zajc.juno.cards.*;
+import org.eu.zajc.juno.decks.impl.UnoStandardDeck;
+import org.eu.zajc.juno.players.*;
+import org.eu.zajc.juno.rules.pack.UnoRulePack;
+import org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnoAsyncGameTest {
+
+	private static final int GAMES = 100;
+
+	private static final class FirstCardPlayer extends UnoPlayer {
+
+		FirstCardPlayer(@Nonnull String name) {
+			super(name);
+		}
+
+		@Override
+		@SuppressWarnings("null")
+		public UnoCard playCard(UnoGame game) {
+			var possible = getPlaceableCards(game.getTopCard(), getCards(), game.getRules(), getHand());
+			return possible.isEmpty() ? null : possible.get(possible.size() - 1);
+		}
+
+		@Override
+		public UnoCardColor chooseColor(UnoGame game) {
+			return UnoCardColor.BLUE;
+		}
+
+		@Override
+		public boolean shouldPlayDrawnCard(UnoGame game, UnoCard drawnCard) {
+			return false;
+		}
+		// External players are asked for the color right after placing a wild card and
+		// place drawn cards after the rest of the decision phase (see UnoGameEngine), so
+		// decisions that depend on either would differ from the blocking loop
+
+	}
+
+	private static final class LoopGame extends UnoControlledGame {
+
+		LoopGame(@Nonnull UnoRulePack rules, long seed, @Nonnull UnoPlayer... players) {
+			super(UnoStandardDeck.getDeck(), 7, rules, new Random(seed), players);
+		}
+
+	}
+
+	/**
+	 * A player whose decisions are left pending until the test completes them, like a
+	 * remote player would.
+	 */
+	private static final class PendingPlayer implements UnoAsyncPlayer {
+
+		@Nonnull private final Queue<Runnable> pending;
+		@Nonnull private final FirstCardPlayer delegate;
+		private boolean invalidColor;
+
+		PendingPlayer(@Nonnull String name, @Nonnull Queue<Runnable> pending) {
+			this.pending = pending;
+			this.delegate = new FirstCardPlayer(name);
+		}
+
+		@Override
+		public String getName() {
+			return this.delegate.getName();
+		}
+
+		@Override
+		public CompletionStage<UnoCard> playCard(UnoGame game, UnoPlayer seat) {
+			var future = new CompletableFuture<UnoCard>();
+			this.pending.add(() -> {
+				this.delegate.setHand(seat.getHand());
+				future.complete(this.delegate.playCard(game));
+			});
+			return future;
+		}
+
+		@Override
+		public CompletionStage<UnoCardColor> chooseColor(UnoGame game, UnoPlayer seat) {
+			var future = new CompletableFuture<UnoCardColor>();
+			this.invalidColor = !this.invalidColor;
+			if (this.invalidColor) {
+				this.pending.add(() -> future.complete(UnoCardColor.WILD));
+			} else {
+				this.pending.add(() -> {
+					this.delegate.setHand(seat.getHand());
+					future.complete(this.delegate.chooseColor(game));
+				});
+			}
+			// Every other color is invalid and should be asked for again
+			return future;
+		}
+
+		@Override
+		public CompletionStage<Boolean> shouldPlayDrawnCard(UnoGame game, UnoPlayer seat, UnoCard drawnCard) {
+			var future = new CompletableFuture<Boolean>();
+			this.pending.add(() -> future.complete(Boolean.TRUE));
+			return future;
+		}
+
+	}
+
+	@Nonnull
+	private static String describe(@Nonnull UnoGame game, @Nonnull UnoWinner winner) {
+		var builder = new StringBuilder();
+		builder.append(game.getPlayers().indexOf(winner.getWinner())).append(winner.getEndReason());
+		for (var player : game.getPlayers())
+			builder.append(' ').append(player.getCards());
+		builder.append(' ').append(game.getDiscard().getCards());
+		return builder.toString();
+	}
+
+	@Test
+	@SuppressWarnings("null")
+	void testAdapters() throws Exception {
+		var rules = UnoOfficialRules.getPack(PROGRESSIVE);
+		var executor = Executors.newFixedThreadPool(2);
+		try {
+			for (int seed = 0; seed < GAMES; seed++) {
+				var loop = new LoopGame(rules, seed, new FirstCardPlayer("P1"), new FirstCardPlayer("P2"),
+										new FirstCardPlayer("P3"));
+				var expected = describe(loop, loop.play());
+
+				var game = new UnoAsyncGame(UnoStandardDeck.getDeck(), 7, rules, new Random(seed),
+											List.of(UnoAsyncPlayer.of(new FirstCardPlayer("P1"), executor),
+													UnoAsyncPlayer.of(new FirstCardPlayer("P2")),
+													UnoAsyncPlayer.of(new FirstCardPlayer("P3"), executor)));
+				var winner = game.play().get(10, TimeUnit.SECONDS);
+				assertEquals(expected, describe(game.getGame(), winner));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		// Adapted players play the same games as they would synchronously
+	}
+
+	@Test
+	@SuppressWarnings("null")
+	void testPendingDecisions() {
+		var pending = new ArrayDeque<Runnable>();
+		var results = new ArrayList<CompletableFuture<UnoWinner>>();
+		for (int i = 0; i < GAMES; i++) {
+			var game = new UnoAsyncGame(UnoStandardDeck.getDeck(), 7, UnoOfficialRules.getPack(PROGRESSIVE),
+										new Random(i), List.of(new PendingPlayer("R1", pending),
+															   UnoAsyncPlayer.of(new FirstCardPlayer("P2")),
+															   new PendingPlayer("R3", pending)));
+			results.add(game.play());
+		}
+
+		assertTrue(results.stream().noneMatch(CompletableFuture::isDone));
+		int completed = 0;
+		while (!pending.isEmpty()) {
+			pending.poll().run();
+			completed++;
+		}
+		// A single thread completes the decisions of all games, none of which hold it
+
+		assertTrue(completed > GAMES);
+		for (var result : results) {
+			assertTrue(result.isDone());
+			assertNotNull(result.join());
+		}
+	}
+
+	@Test
+	@SuppressWarnings("null")
+	void testFailedDecision() {
+		var failure = new IllegalStateException("Disconnected");
+		var failing = new UnoAsyncPlayer() {
+
+			@Override
+			public String getName() {
+				return "Failing";
+			}
+
+			@Override
+			public CompletionStage<UnoCard> playCard(UnoGame game, UnoPlayer seat) {
+				return CompletableFuture.failedFuture(failure);
+			}
+
+			@Override
+			public CompletionStage<UnoCardColor> chooseColor(UnoGame game, UnoPlayer seat) {
+				return CompletableFuture.failedFuture(failure);
+			}
+
+			@Override
+			public CompletionStage<Boolean> shouldPlayDrawnCard(UnoGame game, UnoPlayer seat, UnoCard drawnCard) {
+				return CompletableFuture.failedFuture(failure);
+			}
+
+		};
+
+		var game = new UnoAsyncGame(UnoStandardDeck.getDeck(), 7, UnoOfficialRules.getPack(), new Random(0),
+									List.of(failing, UnoAsyncPlayer.of(new FirstCardPlayer("P2"))));
+		var result = game.play();
+		assertTrue(result.isCompletedExceptionally());
+		var thrown = assertThrows(CompletionException.class, result::join);
+		assertSame(failure, thrown.getCause());
+
+		var retried = game.play();
+		assertTrue(retried.isCompletedExceptionally());
+		// A new game can be played after the failed one has ended
+	}
+
+}
@@ -19,15 +19,19 @@ package org.eu.zajc.juno.game;
 import static java.lang.String.format;
 import static java.lang.System.out;
 import static org.eu.zajc.juno.decks.impl.UnoStandardDeck.getDeck;
-import static org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules.UnoHouseRule.PROGRESSIVE;
+import static org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules.UnoHouseRule.*;
+import static org.eu.zajc.juno.utils.UnoRuleUtils.getPlaceableCards;
 
-import java.util.Random;
+import java.util.*;
 import java.util.stream.IntStream;
 
 import javax.annotation.*;
 
+import org.eu.zajc.juno.cards.UnoCard;
 import org.eu.zajc.juno.decks.UnoDeck;
 import org.eu.zajc.juno.decks.impl.UnoStandardDeck;
+import org.eu.zajc.juno.game.event.*;
+import org.eu.zajc.juno.hands.UnoHand;
 import org.eu.zajc.juno.players.UnoPlayer;
 import org.eu.zajc.juno.players.impl.UnoStrategicPlayer;
 import org.eu.zajc.juno.rules.pack.UnoRulePack;
@@ -39,6 +43,7 @@ import static org.junit.jupiter.api.Assertions.*;
 class UnoControlledGameTest {
 
 	private static final int ROUNDS = 10000;
+	private static final int MOVES = 300;
 
 	private static final class UnoStressTestGame extends UnoControlledGame {
 
@@ -51,6 +56,22 @@ class UnoControlledGameTest {
 		public void onEvent(String format, Object... arguments) {}
 	}
 
+	private static final class UnoInterruptedGame extends UnoControlledGame {
+
+		private int turns;
+
+		public UnoInterruptedGame(@Nonnull UnoRulePack rules, @Nonnull UnoPlayer... players) {
+			super(UnoStandardDeck.getDeck(), 7, rules, new Random(0) /* NOSONAR is deterministic */, players);
+		}
+
+		@Override
+		protected void turn(UnoPlayer player) {
+			super.turn(player);
+			if (++this.turns == 5)
+				endGame();
+		}
+	}
+
 	private static final String DEBUG_FORMAT = "\nDebug information: EXT:%s,EXM:%s,RDN:%s,DRC:%s,DIC:%s,TCR:%s";
 	private static final String HAND_COUNT_FORMAT = ",H%sC:%s";
 
@@ -99,4 +120,115 @@ class UnoControlledGameTest {
 		out.printf("[==== STRESS TEST PLAYED %d ROUNDS ====]%n", ROUNDS);
 	}
 
+	@Test
+	@SuppressWarnings("null")
+	void testMakeUnmake() {
+		makeUnmake(createInterruptedGame());
+		// The hands report their changes, so only the ones that change are saved
+
+		var game = createInterruptedGame();
+		for (var player : game.getPlayers()) {
+			var hand = new UnoHand(new ArrayList<>()) {};
+			hand.addAll(player.getCards());
+			player.setHand(hand);
+		}
+		makeUnmake(game);
+		// Hands that don't report changes are saved whole
+	}
+
+	@Nonnull
+	@SuppressWarnings({ "null", "deprecation" })
+	private static UnoControlledGame createInterruptedGame() {
+		var game = new UnoInterruptedGame(UnoOfficialRules.getPack(PROGRESSIVE, SEVENO), new UnoStrategicPlayer("P1"),
+										  new UnoStrategicPlayer("P2"), new UnoStrategicPlayer("P3"));
+		game.play();
+		return game;
+		// Leaves the game in the middle
+	}
+
+	@SuppressWarnings("null")
+	private static void makeUnmake(@Nonnull UnoControlledGame game) {
+		var reshuffles = new int[1];
+		UnoGameListener listener = (g, event) -> {
+			if (event instanceof UnoReshuffleEvent)
+				reshuffles[0]++;
+		};
+		game.addListener(listener);
+
+		var random = new Random(1);
+		var states = new ArrayDeque<List<String>>();
+		for (int i = 0; i < MOVES; i++) {
+			var player = game.getNextPlayer();
+			var possible = getPlaceableCards(game.getTopCard(), player.getCards(), game.getRules(), player.getHand());
+			var decision = possible.isEmpty() || random.nextInt(3) == 0 ? null
+																		 : possible.get(random.nextInt(possible.size()));
+
+			states.push(describe(game));
+			try {
+				game.makeMove(player, decision);
+			} catch (IllegalArgumentException e) {
+				assertEquals(states.peek(), describe(game));
+				game.makeMove(player, null);
+			}
+			// The decision is made before the initialization phase, which can swap hands
+		}
+		assertEquals(MOVES, game.getMoveCount());
+		assertTrue(reshuffles[0] > 0);
+		// Makes random moves, including reshuffles
+
+		while (game.getMoveCount() > 0) {
+			game.unmakeMove();
+			assertEquals(states.pop(), describe(game));
+		}
+		// Unmaking every move restores every previous state in reverse
+
+		assertThrows(IllegalStateException.class, game::unmakeMove);
+		game.removeListener(listener);
+	}
+
+	@Test
+	@SuppressWarnings("null")
+	void testInvalidMove() {
+		var game = new UnoInterruptedGame(UnoOfficialRules.getPack(), new UnoStrategicPlayer("P1"),
+										  new UnoStrategicPlayer("P2"));
+		game.play();
+
+		int rejected = 0;
+		for (int i = 0; i < 10; i++) {
+			var player = game.getNextPlayer();
+			var state = describe(game);
+			UnoCard foreign = game.getNextPlayer(player).getCards().get(0);
+			try {
+				game.makeMove(player, foreign);
+				game.unmakeMove();
+				// The player lost their turn, so the decision wasn't used
+
+			} catch (IllegalArgumentException e) {
+				rejected++;
+			}
+			assertEquals(state, describe(game));
+			assertEquals(i, game.getMoveCount());
+
+			game.makeMove(player, null);
+		}
+		assertTrue(rejected > 0);
+		// A card from another player's hand is rejected and nothing is changed
+	}
+
+	@Nonnull
+	@SuppressWarnings("null")
+	private static List<String> describe(@Nonnull UnoGame game) {
+		var description = new ArrayList<String>();
+		description.add(game.getDraw().getCards().toString());
+		var table = game.getCardTable();
+		for (var card : game.getDiscard().getCards())
+			description.add(card + " " + card.getColor() + " " + card.isOpen() + " " + table.getPlacer(table.getId(card)));
+		for (var player : game.getPlayers())
+			description.add(player.getHand().hashCode() + " " + player.getCards());
+
+		description.add(String.valueOf(game.getTopCard()));
+		description.add(game.getLastPlayer() + " " + game.isReversedDirection() + " " + game.isEndRequested());
+		return description;
+	}
+
 }
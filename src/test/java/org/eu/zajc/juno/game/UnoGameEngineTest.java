@@ -0,0 +1,218 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.game;
+
+import static org.eu.zajc.juno.game.UnoGameEngine.UnoEngineState.*;
+import static org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules.UnoHouseRule.PROGRESSIVE;
+import static org.eu.zajc.juno.utils.UnoRuleUtils.getPlaceableCards;
+
+import java.util.*;
+
+import javax.annotation.*;
+
+import org.eu.zajc.juno.cards.*;
+import org.eu.zajc.juno.decks.impl.UnoStandardDeck;
+import org.eu.zajc.juno.players.UnoPlayer;
+import org.eu.zajc.juno.rules.pack.UnoRulePack;
+import org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules;
+import org.eu.zajc.juno.utils.UnoRandom;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnoGameEngineTest {
+
+	private static final int GAMES = 200;
+
+	private static final class FirstCardPlayer extends UnoPlayer {
+
+		FirstCardPlayer(@Nonnull String name) {
+			super(name);
+		}
+
+		@Override
+		@SuppressWarnings("null")
+		public UnoCard playCard(UnoGame game) {
+			var possible = getPlaceableCards(game.getTopCard(), getCards(), game.getRules(), getHand());
+			return possible.isEmpty() ? null : possible.get(possible.size() - 1);
+		}
+
+		@Override
+		public UnoCardColor chooseColor(UnoGame game) {
+			return getCards().isEmpty() || getCards().get(0).getColor() == UnoCardColor.WILD ? UnoCardColor.BLUE
+																							 : getCards().get(0).getColor();
+		}
+
+		@Override
+		public boolean shouldPlayDrawnCard(UnoGame game, UnoCard drawnCard) {
+			return true;
+		}
+
+	}
+
+	private static final class LoopGame extends UnoControlledGame {
+
+		LoopGame(@Nonnull UnoRulePack rules, long seed, @Nonnull UnoPlayer... players) {
+			super(UnoStandardDeck.getDeck(), 7, rules, new Random(seed), players);
+		}
+
+	}
+
+	@Nonnull
+	private static UnoPlayer[] players() {
+		return new UnoPlayer[] { new FirstCardPlayer("P1"), new FirstCardPlayer("P2"), new FirstCardPlayer("P3") };
+	}
+
+	@Nonnull
+	private static String describe(@Nonnull UnoGame game, @Nonnull UnoWinner winner) {
+		var builder = new StringBuilder();
+		builder.append(game.getPlayers().indexOf(winner.getWinner())).append(winner.getEndReason());
+		for (var player : game.getPlayers())
+			builder.append(' ').append(player.getCards());
+		builder.append(' ').append(game.getDiscard().getCards());
+		return builder.toString();
+	}
+
+	@Test
+	@SuppressWarnings("null")
+	void testSameAsLoop() {
+		var rules = UnoOfficialRules.getPack(PROGRESSIVE);
+		for (int seed = 0; seed < GAMES; seed++) {
+			var loop = new LoopGame(rules, seed, players());
+			var expected = describe(loop, loop.play());
+
+			var engine = new UnoGameEngine(UnoStandardDeck.getDeck(), 7, rules, new Random(seed), players());
+			assertEquals(NEW, engine.getState());
+			assertEquals(READY, engine.start());
+			assertEquals(FINISHED, engine.run());
+			assertEquals(expected, describe(engine.getGame(), engine.getWinner()));
+
+			var unoRandomEngine =
+				new UnoGameEngine(UnoStandardDeck.getDeck(), 7, rules, UnoRandom.of(new Random(seed)), players());
+			unoRandomEngine.start();
+			unoRandomEngine.run();
+			assertEquals(expected, describe(unoRandomEngine.getGame(), unoRandomEngine.getWinner()));
+		}
+		// Stepping regular players plays the same game as the blocking loop, no matter how
+		// the random number generator is passed
+	}
+
+	@Test
+	@SuppressWarnings("null")
+	void testExternalPlayers() {
+		var random = new Random(0);
+		var rules = UnoOfficialRules.getPack(PROGRESSIVE).freeze();
+		var generator = new UnoMoveGenerator(rules);
+		var moves = new int[UnoMoveGenerator.getMaxMoves(UnoStandardDeck.getExpectedSize())];
+
+		var engines = new ArrayList<UnoGameEngine>();
+		for (int i = 0; i < GAMES; i++) {
+			var engine = new UnoGameEngine(UnoStandardDeck.getDeck(), 7, rules, new Random(i),
+										   new UnoExternalPlayer("E1"), new FirstCardPlayer("P2"),
+										   new UnoExternalPlayer("E3"));
+			engine.start();
+			engines.add(engine);
+		}
+
+		int awaited = 0;
+		var running = new ArrayList<>(engines);
+		while (!running.isEmpty()) {
+			for (var iterator = running.iterator(); iterator.hasNext();) {
+				var engine = iterator.next();
+				switch (engine.getState()) {
+					case READY:
+						engine.step();
+						break;
+
+					case AWAITING_COLOR:
+						engine.submitColor(UnoCardColor.GREEN);
+						awaited++;
+						break;
+
+					case AWAITING_CARD:
+						var game = engine.getGame();
+						int count = generator.generate(game, engine.getAwaitedPlayer(), moves);
+						int move = moves[random.nextInt(count)];
+						if (random.nextBoolean())
+							assertTrue(engine.submitDecision(move));
+						else
+							assertTrue(engine.submitCard(UnoMoves.getCard(game.getCardTable(), move)));
+						awaited++;
+						break;
+
+					case AWAITING_DRAWN_CARD:
+						assertNotNull(engine.getDrawnCard());
+						engine.submitDrawnCard(random.nextBoolean());
+						awaited++;
+						break;
+
+					case FINISHED:
+						iterator.remove();
+						break;
+
+					default:
+						fail("Unexpected state " + engine.getState());
+				}
+			}
+		}
+		// A single thread interleaves all games, one step at a time
+
+		assertTrue(awaited > GAMES);
+		for (var engine : engines) {
+			var game = engine.getGame();
+			assertNotNull(engine.getWinner());
+			assertEquals(UnoStandardDeck.getExpectedSize(),
+						 game.getDraw().getSize() + game.getDiscard().getSize()
+																	 + game.getPlayers()
+																		 .stream()
+																		 .mapToInt(UnoPlayer::getHandSize)
+																		 .sum());
+		}
+	}
+
+	@Test
+	@SuppressWarnings("null")
+	void testInvalidInput() {
+		var engine = new UnoGameEngine(UnoStandardDeck.getDeck(), 7, UnoOfficialRules.getPack(), new Random(0),
+									   new UnoExternalPlayer("E1"), new UnoExternalPlayer("E2"));
+		assertThrows(IllegalStateException.class, engine::step);
+		engine.start();
+		assertThrows(IllegalStateException.class, () -> engine.submitCard(null));
+
+		while (engine.step() == READY) {
+			// Skips turns that are lost
+		}
+		assertEquals(AWAITING_CARD, engine.getState());
+
+		var player = engine.getAwaitedPlayer();
+		var game = engine.getGame();
+		UnoCard foreign = game.getNextPlayer(player).getCards().get(0);
+		int handSize = player.getHandSize();
+		assertFalse(engine.submitCard(foreign));
+		assertEquals(AWAITING_CARD, engine.getState());
+		assertEquals(handSize, player.getHandSize());
+		assertThrows(IllegalArgumentException.class, () -> engine.submitDecision(UnoMoves.KEEP_DRAWN_MOVE));
+		assertThrows(IllegalStateException.class, () -> engine.submitColor(UnoCardColor.RED));
+		assertThrows(UnsupportedOperationException.class, game::play);
+		// Invalid decisions are rejected and the decision is awaited again
+
+		engine.endGame();
+		assertEquals(FINISHED, engine.getState());
+		assertEquals(UnoWinner.UnoEndReason.REQUESTED, engine.getWinner().getEndReason());
+	}
+
+}
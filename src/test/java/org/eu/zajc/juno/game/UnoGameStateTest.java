@@ -0,0 +1,154 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.game;
+
+import static org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules.UnoHouseRule.PROGRESSIVE;
+import static org.eu.zajc.juno.utils.UnoRuleUtils.getPlaceableCards;
+
+import java.util.*;
+
+import javax.annotation.*;
+
+import org.eu.zajc.juno.cards.*;
+import org.eu.zajc.juno.decks.impl.UnoStandardDeck;
+import org.eu.zajc.juno.players.UnoPlayer;
+import org.eu.zajc.juno.rules.pack.UnoRulePack;
+import org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnoGameStateTest {
+
+	private static final int SNAPSHOT_TURN = 10;
+
+	private static final class FirstCardPlayer extends UnoPlayer {
+
+		FirstCardPlayer(@Nonnull String name) {
+			super(name);
+		}
+
+		@Override
+		@SuppressWarnings("null")
+		public UnoCard playCard(UnoGame game) {
+			var possible = getPlaceableCards(game.getTopCard(), getCards(), game.getRules(), getHand());
+			return possible.isEmpty() ? null : possible.get(0);
+		}
+
+		@Override
+		public UnoCardColor chooseColor(UnoGame game) {
+			return UnoCardColor.RED;
+		}
+
+		@Override
+		public boolean shouldPlayDrawnCard(UnoGame game, UnoCard drawnCard) {
+			return true;
+		}
+
+	}
+
+	private static final class SnapshotGame extends UnoControlledGame {
+
+		@Nullable private UnoGameState snapshot;
+		@Nullable private List<String> description;
+		private int turns;
+
+		SnapshotGame(@Nonnull UnoRulePack rules, int players) {
+			super(UnoStandardDeck.getDeck(), 7, rules, new Random(0) /* NOSONAR is deterministic */,
+				  createPlayers(players));
+		}
+
+		@Override
+		protected void turn(UnoPlayer player) {
+			super.turn(player);
+
+			if (++this.turns == SNAPSHOT_TURN) {
+				this.snapshot = snapshot();
+				this.description = describe(this);
+			}
+		}
+
+	}
+
+	@Nonnull
+	private static UnoPlayer[] createPlayers(int amount) {
+		var players = new UnoPlayer[amount];
+		for (int i = 0; i < amount; i++)
+			players[i] = new FirstCardPlayer("P" + i);
+		return players;
+	}
+
+	@Nonnull
+	@SuppressWarnings("null")
+	private static List<String> describe(@Nonnull UnoGame game) {
+		var description = new ArrayList<String>();
+		description.add(game.getDraw().getCards().toString());
+		description.add(game.getDiscard().getCards().toString());
+		for (var player : game.getPlayers())
+			description.add(player.getCards().toString());
+
+		var top = game.getDiscard().getTop();
+		description.add(top + " " + top.getColor() + " " + top.isOpen());
+		description.add(game.getPlayers().indexOf(game.getLastPlayer()) + " " + game.isReversedDirection());
+		return description;
+	}
+
+	@Test
+	@SuppressWarnings("null")
+	void testFork() {
+		var rules = UnoOfficialRules.getPack(PROGRESSIVE);
+		var original = new SnapshotGame(rules, 3);
+		original.play();
+		var state = original.snapshot;
+		assertNotNull(state);
+		assertEquals(3, state.getPlayerCount());
+		assertEquals(UnoStandardDeck.getExpectedSize(),
+					 state.getDrawSize() + state.getDiscardSize() + state.getHandSize(0) + state.getHandSize(1)
+																	 + state.getHandSize(2));
+
+		var fork = new SnapshotGame(rules, 3);
+		fork.restore(state);
+		assertEquals(original.description, describe(fork));
+		// The fork is in the same state as the original was
+
+		fork.resume();
+		assertEquals(UnoStandardDeck.getExpectedSize(),
+					 fork.getDraw().getSize() + fork.getDiscard().getSize()
+																	 + fork.getPlayers()
+																		 .stream()
+																		 .mapToInt(UnoPlayer::getHandSize)
+																		 .sum());
+		// The fork can be played out
+
+		original.restore(state);
+		assertEquals(original.description, describe(original));
+		// The snapshot is not affected by the fork and can be restored into the original
+	}
+
+	@Test
+	@SuppressWarnings("null")
+	void testMismatch() {
+		var rules = UnoOfficialRules.getPack();
+		var original = new SnapshotGame(rules, 2);
+		original.play();
+		var state = original.snapshot;
+
+		var larger = new SnapshotGame(rules, 3);
+		assertThrows(IllegalArgumentException.class, () -> larger.restore(state));
+	}
+
+}
@@ -19,17 +19,22 @@ package org.eu.zajc.juno.game;
 import static java.util.Collections.emptyList;
 import static org.eu.zajc.juno.TestUtils.getDummyPlayer;
 import static org.eu.zajc.juno.decks.impl.UnoStandardDeck.getDeck;
+import static org.eu.zajc.juno.game.UnoWinner.UnoEndReason.REQUESTED;
 import static org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules.UnoHouseRule.PROGRESSIVE;
 
+import java.util.ArrayList;
+
 import javax.annotation.*;
 
 import org.eu.zajc.juno.decks.UnoDeck;
+import org.eu.zajc.juno.hands.UnoHand;
 import org.eu.zajc.juno.players.UnoPlayer;
+import org.eu.zajc.juno.players.impl.UnoStrategicPlayer;
 import org.eu.zajc.juno.rules.pack.UnoRulePack;
 import org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 class UnoGameTest {
 
@@ -80,6 +85,88 @@ class UnoGameTest {
 		assertEquals(first, game.getPreviousPlayer(third));
 	}
 
+	@Test
+	@SuppressWarnings("null")
+	void testGetSeat() {
+		var first = getDummyPlayer(emptyList());
+		var second = getDummyPlayer(emptyList());
+		var third = getDummyPlayer(emptyList());
+		var game = createGame(first, second, third);
+
+		assertEquals(0, game.getSeat(first));
+		assertEquals(1, game.getSeat(second));
+		assertEquals(2, game.getSeat(third));
+		assertEquals(-1, game.getSeat(getDummyPlayer(emptyList())));
+		assertEquals(-1, game.getSeat(null));
+		assertThrows(IllegalArgumentException.class, () -> game.getNextPlayer(getDummyPlayer(emptyList())));
+
+		game.setLastPlayer(second);
+		assertEquals(1, game.getSeat(second));
+		assertEquals(third, game.getNextPlayer());
+		assertEquals(first, game.getPreviousPlayer());
+		// Relative to the last player
+	}
+
+	@Test
+	@SuppressWarnings("null")
+	void testHandTracking() {
+		var cards = getDeck().getCards();
+		UnoPlayer first = getDummyPlayer(cards.subList(0, 3));
+		UnoPlayer second = getDummyPlayer(cards.subList(3, 5));
+		UnoPlayer third = getDummyPlayer(cards.subList(5, 9));
+		var game = createGame(first, second, third);
+		game.getDiscard().add(cards.get(9));
+
+		assertEquals(2, game.getMinHandSize());
+		assertSame(second, game.fallbackVictory());
+		assertNull(game.findWinner());
+
+		first.getHand().clear();
+		assertEquals(0, game.getMinHandSize());
+		assertSame(first, game.findWinner());
+		// Tracked through the hand
+
+		var empty = first.getHand();
+		first.setHand(third.getHand());
+		third.setHand(empty);
+		assertEquals(0, game.getMinHandSize());
+		assertSame(third, game.findWinner());
+		third.getHand().addAll(cards.subList(10, 12));
+		assertEquals(2, game.getMinHandSize());
+		assertNull(game.fallbackVictory());
+		assertNull(game.findWinner());
+		// Tracked through swapped hands
+
+		var other = createGame(first, second, third);
+		second.getHand().getCards().remove(0);
+		assertEquals(1, other.getMinHandSize());
+		assertEquals(1, game.getMinHandSize());
+		// Players taken over by another game are reattached
+
+		var custom = new UnoHand(new ArrayList<>()) {};
+		second.setHand(custom);
+		assertEquals(0, game.getMinHandSize());
+		assertSame(second, game.findWinner());
+		// Hands that don't report changes are checked directly
+	}
+
+	@Test
+	@SuppressWarnings("null")
+	void testEndRequest() {
+		var game = createGame(new UnoStrategicPlayer("First"), new UnoStrategicPlayer("Second"));
+		game.reverseDirection();
+		game.endGame();
+		// Requests the end before the game starts
+
+		assertEquals(REQUESTED, game.play().getEndReason());
+		assertFalse(game.isReversedDirection());
+		assertFalse(game.isEndRequested());
+		// Test that the request is kept until the game starts and served once it ends
+
+		assertNotEquals(REQUESTED, game.play().getEndReason());
+		// Test that the request doesn't carry over to the next game
+	}
+
 	private static UnoGame createGame(@Nonnull UnoPlayer... players) {
 		return new UnoTestGame(getDeck(), 7, UnoOfficialRules.getPack(PROGRESSIVE), players);
 	}
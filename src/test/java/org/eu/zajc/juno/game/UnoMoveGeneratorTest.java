@@ -0,0 +1,153 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.game;
+
+import static org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules.UnoHouseRule.PROGRESSIVE;
+import static org.eu.zajc.juno.utils.UnoRuleUtils.getPlaceableCards;
+
+import java.util.*;
+
+import javax.annotation.*;
+
+import org.eu.zajc.juno.cards.*;
+import org.eu.zajc.juno.cards.impl.UnoNumericCard;
+import org.eu.zajc.juno.decks.impl.UnoStandardDeck;
+import org.eu.zajc.juno.players.UnoPlayer;
+import org.eu.zajc.juno.players.impl.UnoStrategicPlayer;
+import org.eu.zajc.juno.rules.pack.UnoRulePack;
+import org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnoMoveGeneratorTest {
+
+	private static final int GAMES = 50;
+
+	private static final class CheckedGame extends UnoControlledGame {
+
+		@Nonnull private final UnoMoveGenerator generator;
+		@Nonnull private final int[] moves = new int[UnoMoveGenerator.getMaxMoves(UnoStandardDeck.getExpectedSize())];
+		private int checks;
+
+		CheckedGame(@Nonnull UnoRulePack rules, long seed) {
+			super(UnoStandardDeck.getDeck(), 7, rules, new Random(seed), new UnoStrategicPlayer("P1"),
+				  new UnoStrategicPlayer("P2"), new UnoStrategicPlayer("P3"));
+			this.generator = new UnoMoveGenerator(rules);
+		}
+
+		@Override
+		protected void turn(UnoPlayer player) {
+			int count = this.generator.generate(this, player, this.moves);
+			assertEquals(expected(this, player), actual(this, this.moves, count));
+			this.checks++;
+
+			super.turn(player);
+		}
+
+	}
+
+	@Nonnull
+	@SuppressWarnings("null")
+	private static List<String> expected(@Nonnull UnoGame game, @Nonnull UnoPlayer player) {
+		var result = new ArrayList<String>();
+		var placeable = getPlaceableCards(game.getTopCard(), player.getCards(), game.getRules(), player.getHand());
+		if (game.getPlacementMatrix() != null)
+			placeable.sort(Comparator.comparingInt(game.getCardTable()::getId));
+		// Moves are found in the order of the IDs with a matrix, and of the hand otherwise
+
+		for (var card : placeable) {
+			if (card.getOriginalColor() == UnoCardColor.WILD) {
+				for (var color : List.of(UnoCardColor.RED, UnoCardColor.GREEN, UnoCardColor.BLUE,
+										 UnoCardColor.YELLOW))
+					result.add("Place " + card + " as " + color);
+			} else {
+				result.add("Place " + card);
+			}
+		}
+		result.add("Draw");
+		return result;
+	}
+
+	@Nonnull
+	private static List<String> actual(@Nonnull UnoGame game, @Nonnull int[] moves, int count) {
+		var result = new ArrayList<String>();
+		for (int i = 0; i < count; i++)
+			result.add(UnoMoves.toString(game.getCardTable(), moves[i]));
+		return result;
+	}
+
+	@Test
+	void testGenerate() {
+		for (var rules : List.of(UnoOfficialRules.getPack(), UnoOfficialRules.getPack(PROGRESSIVE).freeze())) {
+			for (int i = 0; i < GAMES; i++) {
+				var game = new CheckedGame(rules, i);
+				game.play();
+				assertTrue(game.checks > 0);
+			}
+		}
+		// Generated moves match the placeable cards in every turn
+	}
+
+	@Test
+	@SuppressWarnings("null")
+	void testGenerateDrawn() {
+		var game = new CheckedGame(UnoOfficialRules.getPack(), 0);
+		game.play();
+		var player = game.getPlayers().get(0);
+		var generator = new UnoMoveGenerator(game.getRules());
+		var moves = new int[UnoMoveGenerator.getMaxMoves(1)];
+
+		int playable = 0;
+		for (var card : game.getCardTable().getCards()) {
+			int count = generator.generateDrawn(game, player, card, moves);
+			assertEquals(UnoMoves.KEEP_DRAWN_MOVE, moves[count - 1]);
+			if (count > 1) {
+				playable++;
+				assertEquals(UnoMoves.PLAY_DRAWN, UnoMoves.getType(moves[0]));
+				assertSame(card, UnoMoves.getCard(game.getCardTable(), moves[0]));
+				assertEquals(card.getOriginalColor() == UnoCardColor.WILD ? 5 : 2, count);
+			}
+		}
+		assertTrue(playable > 0);
+
+		assertThrows(IllegalArgumentException.class, () -> generator.generate(game, player, new int[0]));
+		assertThrows(IllegalArgumentException.class,
+					 () -> generator.generateDrawn(game, player, new UnoNumericCard(UnoCardColor.RED, 5), moves));
+		// Cards from outside of the game's table can't be encoded
+	}
+
+	@Test
+	void testEncoding() {
+		int move = UnoMoves.place(107, UnoCardColor.YELLOW);
+		assertEquals(UnoMoves.PLACE, UnoMoves.getType(move));
+		assertEquals(107, UnoMoves.getCardId(move));
+		assertEquals(UnoCardColor.YELLOW, UnoMoves.getColor(move));
+
+		move = UnoMoves.playDrawn(0, null);
+		assertEquals(UnoMoves.PLAY_DRAWN, UnoMoves.getType(move));
+		assertEquals(0, UnoMoves.getCardId(move));
+		assertNull(UnoMoves.getColor(move));
+
+		assertEquals(UnoMoves.DRAW, UnoMoves.getType(UnoMoves.DRAW_MOVE));
+		assertEquals(-1, UnoMoves.getCardId(UnoMoves.DRAW_MOVE));
+		assertFalse(UnoMoves.isPlacement(UnoMoves.KEEP_DRAWN_MOVE));
+		assertThrows(IllegalArgumentException.class, () -> UnoMoves.place(0, UnoCardColor.WILD));
+		assertThrows(IllegalArgumentException.class, () -> UnoMoves.place(-1, null));
+	}
+
+}
@@ -0,0 +1,113 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.game.event;
+
+import static org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules.UnoHouseRule.PROGRESSIVE;
+
+import java.util.*;
+
+import org.eu.zajc.juno.decks.impl.UnoStandardDeck;
+import org.eu.zajc.juno.game.*;
+import org.eu.zajc.juno.players.UnoPlayer;
+import org.eu.zajc.juno.players.impl.UnoStrategicPlayer;
+import org.eu.zajc.juno.rules.pack.UnoRulePack;
+import org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnoGameListenerTest {
+
+	private static class HeadlessGame extends UnoControlledGame {
+
+		HeadlessGame(UnoRulePack rules, UnoPlayer... players) {
+			super(UnoStandardDeck.getDeck(), 7, rules, new Random(0) /* NOSONAR is deterministic */, players);
+		}
+
+	}
+
+	private static class TextGame extends HeadlessGame {
+
+		private final List<String> messages = new ArrayList<>();
+
+		TextGame(UnoRulePack rules, UnoPlayer... players) {
+			super(rules, players);
+		}
+
+		@Override
+		public void onEvent(String format, Object... arguments) {
+			this.messages.add(String.format(format, arguments));
+		}
+
+	}
+
+	@Test
+	@SuppressWarnings("null")
+	void testListeners() {
+		var game = new HeadlessGame(UnoOfficialRules.getPack(PROGRESSIVE), new UnoStrategicPlayer("P1"),
+									new UnoStrategicPlayer("P2"), new UnoStrategicPlayer("P3"));
+		assertFalse(game.isObserved());
+		// Headless games don't create events at all
+
+		var events = new ArrayList<UnoGameEvent>();
+		UnoGameListener listener = (g, event) -> {
+			assertSame(game, g);
+			events.add(event);
+		};
+		game.addListener(listener);
+		assertTrue(game.isObserved());
+
+		var winner = game.play();
+		assertSame(UnoGameStartEvent.INSTANCE, events.get(0));
+		var end = assertInstanceOf(UnoGameEndEvent.class, events.get(events.size() - 1));
+		assertSame(winner, end.getWinner());
+		// The game is bracketed by the start and end events
+
+		assertTrue(events.stream().anyMatch(UnoCardPlacedEvent.class::isInstance));
+		assertTrue(events.stream().anyMatch(UnoCardsDrawnEvent.class::isInstance));
+		for (var event : events)
+			assertFalse(event.getMessage().contains("%"));
+		// Every message can be formatted
+
+		game.removeListener(listener);
+		assertFalse(game.isObserved());
+		events.clear();
+		game.play();
+		assertTrue(events.isEmpty());
+	}
+
+	@Test
+	@SuppressWarnings("null")
+	void testLegacyText() {
+		var game = new TextGame(UnoOfficialRules.getPack(), new UnoStrategicPlayer("P1"), new UnoStrategicPlayer("P2"));
+		assertTrue(game.isObserved());
+
+		var events = new ArrayList<UnoGameEvent>();
+		game.addListener((g, event) -> events.add(event));
+		game.play();
+
+		assertEquals("The game begins!", game.messages.get(0));
+		var expected = new ArrayList<String>();
+		for (var event : events) {
+			if (!(event instanceof UnoGameEndEvent) && !(event instanceof UnoReshuffleEvent))
+				expected.add(event.getMessage());
+		}
+		assertEquals(expected, game.messages);
+		// The legacy text sink receives the same messages, except for the new event types
+	}
+
+}
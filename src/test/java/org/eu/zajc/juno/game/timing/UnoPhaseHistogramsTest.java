@@ -0,0 +1,117 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.game.timing;
+
+import static org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules.UnoHouseRule.PROGRESSIVE;
+
+import java.util.Random;
+
+import javax.annotation.Nonnull;
+
+import org.eu.zajc.juno.decks.impl.UnoStandardDeck;
+import org.eu.zajc.juno.game.UnoControlledGame;
+import org.eu.zajc.juno.players.UnoPlayer;
+import org.eu.zajc.juno.players.impl.UnoStrategicPlayer;
+import org.eu.zajc.juno.rules.pack.UnoRulePack;
+import org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnoPhaseHistogramsTest {
+
+	private static final int GAMES = 20;
+
+	private static final class TimedGame extends UnoControlledGame {
+
+		int turns;
+
+		TimedGame(@Nonnull UnoRulePack rules, @Nonnull UnoPlayer... players) {
+			super(UnoStandardDeck.getDeck(), 7, rules, new Random(0), players);
+		}
+
+		@Override
+		protected void turn(UnoPlayer player) {
+			this.turns++;
+			super.turn(player);
+		}
+
+	}
+
+	@Test
+	@SuppressWarnings("null")
+	void testHistograms() {
+		var rules = UnoOfficialRules.getPack(PROGRESSIVE);
+		var p1 = new UnoStrategicPlayer("P1");
+		var p2 = new UnoStrategicPlayer("P2");
+		var game = new TimedGame(rules, p1, p2);
+		var histograms = new UnoPhaseHistograms();
+		game.setPhaseTimer(histograms);
+
+		for (int i = 0; i < GAMES; i++)
+			game.play();
+
+		assertEquals(game.turns, histograms.getInitializationPhases().getCount());
+		assertEquals(GAMES, histograms.getObjections().getCount());
+		long decisionPhases = histograms.getDecisionPhases().getCount();
+		assertTrue(decisionPhases > 0 && decisionPhases <= game.turns);
+		// Every turn has an initialization phase, but lost turns have no decision phase
+
+		long decisions = histograms.getDecisions().get("P1").getCount() + histograms.getDecisions().get("P2").getCount();
+		assertEquals(decisionPhases + histograms.getDecisionRepeats(), decisions);
+		for (var rule : rules.getFlowRules())
+			assertEquals(decisions, histograms.getRules().get(rule.getClass()).getCount(), rule.getClass().getName());
+		// Every decision is passed through every flow rule
+
+		assertTrue(histograms.getDecisionPhases().getTotalNanos() > 0);
+		assertFalse(histograms.toString().isEmpty());
+
+		var rematch = new TimedGame(rules, new UnoStrategicPlayer("P1"), new UnoStrategicPlayer("P2"));
+		rematch.setPhaseTimer(histograms);
+		rematch.play();
+		assertEquals(2, histograms.getDecisions().size());
+		// New players with the same names share the histograms
+	}
+
+	@Test
+	void testDisabled() {
+		var game = new TimedGame(UnoOfficialRules.getPack(), new UnoStrategicPlayer("P1"),
+								 new UnoStrategicPlayer("P2"));
+		var histograms = new UnoPhaseHistograms();
+		game.setPhaseTimer(histograms);
+		game.setPhaseTimer(null);
+		game.play();
+		assertEquals(0, histograms.getInitializationPhases().getCount());
+	}
+
+	@Test
+	void testPercentiles() {
+		var histogram = new UnoTimingHistogram();
+		assertEquals(0, histogram.getPercentileNanos(50));
+		for (int i = 1; i <= 100; i++)
+			histogram.record(i * 10L);
+
+		assertEquals(100, histogram.getCount());
+		assertEquals(50_500, histogram.getTotalNanos());
+		assertEquals(1000, histogram.getMaxNanos());
+		long median = histogram.getPercentileNanos(50);
+		assertTrue(median >= 500 && median < 1000, Long.toString(median));
+		assertEquals(1000, histogram.getPercentileNanos(100));
+		assertThrows(IllegalArgumentException.class, () -> histogram.getPercentileNanos(101));
+	}
+
+}
@@ -18,7 +18,11 @@ package org.eu.zajc.juno.hands;
 
 import static org.eu.zajc.juno.cards.UnoCardColor.*;
 
+import java.util.*;
+
+import org.eu.zajc.juno.cards.*;
 import org.eu.zajc.juno.cards.impl.UnoNumericCard;
+import org.eu.zajc.juno.decks.impl.UnoStandardDeck;
 import org.eu.zajc.juno.piles.impl.UnoDiscardPile;
 import org.junit.jupiter.api.Test;
 
@@ -68,4 +72,119 @@ class UnoHandTest {
 		// Tests the hand size
 	}
 
+	private static void assertColorCounts(UnoHand hand) {
+		for (var color : UnoCardColor.values()) {
+			long expected = hand.getCards().stream().filter(c -> c.getOriginalColor() == color).count();
+			assertEquals(expected, hand.getColorCount(color), color::toString);
+		}
+	}
+
+	@Test
+	@SuppressWarnings("null")
+	void testColorCounts() {
+		var random = new Random(0);
+		var cards = UnoStandardDeck.getDeck().getCards();
+		UnoHand hand = new UnoHand();
+		UnoDiscardPile discard = new UnoDiscardPile();
+
+		for (int i = 0; i < 1000; i++) {
+			var card = cards.get(random.nextInt(cards.size()));
+			if (!hand.getCards().contains(card))
+				hand.getCards().add(card);
+			else if (random.nextBoolean())
+				assertTrue(hand.addToDiscard(discard, card));
+			else
+				hand.getCards().set(hand.getCards().indexOf(card), cards.get(random.nextInt(cards.size())));
+			assertColorCounts(hand);
+		}
+		// Randomly adds, discards and replaces cards
+
+		hand.addAll(cards.subList(0, 10));
+		assertColorCounts(hand);
+		hand.getCards().subList(0, 5).clear();
+		assertColorCounts(hand);
+		hand.getCards().removeIf(c -> c.getOriginalColor() == RED);
+		assertEquals(0, hand.getColorCount(RED));
+		assertColorCounts(hand);
+		// Tests bulk changes and changes through views
+
+		hand.clear();
+		assertColorCounts(hand);
+	}
+
+	private static void assertCardIds(UnoHand hand, UnoCardTable table) {
+		var ids = hand.getCardIds(table);
+		assertNotNull(ids);
+		var expected = new BitSet();
+		hand.getCards().forEach(c -> expected.set(table.getId(c)));
+		assertEquals(expected, BitSet.valueOf(ids));
+	}
+
+	@Test
+	@SuppressWarnings("null")
+	void testCardIds() {
+		var random = new Random(0);
+		var table = UnoStandardDeck.getDeck().createCardTable();
+		var cards = table.getCards();
+		UnoHand hand = new UnoHand();
+		UnoDiscardPile discard = new UnoDiscardPile();
+		assertCardIds(hand, table);
+
+		for (int i = 0; i < 1000; i++) {
+			var card = cards.get(random.nextInt(cards.size()));
+			var replacement = cards.get(random.nextInt(cards.size()));
+			if (!hand.getCards().contains(card))
+				hand.getCards().add(card);
+			else if (random.nextBoolean() || hand.getCards().contains(replacement))
+				assertTrue(hand.addToDiscard(discard, card));
+			else
+				hand.getCards().set(hand.getCards().indexOf(card), replacement);
+			assertCardIds(hand, table);
+		}
+		// Randomly adds, discards and replaces cards without ever holding one twice
+
+		hand.getCards().add(hand.getCards().get(0));
+		assertNull(hand.getCardIds(table));
+		hand.getCards().remove(0);
+		assertNull(hand.getCardIds(table));
+		// A card that's held twice invalidates the IDs as well
+
+		hand.clear();
+		hand.addAll(cards.subList(0, 10));
+		hand.getCards().subList(0, 5).clear();
+		assertCardIds(hand, table);
+		assertNull(hand.getCardIds(UnoStandardDeck.getDeck().createCardTable()));
+		// The IDs are only valid in the table of the cards
+
+		hand.getCards().add(new UnoNumericCard(RED, 0));
+		assertNull(hand.getCardIds(table));
+		hand.clear();
+		hand.getCards().add(cards.get(0));
+		assertCardIds(hand, table);
+		// Cards from outside of the table invalidate the IDs until the hand is emptied
+
+		assertNull(new UnoHand(new ArrayList<>()) {}.getCardIds(table));
+	}
+
+	@Test
+	@SuppressWarnings("null")
+	void testListener() {
+		var cards = UnoStandardDeck.getDeck().getCards();
+		var sizes = new ArrayList<Integer>();
+		UnoHand hand = new UnoHand();
+		assertTrue(hand.isReporting());
+		hand.setListener(h -> sizes.add(h.getSize()));
+
+		hand.addAll(cards.subList(0, 5));
+		hand.getCards().add(cards.get(5));
+		assertTrue(hand.addToDiscard(new UnoDiscardPile(), cards.get(0)));
+		hand.getCards().set(0, cards.get(6));
+		hand.getCards().subList(0, 2).clear();
+		hand.clear();
+		assertEquals(List.of(5, 6, 5, 4, 3, 0), sizes);
+		// Replacing a card doesn't change the size
+
+		assertFalse(new UnoHand(new ArrayList<>()) {}.isReporting());
+	}
+
 }
@@ -0,0 +1,103 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.hands.impl;
+
+import static org.eu.zajc.juno.cards.UnoCardColor.*;
+
+import java.util.*;
+
+import org.eu.zajc.juno.cards.*;
+import org.eu.zajc.juno.cards.impl.*;
+import org.eu.zajc.juno.decks.impl.UnoStandardDeck;
+import org.eu.zajc.juno.hands.UnoHand;
+import org.eu.zajc.juno.piles.impl.UnoDiscardPile;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnoCountingHandTest {
+
+	private static void assertCountsMatch(UnoHand expected, UnoHand actual) {
+		for (var color : UnoCardColor.values())
+			assertEquals(expected.getColorCount(color), actual.getColorCount(color), color::toString);
+
+		for (var kind : List.of(UnoCard.class, UnoNumericCard.class, UnoSkipCard.class, UnoReverseCard.class,
+								UnoDrawCard.class, UnoWildCard.class))
+			assertEquals(expected.getKindCount(kind), actual.getKindCount(kind), kind::getSimpleName);
+
+		assertEquals(expected.getSize(), actual.getSize());
+	}
+
+	@Test
+	void testCounts() {
+		var random = new Random(0);
+		var table = UnoStandardDeck.getDeck().createCardTable();
+		var cards = table.getCards();
+		UnoHand reference = new UnoHand();
+		UnoHand hand = new UnoCountingHand();
+		// Creates a regular and a counting hand
+
+		for (int i = 0; i < 1000; i++) {
+			var card = cards.get(random.nextInt(cards.size()));
+			if (hand.getCards().contains(card)) {
+				assertTrue(hand.getCards().remove(card));
+				reference.getCards().remove(card);
+			} else {
+				hand.getCards().add(card);
+				reference.getCards().add(card);
+			}
+			assertCountsMatch(reference, hand);
+			assertArrayEquals(reference.getCardIds(table), hand.getCardIds(table));
+		}
+		// Randomly adds and removes cards
+
+		for (int i = 0; i < hand.getSize(); i++)
+			assertEquals(i, hand.getCards().indexOf(hand.getCards().get(i)));
+		// Tests the index
+
+		hand.getCards().removeIf(c -> c.getOriginalColor() == RED);
+		reference.getCards().removeIf(c -> c.getOriginalColor() == RED);
+		assertCountsMatch(reference, hand);
+		assertEquals(0, hand.getColorCount(RED));
+		// Tests iterator removal
+
+		hand.clear();
+		reference.clear();
+		assertCountsMatch(reference, hand);
+	}
+
+	@Test
+	@SuppressWarnings("null")
+	void testAddToDiscard() {
+		UnoHand hand = new UnoCountingHand();
+		UnoCard first = new UnoNumericCard(RED, 0);
+		UnoCard second = new UnoWildCard();
+		UnoCard third = new UnoSkipCard(BLUE);
+		hand.getCards().addAll(List.of(first, second, third));
+
+		UnoDiscardPile discard = new UnoDiscardPile();
+		assertTrue(hand.addToDiscard(discard, first));
+		assertEquals(first, discard.getTop());
+		assertEquals(List.of(third, second), hand.getCards());
+		// The last card takes the removed card's place
+
+		assertFalse(hand.addToDiscard(discard, first));
+		assertThrows(IllegalArgumentException.class, () -> hand.getCards().add(second));
+		// Tests the nonexistent and duplicate card blocks
+	}
+
+}
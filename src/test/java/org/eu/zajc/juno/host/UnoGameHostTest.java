@@ -0,0 +1,242 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.host;
+
+import static org.eu.zajc.juno.utils.UnoRuleUtils.getPlaceableCards;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import javax.annotation.*;
+
+import org.eu.zajc.juno.cards.*;
+import org.eu.zajc.juno.decks.impl.UnoStandardDeck;
+import org.eu.zajc.juno.game.*;
+import org.eu.zajc.juno.game.UnoWinner.UnoEndReason;
+import org.eu.zajc.juno.players.UnoPlayer;
+import org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class UnoGameHostTest {
+
+	private static final int LOAD_TABLES = Integer.getInteger("juno.loadTables", 2000);
+	private static final long LOAD_MAX_BYTES_PER_GAME = Long.getLong("juno.loadMaxBytesPerGame", 64 * 1024);
+	// The load test's size and heap bound, set by the java21 profile's load-test execution
+
+	/**
+	 * A player that blocks on a latch before its first decision, like a player waiting
+	 * for input would. It stops waiting when interrupted.
+	 */
+	private static final class BlockingPlayer extends UnoPlayer {
+
+		@Nonnull private final CountDownLatch release;
+		@Nullable private final CountDownLatch arrived;
+		private boolean waited;
+
+		BlockingPlayer(@Nonnull String name, @Nonnull CountDownLatch release, @Nullable CountDownLatch arrived) {
+			super(name);
+			this.release = release;
+			this.arrived = arrived;
+		}
+
+		@Override
+		@SuppressWarnings("null")
+		public UnoCard playCard(UnoGame game) {
+			if (!this.waited) {
+				this.waited = true;
+				if (this.arrived != null)
+					this.arrived.countDown();
+				try {
+					this.release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+
+			var possible = getPlaceableCards(game.getTopCard(), getCards(), game.getRules(), getHand());
+			return possible.isEmpty() ? null : possible.get(0);
+		}
+
+		@Override
+		public UnoCardColor chooseColor(UnoGame game) {
+			return UnoCardColor.RED;
+		}
+
+		@Override
+		public boolean shouldPlayDrawnCard(UnoGame game, UnoCard drawnCard) {
+			return true;
+		}
+
+	}
+
+	private static final class TableGame extends UnoControlledGame {
+
+		TableGame(@Nonnull UnoPlayer... players) {
+			super(UnoStandardDeck.getDeck(), 7, UnoOfficialRules.getPack(), players);
+		}
+
+	}
+
+	@Nonnull
+	private static UnoGame table(@Nonnull CountDownLatch release, @Nullable CountDownLatch arrived) {
+		return new TableGame(new BlockingPlayer("P1", release, arrived), new BlockingPlayer("P2", release, null));
+	}
+
+	@Test
+	@SuppressWarnings("null")
+	void testAdmission() throws Exception {
+		var release = new CountDownLatch(1);
+		var arrived = new CountDownLatch(2);
+		var host = new UnoGameHost(2, 3);
+		var results = new ArrayList<CompletableFuture<UnoWinner>>();
+		for (int i = 0; i < 5; i++)
+			results.add(host.submit(table(release, arrived)));
+
+		assertTrue(arrived.await(10, TimeUnit.SECONDS));
+		assertEquals(2, host.getRunningGames());
+		assertEquals(3, host.getQueuedGames());
+		var overflow = table(release, null);
+		assertThrows(RejectedExecutionException.class, () -> host.submit(overflow));
+		// Two games are running, three are queued and the rest are rejected
+
+		release.countDown();
+		host.shutdown();
+		assertThrows(RejectedExecutionException.class, () -> host.submit(overflow));
+		assertTrue(host.awaitTermination(10, TimeUnit.SECONDS));
+		assertTrue(host.isTerminated());
+		assertEquals(5, host.getCompletedGames());
+		for (var result : results)
+			assertNotNull(result.get().getEndReason());
+		// Shutting down lets the admitted games finish
+	}
+
+	@Test
+	@SuppressWarnings("null")
+	void testShutdownNow() throws Exception {
+		var release = new CountDownLatch(1);
+		var arrived = new CountDownLatch(1);
+		var host = new UnoGameHost(1, 2);
+		var running = host.submit(table(release, arrived));
+		var queued = List.of(host.submit(table(release, null)), host.submit(table(release, null)));
+		assertTrue(arrived.await(10, TimeUnit.SECONDS));
+
+		assertEquals(2, host.shutdownNow().size());
+		assertTrue(queued.stream().allMatch(CompletableFuture::isCancelled));
+		// The queued games are dropped, while the running one is asked to end
+
+		assertTrue(host.awaitTermination(10, TimeUnit.SECONDS));
+		assertEquals(UnoEndReason.REQUESTED, running.get().getEndReason());
+		assertEquals(1, release.getCount());
+		// The blocked player is interrupted, so the game ends without being released
+	}
+
+	@Test
+	@SuppressWarnings("null")
+	void testShutdownNowBeforeStart() throws Exception {
+		var gate = new CountDownLatch(1);
+		ThreadFactory threads = r -> new Thread(() -> {
+			try {
+				gate.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			r.run();
+		});
+		var host = new UnoGameHost(1, 0, threads);
+		var running = host.submit(table(new CountDownLatch(1), null));
+		assertEquals(1, host.getRunningGames());
+
+		assertTrue(host.shutdownNow().isEmpty());
+		gate.countDown();
+		// The game is shut down before its thread gets to play it
+
+		assertTrue(host.awaitTermination(10, TimeUnit.SECONDS));
+		assertTrue(running.isCancelled());
+	}
+
+	private static boolean isVirtual(@Nonnull Thread thread) {
+		try {
+			return (Boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+		} catch (NoSuchMethodException e) {
+			return false;
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException(e);
+		}
+		// Thread#isVirtual() only exists on Java 21 and later
+	}
+
+	/**
+	 * Blocks a large amount of games on virtual threads at once and checks the heap used
+	 * per game against a bound. The Java 21 classes are only loaded from the
+	 * multi-release jar, so this runs in the package phase of the {@code java21} profile
+	 * and is skipped otherwise.
+	 */
+	@Test
+	@SuppressWarnings("null")
+	void testLoad() throws Exception {
+		var release = new CountDownLatch(1);
+		var arrived = new CountDownLatch(LOAD_TABLES);
+		var runtime = Runtime.getRuntime();
+
+		try (var host = new UnoGameHost(LOAD_TABLES + 1, 0)) {
+			assumeTrue(host.isVirtual(), "The host isn't using virtual threads");
+			try {
+				var thread = new CompletableFuture<Thread>();
+				var probe = new TableGame(new BlockingPlayer("P1", release, null),
+										  new BlockingPlayer("P2", release, null));
+				probe.addListener((game, event) -> thread.complete(Thread.currentThread()));
+				host.submit(probe);
+				assertTrue(isVirtual(thread.get(10, TimeUnit.SECONDS)));
+				// Makes sure that the games really are played on virtual threads
+
+				System.gc();
+				long before = runtime.totalMemory() - runtime.freeMemory();
+				long start = System.nanoTime();
+
+				var results = new ArrayList<CompletableFuture<UnoWinner>>(LOAD_TABLES);
+				for (int i = 0; i < LOAD_TABLES; i++)
+					results.add(host.submit(table(release, arrived)));
+				assertTrue(arrived.await(60, TimeUnit.SECONDS));
+				// Every table is now blocked on a player's decision
+
+				assertEquals(LOAD_TABLES + 1, host.getRunningGames());
+				System.gc();
+				long perGame = (runtime.totalMemory() - runtime.freeMemory() - before) / LOAD_TABLES;
+				System.out.printf("%d concurrent games on virtual threads, ~%d bytes of heap per game%n",
+								  LOAD_TABLES, perGame);
+				// The stacks of parked virtual threads are kept on the heap, so they are included
+				assertTrue(perGame < LOAD_MAX_BYTES_PER_GAME,
+						   String.format("~%d bytes of heap per game exceeds the bound of %d bytes", perGame,
+										 LOAD_MAX_BYTES_PER_GAME));
+
+				release.countDown();
+				for (var result : results)
+					assertNotNull(result.get(60, TimeUnit.SECONDS));
+				System.out.printf("Played %d games in %d ms%n", LOAD_TABLES,
+								  TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+			} finally {
+				release.countDown();
+			}
+			// Lets the host close even if an assertion fails
+		}
+	}
+
+}
@@ -0,0 +1,106 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.jfr;
+
+import static org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules.UnoHouseRule.PROGRESSIVE;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+
+import javax.annotation.Nonnull;
+
+import org.eu.zajc.juno.decks.impl.UnoStandardDeck;
+import org.eu.zajc.juno.game.UnoControlledGame;
+import org.eu.zajc.juno.players.UnoPlayer;
+import org.eu.zajc.juno.players.impl.UnoStrategicPlayer;
+import org.eu.zajc.juno.rules.pack.UnoRulePack;
+import org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules;
+import org.junit.jupiter.api.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnoJfrEventsTest {
+
+	private static final int GAMES = 10;
+	private static final int PLAYERS = 4;
+	private static final List<String> EVENTS = List.of("org.eu.zajc.juno.Game", "org.eu.zajc.juno.Turn",
+													   "org.eu.zajc.juno.CardPlaced", "org.eu.zajc.juno.CardsDrawn",
+													   "org.eu.zajc.juno.Reshuffle",
+													   "org.eu.zajc.juno.RuleConflict");
+
+	private static final class RecordedGame extends UnoControlledGame {
+
+		RecordedGame(@Nonnull UnoRulePack rules, @Nonnull UnoPlayer... players) {
+			super(UnoStandardDeck.getDeck(), 7, rules, new Random(0), players);
+		}
+
+	}
+
+	@Test
+	@SuppressWarnings("null")
+	void testEvents() throws IOException {
+		var file = Files.createTempFile("juno", ".jfr");
+		try {
+			try (var recording = new Recording()) {
+				for (var event : EVENTS)
+					recording.enable(event).withoutThreshold();
+				recording.start();
+
+				var players = new UnoPlayer[PLAYERS];
+				for (int i = 0; i < players.length; i++)
+					players[i] = new UnoStrategicPlayer("P" + i);
+
+				var game = new RecordedGame(UnoOfficialRules.getPack(PROGRESSIVE), players);
+				for (int i = 0; i < GAMES; i++)
+					game.play();
+				game.discardIntoDraw();
+				// games between strategic players rarely drain the draw pile, so a reshuffle is
+				// forced
+
+				recording.stop();
+				recording.dump(file);
+			}
+
+			var counts = new HashMap<String, Integer>();
+			for (var event : RecordingFile.readAllEvents(file)) {
+				var name = event.getEventType().getName();
+				if (!name.startsWith("org.eu.zajc.juno."))
+					continue;
+
+				counts.merge(name, 1, Integer::sum);
+				assertNull(event.getStackTrace(), name);
+				if (name.equals("org.eu.zajc.juno.Game")) {
+					assertEquals(PLAYERS, event.getInt("players"));
+					assertNotNull(event.getString("endReason"));
+				} else if (name.equals("org.eu.zajc.juno.CardsDrawn")) {
+					assertTrue(event.getInt("amount") >= 2 * event.getInt("stacked"));
+				}
+			}
+
+			assertEquals(GAMES, counts.get("org.eu.zajc.juno.Game"));
+			for (var event : EVENTS)
+				assertTrue(counts.getOrDefault(event, 0) > 0, event);
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+}
@@ -0,0 +1,83 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.piles.impl;
+
+import static java.util.Arrays.asList;
+import static org.eu.zajc.juno.cards.UnoCardColor.*;
+
+import org.eu.zajc.juno.cards.UnoCard;
+import org.eu.zajc.juno.cards.impl.*;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnoDiscardPileTest {
+
+	@Test
+	@SuppressWarnings("null")
+	void testOrder() {
+		UnoDiscardPile pile = new UnoDiscardPile();
+		UnoCard first = new UnoNumericCard(RED, 1);
+		UnoCard second = new UnoNumericCard(RED, 2);
+		UnoCard third = new UnoNumericCard(RED, 3);
+		UnoCard fourth = new UnoNumericCard(RED, 4);
+
+		pile.addAll(asList(second, first));
+		pile.add(third);
+		pile.add(fourth);
+		// Fills the pile
+
+		assertEquals(fourth, pile.getTop());
+		assertEquals(asList(fourth, third, second, first), pile.getCards());
+		// Tests the "top first" order
+
+		assertThrows(UnsupportedOperationException.class, () -> pile.getCards().add(first));
+		// Tests the immutability of the view
+	}
+
+	@Test
+	void testGrowth() {
+		UnoDiscardPile pile = new UnoDiscardPile();
+		for (int i = 0; i < 1000; i++)
+			pile.add(new UnoNumericCard(BLUE, i % 10));
+
+		assertEquals(1000, pile.getSize());
+		assertEquals(9, ((UnoNumericCard) pile.getTop()).getNumber());
+	}
+
+	@Test
+	@SuppressWarnings("null")
+	void testCreateDrawPile() {
+		UnoDiscardPile pile = new UnoDiscardPile();
+		UnoCard bottom = new UnoWildCard();
+		bottom.setColorMask(GREEN);
+		UnoCard top = new UnoNumericCard(YELLOW, 5);
+		pile.add(bottom);
+		pile.add(top);
+		// Fills the pile
+
+		UnoDrawPile draw = pile.createDrawPile();
+		// Moves all but the top card into a new draw pile
+
+		assertEquals(1, pile.getSize());
+		assertEquals(top, pile.getTop());
+		assertEquals(asList(bottom), draw.getCards());
+		assertEquals(WILD, bottom.getColor());
+		// Tests the situation
+	}
+
+}
@@ -19,12 +19,13 @@ package org.eu.zajc.juno.piles.impl;
 import static java.util.Arrays.asList;
 import static org.eu.zajc.juno.cards.UnoCardColor.*;
 
-import java.util.Random;
+import java.util.*;
 
-import org.eu.zajc.juno.cards.UnoCard;
+import org.eu.zajc.juno.cards.*;
 import org.eu.zajc.juno.cards.impl.*;
 import org.eu.zajc.juno.decks.UnoDeck;
 import org.eu.zajc.juno.decks.impl.UnoStandardDeck;
+import org.eu.zajc.juno.utils.UnoRandom;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -81,4 +82,99 @@ class UnoDrawPileTest {
 		// Checks whether the card has been actually drawn from the pile
 	}
 
+	@Test
+	void testShuffleOrder() {
+		UnoDeck deck = UnoStandardDeck.getDeck();
+		List<UnoCard> expected = deck.getCards();
+		Collections.shuffle(expected, new Random(0)); // NOSONAR determinism
+		// Shuffles the deck with the Collections API
+
+		UnoDrawPile pile = new UnoDrawPile(deck, new Random(0)); // NOSONAR determinism
+		// Creates a new draw pile with an equally seeded random
+
+		assertEquals(expected.toString(), pile.getCards().toString());
+		// The in-place shuffle should produce the same order
+	}
+
+	@Test
+	void testMergeResetShuffle() {
+		UnoDeck deck = UnoStandardDeck.getDeck();
+		UnoDrawPile pile = new UnoDrawPile(deck, UnoRandom.of(new SplittableRandom(0)));
+		UnoDrawPile other = new UnoDrawPile(deck, UnoRandom.of(new SplittableRandom(1)));
+		// Creates two draw piles
+
+		assertEquals(100, pile.draw(100).size());
+		assertEquals(UnoStandardDeck.getExpectedSize() - 100, pile.getSize());
+		// Draws most of the cards
+
+		Set<UnoCard> expected = Collections.newSetFromMap(new IdentityHashMap<>());
+		expected.addAll(pile.getCards());
+		expected.addAll(other.getCards());
+		pile.mergeResetShuffle(other);
+		// Merges the other pile into the first one
+
+		assertEquals(0, other.getSize());
+		assertEquals(expected.size(), pile.getSize());
+		for (int i = pile.getSize(); i > 0; i--)
+			assertTrue(expected.contains(pile.draw()));
+		assertThrows(IllegalStateException.class, () -> pile.draw());
+		// Tests the merged pile
+	}
+
+	@Test
+	void testMergeDiscardPile() {
+		UnoDeck deck = UnoStandardDeck.getDeck();
+		var cards = deck.getCards();
+		UnoDrawPile pile = new UnoDrawPile(cards.subList(0, 20), UnoRandom.of(new SplittableRandom(0)));
+		UnoDrawPile expected = new UnoDrawPile(cards.subList(0, 20), UnoRandom.of(new SplittableRandom(0)));
+		UnoDiscardPile discard = new UnoDiscardPile();
+		discard.addAll(cards.subList(20, cards.size()));
+		var top = discard.getTop();
+		// Creates two equally seeded draw piles and fills the discard pile
+
+		expected.mergeResetShuffle(new UnoDiscardPile() {
+
+			{
+				addAll(discard.getCards());
+			}
+
+		}.createDrawPile());
+		pile.mergeResetShuffle(discard);
+		// Merges the discard pile directly and through an intermediate draw pile
+
+		assertEquals(1, discard.getSize());
+		assertSame(top, discard.getTop());
+		assertEquals(expected.getSize(), pile.getSize());
+		assertEquals(new HashSet<>(expected.getCards()), new HashSet<>(pile.getCards()));
+		// Both should end up with the same cards
+	}
+
+	@Test
+	void testCardTable() {
+		UnoDeck deck = UnoStandardDeck.getDeck();
+		UnoCardTable table = deck.createCardTable();
+		UnoDrawPile pile = new UnoDrawPile(table, new Random(0)); // NOSONAR determinism
+		UnoDrawPile expected = new UnoDrawPile(deck, new Random(0)); // NOSONAR determinism
+		// Creates a pile from a table and an equally seeded one from the deck
+
+		var ids = new int[table.getSize()];
+		assertEquals(ids.length, pile.copyIds(table, ids, 0));
+		assertEquals(expected.getCards().toString(), pile.getCards().toString());
+		// Both should be shuffled in the same order
+
+		UnoCard drawn = pile.draw();
+		assertSame(table.getCard(ids[0]), drawn);
+		assertEquals(ids[0], table.getId(drawn));
+		// The drawn card should be the table's card with the first ID
+
+		UnoDiscardPile discard = new UnoDiscardPile();
+		discard.add(drawn);
+		discard.add(pile.draw());
+		pile.mergeResetShuffle(discard);
+		assertEquals(table.getSize() - 1, pile.getSize());
+		assertEquals(table.getSize() - 1, pile.copyIds(table, ids, 0));
+		assertTrue(Arrays.stream(ids, 0, pile.getSize()).anyMatch(id -> id == table.getId(drawn)));
+		// Tests that merged cards keep their IDs
+	}
+
 }
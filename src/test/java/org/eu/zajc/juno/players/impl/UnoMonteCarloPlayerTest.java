@@ -0,0 +1,113 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.players.impl;
+
+import static java.lang.System.out;
+import static java.util.Arrays.asList;
+import static org.eu.zajc.juno.cards.UnoCardColor.RED;
+import static org.eu.zajc.juno.decks.impl.UnoStandardDeck.getDeck;
+import static org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules.UnoHouseRule.*;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.*;
+
+import org.eu.zajc.juno.cards.UnoCard;
+import org.eu.zajc.juno.decks.UnoDeck;
+import org.eu.zajc.juno.players.UnoPlayer;
+import org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules;
+import org.eu.zajc.juno.sim.*;
+import org.eu.zajc.juno.sim.UnoTournament.UnoTournamentFormat;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnoMonteCarloPlayerTest {
+
+	private static final int ROUNDS = 100;
+	private static final long SEED = 42;
+
+	private static class UnoCustomCard extends UnoCard {
+
+		public UnoCustomCard() {
+			super(RED);
+		}
+
+		@Override
+		public UnoCard cloneCard() {
+			return new UnoCustomCard();
+		}
+
+	}
+
+	@Test
+	@SuppressWarnings("null")
+	void testStrength() {
+		Function<Random, UnoPlayer> search = r -> new UnoMonteCarloPlayer("Search", 500, 2, r);
+		Function<Random, UnoPlayer> strategic = r -> new UnoStrategicPlayer("Strategic", r);
+		var tournament = new UnoTournament(getDeck(), 7, UnoOfficialRules.getPack(), 2, asList(search, strategic));
+		var result = tournament.run(UnoTournamentFormat.ROUND_ROBIN, ROUNDS, SEED);
+		out.println(result);
+		// Every round plays both seat orders, and with an iteration budget the seeded
+		// tournament always plays out the same way
+
+		assertEquals(2L * ROUNDS, result.getGames());
+		assertTrue(result.getWins(0) > result.getWins(1));
+
+		var first = tournament.run(UnoTournamentFormat.ROUND_ROBIN, 5, SEED);
+		var second = tournament.run(UnoTournamentFormat.ROUND_ROBIN, 5, SEED);
+		assertEquals(first.getWins(0), second.getWins(0));
+		assertEquals(first.getWins(1), second.getWins(1));
+		// Makes sure that the check above can't fail randomly
+	}
+
+	@Test
+	@SuppressWarnings({ "null", "deprecation" })
+	void testHouseRules() {
+		Supplier<UnoPlayer> search = () -> new UnoMonteCarloPlayer("Search", Duration.ofMillis(1), 1);
+		Supplier<UnoPlayer> strategic = () -> new UnoStrategicPlayer("Strategic");
+		var result = new UnoSimulation(getDeck(), 7, UnoOfficialRules.getPack(PROGRESSIVE, SEVENO),
+									   asList(search, strategic, strategic)).run(10, 1);
+		// SevenO swaps hands, Progressive stacks draw cards
+
+		assertEquals(10, result.getGames());
+	}
+
+	@Test
+	@SuppressWarnings("null")
+	void testCustomCards() {
+		var cards = getDeck().getCards();
+		for (int i = 0; i < 8; i++)
+			cards.add(new UnoCustomCard());
+		// Custom cards don't override toString(), so every clone looks different
+
+		Supplier<UnoPlayer> search = () -> new UnoMonteCarloPlayer("Search", 50, 1, new Random(SEED));
+		Supplier<UnoPlayer> strategic = () -> new UnoStrategicPlayer("Strategic", new Random(SEED));
+		var result = new UnoSimulation(new UnoDeck(cards), 7, UnoOfficialRules.getPack(), asList(search, strategic))
+			.run(10, 1);
+
+		assertEquals(10, result.getGames());
+	}
+
+	@Test
+	void testBudget() {
+		assertThrows(IllegalArgumentException.class, () -> new UnoMonteCarloPlayer("Search", 0, 1));
+		assertThrows(IllegalArgumentException.class, () -> new UnoMonteCarloPlayer("Search", 1, 0));
+		assertThrows(IllegalArgumentException.class, () -> new UnoMonteCarloPlayer("Search", Duration.ZERO, 1));
+	}
+
+}
@@ -0,0 +1,108 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.rules.pack;
+
+import static java.util.Arrays.asList;
+import static org.eu.zajc.juno.cards.UnoCardColor.*;
+import static org.eu.zajc.juno.rules.types.UnoCardPlacementRule.PlacementClearance.*;
+
+import java.util.*;
+
+import org.eu.zajc.juno.cards.*;
+import org.eu.zajc.juno.cards.impl.*;
+import org.eu.zajc.juno.decks.impl.UnoStandardDeck;
+import org.eu.zajc.juno.hands.UnoHand;
+import org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules;
+import org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules.UnoHouseRule;
+import org.eu.zajc.juno.rules.types.UnoCardPlacementRule;
+import org.eu.zajc.juno.utils.UnoRuleUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnoPlacementEngineTest {
+
+	private static class UnoCustomCard extends UnoCard {
+
+		public UnoCustomCard() {
+			super(RED);
+		}
+
+		@Override
+		public UnoCard cloneCard() {
+			return new UnoCustomCard();
+		}
+
+	}
+
+	private static UnoHand handOf(UnoCard... cards) {
+		var hand = new UnoHand();
+		hand.getCards().addAll(asList(cards));
+		return hand;
+	}
+
+	@Test
+	void testCanPlaceCard() {
+		List<UnoCard> cards = new ArrayList<>(UnoStandardDeck.getDeck().getCards());
+		for (var color : asList(RED, GREEN, BLUE, YELLOW)) {
+			var wild = new UnoWildCard();
+			wild.setColorMask(color);
+			var drawFour = new UnoDrawCard();
+			drawFour.setColorMask(color);
+			var openDrawFour = new UnoDrawCard();
+			openDrawFour.setColorMask(color);
+			openDrawFour.markOpen();
+			cards.addAll(asList(wild, drawFour, openDrawFour));
+		}
+		var openDrawTwo = new UnoDrawCard(BLUE);
+		openDrawTwo.markOpen();
+		cards.addAll(asList(openDrawTwo, new UnoCustomCard(), new UnoSkipCard(WILD)));
+		// Masked, open and custom cards
+
+		var hands = asList(handOf(), handOf(new UnoNumericCard(RED, 1)), handOf(new UnoSkipCard(YELLOW), new UnoWildCard()));
+
+		var packs = new ArrayList<UnoRulePack>();
+		packs.add(UnoOfficialRules.getPack());
+		for (var houseRule : UnoHouseRule.values())
+			packs.add(UnoOfficialRules.getPack(houseRule));
+		UnoCardPlacementRule noRed = (target, card, hand) -> card.getOriginalColor() == RED ? PROHIBITED : NEUTRAL;
+		packs.add(UnoOfficialRules.getPack().addPacks(new UnoRulePack(noRed)));
+		// A custom dynamic rule
+
+		for (var pack : packs) {
+			var engine = UnoPlacementEngine.compile(pack);
+			for (var hand : hands) {
+				for (var target : cards) {
+					for (var card : cards) {
+						assertEquals(UnoRuleUtils.canPlaceCard(target, card, pack, hand),
+									 engine.canPlaceCard(target, card, hand),
+									 () -> card + " on " + target + " (open: " + target.isOpen() + ")");
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	void testRuleSplit() {
+		var engine = UnoPlacementEngine.compile(UnoOfficialRules.getPack(UnoHouseRule.PROGRESSIVE));
+		assertEquals(5, engine.getStaticRules().size());
+		assertEquals(2, engine.getDynamicRules().size());
+		// Hitch and Progressive placement rules
+	}
+
+}
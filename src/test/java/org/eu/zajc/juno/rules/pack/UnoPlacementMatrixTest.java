@@ -0,0 +1,159 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.rules.pack;
+
+import static java.util.Arrays.asList;
+import static org.eu.zajc.juno.cards.UnoCardColor.*;
+import static org.eu.zajc.juno.rules.types.UnoCardPlacementRule.PlacementClearance.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+import org.eu.zajc.juno.cards.*;
+import org.eu.zajc.juno.cards.impl.*;
+import org.eu.zajc.juno.decks.impl.UnoStandardDeck;
+import org.eu.zajc.juno.hands.UnoHand;
+import org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules;
+import org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules.UnoHouseRule;
+import org.eu.zajc.juno.rules.types.UnoCardPlacementRule;
+import org.junit.jupiter.api.Test;
+
+class UnoPlacementMatrixTest {
+
+	private static class UnoCustomCard extends UnoCard {
+
+		public UnoCustomCard() {
+			super(RED);
+		}
+
+		@Override
+		public UnoCard cloneCard() {
+			return new UnoCustomCard();
+		}
+
+	}
+
+	private static UnoHand handOf(UnoCard... cards) {
+		var hand = new UnoHand();
+		hand.getCards().addAll(asList(cards));
+		return hand;
+	}
+
+	private static UnoCardTable tableOf(List<UnoCard> cards) {
+		var copies = new ArrayList<UnoCard>(cards.size());
+		for (var card : cards)
+			copies.add(card.cloneCard());
+		return new UnoCardTable(copies);
+	}
+
+	@Test
+	void testCanPlaceCard() {
+		var deck = UnoStandardDeck.getDeck().getCards();
+		var table = tableOf(deck);
+		var targets = tableOf(deck);
+
+		var hands = asList(handOf(), handOf(new UnoNumericCard(RED, 1)),
+						   handOf(new UnoSkipCard(YELLOW), new UnoWildCard(), new UnoDrawCard(GREEN)));
+
+		var packs = new ArrayList<UnoRulePack>();
+		packs.add(UnoOfficialRules.getPack());
+		for (var houseRule : UnoHouseRule.values())
+			packs.add(UnoOfficialRules.getPack(houseRule));
+
+		for (var pack : packs) {
+			var engine = UnoPlacementEngine.compile(pack);
+			var matrix = engine.getMatrix(table);
+			assertNotNull(matrix);
+			assertEquals(table.getSize(), matrix.getSize());
+
+			for (var target : targets.getCards()) {
+				var masks = target.getOriginalColor() == WILD ? asList(RED, GREEN, BLUE, YELLOW)
+					: Collections.<UnoCardColor> singletonList(null);
+				for (var mask : masks) {
+					for (boolean open : new boolean[] { false, true }) {
+						target.reset();
+						if (mask != null)
+							target.setColorMask(mask);
+						if (open)
+							target.markOpen();
+						// Every state a target can be in
+
+						for (var hand : hands) {
+							int row = matrix.getRow(target, hand);
+							assertTrue(row >= 0);
+							for (var card : table.getCards()) {
+								assertEquals(engine.canPlaceCard(target, card, hand),
+											 matrix.canPlaceCard(row, table.getId(card)),
+											 () -> card + " on " + target + " (open: " + target.isOpen() + ")");
+							}
+						}
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	void testGetPlaceable() {
+		var table = tableOf(UnoStandardDeck.getDeck().getCards());
+		var engine = UnoPlacementEngine.compile(UnoOfficialRules.getPack());
+		var matrix = engine.getMatrix(table);
+		assertNotNull(matrix);
+		assertSame(matrix, engine.getMatrix(tableOf(UnoStandardDeck.getDeck().getCards())));
+		// Tables with the same layout share a matrix
+
+		var target = new UnoNumericCard(RED, 5);
+		var cards = new ArrayList<UnoCard>();
+		var bitset = new long[UnoPlacementMatrix.getWords(table.getSize())];
+		for (int id = 0; id < table.getSize(); id += 3) {
+			cards.add(table.getCard(id));
+			bitset[id >>> 6] |= 1L << id;
+		}
+		var hand = handOf(cards.toArray(new UnoCard[0]));
+
+		var expected = engine.getPlaceableCards(target, cards, hand);
+		var placeable = new long[bitset.length];
+		assertEquals(expected.size(), matrix.getPlaceable(matrix.getRow(target, hand), bitset, placeable));
+		for (var card : expected) {
+			int id = table.getId(card);
+			assertNotEquals(0, placeable[id >>> 6] & 1L << id);
+		}
+		assertEquals(expected, matrix.getPlaceableCards(table, target, cards, hand));
+
+		var masked = new UnoWildCard();
+		masked.setColorMask(RED);
+		var outside = new UnoNumericCard(RED, 1);
+		var mixed = asList(masked, outside, table.getCard(0));
+		assertEquals(engine.getPlaceableCards(target, mixed, hand), matrix.getPlaceableCards(table, target, mixed, hand));
+		// Masked cards and ones from outside of the table fall back to the engine
+	}
+
+	@Test
+	void testUnsupported() {
+		var engine = UnoPlacementEngine.compile(UnoOfficialRules.getPack());
+		var cards = new ArrayList<UnoCard>(UnoStandardDeck.getDeck().getCards());
+		cards.add(new UnoCustomCard());
+		assertNull(engine.getMatrix(tableOf(cards)));
+		// Custom cards
+
+		UnoCardPlacementRule noRed = (target, card, hand) -> card.getOriginalColor() == RED ? PROHIBITED : NEUTRAL;
+		var custom = UnoPlacementEngine.compile(UnoOfficialRules.getPack().addPacks(new UnoRulePack(noRed)));
+		assertNull(custom.getMatrix(tableOf(UnoStandardDeck.getDeck().getCards())));
+		// Custom dynamic rules
+	}
+
+}
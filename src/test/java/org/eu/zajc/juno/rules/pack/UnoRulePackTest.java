@@ -17,8 +17,13 @@
 package org.eu.zajc.juno.rules.pack;
 
 import static org.eu.zajc.juno.rules.UnoRule.ConflictResolution.*;
+import static org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules.UnoHouseRule.*;
+
+import java.util.*;
 
 import org.eu.zajc.juno.rules.*;
+import org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules;
+import org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules.UnoHouseRule;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -109,4 +114,80 @@ class UnoRulePackTest {
 
 		assertThrows(UnoRuleConflictException.class, () -> packFail.resolveConflicts());
 	}
+
+	@Test
+	void testFreeze() {
+		UnoRulePack pack = UnoOfficialRules.getPack(UnoHouseRule.PROGRESSIVE, UnoHouseRule.FOE_WINS_ON_QUIT);
+		UnoFrozenRulePack frozen = pack.freeze();
+		// Freezes the official pack with some house rules
+
+		assertEquals(pack.getRules(), frozen.getRules());
+		assertEquals(pack.getPlacementRules(), frozen.getPlacementRules());
+		assertEquals(pack.getFlowRules(), frozen.getFlowRules());
+		assertEquals(pack.getFinishRules(), frozen.getFinishRules());
+		assertEquals(1, frozen.getFinishRules().size());
+		// Only the "foe wins on quit" rule has a finish phase
+
+		assertSame(frozen, frozen.freeze());
+		assertThrows(UnsupportedOperationException.class, () -> frozen.getRules().add(new TestRule()));
+		// Tests immutability
+
+		pack.getRules().clear();
+		assertFalse(frozen.getRules().isEmpty());
+		// Tests that the frozen pack is a copy
+
+		var combined = frozen.addPacks(UnoOfficialRules.getPack(UnoHouseRule.PROGRESSIVE));
+		assertEquals(frozen.getRules(), combined.getRules().subList(0, frozen.getRules().size()));
+		combined.getRules().clear();
+		assertFalse(frozen.getRules().isEmpty());
+		// Tests that packs combined from the frozen pack's only copy of its rules are modifiable copies
+	}
+
+	@Test
+	void testRuleViews() {
+		UnoRulePack pack = UnoOfficialRules.getPack(FOE_WINS_ON_QUIT);
+		var flowRules = pack.getFlowRules();
+		var finishRules = pack.getFinishRules();
+		assertSame(flowRules, pack.getFlowRules());
+		assertSame(finishRules, pack.getFinishRules());
+		assertSame(pack.getPlacementRules(), pack.getPlacementRules());
+		assertEquals(1, finishRules.size());
+		assertThrows(UnsupportedOperationException.class, () -> flowRules.remove(0));
+		// Tests caching
+
+		int version = pack.getVersion();
+		pack.getRules().removeAll(FOE_WINS_ON_QUIT.getPack().getRules());
+		assertNotEquals(version, pack.getVersion());
+		assertEquals(flowRules.size() - 1, pack.getFlowRules().size());
+		assertTrue(pack.getFinishRules().isEmpty());
+		// Tests invalidation
+	}
+
+	@Test
+	void testHouseRules() {
+		UnoRulePack pack = UnoOfficialRules.getPack(PROGRESSIVE);
+		var houseRules = pack.getHouseRules();
+		assertEquals(EnumSet.of(PROGRESSIVE), houseRules);
+		assertSame(houseRules, pack.getHouseRules());
+		assertThrows(UnsupportedOperationException.class, () -> houseRules.add(FOE_WINS_ON_QUIT));
+		// Tests caching
+
+		pack.getRules().addAll(FOE_WINS_ON_QUIT.getPack().getRules());
+		assertEquals(EnumSet.of(PROGRESSIVE, FOE_WINS_ON_QUIT), pack.getHouseRules());
+		// Tests invalidation on additions
+
+		int start = pack.getRules().indexOf(PROGRESSIVE.getPack().getRules().get(0));
+		pack.getRules().subList(start, start + 1).set(0, new TestRule());
+		assertEquals(EnumSet.of(FOE_WINS_ON_QUIT), pack.getHouseRules());
+		// Tests invalidation on replacements through a view
+
+		pack.getRules().clear();
+		assertTrue(pack.getHouseRules().isEmpty());
+		// Tests invalidation on removals
+
+		assertEquals(EnumSet.of(PROGRESSIVE, FOE_WINS_ON_QUIT),
+					 UnoOfficialRules.getPack(PROGRESSIVE, FOE_WINS_ON_QUIT).freeze().getHouseRules());
+		// Tests frozen packs
+	}
+
 }
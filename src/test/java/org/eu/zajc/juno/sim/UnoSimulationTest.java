@@ -0,0 +1,64 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.sim;
+
+import static java.lang.System.out;
+import static java.util.Arrays.asList;
+import static org.eu.zajc.juno.decks.impl.UnoStandardDeck.getDeck;
+import static org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules.UnoHouseRule.PROGRESSIVE;
+
+import java.util.function.Supplier;
+
+import org.eu.zajc.juno.game.UnoWinner.UnoEndReason;
+import org.eu.zajc.juno.players.UnoPlayer;
+import org.eu.zajc.juno.players.impl.UnoStrategicPlayer;
+import org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnoSimulationTest {
+
+	private static final int GAMES = 500;
+
+	@Test
+	@SuppressWarnings("null")
+	void testRun() {
+		Supplier<UnoPlayer> factory = () -> new UnoStrategicPlayer("Strategic");
+		var simulation =
+			new UnoSimulation(getDeck(), 7, UnoOfficialRules.getPack(PROGRESSIVE), asList(factory, factory, factory));
+
+		var result = simulation.run(GAMES, 2);
+		out.println(result);
+
+		assertEquals(GAMES, result.getGames());
+		assertEquals(GAMES, result.getWins(0) + result.getWins(1) + result.getWins(2) + result.getDraws());
+		// Every game is accounted for
+
+		long reasons = 0;
+		for (var reason : UnoEndReason.values())
+			reasons += result.getEndReasonCount(reason);
+		assertEquals(GAMES, reasons);
+		assertEquals(0, result.getEndReasonCount(UnoEndReason.UNKNOWN));
+		// Every game has exactly one end reason
+
+		assertTrue(result.getMinTurns() > 0);
+		assertTrue(result.getMinTurns() <= result.getMaxTurns());
+		assertTrue(result.getGamesPerSecond() > 0);
+	}
+
+}
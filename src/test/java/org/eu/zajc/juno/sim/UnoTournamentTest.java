@@ -0,0 +1,157 @@
+// SPDX-License-Identifier: GPL-3.0
+/*
+ * JUNO, the UNO library for Java
+ * Copyright (C) 2019-2024 Marko Zajc, (Olfi01) Florian Meyer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU General Public License as published by the Free Software
+ * Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this
+ * program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.eu.zajc.juno.sim;
+
+import static java.lang.System.out;
+import static org.eu.zajc.juno.decks.impl.UnoStandardDeck.getDeck;
+import static org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules.UnoHouseRule.PROGRESSIVE;
+import static org.eu.zajc.juno.sim.UnoTournament.UnoTournamentFormat.*;
+import static org.eu.zajc.juno.utils.UnoRuleUtils.getPlaceableCards;
+
+import java.util.*;
+import java.util.function.Function;
+
+import javax.annotation.Nonnull;
+
+import org.eu.zajc.juno.cards.*;
+import org.eu.zajc.juno.game.UnoGame;
+import org.eu.zajc.juno.players.UnoPlayer;
+import org.eu.zajc.juno.players.impl.UnoStrategicPlayer;
+import org.eu.zajc.juno.rules.pack.impl.UnoOfficialRules;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnoTournamentTest {
+
+	private static final class FirstCardPlayer extends UnoPlayer {
+
+		FirstCardPlayer(@Nonnull String name) {
+			super(name);
+		}
+
+		@Override
+		@SuppressWarnings("null")
+		public UnoCard playCard(UnoGame game) {
+			var possible = getPlaceableCards(game.getTopCard(), getCards(), game.getRules(), getHand());
+			return possible.isEmpty() ? null : possible.get(0);
+		}
+
+		@Override
+		public UnoCardColor chooseColor(UnoGame game) {
+			return UnoCardColor.RED;
+		}
+
+		@Override
+		public boolean shouldPlayDrawnCard(UnoGame game, UnoCard drawnCard) {
+			return false;
+		}
+
+	}
+
+	@Nonnull
+	private static UnoTournament createTournament(int entrants, int tableSize) {
+		var factories = new ArrayList<Function<Random, ? extends UnoPlayer>>();
+		for (int i = 0; i < entrants - 1; i++)
+			factories.add(random -> new UnoStrategicPlayer("Strategic", random));
+		factories.add(random -> new FirstCardPlayer("First card"));
+
+		return new UnoTournament(getDeck(), 7, UnoOfficialRules.getPack(PROGRESSIVE), tableSize, factories);
+	}
+
+	private static void assertSameResult(@Nonnull UnoTournamentResult expected, @Nonnull UnoTournamentResult actual) {
+		assertEquals(expected.getGames(), actual.getGames());
+		assertEquals(expected.getDraws(), actual.getDraws());
+		for (int i = 0; i < expected.getEntrants(); i++) {
+			assertEquals(expected.getWins(i), actual.getWins(i));
+			assertEquals(expected.getRating(i), actual.getRating(i));
+		}
+	}
+
+	@Test
+	void testRoundRobin() {
+		var tournament = createTournament(4, 3);
+		var result = tournament.run(ROUND_ROBIN, 5, 42, 1);
+		out.println(result);
+
+		assertEquals(5 * 4 * 6, result.getGames());
+		// 5 rounds of 4 tables (every combination of 3 out of 4 entrants), each playing
+		// all 6 seat permutations
+
+		long wins = result.getDraws();
+		double ratings = 0;
+		for (int i = 0; i < result.getEntrants(); i++) {
+			assertEquals(5 * 3 * 6, result.getGames(i));
+			assertEquals(0, result.getByes(i));
+			assertTrue(result.getRatingMargin(i) > 0 && result.getRatingMargin(i) < Double.POSITIVE_INFINITY);
+			wins += result.getWins(i);
+			ratings += result.getRating(i);
+		}
+		assertEquals(result.getGames(), wins);
+		assertEquals(UnoTournamentResult.INITIAL_RATING * result.getEntrants(), ratings, 1e-6);
+		// Elo is zero-sum
+
+		assertSameResult(result, tournament.run(ROUND_ROBIN, 5, 42, 4));
+		// Same seed, different amount of threads
+	}
+
+	@Test
+	void testSwiss() {
+		var tournament = createTournament(5, 2);
+		var result = tournament.run(SWISS, 10, 7, 1);
+		out.println(result);
+
+		assertEquals(10 * 2 * 2, result.getGames());
+		// 10 rounds of 2 tables, each playing both seat permutations
+
+		for (int i = 0; i < result.getEntrants(); i++) {
+			assertEquals(2, result.getByes(i));
+			assertEquals(8 * 2, result.getGames(i));
+		}
+		// One entrant sits out each round, taking turns
+
+		assertSameResult(result, tournament.run(SWISS, 10, 7, 4));
+	}
+
+	@Test
+	void testSwissPairings() {
+		var tournament = createTournament(4, 2);
+		var result = new UnoTournamentResult(4);
+		var meetings = new int[4 * 4];
+		for (int i = 0; i < 3; i++)
+			assertEquals(2, tournament.swissTables(result, meetings).size());
+
+		for (int a = 0; a < 4; a++) {
+			for (int b = 0; b < 4; b++)
+				assertEquals(a == b ? 0 : 1, meetings[a * 4 + b]);
+		}
+		// With equal ratings, neighbors would be paired every round, but three rounds
+		// are enough for everyone to meet everyone else once
+	}
+
+	@Test
+	void testRanking() {
+		var result = createTournament(3, 2).run(ROUND_ROBIN, 100, 1);
+		var ranking = result.getRanking();
+		out.println(result);
+
+		for (int i = 1; i < ranking.length; i++)
+			assertTrue(result.getRating(ranking[i - 1]) >= result.getRating(ranking[i]));
+		assertThrows(IllegalArgumentException.class, () -> createTournament(2, 3));
+	}
+
+}